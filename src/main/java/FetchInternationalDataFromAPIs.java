@@ -109,6 +109,9 @@ public class FetchInternationalDataFromAPIs {
                 System.out.println("Inserted " + yearInserted + " records for " + year + "\n");
             }
             
+            // Inserts are queued on the database writer; wait until they are committed
+            DatabaseConnection.write(conn -> null);
+            
             System.out.println("=== Summary ===");
             System.out.println("Total records inserted: " + totalInserted);
             System.out.println("\nNote: 2025-2026 data are forecasts/projections from international organizations.");
@@ -316,34 +319,35 @@ public class FetchInternationalDataFromAPIs {
                     "(country_code, country_name, year, total_gdp, total_revenue, total_expenses, budget_balance) " +
                     "VALUES (?, ?, ?, ?, ?, ?, ?)";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            // Convert all USD values to EUR for consistency with Greece's data
-            Double totalGDP_EUR = convertUsdToEur(totalGDP);
-            Double totalRevenue_EUR = convertUsdToEur(totalRevenue);
-            Double totalExpenses_EUR = convertUsdToEur(totalExpenses);
-            Double budgetBalance_EUR = convertUsdToEur(budgetBalance);
-            
-            pstmt.setString(1, countryCode);
-            pstmt.setString(2, countryName);
-            pstmt.setInt(3, year);
-            pstmt.setObject(4, totalGDP_EUR);
-            pstmt.setObject(5, totalRevenue_EUR);
-            pstmt.setObject(6, totalExpenses_EUR);
-            pstmt.setObject(7, budgetBalance_EUR);
-            
-            pstmt.executeUpdate();
-            System.out.println("  ✓ Budget data inserted for " + countryName + " (" + year + ") [converted to EUR]:");
-            System.out.println("    GDP: " + (totalGDP_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalGDP_EUR, totalGDP) : "NULL"));
-            System.out.println("    Revenue: " + (totalRevenue_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalRevenue_EUR, totalRevenue) : "NULL"));
-            System.out.println("    Expenses: " + (totalExpenses_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalExpenses_EUR, totalExpenses) : "NULL"));
-            System.out.println("    Balance: " + (budgetBalance_EUR != null ? String.format("%.2f EUR (%.2f USD)", budgetBalance_EUR, budgetBalance) : "NULL"));
-            
-        } catch (Exception e) {
-            System.err.println("Error inserting budget data: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Convert all USD values to EUR for consistency with Greece's data
+        Double totalGDP_EUR = convertUsdToEur(totalGDP);
+        Double totalRevenue_EUR = convertUsdToEur(totalRevenue);
+        Double totalExpenses_EUR = convertUsdToEur(totalExpenses);
+        Double budgetBalance_EUR = convertUsdToEur(budgetBalance);
+        
+        DatabaseConnection.submitWrite(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, countryCode);
+                pstmt.setString(2, countryName);
+                pstmt.setInt(3, year);
+                pstmt.setObject(4, totalGDP_EUR);
+                pstmt.setObject(5, totalRevenue_EUR);
+                pstmt.setObject(6, totalExpenses_EUR);
+                pstmt.setObject(7, budgetBalance_EUR);
+                return pstmt.executeUpdate();
+            }
+        }).whenComplete((rows, e) -> {
+            if (e != null) {
+                System.err.println("Error inserting budget data: " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
+        
+        System.out.println("  ✓ Budget data inserted for " + countryName + " (" + year + ") [converted to EUR]:");
+        System.out.println("    GDP: " + (totalGDP_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalGDP_EUR, totalGDP) : "NULL"));
+        System.out.println("    Revenue: " + (totalRevenue_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalRevenue_EUR, totalRevenue) : "NULL"));
+        System.out.println("    Expenses: " + (totalExpenses_EUR != null ? String.format("%.2f EUR (%.2f USD)", totalExpenses_EUR, totalExpenses) : "NULL"));
+        System.out.println("    Balance: " + (budgetBalance_EUR != null ? String.format("%.2f EUR (%.2f USD)", budgetBalance_EUR, budgetBalance) : "NULL"));
     }
     
     private static Double fetchFromWorldBank(String countryCode, String indicatorCode, int year) {
@@ -414,19 +418,20 @@ public class FetchInternationalDataFromAPIs {
                     "(country_code, country_name, year, indicator, value) " +
                     "VALUES (?, ?, ?, ?, ?)";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, countryCode);
-            pstmt.setString(2, countryName);
-            pstmt.setInt(3, year);
-            pstmt.setString(4, indicator);
-            pstmt.setDouble(5, value);
-            
-            pstmt.executeUpdate();
-            
-        } catch (Exception e) {
-            System.err.println("Error inserting data: " + e.getMessage());
-        }
+        // the writer thread groups these small inserts into a few transactions
+        DatabaseConnection.submitWrite(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, countryCode);
+                pstmt.setString(2, countryName);
+                pstmt.setInt(3, year);
+                pstmt.setString(4, indicator);
+                pstmt.setDouble(5, value);
+                return pstmt.executeUpdate();
+            }
+        }).whenComplete((rows, e) -> {
+            if (e != null) {
+                System.err.println("Error inserting data: " + e.getMessage());
+            }
+        });
     }
 }
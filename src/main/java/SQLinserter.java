@@ -1,2234 +1,1076 @@
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import ui.BudgetData;
+import ui.BudgetFacts;
 import ui.DatabaseConnection;
+import ui.Money;
+import ui.SchemaMigrations;
+import ui.TableRow;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 // κλάση για εισαγωγή δεδομένων προϋπολογισμού στη βάση δεδομένων
 
 public class SQLinserter {
-  
-    // ------------------ 2026 ------------------ //
-
-    void insertRevenue2026() throws Exception {
-         try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            String sql = "INSERT INTO revenue_2026(total_revenue,taxes,social_contributions,transfers,sales_of_goods_and_services,other_current_revenue,fixed_assets,debt_securities,loans,equity_securities_and_fund_shares,currency_and_deposit_liabilities,debt_securities_liabilities,loans_liabilities,financial_derivatives) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2026.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2026.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-             String total_revenue = null;
-                String taxes = null;
-                String social_contributions = null;
-                String transfers = null;
-                String sales_of_goods_and_services = null;
-                String other_current_revenue = null;
-                String fixed_assets = null;
-                String debt_securities = null;
-                String loans = null;
-                String equity_securities_and_fund_shares = null;
-                String currency_and_deposit_liabilities = null;
-                String debt_securities_liabilities = null;
-                String loans_liabilities = null;
-                String financial_derivatives = null;
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-
-                if (lineNumber < 14) {
-                    continue;
-                }
-                if (lineNumber > 27) {
-                    break;
-                }
-               
-                if (lineNumber == 14) {
-                    total_revenue = data[3];
-                } else if (lineNumber == 15) {
-                    taxes = data[3];
-                } else if (lineNumber == 16) {
-                    social_contributions = data[3];
-                } else if (lineNumber == 17) {
-                    transfers = data[3];
-                } else if (lineNumber == 18) {
-                    sales_of_goods_and_services = data[3];
-                } else if (lineNumber == 19) {
-                    other_current_revenue = data[3];
-                } else if (lineNumber == 20) {
-                    fixed_assets = data[3];
-                } else if (lineNumber == 21) {
-                    debt_securities = data[3];
-                } else if (lineNumber == 22) {
-                    loans = data[3];
-                } else if (lineNumber == 23) {
-                    equity_securities_and_fund_shares = data[3];
-                } else if (lineNumber == 24) {
-                    currency_and_deposit_liabilities = data[3];
-                } else if (lineNumber == 25) {
-                    debt_securities_liabilities = data[3];
-                } else if (lineNumber == 26) {
-                    loans_liabilities = data[3];
-                } else if (lineNumber == 27) {
-                    financial_derivatives = data[3];
-                }
-
-            }
-             statement.setBigDecimal(1,  parseMoney(total_revenue));
-                    statement.setBigDecimal(2,  parseMoney(taxes));
-                    statement.setBigDecimal(3,  parseMoney(social_contributions));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(sales_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(other_current_revenue));
-                    statement.setBigDecimal(7,  parseMoney(fixed_assets));
-                    statement.setBigDecimal(8,  parseMoney(debt_securities));
-                    statement.setBigDecimal(9,  parseMoney(loans));
-                    statement.setBigDecimal(10, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(11, parseMoney(currency_and_deposit_liabilities));
-                    statement.setBigDecimal(12, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(13, parseMoney(loans_liabilities));
-                    statement.setBigDecimal(14, parseMoney(financial_derivatives));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
 
-        } catch (SQLException e) {
-            e.printStackTrace();
+    // =========================================================
+    // ΔΙΑΤΑΞΗ ΤΟΥ CSV ΑΝΑ ΕΤΟΣ
+    // το proipologismosYYYY.csv έχει μία γραμμή ανά γραμμή πίνακα του PDF (TableRow):
+    // τα έσοδα και τα έξοδα βρίσκονται από τον κωδικό ESA τους, που είναι ίδιος κάθε χρόνο,
+    // ενώ τα υπουργεία και οι αποκεντρωμένες διοικήσεις από τη σειρά τους στην ενότητα,
+    // γιατί οι κωδικοί τους αλλάζουν από έτος σε έτος
+    // =========================================================
+
+    // στήλη πίνακα: code = κωδικός της γραμμής στα έσοδα/έξοδα (π.χ. "11"),
+    // position = σειρά της γραμμής στην ενότητα υπουργείων/αποκεντρωμένων διοικήσεων
+    // χωρίς κανένα από τα δύο η τιμή είναι ένα από τα σύνολα του budget_summary
+    private static final class Column {
+        final String name;
+        final String code;
+        final int position;
+
+        Column(String name, String code, int position) {
+            this.name = name;
+            this.code = code;
+            this.position = position;
         }
-        
-      
     }
 
-     void insertExpenses2026() throws Exception {
-String sql = "INSERT INTO expenses_2026(total_expenses,employee_benefits,social_benefits,transfers,purchases_of_goods_and_services,subsidies,interest,other_expenditures,appropriations,fixed_assets,valuables,loans,equity_securities_and_fund_shares,debt_securities_liabilities,loans_liabilities,financial_derivatives) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2026.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2026.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
+    // πίνακας της βάσης με τις στήλες του με τη σειρά του INSERT
+    private static final class Table {
+        final String name;
+        final Column[] columns;
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_expenses=null;
-            String employee_benefits=null;
-            String social_benefits=null;
-            String transfers=null;
-            String purchases_of_goods_and_services=null;
-            String subsidies=null;
-            String interest=null;
-            String other_expenditures=null;
-            String appropriations=null;
-            String fixed_assets=null;
-            String valuables=null;
-            String loans=null;
-            String equity_securities_and_fund_shares=null;
-            String debt_securities_liabilities=null;
-            String loans_liabilities=null;
-            String financial_derivatives= null;
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 28) {
-                    continue;
-                }
-                if (lineNumber > 43) {
-                    break;
-                }
-               
-                if (lineNumber == 28) {
-                    total_expenses=data[3];
-                } else if (lineNumber == 29) {
-                    employee_benefits=data[3];
-                } else if (lineNumber == 30) {
-                    social_benefits=data[3];
-                } else if (lineNumber == 31) {
-                    transfers=data[3];
-                } else if (lineNumber == 32) {
-                    purchases_of_goods_and_services=data[3];
-                } else if (lineNumber == 33) {
-                    subsidies=data[3];
-                } else if (lineNumber == 34) {
-                    interest=data[3];
-                } else if (lineNumber == 35) {
-                    other_expenditures=data[3];
-                } else if (lineNumber == 36) {
-                    appropriations=data[3];
-                } else if (lineNumber == 37) {
-                    fixed_assets=data[3];
-                } else if (lineNumber == 38) {
-                    valuables=data[3];
-                } else if (lineNumber == 39) {
-                    loans=data[3];
-                } else if (lineNumber == 40) {
-                    equity_securities_and_fund_shares=data[3];
-                } else if (lineNumber == 41) {
-                    debt_securities_liabilities=data[3];
-                } else if (lineNumber == 42) {
-                    loans_liabilities=data[3];
-                } else if (lineNumber == 43) {
-                    financial_derivatives=data[3];
-                }
-            }
-             statement.setBigDecimal(1,  parseMoney(total_expenses));
-                    statement.setBigDecimal(2,  parseMoney(employee_benefits));
-                    statement.setBigDecimal(3,  parseMoney(social_benefits));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(purchases_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(subsidies));
-                    statement.setBigDecimal(7,  parseMoney(interest));
-                    statement.setBigDecimal(8,  parseMoney(other_expenditures));
-                    statement.setBigDecimal(9,  parseMoney(appropriations));
-                    statement.setBigDecimal(10, parseMoney(fixed_assets));
-                    statement.setBigDecimal(11, parseMoney(valuables));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(14, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(15, parseMoney(loans_liabilities));
-                    statement.setBigDecimal(16, parseMoney(financial_derivatives));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+        Table(String name, Column... columns) {
+            this.name = name;
+            this.columns = columns;
         }
 
-    }
-
-     void insertMinistries2026() throws Exception {
-String sql = "INSERT INTO ministries_2026(total_ministries,presidency_of_the_republic,hellenic_parliament,presidency_of_the_government,ministry_of_interior,ministry_of_foreign_affairs,ministry_of_national_defence,ministry_of_health,ministry_of_justice,ministry_of_education_religious_affairs_and_sports,ministry_of_culture,ministry_of_national_economy_and_finance,ministry_of_agricultural_development_and_food,ministry_of_environment_and_energy,ministry_of_labor_and_social_security,ministry_of_social_cohesion_and_family,ministry_of_development,ministry_of_infrastructure_and_transport,ministry_of_maritime_affairs_and_insular_policy,ministry_of_tourism,ministry_of_digital_governance,ministry_of_migration_and_asylum,ministry_of_citizen_protection,ministry_of_climate_crisis_and_civil_protection) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2026.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2026.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_ministries=null;
-            String presidency_of_the_republic=null;
-            String hellenic_parliament=null;
-            String presidency_of_the_government=null;
-            String ministry_of_interior=null;
-            String ministry_of_foreign_affairs=null;
-            String ministry_of_national_defence=null;
-            String ministry_of_health=null;
-            String ministry_of_justice=null;
-            String ministry_of_education_religious_affairs_and_sports=null;
-            String ministry_of_culture=null;
-            String ministry_of_national_economy_and_finance=null;
-            String ministry_of_agricultural_development_and_food=null;
-            String ministry_of_environment_and_energy=null;
-            String ministry_of_labor_and_social_security=null;
-            String ministry_of_social_cohesion_and_family=null;
-            String ministry_of_development=null;
-            String ministry_of_infrastructure_and_transport=null;
-            String ministry_of_maritime_affairs_and_insular_policy=null;
-            String ministry_of_tourism=null;
-            String ministry_of_digital_governance=null;
-            String ministry_of_migration_and_asylum=null;
-            String ministry_of_citizen_protection=null;
-            String ministry_of_climate_crisis_and_civil_protection=null;
-            
-
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 55) {
-                    continue;
-                }
-                if (lineNumber > 78) {
-                    break;
+        String insertSql() {
+            StringBuilder names = new StringBuilder();
+            StringBuilder params = new StringBuilder();
+            for (Column column : columns) {
+                if (names.length() > 0) {
+                    names.append(',');
+                    params.append(", ");
                 }
-               String value = (data.length > 5) ? data[5] : "0";
-
-              if (lineNumber == 55) {
-                presidency_of_the_republic = value;
-            } else if (lineNumber == 56) {
-                hellenic_parliament = value;
-            } else if (lineNumber == 57) {
-                presidency_of_the_government = value;
-            } else if (lineNumber == 58) {
-                total_ministries = data[4];
-            } else if (lineNumber == 59) {
-                ministry_of_interior = value;
-            } else if (lineNumber == 60) {
-                ministry_of_foreign_affairs = value;
-            } else if (lineNumber == 61) {
-                ministry_of_national_defence = value;
-            } else if (lineNumber == 62) {
-                ministry_of_health = value;
-            } else if (lineNumber == 63) {
-                ministry_of_justice = value;
-            } else if (lineNumber == 64) {
-                ministry_of_education_religious_affairs_and_sports = data[6];
-            } else if (lineNumber == 65) {
-                ministry_of_culture = value;
-            } else if (lineNumber == 66) {
-                ministry_of_national_economy_and_finance = value;
-            } else if (lineNumber == 67) {
-                ministry_of_agricultural_development_and_food = value;
-            } else if (lineNumber == 68) {
-                ministry_of_environment_and_energy = value;
-            } else if (lineNumber == 69) {
-                ministry_of_labor_and_social_security = value;
-            } else if (lineNumber == 70) {
-                ministry_of_social_cohesion_and_family = value;
-            } else if (lineNumber == 71) {
-                ministry_of_development = value;
-            } else if (lineNumber == 72) {
-                ministry_of_infrastructure_and_transport = value;
-            } else if (lineNumber == 73) {
-                ministry_of_maritime_affairs_and_insular_policy = value;
-            } else if (lineNumber == 74) {
-                ministry_of_tourism = value;
-            } else if (lineNumber == 75) {
-                ministry_of_digital_governance = value;
-            } else if (lineNumber == 76) {
-                ministry_of_migration_and_asylum = value;
-            } else if (lineNumber == 77) {
-                ministry_of_citizen_protection = value;
-            } else if (lineNumber == 78) {
-                ministry_of_climate_crisis_and_civil_protection = value;
-            }
-
-
+                names.append(column.name);
+                params.append('?');
             }
-            statement.setBigDecimal(1,  parseMoney(total_ministries));
-            statement.setBigDecimal(2,  parseMoney(presidency_of_the_republic));
-            statement.setBigDecimal(3,  parseMoney(hellenic_parliament));
-            statement.setBigDecimal(4,  parseMoney(presidency_of_the_government));
-            statement.setBigDecimal(5,  parseMoney(ministry_of_interior));
-            statement.setBigDecimal(6,  parseMoney(ministry_of_foreign_affairs));
-            statement.setBigDecimal(7,  parseMoney(ministry_of_national_defence));
-            statement.setBigDecimal(8,  parseMoney(ministry_of_health));
-            statement.setBigDecimal(9,  parseMoney(ministry_of_justice));
-            statement.setBigDecimal(10, parseMoney(ministry_of_education_religious_affairs_and_sports));
-            statement.setBigDecimal(11, parseMoney(ministry_of_culture));
-            statement.setBigDecimal(12, parseMoney(ministry_of_national_economy_and_finance));
-            statement.setBigDecimal(13, parseMoney(ministry_of_agricultural_development_and_food));
-            statement.setBigDecimal(14, parseMoney(ministry_of_environment_and_energy));
-            statement.setBigDecimal(15, parseMoney(ministry_of_labor_and_social_security));
-            statement.setBigDecimal(16, parseMoney(ministry_of_social_cohesion_and_family));
-            statement.setBigDecimal(17, parseMoney(ministry_of_development));
-            statement.setBigDecimal(18, parseMoney(ministry_of_infrastructure_and_transport));
-            statement.setBigDecimal(19, parseMoney(ministry_of_maritime_affairs_and_insular_policy));
-            statement.setBigDecimal(20, parseMoney(ministry_of_tourism));
-            statement.setBigDecimal(21, parseMoney(ministry_of_digital_governance));
-            statement.setBigDecimal(22, parseMoney(ministry_of_migration_and_asylum));
-            statement.setBigDecimal(23, parseMoney(ministry_of_citizen_protection));
-            statement.setBigDecimal(24, parseMoney(ministry_of_climate_crisis_and_civil_protection));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return "INSERT INTO " + name + "(" + names + ") VALUES(" + params + ")";
         }
+    }
 
+    private static Column esa(String name, String code) {
+        return new Column(name, code, -1);
     }
 
+    private static Column at(String name, int position) {
+        return new Column(name, null, position);
+    }
 
-    void insertDecentralizedAdministrations2026() throws Exception {
-String sql = "INSERT INTO decentralized_administrations_2026(total_da,decentralized_administration_of_attica,decentralized_administration_of_thessaly_central_greece,decentralized_administration_of_epirus_western_macedonia,decentralized_administration_of_peloponnese_western_greece_and_ionian,decentralized_administration_of_aegean,decentralized_administration_of_crete,decentralized_administration_of_macedonia_thrace) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
-        
-       try {
-            Connection connection = DatabaseConnection.getConnection();
+    private static Column total(String name) {
+        return new Column(name, null, -1);
+    }
 
-            
+    // ------------------ 2026 ------------------ //
 
-            PreparedStatement statement = connection.prepareStatement(sql);
+    private static final Table REVENUE_2026 = new Table("revenue_2026",
+            esa("total_revenue", "1"),
+            esa("taxes", "11"),
+            esa("social_contributions", "12"),
+            esa("transfers", "13"),
+            esa("sales_of_goods_and_services", "14"),
+            esa("other_current_revenue", "15"),
+            esa("fixed_assets", "31"),
+            esa("debt_securities", "43"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("currency_and_deposit_liabilities", "52"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"),
+            esa("financial_derivatives", "57"));
+
+    private static final Table EXPENSES_2026 = new Table("expenses_2026",
+            esa("total_expenses", "2"),
+            esa("employee_benefits", "21"),
+            esa("social_benefits", "22"),
+            esa("transfers", "23"),
+            esa("purchases_of_goods_and_services", "24"),
+            esa("subsidies", "25"),
+            esa("interest", "26"),
+            esa("other_expenditures", "27"),
+            esa("appropriations", "29"),
+            esa("fixed_assets", "31"),
+            esa("valuables", "33"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"),
+            esa("financial_derivatives", "57"));
+
+    private static final Table MINISTRIES_2026 = new Table("ministries_2026",
+            at("total_ministries", 3),
+            at("presidency_of_the_republic", 0),
+            at("hellenic_parliament", 1),
+            at("presidency_of_the_government", 2),
+            at("ministry_of_interior", 4),
+            at("ministry_of_foreign_affairs", 5),
+            at("ministry_of_national_defence", 6),
+            at("ministry_of_health", 7),
+            at("ministry_of_justice", 8),
+            at("ministry_of_education_religious_affairs_and_sports", 9),
+            at("ministry_of_culture", 10),
+            at("ministry_of_national_economy_and_finance", 11),
+            at("ministry_of_agricultural_development_and_food", 12),
+            at("ministry_of_environment_and_energy", 13),
+            at("ministry_of_labor_and_social_security", 14),
+            at("ministry_of_social_cohesion_and_family", 15),
+            at("ministry_of_development", 16),
+            at("ministry_of_infrastructure_and_transport", 17),
+            at("ministry_of_maritime_affairs_and_insular_policy", 18),
+            at("ministry_of_tourism", 19),
+            at("ministry_of_digital_governance", 20),
+            at("ministry_of_migration_and_asylum", 21),
+            at("ministry_of_citizen_protection", 22),
+            at("ministry_of_climate_crisis_and_civil_protection", 23));
+
+    private static final Table DECENTRALIZED_2026 = new Table("decentralized_administrations_2026",
+            at("total_da", 0),
+            at("decentralized_administration_of_attica", 1),
+            at("decentralized_administration_of_thessaly_central_greece", 2),
+            at("decentralized_administration_of_epirus_western_macedonia", 3),
+            at("decentralized_administration_of_peloponnese_western_greece_and_ionian", 4),
+            at("decentralized_administration_of_aegean", 5),
+            at("decentralized_administration_of_crete", 6),
+            at("decentralized_administration_of_macedonia_thrace", 7));
+
+    private static final Table SUMMARY_2026 = new Table("budget_summary_2026",
+            total("budget_result"),
+            total("total_revenue"),
+            total("total_expenses"),
+            total("total_ministries"),
+            total("total_da"));
 
-             File csvFile = new File("proipologismos2026.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2026.csv στον τρέχοντα φάκελο");
-                return;
-            }
+    // ------------------ 2025 ------------------ //
 
+    private static final Table REVENUE_2025 = new Table("revenue_2025",
+            esa("total_revenue", "1"),
+            esa("taxes", "11"),
+            esa("social_contributions", "12"),
+            esa("transfers", "13"),
+            esa("sales_of_goods_and_services", "14"),
+            esa("other_current_revenue", "15"),
+            esa("fixed_assets", "31"),
+            esa("debt_securities", "43"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("currency_and_deposit_liabilities", "52"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"),
+            esa("financial_derivatives", "57"));
+
+    private static final Table EXPENSES_2025 = new Table("expenses_2025",
+            esa("total_expenses", "2"),
+            esa("employee_benefits", "21"),
+            esa("social_benefits", "22"),
+            esa("transfers", "23"),
+            esa("purchases_of_goods_and_services", "24"),
+            esa("subsidies", "25"),
+            esa("interest", "26"),
+            esa("other_expenditures", "27"),
+            esa("appropriations", "29"),
+            esa("fixed_assets", "31"),
+            esa("valuables", "33"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"));
+
+    private static final Table MINISTRIES_2025 = new Table("ministries_2025",
+            at("total_ministries", 3),
+            at("presidency_of_the_republic", 0),
+            at("hellenic_parliament", 1),
+            at("presidency_of_the_government", 2),
+            at("ministry_of_interior", 4),
+            at("ministry_of_foreign_affairs", 5),
+            at("ministry_of_national_defence", 6),
+            at("ministry_of_health", 7),
+            at("ministry_of_justice", 8),
+            at("ministry_of_education_religious_affairs_and_sports", 9),
+            at("ministry_of_culture", 10),
+            at("ministry_of_national_economy_and_finance", 11),
+            at("ministry_of_agricultural_development_and_food", 12),
+            at("ministry_of_environment_and_energy", 13),
+            at("ministry_of_labor_and_social_security", 14),
+            at("ministry_of_social_cohesion_and_family", 15),
+            at("ministry_of_development", 16),
+            at("ministry_of_infrastructure_and_transport", 17),
+            at("ministry_of_maritime_affairs_and_insular_policy", 18),
+            at("ministry_of_tourism", 19),
+            at("ministry_of_digital_governance", 20),
+            at("ministry_of_migration_and_asylum", 21),
+            at("ministry_of_citizen_protection", 22),
+            at("ministry_of_climate_crisis_and_civil_protection", 23));
+
+    private static final Table DECENTRALIZED_2025 = new Table("decentralized_administrations_2025",
+            at("total_da", 0),
+            at("decentralized_administration_of_attica", 1),
+            at("decentralized_administration_of_thessaly_central_greece", 2),
+            at("decentralized_administration_of_epirus_western_macedonia", 3),
+            at("decentralized_administration_of_peloponnese_western_greece_and_ionian", 4),
+            at("decentralized_administration_of_aegean", 5),
+            at("decentralized_administration_of_crete", 6),
+            at("decentralized_administration_of_macedonia_thrace", 7));
+
+    private static final Table SUMMARY_2025 = new Table("budget_summary_2025",
+            total("budget_result"),
+            total("total_revenue"),
+            total("total_expenses"),
+            total("total_ministries"),
+            total("total_da"));
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
+    // ------------------ 2024 ------------------ //
 
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
+    private static final Table REVENUE_2024 = new Table("revenue_2024",
+            esa("total_revenue", "1"),
+            esa("taxes", "11"),
+            esa("social_contributions", "12"),
+            esa("transfers", "13"),
+            esa("sales_of_goods_and_services", "14"),
+            esa("other_current_revenue", "15"),
+            esa("fixed_assets", "31"),
+            esa("debt_securities", "43"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("currency_and_deposit_liabilities", "52"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"),
+            esa("financial_derivatives", "57"));
+
+    private static final Table EXPENSES_2024 = new Table("expenses_2024",
+            esa("total_expenses", "2"),
+            esa("employee_benefits", "21"),
+            esa("social_benefits", "22"),
+            esa("transfers", "23"),
+            esa("purchases_of_goods_and_services", "24"),
+            esa("subsidies", "25"),
+            esa("interest", "26"),
+            esa("other_expenditures", "27"),
+            esa("appropriations", "29"),
+            esa("fixed_assets", "31"),
+            esa("valuables", "33"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"));
+
+    private static final Table MINISTRIES_2024 = new Table("ministries_2024",
+            at("total_ministries", 3),
+            at("presidency_of_the_republic", 0),
+            at("hellenic_parliament", 1),
+            at("presidency_of_the_government", 2),
+            at("ministry_of_interior", 4),
+            at("ministry_of_foreign_affairs", 5),
+            at("ministry_of_national_defence", 6),
+            at("ministry_of_health", 7),
+            at("ministry_of_justice", 8),
+            at("ministry_of_education_religious_affairs_and_sports", 9),
+            at("ministry_of_culture", 10),
+            at("ministry_of_national_economy_and_finance", 11),
+            at("ministry_of_agricultural_development_and_food", 12),
+            at("ministry_of_environment_and_energy", 13),
+            at("ministry_of_labor_and_social_security", 14),
+            at("ministry_of_social_cohesion_and_family", 15),
+            at("ministry_of_development", 16),
+            at("ministry_of_infrastructure_and_transport", 17),
+            at("ministry_of_maritime_affairs_and_insular_policy", 18),
+            at("ministry_of_tourism", 19),
+            at("ministry_of_digital_governance", 20),
+            at("ministry_of_migration_and_asylum", 21),
+            at("ministry_of_citizen_protection", 22),
+            at("ministry_of_climate_crisis_and_civil_protection", 23));
+
+    private static final Table DECENTRALIZED_2024 = new Table("decentralized_administrations_2024",
+            at("total_da", 0),
+            at("decentralized_administration_of_attica", 1),
+            at("decentralized_administration_of_thessaly_central_greece", 2),
+            at("decentralized_administration_of_epirus_western_macedonia", 3),
+            at("decentralized_administration_of_peloponnese_western_greece_and_ionian", 4),
+            at("decentralized_administration_of_aegean", 5),
+            at("decentralized_administration_of_crete", 6),
+            at("decentralized_administration_of_macedonia_thrace", 7));
+
+    private static final Table SUMMARY_2024 = new Table("budget_summary_2024",
+            total("budget_result"),
+            total("total_revenue"),
+            total("total_expenses"),
+            total("total_ministries"),
+            total("total_da"));
 
-            String total_da=null;
-            String decentralized_administration_of_attica=null;
-            String decentralized_administration_of_thessaly_central_greece=null;
-            String decentralized_administration_of_epirus_western_macedonia=null;
-            String decentralized_administration_of_peloponnese_western_greece_and_ionian=null;
-            String decentralized_administration_of_aegean=null;
-            String decentralized_administration_of_crete=null;
-            String decentralized_administration_of_macedonia_thrace=null;
-           
-           
+    // ------------------ 2023 ------------------ //
 
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
+    private static final Table REVENUE_2023 = new Table("revenue_2023",
+            esa("total_revenue", "1"),
+            esa("taxes", "11"),
+            esa("social_contributions", "12"),
+            esa("transfers", "13"),
+            esa("sales_of_goods_and_services", "14"),
+            esa("other_current_revenue", "15"),
+            esa("fixed_assets", "31"),
+            esa("debt_securities", "43"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("currency_and_deposit_liabilities", "52"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"),
+            esa("financial_derivatives", "57"));
+
+    private static final Table EXPENSES_2023 = new Table("expenses_2023",
+            esa("total_expenses", "2"),
+            esa("employee_benefits", "21"),
+            esa("social_benefits", "22"),
+            esa("transfers", "23"),
+            esa("purchases_of_goods_and_services", "24"),
+            esa("subsidies", "25"),
+            esa("interest", "26"),
+            esa("other_expenditures", "27"),
+            esa("appropriations", "29"),
+            esa("fixed_assets", "31"),
+            esa("valuables", "33"),
+            esa("loans", "44"),
+            esa("equity_securities_and_fund_shares", "45"),
+            esa("debt_securities_liabilities", "53"),
+            esa("loans_liabilities", "54"));
+
+    private static final Table MINISTRIES_2023 = new Table("ministries_2023",
+            at("total_ministries", 3),
+            at("presidency_of_the_republic", 0),
+            at("hellenic_parliament", 1),
+            at("presidency_of_the_government", 2),
+            at("ministry_of_interior", 4),
+            at("ministry_of_foreign_affairs", 5),
+            at("ministry_of_national_defence", 6),
+            at("ministry_of_health", 7),
+            at("ministry_of_justice", 8),
+            at("ministry_of_education_religious_affairs_and_sports", 9),
+            at("ministry_of_culture", 10),
+            at("ministry_of_national_economy_and_finance", 11),
+            at("ministry_of_agricultural_development_and_food", 12),
+            at("ministry_of_environment_and_energy", 13),
+            at("ministry_of_labor_and_social_security", 14),
+            at("ministry_of_development", 15),
+            at("ministry_of_infrastructure_and_transport", 16),
+            at("ministry_of_maritime_affairs_and_insular_policy", 17),
+            at("ministry_of_tourism", 18),
+            at("ministry_of_digital_governance", 19),
+            at("ministry_of_migration_and_asylum", 20),
+            at("ministry_of_citizen_protection", 21),
+            at("ministry_of_climate_crisis_and_civil_protection", 22));
+
+    private static final Table DECENTRALIZED_2023 = new Table("decentralized_administrations_2023",
+            at("total_da", 0),
+            at("decentralized_administration_of_attica", 1),
+            at("decentralized_administration_of_thessaly_central_greece", 2),
+            at("decentralized_administration_of_epirus_western_macedonia", 3),
+            at("decentralized_administration_of_peloponnese_western_greece_and_ionian", 4),
+            at("decentralized_administration_of_aegean", 5),
+            at("decentralized_administration_of_crete", 6),
+            at("decentralized_administration_of_macedonia_thrace", 7));
+
+    private static final Table SUMMARY_2023 = new Table("budget_summary_2023",
+            total("budget_result"),
+            total("total_revenue"),
+            total("total_expenses"),
+            total("total_ministries"),
+            total("total_da"));
+
+    // οι πίνακες κάθε έτους, με τη σειρά που εισάγονται
+    private static final Map<Integer, Table[]> LAYOUTS = new HashMap<>();
+    static {
+        LAYOUTS.put(2026, new Table[] {REVENUE_2026, EXPENSES_2026, MINISTRIES_2026, DECENTRALIZED_2026, SUMMARY_2026});
+        LAYOUTS.put(2025, new Table[] {REVENUE_2025, EXPENSES_2025, MINISTRIES_2025, DECENTRALIZED_2025, SUMMARY_2025});
+        LAYOUTS.put(2024, new Table[] {REVENUE_2024, EXPENSES_2024, MINISTRIES_2024, DECENTRALIZED_2024, SUMMARY_2024});
+        LAYOUTS.put(2023, new Table[] {REVENUE_2023, EXPENSES_2023, MINISTRIES_2023, DECENTRALIZED_2023, SUMMARY_2023});
+    }
 
-                if (lineNumber < 79) {
-                    continue;
-                }
-                if (lineNumber > 86) {
-                    break;
-                }
-                if (lineNumber == 79){
-                    total_da = data[2];
-                } else if (lineNumber == 80) {
-                    decentralized_administration_of_attica = data[3];
-                } else if (lineNumber == 81) {
-                    decentralized_administration_of_thessaly_central_greece = data[3];
-                } else if (lineNumber == 82) {
-                    decentralized_administration_of_epirus_western_macedonia = data[3];
-                } else if (lineNumber == 83) {
-                    decentralized_administration_of_peloponnese_western_greece_and_ionian = data[3];
-                } else if (lineNumber == 84) {
-                    decentralized_administration_of_aegean = data[3];
-                } else if (lineNumber == 85) {
-                    decentralized_administration_of_crete = data[3];
-                } else if (lineNumber == 86) {
-                    decentralized_administration_of_macedonia_thrace = data[3];
-                }
+    // =========================================================
+    // ΦΟΡΤΩΣΗ ΕΤΟΥΣ
+    // =========================================================
 
+    // εισάγει όλους τους πίνακες ενός έτους διαβάζοντας το CSV του μία φορά
+    void loadYear(int year) throws Exception {
+        insertTables(year, tablesOf(year));
+    }
 
-            }
-            statement.setBigDecimal(1, parseMoney(total_da));
-            statement.setBigDecimal(2, parseMoney(decentralized_administration_of_attica));
-            statement.setBigDecimal(3, parseMoney(decentralized_administration_of_thessaly_central_greece));
-            statement.setBigDecimal(4, parseMoney(decentralized_administration_of_epirus_western_macedonia));
-            statement.setBigDecimal(5, parseMoney(decentralized_administration_of_peloponnese_western_greece_and_ionian));
-            statement.setBigDecimal(6, parseMoney(decentralized_administration_of_aegean));
-            statement.setBigDecimal(7, parseMoney(decentralized_administration_of_crete));
-            statement.setBigDecimal(8, parseMoney(decentralized_administration_of_macedonia_thrace));
-
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+    private static Table[] tablesOf(int year) {
+        Table[] tables = LAYOUTS.get(year);
+        if (tables == null) {
+            throw new IllegalArgumentException("No budget tables for year " + year);
         }
-
-
+        return tables;
     }
 
+    // διαβάζει το CSV και εισάγει τους πίνακες με δική του σύνδεση (autocommit)
+    private static void insertTables(int year, Table... tables) throws Exception {
+        Money[][] values = readValues(year, tables);
+        if (values == null) {
+            return;
+        }
 
-     static void insertBudgetSummary2026() throws Exception {
-String sql = "INSERT INTO budget_summary_2026(budget_result,total_revenue,total_expenses,total_ministries,total_da) VALUES(?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2026.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2026.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-
-            String budget_result=null;
-            String total_revenue=null;
-            String total_expenses=null;
-            String total_ministries=null;
-            String total_da=null;
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber == 44) {
-                    budget_result=data[3];
-                } else if (lineNumber ==14) {
-                    total_revenue=data[3];
-                } else if (lineNumber == 28) {
-                    total_expenses=data[3];
-                } else if (lineNumber ==58) {
-                    total_ministries=data[4];
-                } else if (lineNumber ==79 ) {
-                    total_da=data[2];
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            for (int t = 0; t < tables.length; t++) {
+                try (PreparedStatement statement = connection.prepareStatement(tables[t].insertSql())) {
+                    bind(statement, values[t]);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    e.printStackTrace();
                 }
-                    
-                
-
             }
-            statement.setBigDecimal(1, parseMoney(budget_result));
-            statement.setBigDecimal(2, parseMoney(total_revenue));
-            statement.setBigDecimal(3, parseMoney(total_expenses));
-            statement.setBigDecimal(4, parseMoney(total_ministries));
-            statement.setBigDecimal(5, parseMoney(total_da));
-           
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        BudgetData.getInstance().invalidate(year);
     }
 
-    // ------------------ 2025 ------------------ //
-
-    void insertRevenue2025() throws Exception {
-         try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            String sql = "INSERT INTO revenue_2025(total_revenue,taxes,social_contributions,transfers,sales_of_goods_and_services,other_current_revenue,fixed_assets,debt_securities,loans,equity_securities_and_fund_shares,currency_and_deposit_liabilities,debt_securities_liabilities,loans_liabilities,financial_derivatives) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2025.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2025.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-             String total_revenue = null;
-                String taxes = null;
-                String social_contributions = null;
-                String transfers = null;
-                String sales_of_goods_and_services = null;
-                String other_current_revenue = null;
-                String fixed_assets = null;
-                String debt_securities = null;
-                String loans = null;
-                String equity_securities_and_fund_shares = null;
-                String currency_and_deposit_liabilities = null;
-                String debt_securities_liabilities = null;
-                String loans_liabilities = null;
-                String financial_derivatives = null;
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-
-                if (lineNumber < 13) {
-                    continue;
-                }
-                if (lineNumber > 26) {
+    // οι γραμμές του CSV που χρειάζονται οι πίνακες, χωρισμένες σε ενότητες
+    // μετρούν μόνο οι γραμμές με ποσά: οι επικεφαλίδες και το κείμενο του νόμου αγνοούνται
+    private static final class Sections {
+        // κωδικός ESA (χωρίς τελεία) -> πρώτο ποσό της γραμμής
+        final Map<String, Money> revenue = new HashMap<>();
+        final Map<String, Money> expenses = new HashMap<>();
+        Money result;
+        // Προεδρία της Δημοκρατίας, Βουλή, Προεδρία της Κυβέρνησης, "Υπουργεία", τα υπουργεία
+        final List<TableRow> ministries = new ArrayList<>();
+        TableRow ministriesTotal;
+        // "Αποκεντρωμένες Διοικήσεις" και οι διοικήσεις
+        final List<TableRow> decentralized = new ArrayList<>();
+
+        // οι ενότητες με τη σειρά που εμφανίζονται στο PDF
+        private static final int BEFORE = 0, REVENUE = 1, EXPENSES = 2, RESULT = 3, MINISTRIES = 4,
+                DECENTRALIZED = 5;
+        private int state = BEFORE;
+        // οι τελευταίες γραμμές πριν από τα "Υπουργεία"
+        private final List<TableRow> recent = new ArrayList<>();
+
+        // δέχεται την επόμενη γραμμή, επιστρέφει true όταν έχουν βρεθεί όλες όσες χρειάζονται
+        boolean accept(TableRow row, int decentralizedRows) {
+            if (!row.hasAmounts()) return false;
+            String code = row.getCodeNumber();
+            Money first = row.getAmount(0);
+            switch (state) {
+                case BEFORE:
+                    if ("1".equals(code)) {
+                        revenue.put(code, first);
+                        state = REVENUE;
+                    }
+                    break;
+                case REVENUE:
+                    if ("2".equals(code)) {
+                        expenses.put(code, first);
+                        state = EXPENSES;
+                    } else if (code != null) {
+                        revenue.putIfAbsent(code, first);
+                    }
+                    break;
+                case EXPENSES:
+                    // το αποτέλεσμα (κωδικός 3 ή χωρίς κωδικό) κλείνει τα έξοδα
+                    if (code == null || "3".equals(code)) {
+                        result = first;
+                        state = RESULT;
+                    } else {
+                        expenses.putIfAbsent(code, first);
+                    }
+                    break;
+                case RESULT:
+                    if (row.getLabel().trim().startsWith("Υπουργεία")) {
+                        ministries.addAll(recent.subList(Math.max(0, recent.size() - 3), recent.size()));
+                        ministries.add(row);
+                        ministriesTotal = row;
+                        state = MINISTRIES;
+                    } else {
+                        recent.add(row);
+                    }
+                    break;
+                case MINISTRIES:
+                    if (row.getLabel().trim().startsWith("Αποκεντρωμένες Διοικήσεις")) {
+                        decentralized.add(row);
+                        state = DECENTRALIZED;
+                    } else {
+                        ministries.add(row);
+                    }
+                    break;
+                default:
+                    decentralized.add(row);
                     break;
-                }
-               
-                if (lineNumber == 13) {
-                    total_revenue = data[3];
-                } else if (lineNumber == 14) {
-                    taxes = data[3];
-                } else if (lineNumber == 15) {
-                    social_contributions = data[3];
-                } else if (lineNumber == 16) {
-                    transfers = data[3];
-                } else if (lineNumber == 17) {
-                    sales_of_goods_and_services = data[3];
-                } else if (lineNumber == 18) {
-                    other_current_revenue = data[3];
-                } else if (lineNumber == 19) {
-                    fixed_assets = data[3];
-                } else if (lineNumber == 20) {
-                    debt_securities = data[3];
-                } else if (lineNumber == 21) {
-                    loans = data[3];
-                } else if (lineNumber == 22) {
-                    equity_securities_and_fund_shares = data[3];
-                } else if (lineNumber == 23) {
-                    currency_and_deposit_liabilities = data[3];
-                } else if (lineNumber == 24) {
-                    debt_securities_liabilities = data[3];
-                } else if (lineNumber == 25) {
-                    loans_liabilities = data[3];
-                } else if (lineNumber == 26) {
-                    financial_derivatives = data[3];
-                }
-
             }
-             statement.setBigDecimal(1,  parseMoney(total_revenue));
-                    statement.setBigDecimal(2,  parseMoney(taxes));
-                    statement.setBigDecimal(3,  parseMoney(social_contributions));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(sales_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(other_current_revenue));
-                    statement.setBigDecimal(7,  parseMoney(fixed_assets));
-                    statement.setBigDecimal(8,  parseMoney(debt_securities));
-                    statement.setBigDecimal(9,  parseMoney(loans));
-                    statement.setBigDecimal(10, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(11, parseMoney(currency_and_deposit_liabilities));
-                    statement.setBigDecimal(12, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(13, parseMoney(loans_liabilities));
-                    statement.setBigDecimal(14, parseMoney(financial_derivatives));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return state == DECENTRALIZED && decentralized.size() >= decentralizedRows;
         }
-        
-      
     }
-    private static BigDecimal parseMoney(String s) {
-    if (s == null || s.isBlank()) return BigDecimal.ZERO;
-    String clean = s.trim().replace(".", "").replace(",", ".");
-    return new BigDecimal(clean);
-}
-
-
-
-
-    void insertExpenses2025() throws Exception {
-String sql = "INSERT INTO expenses_2025(total_expenses,employee_benefits,social_benefits,transfers,purchases_of_goods_and_services,subsidies,interest,other_expenditures,appropriations,fixed_assets,valuables,loans,equity_securities_and_fund_shares,debt_securities_liabilities,loans_liabilities) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2025.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2025.csv στον τρέχοντα φάκελο");
-                return;
-            }
 
+    // διαβάζει το CSV του έτους μία φορά και βρίσκει την τιμή κάθε στήλης των πινάκων
+    // η ανάγνωση σταματά μόλις βρεθούν όλες οι ενότητες
+    // δέχεται και τα CSV κειμένου των παλαιότερων εκδόσεων (ίδιες γραμμές, χωρίς στήλη κωδικού)
+    // επιστρέφει τις τιμές ανά πίνακα/στήλη ή null αν δεν υπάρχει το CSV
+    private static Money[][] readValues(int year, Table... tables) throws Exception {
+        File csvFile = new File("proipologismos" + year + ".csv");
+        if (!csvFile.exists()) {
+            System.out.println("Δεν βρέθηκε το αρχείο proipologismos" + year + ".csv στον τρέχοντα φάκελο");
+            return null;
+        }
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_expenses=null;
-            String employee_benefits=null;
-            String social_benefits=null;
-            String transfers=null;
-            String purchases_of_goods_and_services=null;
-            String subsidies=null;
-            String interest=null;
-            String other_expenditures=null;
-            String appropriations=null;
-            String fixed_assets=null;
-            String valuables=null;
-            String loans=null;
-            String equity_securities_and_fund_shares=null;
-            String debt_securities_liabilities=null;
-            String loans_liabilities=null;
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 27) {
-                    continue;
-                }
-                if (lineNumber > 41) {
-                    break;
-                }
-               
-                if (lineNumber == 27) {
-                    total_expenses=data[3];
-                } else if (lineNumber == 28) {
-                    employee_benefits=data[3];
-                } else if (lineNumber == 29) {
-                    social_benefits=data[3];
-                } else if (lineNumber == 30) {
-                    transfers=data[3];
-                } else if (lineNumber == 31) {
-                    purchases_of_goods_and_services=data[3];
-                } else if (lineNumber == 32) {
-                    subsidies=data[3];
-                } else if (lineNumber == 33) {
-                    interest=data[3];
-                } else if (lineNumber == 34) {
-                    other_expenditures=data[3];
-                } else if (lineNumber == 35) {
-                    appropriations=data[3];
-                } else if (lineNumber == 36) {
-                    fixed_assets=data[3];
-                } else if (lineNumber == 37) {
-                    valuables=data[3];
-                } else if (lineNumber == 38) {
-                    loans=data[3];
-                } else if (lineNumber == 39) {
-                    equity_securities_and_fund_shares=data[3];
-                } else if (lineNumber == 40) {
-                    debt_securities_liabilities=data[3];
-                } else if (lineNumber == 41) {
-                    loans_liabilities=data[3];
+        int decentralizedRows = 1;
+        for (Table table : tables) {
+            if (sectionOf(table).equals("decentralized_administrations")) {
+                for (Column column : table.columns) {
+                    decentralizedRows = Math.max(decentralizedRows, column.position + 1);
                 }
             }
-             statement.setBigDecimal(1,  parseMoney(total_expenses));
-                    statement.setBigDecimal(2,  parseMoney(employee_benefits));
-                    statement.setBigDecimal(3,  parseMoney(social_benefits));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(purchases_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(subsidies));
-                    statement.setBigDecimal(7,  parseMoney(interest));
-                    statement.setBigDecimal(8,  parseMoney(other_expenditures));
-                    statement.setBigDecimal(9,  parseMoney(appropriations));
-                    statement.setBigDecimal(10, parseMoney(fixed_assets));
-                    statement.setBigDecimal(11, parseMoney(valuables));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(14, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(15, parseMoney(loans_liabilities));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
 
-    }
-
-
-      void insertMinistries2025() throws Exception {
-String sql = "INSERT INTO ministries_2025(total_ministries,presidency_of_the_republic,hellenic_parliament,presidency_of_the_government,ministry_of_interior,ministry_of_foreign_affairs,ministry_of_national_defence,ministry_of_health,ministry_of_justice,ministry_of_education_religious_affairs_and_sports,ministry_of_culture,ministry_of_national_economy_and_finance,ministry_of_agricultural_development_and_food,ministry_of_environment_and_energy,ministry_of_labor_and_social_security,ministry_of_social_cohesion_and_family,ministry_of_development,ministry_of_infrastructure_and_transport,ministry_of_maritime_affairs_and_insular_policy,ministry_of_tourism,ministry_of_digital_governance,ministry_of_migration_and_asylum,ministry_of_citizen_protection,ministry_of_climate_crisis_and_civil_protection) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2025.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2025.csv στον τρέχοντα φάκελο");
-                return;
+        // το CSV γράφεται σε UTF-8 από τη DataConvert, ανεξάρτητα από το charset του συστήματος
+        Sections sections = new Sections();
+        boolean complete = false;
+        try (BufferedReader lineread = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
+            String header = lineread.readLine();
+            boolean textFormat = TableRow.TEXT_HEADER.equals(header);
+            if (!textFormat && !TableRow.HEADER.equals(header)) {
+                throw new IllegalStateException(csvFile.getName() + ": άγνωστη επικεφαλίδα " + header);
             }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_ministries=null;
-            String presidency_of_the_republic=null;
-            String hellenic_parliament=null;
-            String presidency_of_the_government=null;
-            String ministry_of_interior=null;
-            String ministry_of_foreign_affairs=null;
-            String ministry_of_national_defence=null;
-            String ministry_of_health=null;
-            String ministry_of_justice=null;
-            String ministry_of_education_religious_affairs_and_sports=null;
-            String ministry_of_culture=null;
-            String ministry_of_national_economy_and_finance=null;
-            String ministry_of_agricultural_development_and_food=null;
-            String ministry_of_environment_and_energy=null;
-            String ministry_of_labor_and_social_security=null;
-            String ministry_of_social_cohesion_and_family=null;
-            String ministry_of_development=null;
-            String ministry_of_infrastructure_and_transport=null;
-            String ministry_of_maritime_affairs_and_insular_policy=null;
-            String ministry_of_tourism=null;
-            String ministry_of_digital_governance=null;
-            String ministry_of_migration_and_asylum=null;
-            String ministry_of_citizen_protection=null;
-            String ministry_of_climate_crisis_and_civil_protection=null;
-            
-
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 53) {
-                    continue;
-                }
-                if (lineNumber > 76) {
-                    break;
-                }
-               String value = (data.length > 5) ? data[5] : "0";
-
-                if (lineNumber == 53) {
-                    presidency_of_the_republic = value;
-                } else if (lineNumber == 54) {
-                    hellenic_parliament = value;
-                } else if (lineNumber == 55) {
-                    presidency_of_the_government = value;
-                } else if (lineNumber == 56) {
-                    total_ministries = data[4];
-                } else if (lineNumber == 57) {
-                    ministry_of_interior = value;
-                } else if (lineNumber == 58) {
-                    ministry_of_foreign_affairs = value;
-                } else if (lineNumber == 59) {
-                    ministry_of_national_defence = value;
-                } else if (lineNumber == 60) {
-                    ministry_of_health = value;
-                } else if (lineNumber == 61) {
-                    ministry_of_justice = value;
-                } else if (lineNumber == 62) {
-                    ministry_of_education_religious_affairs_and_sports = value;
-                } else if (lineNumber == 63) {
-                    ministry_of_culture = value;
-                } else if (lineNumber == 64) {
-                    ministry_of_national_economy_and_finance = value;
-                } else if (lineNumber == 65) {
-                    ministry_of_agricultural_development_and_food = value;
-                } else if (lineNumber == 66) {
-                    ministry_of_environment_and_energy = value;
-                } else if (lineNumber == 67) {
-                    ministry_of_labor_and_social_security = value;
-                } else if (lineNumber == 68) {
-                    ministry_of_social_cohesion_and_family = value;
-                } else if (lineNumber == 69) {
-                    ministry_of_development = value;
-                } else if (lineNumber == 70) {
-                    ministry_of_infrastructure_and_transport = value;
-                } else if (lineNumber == 71) {
-                    ministry_of_maritime_affairs_and_insular_policy = value;
-                } else if (lineNumber == 72) {
-                    ministry_of_tourism = value;
-                } else if (lineNumber == 73) {
-                    ministry_of_digital_governance = value;
-                } else if (lineNumber == 74) {
-                    ministry_of_migration_and_asylum = value;
-                } else if (lineNumber == 75) {
-                    ministry_of_citizen_protection = value;
-                } else if (lineNumber == 76) {
-                    ministry_of_climate_crisis_and_civil_protection = value;
-                }
-
-
+            String linetext;
+            while (!complete && (linetext = lineread.readLine()) != null) {
+                if (linetext.isEmpty()) continue;
+                complete = sections.accept(TableRow.parse(linetext, textFormat), decentralizedRows);
             }
-            statement.setBigDecimal(1,  parseMoney(total_ministries));
-            statement.setBigDecimal(2,  parseMoney(presidency_of_the_republic));
-            statement.setBigDecimal(3,  parseMoney(hellenic_parliament));
-            statement.setBigDecimal(4,  parseMoney(presidency_of_the_government));
-            statement.setBigDecimal(5,  parseMoney(ministry_of_interior));
-            statement.setBigDecimal(6,  parseMoney(ministry_of_foreign_affairs));
-            statement.setBigDecimal(7,  parseMoney(ministry_of_national_defence));
-            statement.setBigDecimal(8,  parseMoney(ministry_of_health));
-            statement.setBigDecimal(9,  parseMoney(ministry_of_justice));
-            statement.setBigDecimal(10, parseMoney(ministry_of_education_religious_affairs_and_sports));
-            statement.setBigDecimal(11, parseMoney(ministry_of_culture));
-            statement.setBigDecimal(12, parseMoney(ministry_of_national_economy_and_finance));
-            statement.setBigDecimal(13, parseMoney(ministry_of_agricultural_development_and_food));
-            statement.setBigDecimal(14, parseMoney(ministry_of_environment_and_energy));
-            statement.setBigDecimal(15, parseMoney(ministry_of_labor_and_social_security));
-            statement.setBigDecimal(16, parseMoney(ministry_of_social_cohesion_and_family));
-            statement.setBigDecimal(17, parseMoney(ministry_of_development));
-            statement.setBigDecimal(18, parseMoney(ministry_of_infrastructure_and_transport));
-            statement.setBigDecimal(19, parseMoney(ministry_of_maritime_affairs_and_insular_policy));
-            statement.setBigDecimal(20, parseMoney(ministry_of_tourism));
-            statement.setBigDecimal(21, parseMoney(ministry_of_digital_governance));
-            statement.setBigDecimal(22, parseMoney(ministry_of_migration_and_asylum));
-            statement.setBigDecimal(23, parseMoney(ministry_of_citizen_protection));
-            statement.setBigDecimal(24, parseMoney(ministry_of_climate_crisis_and_civil_protection));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+        }
+        if (!complete) {
+            throw new IllegalStateException(csvFile.getName() + ": δεν βρέθηκαν όλες οι ενότητες του προϋπολογισμού");
         }
 
+        Money[][] values = new Money[tables.length][];
+        for (int t = 0; t < tables.length; t++) {
+            values[t] = new Money[tables[t].columns.length];
+            for (int c = 0; c < tables[t].columns.length; c++) {
+                values[t][c] = valueOf(csvFile, sections, tables[t], tables[t].columns[c]);
+            }
+        }
+        return values;
     }
 
-
-
-     void insertDecentralizedAdministrations2025() throws Exception {
-String sql = "INSERT INTO decentralized_administrations_2025(total_da,decentralized_administration_of_attica,decentralized_administration_of_thessaly_central_greece,decentralized_administration_of_epirus_western_macedonia,decentralized_administration_of_peloponnese_western_greece_and_ionian,decentralized_administration_of_aegean,decentralized_administration_of_crete,decentralized_administration_of_macedonia_thrace) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
-        
-       try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2025.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2025.csv στον τρέχοντα φάκελο");
-                return;
+    // η τιμή μιας στήλης από τις ενότητες του CSV
+    // υπουργεία: η στήλη "Γενικό Σύνολο" (τρίτο ποσό), αποκεντρωμένες διοικήσεις: το πρώτο ποσό
+    private static Money valueOf(File csvFile, Sections sections, Table table, Column column) {
+        String section = sectionOf(table);
+        switch (section) {
+            case "revenue":
+            case "expenses": {
+                Money value = (section.equals("revenue") ? sections.revenue : sections.expenses).get(column.code);
+                if (value == null) {
+                    throw new IllegalStateException(csvFile.getName() + ": δεν βρέθηκε ο κωδικός " + column.code
+                            + " για " + table.name + "." + column.name);
+                }
+                return value;
             }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-
-            String total_da=null;
-            String decentralized_administration_of_attica=null;
-            String decentralized_administration_of_thessaly_central_greece=null;
-            String decentralized_administration_of_epirus_western_macedonia=null;
-            String decentralized_administration_of_peloponnese_western_greece_and_ionian=null;
-            String decentralized_administration_of_aegean=null;
-            String decentralized_administration_of_crete=null;
-            String decentralized_administration_of_macedonia_thrace=null;
-           
-           
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 77) {
-                    continue;
+            case "ministries":
+                // οι θέσεις πρέπει να καλύπτουν ακριβώς την ενότητα, αλλιώς τα υπουργεία θα μετακινούνταν
+                if (sections.ministries.size() != table.columns.length) {
+                    throw new IllegalStateException(csvFile.getName() + ": " + sections.ministries.size()
+                            + " γραμμές υπουργείων αντί για " + table.columns.length + " στο " + table.name);
                 }
-                if (lineNumber > 84) {
-                    break;
+                return sections.ministries.get(column.position).getAmount(2);
+            case "decentralized_administrations":
+                return sections.decentralized.get(column.position).getAmount(0);
+            default:
+                switch (column.name) {
+                    case "budget_result":
+                        return sections.result;
+                    case "total_revenue":
+                        return sections.revenue.get("1");
+                    case "total_expenses":
+                        return sections.expenses.get("2");
+                    case "total_ministries":
+                        return sections.ministriesTotal.getAmount(2);
+                    case "total_da":
+                        return sections.decentralized.get(0).getAmount(0);
+                    default:
+                        throw new IllegalStateException("Άγνωστη στήλη " + table.name + "." + column.name);
                 }
-                if (lineNumber ==77){
-                    total_da=data[2];
-                }else if (lineNumber == 78) {
-                    decentralized_administration_of_attica=data[3];
-                } else if (lineNumber == 79) {
-                    decentralized_administration_of_thessaly_central_greece=data[3];
-                } else if (lineNumber == 80) {
-                    decentralized_administration_of_epirus_western_macedonia=data[3];
-                } else if (lineNumber == 81) {
-                    decentralized_administration_of_peloponnese_western_greece_and_ionian=data[3];
-                } else if (lineNumber == 82) {
-                    decentralized_administration_of_aegean=data[3];
-                } else if (lineNumber == 83) {
-                    decentralized_administration_of_crete=data[3];
-                } else if (lineNumber == 84) {
-                    decentralized_administration_of_macedonia_thrace=data[3];
-                } 
-
-            }
-            statement.setBigDecimal(1, parseMoney(total_da));
-            statement.setBigDecimal(2, parseMoney(decentralized_administration_of_attica));
-            statement.setBigDecimal(3, parseMoney(decentralized_administration_of_thessaly_central_greece));
-            statement.setBigDecimal(4, parseMoney(decentralized_administration_of_epirus_western_macedonia));
-            statement.setBigDecimal(5, parseMoney(decentralized_administration_of_peloponnese_western_greece_and_ionian));
-            statement.setBigDecimal(6, parseMoney(decentralized_administration_of_aegean));
-            statement.setBigDecimal(7, parseMoney(decentralized_administration_of_crete));
-            statement.setBigDecimal(8, parseMoney(decentralized_administration_of_macedonia_thrace));
-
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
-
-
     }
 
+    // τα ποσά δένονται ως Money χωρίς ενδιάμεσα BigDecimal
+    private static void bind(PreparedStatement statement, Money[] values) throws SQLException {
+        for (int c = 0; c < values.length; c++) {
+            values[c].bind(statement, c + 1);
+        }
+    }
 
-     static void insertBudgetSummary2025() throws Exception {
-String sql = "INSERT INTO budget_summary_2025(budget_result,total_revenue,total_expenses,total_ministries,total_da) VALUES(?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
+    // =========================================================
+    // ΜΑΖΙΚΗ ΦΟΡΤΩΣΗ
+    // όλα τα έτη σε μία σύνδεση και μία συναλλαγή, με ένα PreparedStatement ανά πίνακα
+    // και pragmas φόρτωσης όσο διαρκεί (χωρίς fsync, μεγάλη cache)
+    // αν αποτύχει κάτι γίνεται rollback και η βάση μένει όπως ήταν
+    // =========================================================
+
+    // pragmas φόρτωσης: επαναφέρονται στις προηγούμενες τιμές στο τέλος
+    // το journal_mode δεν αλλάζει: η έξοδος από WAL θέλει αποκλειστική πρόσβαση, ενώ οι συνδέσεις
+    // του pool και του εγγραφέα κρατούν τη βάση ανοιχτή (και με synchronous=OFF δεν γίνεται fsync ούτως ή άλλως)
+    private static final String[][] LOAD_PRAGMAS = {
+            {"synchronous", "OFF"},
+            {"temp_store", "MEMORY"},
+            {"cache_size", "-65536"},
+    };
+
+    // αποτέλεσμα μαζικής φόρτωσης
+    public static final class LoadReport {
+        private final int years;
+        private final int rows;
+        private final long elapsedMillis;
+
+        LoadReport(int years, int rows, long elapsedMillis) {
+            this.years = years;
+            this.rows = rows;
+            this.elapsedMillis = elapsedMillis;
+        }
 
-             File csvFile = new File("proipologismos2025.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2025.csv στον τρέχοντα φάκελο");
-                return;
-            }
+        public int getYears() {
+            return years;
+        }
 
+        public int getRows() {
+            return rows;
+        }
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-
-            String budget_result=null;
-            String total_revenue=null;
-            String total_expenses=null;
-            String total_ministries=null;
-            String total_da=null;
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber == 42) {
-                    budget_result=data[3];
-                } else if (lineNumber ==13) {
-                    total_revenue=data[3];
-                } else if (lineNumber == 27) {
-                    total_expenses=data[3];
-                } else if (lineNumber ==56) {
-                    total_ministries=data[4];
-                } else if (lineNumber ==77 ) {
-                    total_da=data[2];
-                }
-                    
-                
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
 
-            }
-            statement.setBigDecimal(1, parseMoney(budget_result));
-            statement.setBigDecimal(2, parseMoney(total_revenue));
-            statement.setBigDecimal(3, parseMoney(total_expenses));
-            statement.setBigDecimal(4, parseMoney(total_ministries));
-            statement.setBigDecimal(5, parseMoney(total_da));
-           
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+        @Override
+        public String toString() {
+            return "Bulk load: " + rows + " rows from " + years + " years in " + elapsedMillis + " ms";
         }
     }
 
+    // φορτώνει τα έτη σε μία συναλλαγή
+    // έτη χωρίς CSV παραλείπονται (όπως στη loadYear), άγνωστα έτη δίνουν IllegalArgumentException
+    public static LoadReport bulkLoad(int... years) throws Exception {
+        long start = System.nanoTime();
+        int loadedYears = 0;
+        int rows = 0;
+
+        // άγνωστα έτη απορρίπτονται πριν ανοίξει η βάση
+        Table[][] layouts = new Table[years.length][];
+        for (int y = 0; y < years.length; y++) {
+            layouts[y] = tablesOf(years[y]);
+        }
 
-    // ------------------ 2024 ------------------ //
-
-     void insertRevenue2024() throws Exception {
-String sql = "INSERT INTO revenue_2024(total_revenue,taxes,social_contributions,transfers,sales_of_goods_and_services,other_current_revenue,fixed_assets,debt_securities,equity_securities_and_fund_shares,currency_and_deposit_liabilities,debt_securities_liabilities,loans_liabilities,financial_derivatives) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-       
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-            PreparedStatement statement = connection.prepareStatement(sql);
-            
-
-             File csvFile = new File("proipologismos2024.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2024.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-             String total_revenue = null;
-                String taxes = null;
-                String social_contributions = null;
-                String transfers = null;
-                String sales_of_goods_and_services = null;
-                String other_current_revenue = null;
-                String fixed_assets = null;
-                String debt_securities = null;
-                String equity_securities_and_fund_shares = null;
-                String currency_and_deposit_liabilities = null;
-                String debt_securities_liabilities = null;
-                String loans = null;
-                String financial_derivatives = null;
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 13) {
-                    continue;
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            String[] previous = applyPragmas(connection, LOAD_PRAGMAS);
+            Map<String, PreparedStatement> statements = new HashMap<>();
+            try {
+                connection.setAutoCommit(false);
+                for (int y = 0; y < years.length; y++) {
+                    Table[] tables = layouts[y];
+                    Money[][] values = readValues(years[y], tables);
+                    if (values == null) {
+                        continue;
+                    }
+                    for (int t = 0; t < tables.length; t++) {
+                        String sql = tables[t].insertSql();
+                        PreparedStatement statement = statements.get(sql);
+                        if (statement == null) {
+                            statement = connection.prepareStatement(sql);
+                            statements.put(sql, statement);
+                        }
+                        bind(statement, values[t]);
+                        // οι πίνακες είναι views με INSTEAD OF triggers, που δεν μετρώνται στο update count
+                        statement.executeUpdate();
+                        rows++;
+                    }
+                    loadedYears++;
                 }
-                if (lineNumber > 25) {
-                    break;
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
                 }
-               
-                if (lineNumber==13){
-                     total_revenue=data[3];
-                } else if (lineNumber == 14) {
-                     taxes=data[3];
-                } else if (lineNumber == 15) {
-                     social_contributions=data[3];
-                } else if (lineNumber == 16) {
-                     transfers=data[3];
-                } else if (lineNumber == 17) {
-                     sales_of_goods_and_services=data[3];
-                } else if (lineNumber == 18) {
-                     other_current_revenue=data[3];
-                } else if (lineNumber == 19) {
-                     fixed_assets=data[3];
-                } else if (lineNumber == 20) {
-                     debt_securities=data[3];
-                } else if (lineNumber == 21) {
-                    equity_securities_and_fund_shares=data[3];
-                } else if (lineNumber == 22) {
-                    currency_and_deposit_liabilities=data[3];
-                } else if (lineNumber == 23) {
-                    debt_securities_liabilities=data[3];
-                } else if (lineNumber == 24) {
-                    loans=data[3];
-                } else if (lineNumber == 25) {
-                   financial_derivatives=data[3];
-                }
-
+                connection.setAutoCommit(true);
+                restorePragmas(connection, LOAD_PRAGMAS, previous);
             }
-             statement.setBigDecimal(1,  parseMoney(total_revenue));
-                    statement.setBigDecimal(2,  parseMoney(taxes));
-                    statement.setBigDecimal(3,  parseMoney(social_contributions));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(sales_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(other_current_revenue));
-                    statement.setBigDecimal(7,  parseMoney(fixed_assets));
-                    statement.setBigDecimal(8,  parseMoney(debt_securities));
-                    statement.setBigDecimal(9,  parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(10, parseMoney(currency_and_deposit_liabilities));
-                    statement.setBigDecimal(11, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(financial_derivatives));
-                    
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
-    }
-
-
-     void insertExpenses2024() throws Exception {
-String sql = "INSERT INTO expenses_2024(total_expenses,employee_benefits,social_benefits,transfers,purchases_of_goods_and_services,subsidies,interest,other_expenditures,appropriations,fixed_assets,valuables,loans,equity_securities_and_fund_shares,debt_securities_liabilities,loans_liabilities) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
+        BudgetData.getInstance().invalidateAll();
 
-             File csvFile = new File("proipologismos2024.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2024.csv στον τρέχοντα φάκελο");
-                return;
-            }
+        return new LoadReport(loadedYears, rows, (System.nanoTime() - start) / 1_000_000);
+    }
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_expenses=null;
-            String employee_benefits=null;
-            String social_benefits=null;
-            String transfers=null;
-            String purchases_of_goods_and_services=null;
-            String subsidies=null;
-            String interest=null;
-            String other_expenditures=null;
-            String appropriations=null;
-            String fixed_assets=null;
-            String valuables=null;
-            String loans=null;
-            String equity_securities_and_fund_shares=null;
-            String debt_securities_liabilities=null;
-            String loans_liabilities=null;
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 26) {
-                    continue;
-                }
-                if (lineNumber > 40) {
-                    break;
-                }
-               
-                if (lineNumber == 26) {
-                    total_expenses=data[3];
-                } else if (lineNumber == 27) {
-                    employee_benefits=data[3];
-                } else if (lineNumber == 28) {
-                    social_benefits=data[3];
-                } else if (lineNumber == 29) {
-                    transfers=data[3];
-                } else if (lineNumber == 30) {
-                    purchases_of_goods_and_services=data[3];
-                } else if (lineNumber == 31) {
-                    subsidies=data[3];
-                } else if (lineNumber == 32) {
-                    interest=data[3];
-                } else if (lineNumber == 33) {
-                    other_expenditures=data[3];
-                } else if (lineNumber == 34) {
-                    appropriations=data[3];
-                } else if (lineNumber == 35) {
-                    fixed_assets=data[3];
-                } else if (lineNumber == 36) {
-                    valuables=data[3];
-                } else if (lineNumber == 37) {
-                    loans=data[3];
-                } else if (lineNumber == 38) {
-                    equity_securities_and_fund_shares=data[3];
-                } else if (lineNumber == 39) {
-                    debt_securities_liabilities=data[3];
-                } else if (lineNumber == 40) {
-                    loans_liabilities=data[3];
+    // εφαρμόζει τα pragmas και επιστρέφει τις προηγούμενες τιμές τους
+    private static String[] applyPragmas(Connection connection, String[][] pragmas) throws SQLException {
+        String[] previous = new String[pragmas.length];
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < pragmas.length; i++) {
+                try (ResultSet rs = statement.executeQuery("PRAGMA " + pragmas[i][0])) {
+                    previous[i] = rs.next() ? rs.getString(1) : null;
                 }
+                statement.execute("PRAGMA " + pragmas[i][0] + " = " + pragmas[i][1]);
             }
-             statement.setBigDecimal(1,  parseMoney(total_expenses));
-                    statement.setBigDecimal(2,  parseMoney(employee_benefits));
-                    statement.setBigDecimal(3,  parseMoney(social_benefits));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(purchases_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(subsidies));
-                    statement.setBigDecimal(7,  parseMoney(interest));
-                    statement.setBigDecimal(8,  parseMoney(other_expenditures));
-                    statement.setBigDecimal(9,  parseMoney(appropriations));
-                    statement.setBigDecimal(10, parseMoney(fixed_assets));
-                    statement.setBigDecimal(11, parseMoney(valuables));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(14, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(15, parseMoney(loans_liabilities));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
+        return previous;
     }
 
-
-     static void insertMinistries2024() throws Exception {
-String sql = "INSERT INTO ministries_2024(total_ministries,presidency_of_the_republic,hellenic_parliament,presidency_of_the_government,ministry_of_interior,ministry_of_foreign_affairs,ministry_of_national_defence,ministry_of_health,ministry_of_justice,ministry_of_education_religious_affairs_and_sports,ministry_of_culture,ministry_of_national_economy_and_finance,ministry_of_agricultural_development_and_food,ministry_of_environment_and_energy,ministry_of_labor_and_social_security,ministry_of_social_cohesion_and_family,ministry_of_development,ministry_of_infrastructure_and_transport,ministry_of_maritime_affairs_and_insular_policy,ministry_of_tourism,ministry_of_digital_governance,ministry_of_migration_and_asylum,ministry_of_citizen_protection,ministry_of_climate_crisis_and_civil_protection) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-       
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2024.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2024.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_ministries=null;
-            String presidency_of_the_republic=null;
-            String hellenic_parliament=null;
-            String presidency_of_the_government=null;
-            String ministry_of_interior=null;
-            String ministry_of_foreign_affairs=null;
-            String ministry_of_national_defence=null;
-            String ministry_of_health=null;
-            String ministry_of_justice=null;
-            String ministry_of_education_religious_affairs_and_sports=null;
-            String ministry_of_culture=null;
-            String ministry_of_national_economy_and_finance=null;
-            String ministry_of_agricultural_development_and_food=null;
-            String ministry_of_environment_and_energy=null;
-            String ministry_of_labor_and_social_security=null;
-            String ministry_of_social_cohesion_and_family=null;
-            String ministry_of_development=null;
-            String ministry_of_infrastructure_and_transport=null;
-            String ministry_of_maritime_affairs_and_insular_policy=null;
-            String ministry_of_tourism=null;
-            String ministry_of_digital_governance=null;
-            String ministry_of_migration_and_asylum=null;
-            String ministry_of_citizen_protection=null;
-            String ministry_of_climate_crisis_and_civil_protection=null;
-            
-
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 52) {
-                    continue;
-                }
-                if (lineNumber > 75) {
-                    break;
+    private static void restorePragmas(Connection connection, String[][] pragmas, String[] previous) {
+        try (Statement statement = connection.createStatement()) {
+            for (int i = pragmas.length - 1; i >= 0; i--) {
+                if (previous[i] != null) {
+                    statement.execute("PRAGMA " + pragmas[i][0] + " = " + previous[i]);
                 }
-               String value = (data.length > 5) ? data[5] : "0";
-
-                if (lineNumber == 52) {
-                    presidency_of_the_republic = value;
-                } else if (lineNumber == 53) {
-                    hellenic_parliament = value;
-                } else if (lineNumber == 54) {
-                    presidency_of_the_government = value;
-                } else if (lineNumber == 55) {
-                    total_ministries = data[4];
-                } else if (lineNumber == 56) {
-                    ministry_of_interior = value;
-                } else if (lineNumber == 57) {
-                    ministry_of_foreign_affairs = value;
-                } else if (lineNumber == 58) {
-                    ministry_of_national_defence =data[4];
-                } else if (lineNumber == 59) {
-                    ministry_of_health = data[4];
-                } else if (lineNumber == 60) {
-                    ministry_of_justice = data[4];
-                } else if (lineNumber == 61) {
-                    ministry_of_education_religious_affairs_and_sports = value;
-                } else if (lineNumber == 62) {
-                    ministry_of_culture = data[4];
-                } else if (lineNumber == 63) {
-                    ministry_of_national_economy_and_finance = data[4];
-                } else if (lineNumber == 64) {
-                    ministry_of_agricultural_development_and_food = data[4];
-                } else if (lineNumber == 65) {
-                    ministry_of_environment_and_energy = data[4];
-                } else if (lineNumber == 66) {
-                    ministry_of_labor_and_social_security = data[4];
-                } else if (lineNumber == 67) {
-                    ministry_of_social_cohesion_and_family = data[4];
-                } else if (lineNumber == 68) {
-                    ministry_of_development = data[4];
-                } else if (lineNumber == 69) {
-                    ministry_of_infrastructure_and_transport = data[4];
-                } else if (lineNumber == 70) {
-                    ministry_of_maritime_affairs_and_insular_policy = data[4];
-                } else if (lineNumber == 71) {
-                    ministry_of_tourism = data[4];
-                } else if (lineNumber == 72) {
-                    ministry_of_digital_governance = data[4];
-                } else if (lineNumber == 73) {
-                    ministry_of_migration_and_asylum = data[4];
-                } else if (lineNumber == 74) {
-                    ministry_of_citizen_protection = value;
-                } else if (lineNumber == 75) {
-                    ministry_of_climate_crisis_and_civil_protection = data[4];
-                }
-
-
-
             }
-            statement.setBigDecimal(1,  parseMoney(total_ministries));
-            statement.setBigDecimal(2,  parseMoney(presidency_of_the_republic));
-            statement.setBigDecimal(3,  parseMoney(hellenic_parliament));
-            statement.setBigDecimal(4,  parseMoney(presidency_of_the_government));
-            statement.setBigDecimal(5,  parseMoney(ministry_of_interior));
-            statement.setBigDecimal(6,  parseMoney(ministry_of_foreign_affairs));
-            statement.setBigDecimal(7,  parseMoney(ministry_of_national_defence));
-            statement.setBigDecimal(8,  parseMoney(ministry_of_health));
-            statement.setBigDecimal(9,  parseMoney(ministry_of_justice));
-            statement.setBigDecimal(10, parseMoney(ministry_of_education_religious_affairs_and_sports));
-            statement.setBigDecimal(11, parseMoney(ministry_of_culture));
-            statement.setBigDecimal(12, parseMoney(ministry_of_national_economy_and_finance));
-            statement.setBigDecimal(13, parseMoney(ministry_of_agricultural_development_and_food));
-            statement.setBigDecimal(14, parseMoney(ministry_of_environment_and_energy));
-            statement.setBigDecimal(15, parseMoney(ministry_of_labor_and_social_security));
-            statement.setBigDecimal(16, parseMoney(ministry_of_social_cohesion_and_family));
-            statement.setBigDecimal(17, parseMoney(ministry_of_development));
-            statement.setBigDecimal(18, parseMoney(ministry_of_infrastructure_and_transport));
-            statement.setBigDecimal(19, parseMoney(ministry_of_maritime_affairs_and_insular_policy));
-            statement.setBigDecimal(20, parseMoney(ministry_of_tourism));
-            statement.setBigDecimal(21, parseMoney(ministry_of_digital_governance));
-            statement.setBigDecimal(22, parseMoney(ministry_of_migration_and_asylum));
-            statement.setBigDecimal(23, parseMoney(ministry_of_citizen_protection));
-            statement.setBigDecimal(24, parseMoney(ministry_of_climate_crisis_and_civil_protection));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
         } catch (SQLException e) {
-            e.printStackTrace();
+            System.err.println("Could not restore pragmas: " + e.getMessage());
         }
     }
 
+    // =========================================================
+    // ΕΠΑΝΑΦΟΡΤΩΣΗ ΕΝΟΣ ΕΤΟΥΣ
+    // ξαναδιαβάζει το CSV ενός έτους (π.χ. μετά από αναθεωρημένο PDF) και γράφει τα ποσά του
+    // με upsert στο budget_fact, οπότε δεν χρειάζεται να σβηστεί η βάση
+    // το budget_summary του έτους ξαναϋπολογίζεται από τα σύνολα των ενοτήτων
+    // τα άλλα έτη και οι πίνακες χρηστών (users, user_comments, saved_scenarios) δεν αγγίζονται
+    // =========================================================
+
+    // το CSV διαβάζεται πριν, και οι εγγραφές γίνονται σε μία εργασία του DatabaseWriter,
+    // ώστε η επαναφόρτωση να μην ανταγωνίζεται τις εγγραφές της εφαρμογής για το κλείδωμα
+    public static LoadReport reloadYear(int year) throws Exception {
+        long start = System.nanoTime();
+        Table[] tables = tablesOf(year);
+        Money[][] values = readValues(year, tables);
+        if (values == null) {
+            return new LoadReport(0, 0, (System.nanoTime() - start) / 1_000_000);
+        }
 
-    static void insertDecentralizedAdministrations2024() throws Exception {
-String sql = "INSERT INTO decentralized_administrations_2024(total_da,decentralized_administration_of_attica,decentralized_administration_of_thessaly_central_greece,decentralized_administration_of_epirus_western_macedonia,decentralized_administration_of_peloponnese_western_greece_and_ionian,decentralized_administration_of_aegean,decentralized_administration_of_crete,decentralized_administration_of_macedonia_thrace) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
-        
-
-         try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2024.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2024.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
+        // το budget_fact δημιουργείται από τα migrations του σχήματος
+        SchemaMigrations.ensureMigrated();
+        DatabaseConnection.write(connection -> {
+            upsertYear(connection, year, tables, values);
+            return null;
+        });
+        BudgetData.getInstance().invalidate(year);
+        return new LoadReport(1, tables.length, (System.nanoTime() - start) / 1_000_000);
+    }
 
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
+    // το ίδιο σε δική του συναλλαγή, σε σύνδεση που δεν ανήκει στον εγγραφέα (π.χ. άλλη βάση)
+    static LoadReport reloadYear(Connection connection, int year) throws Exception {
+        long start = System.nanoTime();
+        Table[] tables = tablesOf(year);
+        Money[][] values = readValues(year, tables);
+        if (values == null) {
+            return new LoadReport(0, 0, (System.nanoTime() - start) / 1_000_000);
+        }
 
-            String total_da=null;
-            String decentralized_administration_of_attica=null;
-            String decentralized_administration_of_thessaly_central_greece=null;
-            String decentralized_administration_of_epirus_western_macedonia=null;
-            String decentralized_administration_of_peloponnese_western_greece_and_ionian=null;
-            String decentralized_administration_of_aegean=null;
-            String decentralized_administration_of_crete=null;
-            String decentralized_administration_of_macedonia_thrace=null;
-           
-           
+        SchemaMigrations.migrate(connection);
 
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            upsertYear(connection, year, tables, values);
+            connection.commit();
+        } catch (Exception e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        BudgetData.getInstance().invalidate(year);
+        return new LoadReport(1, tables.length, (System.nanoTime() - start) / 1_000_000);
+    }
 
-                if (lineNumber < 76) {
-                    continue;
-                }
-                if (lineNumber > 83) {
-                    break;
-                }
-                if (lineNumber == 76) {
-                    total_da = data[2];
-                } else if (lineNumber == 77) {
-                    decentralized_administration_of_attica = data[3];
-                } else if (lineNumber == 78) {
-                    decentralized_administration_of_thessaly_central_greece = data[4];
-                } else if (lineNumber == 79) {
-                    decentralized_administration_of_epirus_western_macedonia = data[4];
-                } else if (lineNumber == 80) {
-                    decentralized_administration_of_peloponnese_western_greece_and_ionian = data[4];
-                } else if (lineNumber == 81) {
-                    decentralized_administration_of_aegean = data[3];
-                } else if (lineNumber == 82) {
-                    decentralized_administration_of_crete = data[3];
-                } else if (lineNumber == 83) {
-                    decentralized_administration_of_macedonia_thrace = data[3];
+    // upsert των ποσών του έτους και νέο budget_summary, μέσα στη συναλλαγή του καλούντος
+    private static void upsertYear(Connection connection, int year, Table[] tables, Money[][] values)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(BudgetFacts.UPSERT)) {
+            for (int t = 0; t < tables.length; t++) {
+                String section = sectionOf(tables[t]);
+                if (section.equals(BudgetFacts.SUMMARY)) continue;
+                Column[] columns = tables[t].columns;
+                for (int c = 0; c < columns.length; c++) {
+                    BudgetFacts.upsert(statement, year, section, columns[c].name, values[t][c]);
                 }
-
-
             }
-            statement.setBigDecimal(1, parseMoney(total_da));
-            statement.setBigDecimal(2, parseMoney(decentralized_administration_of_attica));
-            statement.setBigDecimal(3, parseMoney(decentralized_administration_of_thessaly_central_greece));
-            statement.setBigDecimal(4, parseMoney(decentralized_administration_of_epirus_western_macedonia));
-            statement.setBigDecimal(5, parseMoney(decentralized_administration_of_peloponnese_western_greece_and_ionian));
-            statement.setBigDecimal(6, parseMoney(decentralized_administration_of_aegean));
-            statement.setBigDecimal(7, parseMoney(decentralized_administration_of_crete));
-            statement.setBigDecimal(8, parseMoney(decentralized_administration_of_macedonia_thrace));
-
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
-
+        BudgetFacts.recomputeSummary(connection, year);
     }
 
+    // η ενότητα του budget_fact = το όνομα του πίνακα χωρίς το "_YYYY"
+    private static String sectionOf(Table table) {
+        return table.name.substring(0, table.name.lastIndexOf('_'));
+    }
 
-    void insertBudgetSummary2024() throws Exception {
-String sql = "INSERT INTO budget_summary_2024(budget_result,total_revenue,total_expenses,total_ministries,total_da) VALUES(?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
+    // =========================================================
+    // ΜΑΖΙΚΕΣ ΕΝΗΜΕΡΩΣΕΙΣ
+    // οι αλλαγές μιας συνεδρίας επεξεργασίας (πολλές στήλες, πίνακες και έτη) γράφονται
+    // σε μία συναλλαγή με ένα batch upsert ανά πίνακα (BudgetFacts.writeAmounts, το ίδιο που
+    // χρησιμοποιεί η αποθήκευση της BudgetEditController), αντί για μία σύνδεση ανά τιμή
+    // =========================================================
 
-            PreparedStatement statement = connection.prepareStatement(sql);
+    // αλλαγές ανά πίνακα: πίνακας (π.χ. "revenue_2025") -> στήλη -> νέα τιμή σε ελληνική μορφή
+    public static final class Changes {
+        private final Map<String, Map<String, String>> tables = new LinkedHashMap<>();
 
-             File csvFile = new File("proipologismos2024.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2024.csv στον τρέχοντα φάκελο");
-                return;
-            }
+        public Changes set(String table, String column, String value) {
+            tables.computeIfAbsent(table, t -> new LinkedHashMap<>()).put(column, value);
+            return this;
+        }
 
+        public Changes set(String table, Map<String, String> values) {
+            tables.computeIfAbsent(table, t -> new LinkedHashMap<>()).putAll(values);
+            return this;
+        }
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-
-            String budget_result=null;
-            String total_revenue=null;
-            String total_expenses=null;
-            String total_ministries=null;
-            String total_da=null;
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber == 41) {
-                    budget_result=data[2];
-                } else if (lineNumber ==13) {
-                    total_revenue=data[3];
-                } else if (lineNumber == 26) {
-                    total_expenses=data[3];
-                } else if (lineNumber ==55) {
-                    total_ministries=data[4];
-                } else if (lineNumber ==76 ) {
-                    total_da=data[2];
-                }
-                    
-                
+        public boolean isEmpty() {
+            return tables.isEmpty();
+        }
 
+        // πλήθος τιμών που αλλάζουν
+        public int size() {
+            int size = 0;
+            for (Map<String, String> values : tables.values()) {
+                size += values.size();
             }
-            statement.setBigDecimal(1, parseMoney(budget_result));
-            statement.setBigDecimal(2, parseMoney(total_revenue));
-            statement.setBigDecimal(3, parseMoney(total_expenses));
-            statement.setBigDecimal(4, parseMoney(total_ministries));
-            statement.setBigDecimal(5, parseMoney(total_da));
-           
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return size;
         }
     }
 
-
-    // ------------------ 2023 ------------------ //
-
-    static void insertRevenue2023() throws Exception {
-String sql = "INSERT INTO revenue_2023(total_revenue,taxes,social_contributions,transfers,sales_of_goods_and_services,other_current_revenue,fixed_assets,debt_securities,equity_securities_and_fund_shares,currency_and_deposit_liabilities,debt_securities_liabilities,loans_liabilities,financial_derivatives) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-         try {
-            Connection connection = DatabaseConnection.getConnection();
-            PreparedStatement statement = connection.prepareStatement(sql);
-            
-
-             File csvFile = new File("proipologismos2023.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2023.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-             String total_revenue = null;
-                String taxes = null;
-                String social_contributions = null;
-                String transfers = null;
-                String sales_of_goods_and_services = null;
-                String other_current_revenue = null;
-                String fixed_assets = null;
-                String debt_securities = null;
-                String equity_securities_and_fund_shares = null;
-                String currency_and_deposit_liabilities = null;
-                String debt_securities_liabilities = null;
-                String loans = null;
-                String financial_derivatives = null;
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 10) {
-                    continue;
-                }
-                if (lineNumber > 22) {
-                    break;
+    // οι στήλες κάθε πίνακα (whitelist για τα ονόματα που μπαίνουν στο SQL)
+    private static final Map<String, Set<String>> COLUMNS = new HashMap<>();
+    static {
+        for (Table[] tables : LAYOUTS.values()) {
+            for (Table table : tables) {
+                Set<String> names = new HashSet<>();
+                for (Column column : table.columns) {
+                    names.add(column.name);
                 }
-               
-                if (lineNumber == 10) {
-                    total_revenue = data[3];
-                } else if (lineNumber == 11) {
-                    taxes = data[3];
-                } else if (lineNumber == 12) {
-                    social_contributions = data[3];
-                } else if (lineNumber == 13) {
-                    transfers = data[3];
-                } else if (lineNumber == 14) {
-                    sales_of_goods_and_services = data[3];
-                } else if (lineNumber == 15) {
-                    other_current_revenue = data[3];
-                } else if (lineNumber == 16) {
-                    fixed_assets = data[3];
-                } else if (lineNumber == 17) {
-                    debt_securities = data[3];
-                } else if (lineNumber == 18) {
-                    equity_securities_and_fund_shares = data[3];
-                } else if (lineNumber == 19) {
-                    currency_and_deposit_liabilities = data[3];
-                } else if (lineNumber == 20) {
-                    debt_securities_liabilities = data[3];
-                } else if (lineNumber == 21) {
-                    loans = data[3];
-                } else if (lineNumber == 22) {
-                    financial_derivatives = data[3];
-}
-
-
-
+                COLUMNS.put(table.name, names);
             }
-             statement.setBigDecimal(1,  parseMoney(total_revenue));
-                    statement.setBigDecimal(2,  parseMoney(taxes));
-                    statement.setBigDecimal(3,  parseMoney(social_contributions));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(sales_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(other_current_revenue));
-                    statement.setBigDecimal(7,  parseMoney(fixed_assets));
-                    statement.setBigDecimal(8,  parseMoney(debt_securities));
-                    statement.setBigDecimal(9,  parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(10, parseMoney(currency_and_deposit_liabilities));
-                    statement.setBigDecimal(11, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(financial_derivatives));
-                    
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
     }
 
+    // εφαρμόζει τις αλλαγές σε μία συναλλαγή
+    // πίνακες, στήλες και τιμές ελέγχονται πριν ανοίξει η βάση (IllegalArgumentException)
+    // αν αποτύχει κάποια εγγραφή γίνεται rollback και δεν γράφεται καμία αλλαγή
+    // ένα έτος χωρίς γραμμή στον πίνακα αποκτά γραμμή με τις τιμές που δόθηκαν
+    // επιστρέφει πόσες τιμές γράφτηκαν
+    // γράφεται σε μία εργασία του DatabaseWriter, όπως η αποθήκευση της BudgetEditController
+    public static int applyUpdates(Changes changes) throws SQLException {
+        if (changes.isEmpty()) return 0;
+        Map<String, Map<String, Money>> parsed = validate(changes);
+        // το budget_fact δημιουργείται από τα migrations του σχήματος
+        SchemaMigrations.ensureMigrated();
+        int written = DatabaseConnection.write(connection -> writeUpdates(connection, parsed));
+        // οι αλλαγές μπορεί να αφορούν πολλά έτη
+        BudgetData.getInstance().invalidateAll();
+        return written;
+    }
 
-    static void insertExpenses2023() throws Exception {
-String sql = "INSERT INTO expenses_2023(total_expenses,employee_benefits,social_benefits,transfers,purchases_of_goods_and_services,subsidies,interest,other_expenditures,appropriations,fixed_assets,valuables,loans,equity_securities_and_fund_shares,debt_securities_liabilities,loans_liabilities) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
+    // το ίδιο σε δική της συναλλαγή, σε σύνδεση που δεν ανήκει στον εγγραφέα (π.χ. άλλη βάση)
+    static int applyUpdates(Connection connection, Changes changes) throws SQLException {
+        Map<String, Map<String, Money>> parsed = validate(changes);
+        if (parsed.isEmpty()) return 0;
+        SchemaMigrations.migrate(connection);
 
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
         try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2023.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2023.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_expenses=null;
-            String employee_benefits=null;
-            String social_benefits=null;
-            String transfers=null;
-            String purchases_of_goods_and_services=null;
-            String subsidies=null;
-            String interest=null;
-            String other_expenditures=null;
-            String appropriations=null;
-            String fixed_assets=null;
-            String valuables=null;
-            String loans=null;
-            String equity_securities_and_fund_shares=null;
-            String debt_securities_liabilities=null;
-            String loans_liabilities=null;
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 23) {
-                    continue;
-                }
-                if (lineNumber > 37) {
-                    break;
-                }
-               
-                if (lineNumber == 23) {
-                    total_expenses = data[3];
-                } else if (lineNumber == 24) {
-                    employee_benefits = data[3];
-                } else if (lineNumber == 25) {
-                    social_benefits = data[3];
-                } else if (lineNumber == 26) {
-                    transfers = data[3];
-                } else if (lineNumber == 27) {
-                    purchases_of_goods_and_services = data[3];
-                } else if (lineNumber == 28) {
-                    subsidies = data[3];
-                } else if (lineNumber == 29) {
-                    interest = data[3];
-                } else if (lineNumber == 30) {
-                    other_expenditures = data[3];
-                } else if (lineNumber == 31) {
-                    appropriations = data[3];
-                } else if (lineNumber == 32) {
-                    fixed_assets = data[3];
-                } else if (lineNumber == 33) {
-                    valuables = data[3];
-                } else if (lineNumber == 34) {
-                    loans = data[3];
-                } else if (lineNumber == 35) {
-                    equity_securities_and_fund_shares = data[3];
-                } else if (lineNumber == 36) {
-                    debt_securities_liabilities = data[3];
-                } else if (lineNumber == 37) {
-                    loans_liabilities = data[3];
-                }
-
-            }
-             statement.setBigDecimal(1,  parseMoney(total_expenses));
-                    statement.setBigDecimal(2,  parseMoney(employee_benefits));
-                    statement.setBigDecimal(3,  parseMoney(social_benefits));
-                    statement.setBigDecimal(4,  parseMoney(transfers));
-                    statement.setBigDecimal(5,  parseMoney(purchases_of_goods_and_services));
-                    statement.setBigDecimal(6,  parseMoney(subsidies));
-                    statement.setBigDecimal(7,  parseMoney(interest));
-                    statement.setBigDecimal(8,  parseMoney(other_expenditures));
-                    statement.setBigDecimal(9,  parseMoney(appropriations));
-                    statement.setBigDecimal(10, parseMoney(fixed_assets));
-                    statement.setBigDecimal(11, parseMoney(valuables));
-                    statement.setBigDecimal(12, parseMoney(loans));
-                    statement.setBigDecimal(13, parseMoney(equity_securities_and_fund_shares));
-                    statement.setBigDecimal(14, parseMoney(debt_securities_liabilities));
-                    statement.setBigDecimal(15, parseMoney(loans_liabilities));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
+            int written = writeUpdates(connection, parsed);
+            connection.commit();
+            BudgetData.getInstance().invalidateAll();
+            return written;
         } catch (SQLException e) {
-            e.printStackTrace();
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
         }
     }
 
- 
-    static void insertMinistries2023() throws Exception {
-String sql = "INSERT INTO ministries_2023(total_ministries,presidency_of_the_republic,hellenic_parliament,presidency_of_the_government,ministry_of_interior,ministry_of_foreign_affairs,ministry_of_national_defence,ministry_of_health,ministry_of_justice,ministry_of_education_religious_affairs_and_sports,ministry_of_culture,ministry_of_national_economy_and_finance,ministry_of_agricultural_development_and_food,ministry_of_environment_and_energy,ministry_of_labor_and_social_security,ministry_of_development,ministry_of_infrastructure_and_transport,ministry_of_maritime_affairs_and_insular_policy,ministry_of_tourism,ministry_of_digital_governance,ministry_of_migration_and_asylum,ministry_of_citizen_protection,ministry_of_climate_crisis_and_civil_protection) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
+    // ένα batch upsert ανά πίνακα, μέσα στη συναλλαγή του καλούντος
+    private static int writeUpdates(Connection connection, Map<String, Map<String, Money>> parsed)
+            throws SQLException {
+        int written = 0;
+        for (Map.Entry<String, Map<String, Money>> table : parsed.entrySet()) {
+            written += BudgetFacts.writeAmounts(connection, table.getKey(), table.getValue());
+        }
+        return written;
+    }
 
-             File csvFile = new File("proipologismos2023.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2023.csv στον τρέχοντα φάκελο");
-                return;
+    // ελέγχει ονόματα πινάκων/στηλών και αναλύει τις τιμές, με τη σειρά που δόθηκαν
+    private static Map<String, Map<String, Money>> validate(Changes changes) {
+        Map<String, Map<String, Money>> parsed = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> table : changes.tables.entrySet()) {
+            Set<String> allowed = COLUMNS.get(table.getKey());
+            if (allowed == null) {
+                throw new IllegalArgumentException("Μη έγκυρος πίνακας: " + table.getKey());
             }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-            String total_ministries=null;
-            String presidency_of_the_republic=null;
-            String hellenic_parliament=null;
-            String presidency_of_the_government=null;
-            String ministry_of_interior=null;
-            String ministry_of_foreign_affairs=null;
-            String ministry_of_national_defence=null;
-            String ministry_of_health=null;
-            String ministry_of_justice=null;
-            String ministry_of_education_religious_affairs_and_sports=null;
-            String ministry_of_culture=null;
-            String ministry_of_national_economy_and_finance=null;
-            String ministry_of_agricultural_development_and_food=null;
-            String ministry_of_environment_and_energy=null;
-            String ministry_of_labor_and_social_security=null;
-            String ministry_of_development=null;
-            String ministry_of_infrastructure_and_transport=null;
-            String ministry_of_maritime_affairs_and_insular_policy=null;
-            String ministry_of_tourism=null;
-            String ministry_of_digital_governance=null;
-            String ministry_of_migration_and_asylum=null;
-            String ministry_of_citizen_protection=null;
-            String ministry_of_climate_crisis_and_civil_protection=null;
-            
-
-
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber < 49) {
-                    continue;
+            Map<String, Money> values = new LinkedHashMap<>();
+            for (Map.Entry<String, String> change : table.getValue().entrySet()) {
+                if (!allowed.contains(change.getKey())) {
+                    throw new IllegalArgumentException("Μη έγκυρη στήλη: " + table.getKey() + "." + change.getKey());
                 }
-                if (lineNumber > 71) {
-                    break;
-                }
-               String value = (data.length > 5) ? data[5] : "0";
-
-                if (lineNumber == 49) {
-                    presidency_of_the_republic = value;
-                } else if (lineNumber == 50) {
-                    hellenic_parliament = value;
-                } else if (lineNumber == 51) {
-                    presidency_of_the_government = value;
-                } else if (lineNumber == 52) {
-                    total_ministries = data[4];
-                } else if (lineNumber == 53) {
-                    ministry_of_interior = value;
-                } else if (lineNumber == 54) {
-                    ministry_of_foreign_affairs = value;
-                } else if (lineNumber == 55) {
-                    ministry_of_national_defence = data[5];
-                } else if (lineNumber == 56) {
-                    ministry_of_health = data[5];
-                } else if (lineNumber == 57) {
-                    ministry_of_justice = data[5];
-                } else if (lineNumber == 58) {
-                    ministry_of_education_religious_affairs_and_sports = value;
-                } else if (lineNumber == 59) {
-                    ministry_of_culture = data[5];
-                } else if (lineNumber == 60) {
-                    ministry_of_national_economy_and_finance = data[5];
-                } else if (lineNumber == 61) {
-                    ministry_of_agricultural_development_and_food = data[5];
-                } else if (lineNumber == 62) {
-                    ministry_of_environment_and_energy = data[5];
-                } else if (lineNumber == 63) {
-                    ministry_of_labor_and_social_security = data[5];
-                } else if (lineNumber == 64) {
-                    ministry_of_development = data[5];
-                } else if (lineNumber == 65) {
-                    ministry_of_infrastructure_and_transport = data[5];
-                } else if (lineNumber == 66) {
-                    ministry_of_maritime_affairs_and_insular_policy = data[5];
-                } else if (lineNumber == 67) {
-                    ministry_of_tourism = data[5];
-                } else if (lineNumber == 68) {
-                    ministry_of_digital_governance = data[5];
-                } else if (lineNumber == 69) {
-                    ministry_of_migration_and_asylum = data[5];
-                } else if (lineNumber == 70) {
-                    ministry_of_citizen_protection = value;
-                } else if (lineNumber == 71) {
-                    ministry_of_climate_crisis_and_civil_protection = data[5];
-                }
-
-
-
+                values.put(change.getKey(), Money.parse(change.getValue()));
             }
-            statement.setBigDecimal(1,  parseMoney(total_ministries));
-            statement.setBigDecimal(2,  parseMoney(presidency_of_the_republic));
-            statement.setBigDecimal(3,  parseMoney(hellenic_parliament));
-            statement.setBigDecimal(4,  parseMoney(presidency_of_the_government));
-            statement.setBigDecimal(5,  parseMoney(ministry_of_interior));
-            statement.setBigDecimal(6,  parseMoney(ministry_of_foreign_affairs));
-            statement.setBigDecimal(7,  parseMoney(ministry_of_national_defence));
-            statement.setBigDecimal(8,  parseMoney(ministry_of_health));
-            statement.setBigDecimal(9,  parseMoney(ministry_of_justice));
-            statement.setBigDecimal(10, parseMoney(ministry_of_education_religious_affairs_and_sports));
-            statement.setBigDecimal(11, parseMoney(ministry_of_culture));
-            statement.setBigDecimal(12, parseMoney(ministry_of_national_economy_and_finance));
-            statement.setBigDecimal(13, parseMoney(ministry_of_agricultural_development_and_food));
-            statement.setBigDecimal(14, parseMoney(ministry_of_environment_and_energy));
-            statement.setBigDecimal(15, parseMoney(ministry_of_labor_and_social_security));
-            statement.setBigDecimal(16, parseMoney(ministry_of_development));
-            statement.setBigDecimal(17, parseMoney(ministry_of_infrastructure_and_transport));
-            statement.setBigDecimal(18, parseMoney(ministry_of_maritime_affairs_and_insular_policy));
-            statement.setBigDecimal(19, parseMoney(ministry_of_tourism));
-            statement.setBigDecimal(20, parseMoney(ministry_of_digital_governance));
-            statement.setBigDecimal(21, parseMoney(ministry_of_migration_and_asylum));
-            statement.setBigDecimal(22, parseMoney(ministry_of_citizen_protection));
-            statement.setBigDecimal(23, parseMoney(ministry_of_climate_crisis_and_civil_protection));
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
+            parsed.put(table.getKey(), values);
         }
+        return parsed;
     }
 
-    static void insertDecentralizedAdministrations2023() throws Exception {
-String sql = "INSERT INTO decentralized_administrations_2023(total_da,decentralized_administration_of_attica,decentralized_administration_of_thessaly_central_greece,decentralized_administration_of_epirus_western_macedonia,decentralized_administration_of_peloponnese_western_greece_and_ionian,decentralized_administration_of_aegean,decentralized_administration_of_crete,decentralized_administration_of_macedonia_thrace) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
-
-
-         try {
-            Connection connection = DatabaseConnection.getConnection();
-
-            
-
-            PreparedStatement statement = connection.prepareStatement(sql);
-
-             File csvFile = new File("proipologismos2023.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2023.csv στον τρέχοντα φάκελο");
-                return;
-            }
-
-
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
+    // =========================================================
+    // ΕΙΣΑΓΩΓΗ ΕΝΟΣ ΠΙΝΑΚΑ
+    // =========================================================
 
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
+    // ------------------ 2026 ------------------ //
 
-            String total_da=null;
-            String decentralized_administration_of_attica=null;
-            String decentralized_administration_of_thessaly_central_greece=null;
-            String decentralized_administration_of_epirus_western_macedonia=null;
-            String decentralized_administration_of_peloponnese_western_greece_and_ionian=null;
-            String decentralized_administration_of_aegean=null;
-            String decentralized_administration_of_crete=null;
-            String decentralized_administration_of_macedonia_thrace=null;
-           
-           
+    void insertRevenue2026() throws Exception {
+        insertTables(2026, REVENUE_2026);
+    }
 
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
+    void insertExpenses2026() throws Exception {
+        insertTables(2026, EXPENSES_2026);
+    }
 
-                if (lineNumber < 72) {
-                    continue;
-                }
-                if (lineNumber > 79) {
-                    break;
-                }
-                if (lineNumber == 72) {
-                    total_da = data[2];
-                } else if (lineNumber == 73) {
-                    decentralized_administration_of_attica = data[3];
-                } else if (lineNumber == 74) {
-                    decentralized_administration_of_thessaly_central_greece = data[5];
-                } else if (lineNumber == 75) {
-                    decentralized_administration_of_epirus_western_macedonia = data[5];
-                } else if (lineNumber == 76) {
-                    decentralized_administration_of_peloponnese_western_greece_and_ionian = data[5];
-                } else if (lineNumber == 77) {
-                    decentralized_administration_of_aegean = data[3];
-                } else if (lineNumber == 78) {
-                    decentralized_administration_of_crete = data[3];
-                } else if (lineNumber == 79) {
-                    decentralized_administration_of_macedonia_thrace = data[3];
-                }
+    void insertMinistries2026() throws Exception {
+        insertTables(2026, MINISTRIES_2026);
+    }
 
+    void insertDecentralizedAdministrations2026() throws Exception {
+        insertTables(2026, DECENTRALIZED_2026);
+    }
 
-            }
-            statement.setBigDecimal(1, parseMoney(total_da));
-            statement.setBigDecimal(2, parseMoney(decentralized_administration_of_attica));
-            statement.setBigDecimal(3, parseMoney(decentralized_administration_of_thessaly_central_greece));
-            statement.setBigDecimal(4, parseMoney(decentralized_administration_of_epirus_western_macedonia));
-            statement.setBigDecimal(5, parseMoney(decentralized_administration_of_peloponnese_western_greece_and_ionian));
-            statement.setBigDecimal(6, parseMoney(decentralized_administration_of_aegean));
-            statement.setBigDecimal(7, parseMoney(decentralized_administration_of_crete));
-            statement.setBigDecimal(8, parseMoney(decentralized_administration_of_macedonia_thrace));
-
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        
+    static void insertBudgetSummary2026() throws Exception {
+        insertTables(2026, SUMMARY_2026);
     }
 
-    static void insertBudgetSummary2023() throws Exception {
-String sql = "INSERT INTO budget_summary_2023(budget_result,total_revenue,total_expenses,total_ministries,total_da) VALUES(?, ?, ?, ?, ?)";
+    // ------------------ 2025 ------------------ //
 
-         try {
-            Connection connection = DatabaseConnection.getConnection();
+    void insertRevenue2025() throws Exception {
+        insertTables(2025, REVENUE_2025);
+    }
 
-            
+    void insertExpenses2025() throws Exception {
+        insertTables(2025, EXPENSES_2025);
+    }
 
-            PreparedStatement statement = connection.prepareStatement(sql);
+    void insertMinistries2025() throws Exception {
+        insertTables(2025, MINISTRIES_2025);
+    }
 
-             File csvFile = new File("proipologismos2023.csv");
-            if (!csvFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos2023.csv στον τρέχοντα φάκελο");
-                return;
-            }
+    void insertDecentralizedAdministrations2025() throws Exception {
+        insertTables(2025, DECENTRALIZED_2025);
+    }
 
+    static void insertBudgetSummary2025() throws Exception {
+        insertTables(2025, SUMMARY_2025);
+    }
 
-            BufferedReader lineread = new BufferedReader(new FileReader(csvFile));
-
-            String  linetext= null;
-            
-            lineread.readLine();
-            int lineNumber=1;
-
-            String budget_result=null;
-            String total_revenue=null;
-            String total_expenses=null;
-            String total_ministries=null;
-            String total_da=null;
-
-            while ((linetext=lineread.readLine())!=null) {
-                lineNumber++;
-                String [] data =linetext.split(",");
-
-                if (lineNumber == 38) {
-                    budget_result=data[2];
-                } else if (lineNumber ==10) {
-                    total_revenue=data[3];
-                } else if (lineNumber == 23) {
-                    total_expenses=data[3];
-                } else if (lineNumber ==52) {
-                    total_ministries=data[4];
-                } else if (lineNumber ==72 ) {
-                    total_da=data[2];
-                }
-                    
-                
+    // ------------------ 2024 ------------------ //
 
-            }
-            statement.setBigDecimal(1, parseMoney(budget_result));
-            statement.setBigDecimal(2, parseMoney(total_revenue));
-            statement.setBigDecimal(3, parseMoney(total_expenses));
-            statement.setBigDecimal(4, parseMoney(total_ministries));
-            statement.setBigDecimal(5, parseMoney(total_da));
-           
-
-                statement.addBatch();
-                statement.executeBatch();
-               
-
-             lineread.close(); 
-                connection.close();
-        
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    void insertRevenue2024() throws Exception {
+        insertTables(2024, REVENUE_2024);
     }
 
+    void insertExpenses2024() throws Exception {
+        insertTables(2024, EXPENSES_2024);
+    }
 
-
-public static void updateRevenue(
-        int year,
-        int collum,
-        String change,
-        String newValue
-        
-    
-) {
-
-if (year==2025||year==2026){ 
-
-    Set<String> allowedColumns = Set.of(
-        "taxes",
-        "social_contributions",
-        "transfers",
-        "sales_of_goods_and_services",
-        "other_current_revenue",
-        "fixed_assets",
-        "debt_securities",
-        "loans",
-        "equity_securities_and_fund_shares",
-        "currency_and_deposit_liabilities",
-        "debt_securities_liabilities",
-        "loans_liabilities",
-        "financial_derivatives"
-    );
-
-    if (!allowedColumns.contains(change)) {
-        throw new IllegalArgumentException("Μη έγκυρη στήλη");
+    static void insertMinistries2024() throws Exception {
+        insertTables(2024, MINISTRIES_2024);
     }
 
-    String sql = "UPDATE revenue_" + year +
-                 " SET " + change + " = ? WHERE total_revenue = ?";
+    static void insertDecentralizedAdministrations2024() throws Exception {
+        insertTables(2024, DECENTRALIZED_2024);
+    }
 
-    try (Connection conn = DatabaseConnection.getConnection();
-         PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    void insertBudgetSummary2024() throws Exception {
+        insertTables(2024, SUMMARY_2024);
+    }
 
-        pstmt.setBigDecimal(collum, parseMoney(newValue));
-        
+    // ------------------ 2023 ------------------ //
 
-        pstmt.executeUpdate();
+    static void insertRevenue2023() throws Exception {
+        insertTables(2023, REVENUE_2023);
+    }
 
-    } catch (SQLException e) {
-        System.out.println("Σφάλμα UPDATE: " + e.getMessage());
+    static void insertExpenses2023() throws Exception {
+        insertTables(2023, EXPENSES_2023);
     }
-} else {
-    Set<String> allowedColumns = Set.of(
-        "taxes",
-        "social_contributions",
-        "transfers",
-        "sales_of_goods_and_services",
-        "other_current_revenue",
-        "fixed_assets",
-        "debt_securities",
-        "equity_securities_and_fund_shares",
-        "currency_and_deposit_liabilities",
-        "debt_securities_liabilities",
-        "loans_liabilities",
-        "financial_derivatives"
-    );
-
-    if (!allowedColumns.contains(change)) {
-        throw new IllegalArgumentException("Μη έγκυρη στήλη");
+
+    static void insertMinistries2023() throws Exception {
+        insertTables(2023, MINISTRIES_2023);
     }
 
-    String sql = "UPDATE revenue_" + year +
-                 " SET " + change + " = ? WHERE total_revenue = ?";
+    static void insertDecentralizedAdministrations2023() throws Exception {
+        insertTables(2023, DECENTRALIZED_2023);
+    }
 
-    try (Connection conn = DatabaseConnection.getConnection();
-         PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    static void insertBudgetSummary2023() throws Exception {
+        insertTables(2023, SUMMARY_2023);
+    }
 
-        pstmt.setBigDecimal(collum, parseMoney(newValue));
-        
+    // ενημερώνει μία στήλη εσόδων ενός έτους μέσω της applyUpdates
+    // το collum (θέση παραμέτρου στο UPDATE) δεν χρειάζεται πια, οι παράμετροι δένονται από την applyUpdates
+    public static void updateRevenue(int year, int collum, String change, String newValue) {
+        Set<String> allowedColumns;
+        if (year == 2025 || year == 2026) {
+            allowedColumns = Set.of(
+                "taxes",
+                "social_contributions",
+                "transfers",
+                "sales_of_goods_and_services",
+                "other_current_revenue",
+                "fixed_assets",
+                "debt_securities",
+                "loans",
+                "equity_securities_and_fund_shares",
+                "currency_and_deposit_liabilities",
+                "debt_securities_liabilities",
+                "loans_liabilities",
+                "financial_derivatives"
+            );
+        } else {
+            allowedColumns = Set.of(
+                "taxes",
+                "social_contributions",
+                "transfers",
+                "sales_of_goods_and_services",
+                "other_current_revenue",
+                "fixed_assets",
+                "debt_securities",
+                "equity_securities_and_fund_shares",
+                "currency_and_deposit_liabilities",
+                "debt_securities_liabilities",
+                "loans_liabilities",
+                "financial_derivatives"
+            );
+        }
 
-        pstmt.executeUpdate();
+        if (!allowedColumns.contains(change)) {
+            throw new IllegalArgumentException("Μη έγκυρη στήλη");
+        }
 
-    } catch (SQLException e) {
-        System.out.println("Σφάλμα UPDATE: " + e.getMessage());
+        try {
+            applyUpdates(new Changes().set("revenue_" + year, change, newValue));
+        } catch (SQLException e) {
+            System.out.println("Σφάλμα UPDATE: " + e.getMessage());
+        }
     }
 }
-
-}
-}
\ No newline at end of file
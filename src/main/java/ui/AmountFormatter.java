@@ -33,6 +33,10 @@ public class AmountFormatter {
         return "€" + CURRENCY_FORMAT.format(amount);
     }
     
+    public static String formatCurrency(Money amount) {
+        return formatCurrency(amount.toDouble());
+    }
+    
     //μορφοποιεί ένα μη δεκαδικό ποσό με σύμβολο € & τελείες  
 
     public static String formatCurrencyNoDecimals(double amount) {
@@ -13,7 +13,7 @@ public class Authentication {
     public boolean checkLogin(String username, String password) {
         String sql = "SELECT password FROM users WHERE username = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -37,7 +37,7 @@ public class Authentication {
     public boolean usernameExists(String username) {
         String sql = "SELECT 1 FROM users WHERE username = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -58,13 +58,14 @@ public class Authentication {
     public boolean saveUser(String username, String password) {
         String sql = "INSERT INTO users (username, password) VALUES (?, ?)";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, username);
-            pstmt.setString(2, password);
-            
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConnection.write(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, username);
+                    pstmt.setString(2, password);
+                    return pstmt.executeUpdate();
+                }
+            });
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -1,10 +1,9 @@
 package ui;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.Statement;
 import java.util.*;
-import java.math.BigDecimal;
 
 // βοηθητική κλάση για τη φόρτωση, διαχείριση & πρόσβαση στα δεδομένα προϋπολογισμού
 public class BudgetData {
@@ -19,6 +18,10 @@ public class BudgetData {
      long total_da = 0;             // συνολικές αποκεντρωμένες διοικήσεις
     
     
+    // στιγμιότυπα ανά έτος, generation: αυξάνεται σε κάθε invalidate
+    private final Map<Integer, YearSnapshot> snapshots = new HashMap<>();
+    private long generation;
+
     private BudgetData() {}
     
     public static BudgetData getInstance() {
@@ -28,47 +31,70 @@ public class BudgetData {
         return instance;
     }
     
-    //επιστρέφει τα συνολικά έσοδα για ένα έτος 
-   public double getTotalRevenues(int year) {
-    long totalRevenue = 0;
+    // =========================================================
+    // ΣΤΙΓΜΙΟΤΥΠΑ ΑΝΑ ΕΤΟΣ
+    // οι getters ενός έτους διαβάζουν από ένα YearSnapshot που φορτώνεται μία φορά,
+    // οπότε μια ανανέωση της αρχικής οθόνης κάνει το πολύ ένα γύρο ερωτημάτων ανά έτος
+    // όποιος αλλάζει τα ποσά ενός έτους καλεί invalidate (BudgetEditController, SQLinserter, BudgetSnapshot)
+    // =========================================================
 
-    String sql = "SELECT total_revenue FROM budget_summary_" + year;
+    // το στιγμιότυπο του έτους (από την cache ή από τη βάση)
+    public YearSnapshot getSnapshot(int year) {
+        long loadedAt;
+        synchronized (snapshots) {
+            YearSnapshot cached = snapshots.get(year);
+            if (cached != null) return cached;
+            loadedAt = generation;
+        }
 
-    try (Connection connection = DatabaseConnection.getConnection();
-         Statement stmt = connection.createStatement();
-         ResultSet rs = stmt.executeQuery(sql)) {
+        YearSnapshot loaded;
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            loaded = YearSnapshot.load(connection, year);
+        } catch (Exception e) {
+            // χωρίς σύνδεση: κενό στιγμιότυπο, που δεν μπαίνει στην cache
+            e.printStackTrace();
+            return YearSnapshot.empty(year);
+        }
 
-        if (rs.next()) {
-            totalRevenue = rs.getLong("total_revenue");
+        // ελλιπές στιγμιότυπο (π.χ. SQLITE_BUSY σε κάποιον πίνακα): δίνεται όπως είναι,
+        // αλλά δεν μπαίνει στην cache ώστε το επόμενο getSnapshot να ξαναδοκιμάσει
+        if (!loaded.isComplete()) {
+            return loaded;
         }
 
-    } catch (Exception e) {
-        e.printStackTrace();
+        synchronized (snapshots) {
+            // αν στο μεταξύ έγινε invalidate, το στιγμιότυπο ίσως είναι ήδη παλιό
+            if (generation == loadedAt) {
+                YearSnapshot cached = snapshots.putIfAbsent(year, loaded);
+                if (cached != null) return cached;
+            }
+        }
+        return loaded;
     }
 
-    return (double) totalRevenue;
-}
-
-    
-    // επιστρέφει τις συνολικές δαπάνες για ένα έτος
-    public double getTotalExpenses(int year) {
-        long totalExpenses = 0;
-
-        String sql = "SELECT total_expenses FROM budget_summary_" + year;
-
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            if (rs.next()) {
-                totalExpenses = rs.getLong("total_expenses");
-            }
+    // τα ποσά του έτους άλλαξαν: το επόμενο getSnapshot θα τα ξαναδιαβάσει
+    public void invalidate(int year) {
+        synchronized (snapshots) {
+            generation++;
+            snapshots.remove(year);
+        }
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
+    public void invalidateAll() {
+        synchronized (snapshots) {
+            generation++;
+            snapshots.clear();
         }
+    }
 
-        return (double) totalExpenses;
+    //επιστρέφει τα συνολικά έσοδα για ένα έτος 
+    public double getTotalRevenues(int year) {
+        return (double) getSnapshot(year).getMoney(YearSnapshot.SUMMARY, "total_revenue").getEuros();
+    }
+
+    // επιστρέφει τις συνολικές δαπάνες για ένα έτος
+    public double getTotalExpenses(int year) {
+        return (double) getSnapshot(year).getMoney(YearSnapshot.SUMMARY, "total_expenses").getEuros();
     }
     
     // επιστρέφει το ισοζύγιο για ένα έτος
@@ -127,25 +153,19 @@ public class BudgetData {
             {"ministry_of_climate_crisis_and_civil_protection", "Κλιματικής Κρίσης και Πολιτικής Προστασίας"}
         };
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM ministries_" + year)) {
-            
-            if (rs.next()) {
-                for (String[] ministry : ministries) {
-                    String columnName = ministry[0];
-                    String greekName = ministry[1];
-                    long amount = rs.getLong(columnName);
-                    
-                    if (amount > 0) {
-                        double amountDouble = (double) amount;
-                        double percentage = (amountDouble / totalExpenses) * 100;
-                        categories.add(new CategoryInfo(greekName, amountDouble, percentage));
-                    }
+        YearSnapshot snapshot = getSnapshot(year);
+        if (snapshot.hasRow(YearSnapshot.MINISTRIES)) {
+            for (String[] ministry : ministries) {
+                String columnName = ministry[0];
+                String greekName = ministry[1];
+                long amount = snapshot.getLong(YearSnapshot.MINISTRIES, columnName);
+                
+                if (amount > 0) {
+                    double amountDouble = (double) amount;
+                    double percentage = (amountDouble / totalExpenses) * 100;
+                    categories.add(new CategoryInfo(greekName, amountDouble, percentage));
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         
         // Ταξινόμηση κατά δαπάνες (φθίνουσα σειρά)
@@ -177,25 +197,19 @@ public class BudgetData {
             {"financial_derivatives", "Χρηματοοικονομικά Παράγωγα"}
         };
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM revenue_" + year)) {
-            
-            if (rs.next()) {
-                for (String[] category : revenueCategories) {
-                    String columnName = category[0];
-                    String greekName = category[1];
-                    long amount = rs.getLong(columnName);
-                    
-                    if (amount > 0) {
-                        double amountDouble = (double) amount;
-                        double percentage = (amountDouble / totalRevenue) * 100;
-                        revenues.add(new CategoryInfo(greekName, amountDouble, percentage));
-                    }
+        YearSnapshot snapshot = getSnapshot(year);
+        if (snapshot.hasRow(YearSnapshot.REVENUE)) {
+            for (String[] category : revenueCategories) {
+                String columnName = category[0];
+                String greekName = category[1];
+                long amount = snapshot.getLong(YearSnapshot.REVENUE, columnName);
+                
+                if (amount > 0) {
+                    double amountDouble = (double) amount;
+                    double percentage = (amountDouble / totalRevenue) * 100;
+                    revenues.add(new CategoryInfo(greekName, amountDouble, percentage));
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         
         return revenues;
@@ -225,25 +239,19 @@ public class BudgetData {
             {"loans_liabilities", "Δάνεια (Υποχρεώσεις)"}
         };
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM expenses_" + year)) {
-            
-            if (rs.next()) {
-                for (String[] category : expenseCategories) {
-                    String columnName = category[0];
-                    String greekName = category[1];
-                    long amount = rs.getLong(columnName);
-                    
-                    if (amount > 0) {
-                        double amountDouble = (double) amount;
-                        double percentage = (amountDouble / totalExpenses) * 100;
-                        expenses.add(new CategoryInfo(greekName, amountDouble, percentage));
-                    }
+        YearSnapshot snapshot = getSnapshot(year);
+        if (snapshot.hasRow(YearSnapshot.EXPENSES)) {
+            for (String[] category : expenseCategories) {
+                String columnName = category[0];
+                String greekName = category[1];
+                long amount = snapshot.getLong(YearSnapshot.EXPENSES, columnName);
+                
+                if (amount > 0) {
+                    double amountDouble = (double) amount;
+                    double percentage = (amountDouble / totalExpenses) * 100;
+                    expenses.add(new CategoryInfo(greekName, amountDouble, percentage));
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         
         return expenses;
@@ -263,28 +271,22 @@ public class BudgetData {
             {"decentralized_administration_of_macedonia_thrace", "Αποκεντρωμένη Διοίκηση Μακεδονίας & Θράκης"}
         };
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM decentralized_administrations_" + year)) {
+        YearSnapshot snapshot = getSnapshot(year);
+        if (snapshot.hasRow(YearSnapshot.DECENTRALIZED)) {
+            long totalDA = snapshot.getLong(YearSnapshot.DECENTRALIZED, "total_da");
+            if (totalDA == 0) return administrations;
             
-            if (rs.next()) {
-                long totalDA = rs.getLong("total_da");
-                if (totalDA == 0) return administrations;
+            for (String[] category : adminCategories) {
+                String columnName = category[0];
+                String greekName = category[1];
+                long amount = snapshot.getLong(YearSnapshot.DECENTRALIZED, columnName);
                 
-                for (String[] category : adminCategories) {
-                    String columnName = category[0];
-                    String greekName = category[1];
-                    long amount = rs.getLong(columnName);
-                    
-                    if (amount > 0) {
-                        double amountDouble = (double) amount;
-                        double percentage = (amountDouble / (double) totalDA) * 100;
-                        administrations.add(new CategoryInfo(greekName, amountDouble, percentage));
-                    }
+                if (amount > 0) {
+                    double amountDouble = (double) amount;
+                    double percentage = (amountDouble / (double) totalDA) * 100;
+                    administrations.add(new CategoryInfo(greekName, amountDouble, percentage));
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         
         return administrations;
@@ -311,23 +313,16 @@ public class BudgetData {
     // επιστρέφει την ανάλυση εσόδων ως map για γραφήματα/διαγράμματα
     public Map<String, Double> getRevenueBreakdownForGraphs(int year) {
         Map<String, Double> data = new HashMap<>();
-        String sql = "SELECT * FROM revenue_" + year; 
+        YearSnapshot snapshot = getSnapshot(year);
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            if (rs.next()) {
-                data.put("Φόροι", safeGet(rs, "taxes"));
-                data.put("Εισφορές", safeGet(rs, "social_contributions"));
-                data.put("Μεταβιβάσεις", safeGet(rs, "transfers"));
-                data.put("Πωλήσεις Αγαθών", safeGet(rs, "sales_of_goods_and_services"));
-                data.put("Άλλα Έσοδα", safeGet(rs, "other_current_revenue"));
-                data.put("Πάγια", safeGet(rs, "fixed_assets"));
-                data.put("Δάνεια", safeGet(rs, "loans"));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading revenues for " + year + ": " + e.getMessage());
+        if (snapshot.hasRow(YearSnapshot.REVENUE)) {
+            data.put("Φόροι", snapshot.getAmount(YearSnapshot.REVENUE, "taxes"));
+            data.put("Εισφορές", snapshot.getAmount(YearSnapshot.REVENUE, "social_contributions"));
+            data.put("Μεταβιβάσεις", snapshot.getAmount(YearSnapshot.REVENUE, "transfers"));
+            data.put("Πωλήσεις Αγαθών", snapshot.getAmount(YearSnapshot.REVENUE, "sales_of_goods_and_services"));
+            data.put("Άλλα Έσοδα", snapshot.getAmount(YearSnapshot.REVENUE, "other_current_revenue"));
+            data.put("Πάγια", snapshot.getAmount(YearSnapshot.REVENUE, "fixed_assets"));
+            data.put("Δάνεια", snapshot.getAmount(YearSnapshot.REVENUE, "loans"));
         }
         return data;
     }
@@ -335,23 +330,16 @@ public class BudgetData {
     //επιστρέφει την ανάλυση δαπανών ως map για γραφήματα/διαγράμματα
     public Map<String, Double> getExpenseBreakdownForGraphs(int year) {
         Map<String, Double> data = new HashMap<>();
-        String sql = "SELECT * FROM expenses_" + year;
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        YearSnapshot snapshot = getSnapshot(year);
 
-            if (rs.next()) {
-                data.put("Μισθοί", safeGet(rs, "employee_benefits"));
-                data.put("Κοινωνικές Παροχές", safeGet(rs, "social_benefits"));
-                data.put("Μεταβιβάσεις", safeGet(rs, "transfers"));
-                data.put("Αγορές Αγαθών", safeGet(rs, "purchases_of_goods_and_services"));
-                data.put("Επιδοτήσεις", safeGet(rs, "subsidies"));
-                data.put("Τόκοι", safeGet(rs, "interest"));
-                data.put("Πάγια", safeGet(rs, "fixed_assets"));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading expenses for " + year + ": " + e.getMessage());
+        if (snapshot.hasRow(YearSnapshot.EXPENSES)) {
+            data.put("Μισθοί", snapshot.getAmount(YearSnapshot.EXPENSES, "employee_benefits"));
+            data.put("Κοινωνικές Παροχές", snapshot.getAmount(YearSnapshot.EXPENSES, "social_benefits"));
+            data.put("Μεταβιβάσεις", snapshot.getAmount(YearSnapshot.EXPENSES, "transfers"));
+            data.put("Αγορές Αγαθών", snapshot.getAmount(YearSnapshot.EXPENSES, "purchases_of_goods_and_services"));
+            data.put("Επιδοτήσεις", snapshot.getAmount(YearSnapshot.EXPENSES, "subsidies"));
+            data.put("Τόκοι", snapshot.getAmount(YearSnapshot.EXPENSES, "interest"));
+            data.put("Πάγια", snapshot.getAmount(YearSnapshot.EXPENSES, "fixed_assets"));
         }
         return data;
     }
@@ -359,24 +347,17 @@ public class BudgetData {
     //επιστρέφει την ανάλυση υπουργείων ως map για γραφήματα/διαγράμματα
     public Map<String, Double> getMinistriesBreakdown(int year) {
         Map<String, Double> data = new HashMap<>();
-        String sql = "SELECT * FROM ministries_" + year;
+        YearSnapshot snapshot = getSnapshot(year);
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            if (rs.next()) {
-                data.put("Άμυνας", safeGet(rs, "ministry_of_national_defence"));
-                data.put("Υγείας", safeGet(rs, "ministry_of_health"));
-                data.put("Παιδείας", safeGet(rs, "ministry_of_education_religious_affairs_and_sports"));
-                data.put("Εσωτερικών", safeGet(rs, "ministry_of_interior"));
-                data.put("Υποδομών", safeGet(rs, "ministry_of_infrastructure_and_transport"));
-                data.put("Εργασίας", safeGet(rs, "ministry_of_labor_and_social_security"));
-                data.put("Οικονομικών", safeGet(rs, "ministry_of_national_economy_and_finance"));
-                data.put("Προστασίας Πολίτη", safeGet(rs, "ministry_of_citizen_protection"));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading ministries for " + year + ": " + e.getMessage());
+        if (snapshot.hasRow(YearSnapshot.MINISTRIES)) {
+            data.put("Άμυνας", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_national_defence"));
+            data.put("Υγείας", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_health"));
+            data.put("Παιδείας", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_education_religious_affairs_and_sports"));
+            data.put("Εσωτερικών", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_interior"));
+            data.put("Υποδομών", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_infrastructure_and_transport"));
+            data.put("Εργασίας", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_labor_and_social_security"));
+            data.put("Οικονομικών", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_national_economy_and_finance"));
+            data.put("Προστασίας Πολίτη", snapshot.getAmount(YearSnapshot.MINISTRIES, "ministry_of_citizen_protection"));
         }
         return data;
     }
@@ -384,62 +365,41 @@ public class BudgetData {
     //επιστρέφει την ανάλυση αποκεντρωμένων διοικήσεων ως map για γραφήματα/διαγράμματα
     public Map<String, Double> getDecentralizedAdministrationsBreakdown(int year) {
         Map<String, Double> data = new HashMap<>();
-        String sql = "SELECT * FROM decentralized_administrations_" + year;
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        YearSnapshot snapshot = getSnapshot(year);
 
-            if (rs.next()) {
-                data.put("Αττικής", safeGet(rs, "decentralized_administration_of_attica"));
-                data.put("Θεσσαλίας & Στερεάς Ελλάδας", safeGet(rs, "decentralized_administration_of_thessaly_central_greece"));
-                data.put("Ηπείρου & Δυτικής Μακεδονίας", safeGet(rs, "decentralized_administration_of_epirus_western_macedonia"));
-                data.put("Πελοποννήσου, Δυτικής Ελλάδας & Ιονίου", safeGet(rs, "decentralized_administration_of_peloponnese_western_greece_and_ionian"));
-                data.put("Αιγαίου", safeGet(rs, "decentralized_administration_of_aegean"));
-                data.put("Κρήτης", safeGet(rs, "decentralized_administration_of_crete"));
-                data.put("Μακεδονίας & Θράκης", safeGet(rs, "decentralized_administration_of_macedonia_thrace"));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading decentralized administrations for " + year + ": " + e.getMessage());
+        if (snapshot.hasRow(YearSnapshot.DECENTRALIZED)) {
+            data.put("Αττικής", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_attica"));
+            data.put("Θεσσαλίας & Στερεάς Ελλάδας", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_thessaly_central_greece"));
+            data.put("Ηπείρου & Δυτικής Μακεδονίας", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_epirus_western_macedonia"));
+            data.put("Πελοποννήσου, Δυτικής Ελλάδας & Ιονίου", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_peloponnese_western_greece_and_ionian"));
+            data.put("Αιγαίου", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_aegean"));
+            data.put("Κρήτης", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_crete"));
+            data.put("Μακεδονίας & Θράκης", snapshot.getAmount(YearSnapshot.DECENTRALIZED, "decentralized_administration_of_macedonia_thrace"));
         }
         return data;
     }
 
     //επιστρέφει το συνολικό ποσό για ένα συγκεκριμένο τύπο από το budget summary
     public double getTotalAmount(int year, String type) {
-        String sql = "SELECT " + type + " FROM budget_summary_" + year;
-        double amount = 0;
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            if (rs.next()) {
-                amount = safeGet(rs, type);
-            }
-        } catch (Exception e) {}
-        return amount;
+        return getSnapshot(year).getAmount(YearSnapshot.SUMMARY, type);
     }
-
-    //βοηθητική μέθοδος για ασφαλή μετατροπή από βάση δεδομένων σε double
-    private double safeGet(ResultSet rs, String column) {
-        try {
-            BigDecimal bd = rs.getBigDecimal(column);
-            return bd != null ? bd.doubleValue() : 0.0;
-        } catch (Exception e) {
-            return 0.0;
+        
+    //επιστρέφει ένα σύνολο του budget summary για τα έτη startYear..endYear με ένα ερώτημα στο budget_fact
+    //κρατά μόνο τα θετικά ποσά, όπως οι αναγνώσεις ανά έτος
+    private Map<Integer, Double> summaryAcrossYears(String column, int startYear, int endYear) {
+        Map<Integer, Double> totals = new TreeMap<>();
+        for (Map.Entry<Integer, Money> entry : BudgetFacts.acrossYears(BudgetFacts.SUMMARY, column, startYear, endYear).entrySet()) {
+            long euros = entry.getValue().getEuros();
+            if (euros > 0) {
+                totals.put(entry.getKey(), (double) euros);
+            }
         }
+        return totals;
     }
-        
+
     //επιστρέφει τις τιμές εσόδων για πολλαπλά έτη για στατιστική ανάλυση
     public double[] getRevenuesAcrossYears(int startYear, int endYear) {
-        List<Double> revenues = new ArrayList<>();
-        for (int year = startYear; year <= endYear; year++) {
-            double revenue = getTotalRevenues(year);
-            if (revenue > 0) {
-                revenues.add(revenue);
-            }
-        }
+        List<Double> revenues = new ArrayList<>(summaryAcrossYears("total_revenue", startYear, endYear).values());
         
         if (revenues.size() < 2) {
             return null;
@@ -450,13 +410,7 @@ public class BudgetData {
     
     //επιστρέφει τις τιμές δαπανών για πολλαπλά έτη για στατιστική ανάλυση
     public double[] getExpensesAcrossYears(int startYear, int endYear) {
-        List<Double> expenses = new ArrayList<>();
-        for (int year = startYear; year <= endYear; year++) {
-            double expense = getTotalExpenses(year);
-            if (expense > 0) {
-                expenses.add(expense);
-            }
-        }
+        List<Double> expenses = new ArrayList<>(summaryAcrossYears("total_expenses", startYear, endYear).values());
         
         if (expenses.size() < 2) {
             return null;
@@ -520,12 +474,9 @@ public class BudgetData {
         List<Double> revenues = new ArrayList<>();
         List<Double> years = new ArrayList<>();
         
-        for (int year = startYear; year <= endYear; year++) {
-            double revenue = getTotalRevenues(year);
-            if (revenue > 0) {
-                revenues.add(revenue);
-                years.add((double) year);
-            }
+        for (Map.Entry<Integer, Double> entry : summaryAcrossYears("total_revenue", startYear, endYear).entrySet()) {
+            revenues.add(entry.getValue());
+            years.add((double) entry.getKey());
         }
         
         if (revenues.size() < 2) {
@@ -543,12 +494,9 @@ public class BudgetData {
         List<Double> expenses = new ArrayList<>();
         List<Double> years = new ArrayList<>();
         
-        for (int year = startYear; year <= endYear; year++) {
-            double expense = getTotalExpenses(year);
-            if (expense > 0) {
-                expenses.add(expense);
-                years.add((double) year);
-            }
+        for (Map.Entry<Integer, Double> entry : summaryAcrossYears("total_expenses", startYear, endYear).entrySet()) {
+            expenses.add(entry.getValue());
+            years.add((double) entry.getKey());
         }
         
         if (expenses.size() < 2) {
@@ -593,7 +541,7 @@ public class BudgetData {
         String sql = "SELECT indicator, value FROM international_indicators " +
                      "WHERE country_code = ? AND year = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, countryCode);
@@ -626,7 +574,7 @@ public class BudgetData {
         String sql = "SELECT value FROM international_indicators " +
                      "WHERE country_code = ? AND year = ? AND indicator = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, countryCode);
@@ -656,9 +604,9 @@ public class BudgetData {
         String sql = "SELECT DISTINCT country_code, country_name FROM international_indicators " +
                      "ORDER BY country_name";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             
             while (rs.next()) {
                 countries.add(rs.getString("country_code"));
@@ -681,7 +629,7 @@ public class BudgetData {
         String sql = "SELECT DISTINCT country_name FROM international_indicators " +
                      "WHERE country_code = ? LIMIT 1";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, countryCode);
@@ -708,9 +656,9 @@ public class BudgetData {
         List<String> indicators = new ArrayList<>();
         String sql = "SELECT DISTINCT indicator FROM international_indicators ORDER BY indicator";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             
             while (rs.next()) {
                 indicators.add(rs.getString("indicator"));
@@ -736,7 +684,7 @@ public class BudgetData {
         String sql = "SELECT country_code, value FROM international_indicators " +
                      "WHERE indicator = ? AND year = ? ORDER BY country_code";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, indicator);
@@ -797,7 +745,7 @@ public class BudgetData {
             "FROM international_indicators WHERE 1=1"
         );
         
-        try (Connection conn = DatabaseConnection.getConnection()) {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
             if (countryCode != null && !countryCode.isEmpty()) {
                 sql.append(" AND country_code = ?");
             }
@@ -848,7 +796,7 @@ public class BudgetData {
             "SELECT COUNT(*) as count FROM international_indicators WHERE indicator = ?"
         );
         
-        try (Connection conn = DatabaseConnection.getConnection()) {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
             if (countryCode != null && !countryCode.isEmpty()) {
                 sql.append(" AND country_code = ?");
             }
@@ -893,7 +841,7 @@ public class BudgetData {
             "SELECT COUNT(*) as count FROM international_indicators WHERE year = ?"
         );
         
-        try (Connection conn = DatabaseConnection.getConnection()) {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
             if (indicator != null && !indicator.isEmpty()) {
                 sql.append(" AND indicator = ?");
             }
@@ -938,7 +886,7 @@ public class BudgetData {
             "SELECT COUNT(*) as count FROM international_indicators WHERE country_code = ?"
         );
         
-        try (Connection conn = DatabaseConnection.getConnection()) {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
             if (indicator != null && !indicator.isEmpty()) {
                 sql.append(" AND indicator = ?");
             }
@@ -1010,7 +958,7 @@ public class BudgetData {
                     "FROM international_budgets " +
                     "WHERE country_code = ? AND year = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, countryCode);
@@ -1065,7 +1013,7 @@ public class BudgetData {
             "FROM international_budgets WHERE 1=1"
         );
         
-        try (Connection conn = DatabaseConnection.getConnection()) {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
             if (year > 0) {
                 sql.append(" AND year = ?");
             }
@@ -1112,7 +1060,7 @@ public class BudgetData {
         // Προσθήκη άλλων χωρών από international_budgets
         String sql = "SELECT DISTINCT country_code FROM international_budgets WHERE year = ? ORDER BY country_code";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, year);
@@ -1140,9 +1088,9 @@ public class BudgetData {
     private boolean hasGreekBudgetData(int year) {
         String sql = "SELECT COUNT(*) FROM budget_summary_" + year;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
             
             if (rs.next()) {
                 return rs.getInt(1) > 0;
@@ -1168,7 +1116,7 @@ public class BudgetData {
         // Άλλες χώρες - ελέγχουμε τον πίνακα international_budgets
         String sql = "SELECT COUNT(*) FROM international_budgets WHERE country_code = ? AND year = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              java.sql.PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, countryCode);
@@ -10,12 +10,13 @@ import javafx.scene.control.cell.TextFieldTableCell;
 import javafx.stage.Stage;
 import javafx.util.converter.DoubleStringConverter;
 
-import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 // Controller για τη σελίδα επεξεργασίας προϋπολογισμού
@@ -139,7 +140,6 @@ public class BudgetEditController implements Initializable {
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        ensureCommentsTableExists();
         setupYearComboBox();
         setupTables();
         loadDataForCurrentYear();
@@ -173,7 +173,7 @@ public class BudgetEditController implements Initializable {
     }
     
     private boolean isYearPublished(int year) {
-        try (java.sql.Connection connection = ui.DatabaseConnection.getConnection();
+        try (java.sql.Connection connection = ui.DatabaseConnection.getReadConnection();
              java.sql.Statement stmt = connection.createStatement();
              java.sql.ResultSet rs = stmt.executeQuery("SELECT year FROM published_years WHERE year = " + year)) {
             
@@ -246,7 +246,7 @@ public class BudgetEditController implements Initializable {
     private void loadRevenueData(int year) {
         ObservableList<BudgetItem> items = FXCollections.observableArrayList();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT * FROM revenue_" + year)) {
             
@@ -254,7 +254,7 @@ public class BudgetEditController implements Initializable {
                 for (String[] category : REVENUE_CATEGORIES) {
                     String columnName = category[0];
                     String greekName = category[1];
-                    double amount = rs.getBigDecimal(columnName) != null ? rs.getBigDecimal(columnName).doubleValue() : 0.0;
+                    double amount = Money.read(rs, columnName).toDouble();
                     items.add(new BudgetItem(greekName, columnName, amount));
                 }
             } else {
@@ -282,7 +282,7 @@ public class BudgetEditController implements Initializable {
     private void loadExpensesData(int year) {
         ObservableList<BudgetItem> items = FXCollections.observableArrayList();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT * FROM expenses_" + year)) {
             
@@ -290,7 +290,7 @@ public class BudgetEditController implements Initializable {
                 for (String[] category : EXPENSE_CATEGORIES) {
                     String columnName = category[0];
                     String greekName = category[1];
-                    double amount = rs.getBigDecimal(columnName) != null ? rs.getBigDecimal(columnName).doubleValue() : 0.0;
+                    double amount = Money.read(rs, columnName).toDouble();
                     items.add(new BudgetItem(greekName, columnName, amount));
                 }
             } else {
@@ -318,7 +318,7 @@ public class BudgetEditController implements Initializable {
     private void loadMinistriesData(int year) {
         ObservableList<BudgetItem> items = FXCollections.observableArrayList();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT * FROM ministries_" + year)) {
             
@@ -326,7 +326,7 @@ public class BudgetEditController implements Initializable {
                 for (String[] category : MINISTRY_CATEGORIES) {
                     String columnName = category[0];
                     String greekName = category[1];
-                    double amount = rs.getBigDecimal(columnName) != null ? rs.getBigDecimal(columnName).doubleValue() : 0.0;
+                    double amount = Money.read(rs, columnName).toDouble();
                     items.add(new BudgetItem(greekName, columnName, amount));
                 }
             } else {
@@ -354,7 +354,7 @@ public class BudgetEditController implements Initializable {
     private void loadAdministrationsData(int year) {
         ObservableList<BudgetItem> items = FXCollections.observableArrayList();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT * FROM decentralized_administrations_" + year)) {
             
@@ -362,7 +362,7 @@ public class BudgetEditController implements Initializable {
                 for (String[] category : ADMINISTRATION_CATEGORIES) {
                     String columnName = category[0];
                     String greekName = category[1];
-                    double amount = rs.getBigDecimal(columnName) != null ? rs.getBigDecimal(columnName).doubleValue() : 0.0;
+                    double amount = Money.read(rs, columnName).toDouble();
                     items.add(new BudgetItem(greekName, columnName, amount));
                 }
             } else {
@@ -408,74 +408,38 @@ public class BudgetEditController implements Initializable {
         saveAdministrationsData(currentYear, administrationsTable);
     }
     
+    // τα ποσά μιας καρτέλας ανά στήλη, στρογγυλοποιημένα στο λεπτό, μαζί με το σύνολό τους
+    // διαβάζονται πριν από την εργασία εγγραφής, που τρέχει στο thread της βάσης
+    private static Map<String, Money> amountsOf(TableView<BudgetItem> table, String totalColumn) {
+        Map<String, Money> amounts = new LinkedHashMap<>();
+        Money total = Money.ZERO;
+        for (BudgetItem item : table.getItems()) {
+            Money amount = Money.of(item.getAmount());
+            amounts.put(item.getColumnName(), amount);
+            total = total.plus(amount);
+        }
+        amounts.put(totalColumn, total);
+        return amounts;
+    }
+    
+    // αποθηκεύει μια καρτέλα σε μία εργασία εγγραφής (μία συναλλαγή): τα ποσά και το σύνολό τους
+    // γράφονται με ένα batch upsert (BudgetFacts.writeAmounts, όπως η SQLinserter.applyUpdates),
+    // είτε το έτος έχει ήδη γραμμή είτε όχι, και η σύνοψη του έτους ξαναϋπολογίζεται από τα σύνολα
+    // αν αποτύχει κάτι, δεν γράφεται τίποτα
+    private static void saveSection(int year, String table, String totalColumn, TableView<BudgetItem> items)
+            throws SQLException {
+        Map<String, Money> amounts = amountsOf(items, totalColumn);
+        DatabaseConnection.write(conn -> {
+            BudgetFacts.writeAmounts(conn, table + "_" + year, amounts);
+            BudgetFacts.recomputeSummary(conn, year);
+            return null;
+        });
+        BudgetData.getInstance().invalidate(year);
+    }
+    
     private void saveRevenueData(int year, TableView<BudgetItem> table) {
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            // First, get the current total_revenue value
-            String selectSql = "SELECT total_revenue FROM revenue_" + year;
-            BigDecimal currentTotalRevenue = null;
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(selectSql)) {
-                if (rs.next()) {
-                    currentTotalRevenue = rs.getBigDecimal("total_revenue");
-                }
-            }
-            
-            // If no row exists, we need to insert one
-            if (currentTotalRevenue == null) {
-                // Calculate total
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                currentTotalRevenue = BigDecimal.valueOf(total);
-                
-                // Insert new row
-                String insertSql = "INSERT INTO revenue_" + year + " (total_revenue";
-                for (String[] category : REVENUE_CATEGORIES) {
-                    insertSql += ", " + category[0];
-                }
-                insertSql += ") VALUES (?";
-                for (int i = 0; i < REVENUE_CATEGORIES.length; i++) {
-                    insertSql += ", ?";
-                }
-                insertSql += ")";
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-                    pstmt.setBigDecimal(1, currentTotalRevenue);
-                    int paramIndex = 2;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.executeUpdate();
-                }
-            } else {
-                // Update existing row
-                StringBuilder updateSql = new StringBuilder("UPDATE revenue_" + year + " SET ");
-                for (int i = 0; i < REVENUE_CATEGORIES.length; i++) {
-                    if (i > 0) updateSql.append(", ");
-                    updateSql.append(REVENUE_CATEGORIES[i][0]).append(" = ?");
-                }
-                updateSql.append(" WHERE total_revenue = ?");
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(updateSql.toString())) {
-                    int paramIndex = 1;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.setBigDecimal(paramIndex, currentTotalRevenue);
-                    pstmt.executeUpdate();
-                }
-                
-                // Update total_revenue
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                String updateTotalSql = "UPDATE revenue_" + year + " SET total_revenue = ? WHERE total_revenue = ?";
-                try (PreparedStatement pstmt = conn.prepareStatement(updateTotalSql)) {
-                    pstmt.setBigDecimal(1, BigDecimal.valueOf(total));
-                    pstmt.setBigDecimal(2, currentTotalRevenue);
-                    pstmt.executeUpdate();
-                }
-            }
-            
-            // Update budget_summary table
-            updateBudgetSummary(year);
-            
+        try {
+            saveSection(year, BudgetFacts.REVENUE, "total_revenue", table);
             showSuccessAlert("Τα δεδομένα εσόδων για το " + year + " αποθηκεύτηκαν επιτυχώς!");
         } catch (Exception e) {
             System.err.println("Error saving revenue data for " + year + ": " + e.getMessage());
@@ -485,67 +449,8 @@ public class BudgetEditController implements Initializable {
     }
     
     private void saveExpensesData(int year, TableView<BudgetItem> table) {
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            String selectSql = "SELECT total_expenses FROM expenses_" + year;
-            BigDecimal currentTotalExpenses = null;
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(selectSql)) {
-                if (rs.next()) {
-                    currentTotalExpenses = rs.getBigDecimal("total_expenses");
-                }
-            }
-            
-            if (currentTotalExpenses == null) {
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                currentTotalExpenses = BigDecimal.valueOf(total);
-                
-                String insertSql = "INSERT INTO expenses_" + year + " (total_expenses";
-                for (String[] category : EXPENSE_CATEGORIES) {
-                    insertSql += ", " + category[0];
-                }
-                insertSql += ") VALUES (?";
-                for (int i = 0; i < EXPENSE_CATEGORIES.length; i++) {
-                    insertSql += ", ?";
-                }
-                insertSql += ")";
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-                    pstmt.setBigDecimal(1, currentTotalExpenses);
-                    int paramIndex = 2;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.executeUpdate();
-                }
-            } else {
-                StringBuilder updateSql = new StringBuilder("UPDATE expenses_" + year + " SET ");
-                for (int i = 0; i < EXPENSE_CATEGORIES.length; i++) {
-                    if (i > 0) updateSql.append(", ");
-                    updateSql.append(EXPENSE_CATEGORIES[i][0]).append(" = ?");
-                }
-                updateSql.append(" WHERE total_expenses = ?");
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(updateSql.toString())) {
-                    int paramIndex = 1;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.setBigDecimal(paramIndex, currentTotalExpenses);
-                    pstmt.executeUpdate();
-                }
-                
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                String updateTotalSql = "UPDATE expenses_" + year + " SET total_expenses = ? WHERE total_expenses = ?";
-                try (PreparedStatement pstmt = conn.prepareStatement(updateTotalSql)) {
-                    pstmt.setBigDecimal(1, BigDecimal.valueOf(total));
-                    pstmt.setBigDecimal(2, currentTotalExpenses);
-                    pstmt.executeUpdate();
-                }
-            }
-            
-            // Update budget_summary table
-            updateBudgetSummary(year);
-            
+        try {
+            saveSection(year, BudgetFacts.EXPENSES, "total_expenses", table);
             showSuccessAlert("Τα δεδομένα δαπανών για το " + year + " αποθηκεύτηκαν επιτυχώς!");
         } catch (Exception e) {
             System.err.println("Error saving expenses data for " + year + ": " + e.getMessage());
@@ -555,67 +460,8 @@ public class BudgetEditController implements Initializable {
     }
     
     private void saveMinistriesData(int year, TableView<BudgetItem> table) {
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            String selectSql = "SELECT total_ministries FROM ministries_" + year;
-            BigDecimal currentTotalMinistries = null;
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(selectSql)) {
-                if (rs.next()) {
-                    currentTotalMinistries = rs.getBigDecimal("total_ministries");
-                }
-            }
-            
-            if (currentTotalMinistries == null) {
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                currentTotalMinistries = BigDecimal.valueOf(total);
-                
-                String insertSql = "INSERT INTO ministries_" + year + " (total_ministries";
-                for (String[] category : MINISTRY_CATEGORIES) {
-                    insertSql += ", " + category[0];
-                }
-                insertSql += ") VALUES (?";
-                for (int i = 0; i < MINISTRY_CATEGORIES.length; i++) {
-                    insertSql += ", ?";
-                }
-                insertSql += ")";
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-                    pstmt.setBigDecimal(1, currentTotalMinistries);
-                    int paramIndex = 2;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.executeUpdate();
-                }
-            } else {
-                StringBuilder updateSql = new StringBuilder("UPDATE ministries_" + year + " SET ");
-                for (int i = 0; i < MINISTRY_CATEGORIES.length; i++) {
-                    if (i > 0) updateSql.append(", ");
-                    updateSql.append(MINISTRY_CATEGORIES[i][0]).append(" = ?");
-                }
-                updateSql.append(" WHERE total_ministries = ?");
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(updateSql.toString())) {
-                    int paramIndex = 1;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.setBigDecimal(paramIndex, currentTotalMinistries);
-                    pstmt.executeUpdate();
-                }
-                
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                String updateTotalSql = "UPDATE ministries_" + year + " SET total_ministries = ? WHERE total_ministries = ?";
-                try (PreparedStatement pstmt = conn.prepareStatement(updateTotalSql)) {
-                    pstmt.setBigDecimal(1, BigDecimal.valueOf(total));
-                    pstmt.setBigDecimal(2, currentTotalMinistries);
-                    pstmt.executeUpdate();
-                }
-            }
-            
-            // Update budget_summary table
-            updateBudgetSummary(year);
-            
+        try {
+            saveSection(year, BudgetFacts.MINISTRIES, "total_ministries", table);
             showSuccessAlert("Τα δεδομένα υπουργείων για το " + year + " αποθηκεύτηκαν επιτυχώς!");
         } catch (Exception e) {
             System.err.println("Error saving ministries data for " + year + ": " + e.getMessage());
@@ -625,67 +471,8 @@ public class BudgetEditController implements Initializable {
     }
     
     private void saveAdministrationsData(int year, TableView<BudgetItem> table) {
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            String selectSql = "SELECT total_da FROM decentralized_administrations_" + year;
-            BigDecimal currentTotalDA = null;
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(selectSql)) {
-                if (rs.next()) {
-                    currentTotalDA = rs.getBigDecimal("total_da");
-                }
-            }
-            
-            if (currentTotalDA == null) {
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                currentTotalDA = BigDecimal.valueOf(total);
-                
-                String insertSql = "INSERT INTO decentralized_administrations_" + year + " (total_da";
-                for (String[] category : ADMINISTRATION_CATEGORIES) {
-                    insertSql += ", " + category[0];
-                }
-                insertSql += ") VALUES (?";
-                for (int i = 0; i < ADMINISTRATION_CATEGORIES.length; i++) {
-                    insertSql += ", ?";
-                }
-                insertSql += ")";
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-                    pstmt.setBigDecimal(1, currentTotalDA);
-                    int paramIndex = 2;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.executeUpdate();
-                }
-            } else {
-                StringBuilder updateSql = new StringBuilder("UPDATE decentralized_administrations_" + year + " SET ");
-                for (int i = 0; i < ADMINISTRATION_CATEGORIES.length; i++) {
-                    if (i > 0) updateSql.append(", ");
-                    updateSql.append(ADMINISTRATION_CATEGORIES[i][0]).append(" = ?");
-                }
-                updateSql.append(" WHERE total_da = ?");
-                
-                try (PreparedStatement pstmt = conn.prepareStatement(updateSql.toString())) {
-                    int paramIndex = 1;
-                    for (BudgetItem item : table.getItems()) {
-                        pstmt.setBigDecimal(paramIndex++, BigDecimal.valueOf(item.getAmount()));
-                    }
-                    pstmt.setBigDecimal(paramIndex, currentTotalDA);
-                    pstmt.executeUpdate();
-                }
-                
-                double total = table.getItems().stream().mapToDouble(BudgetItem::getAmount).sum();
-                String updateTotalSql = "UPDATE decentralized_administrations_" + year + " SET total_da = ? WHERE total_da = ?";
-                try (PreparedStatement pstmt = conn.prepareStatement(updateTotalSql)) {
-                    pstmt.setBigDecimal(1, BigDecimal.valueOf(total));
-                    pstmt.setBigDecimal(2, currentTotalDA);
-                    pstmt.executeUpdate();
-                }
-            }
-            
-            // Update budget_summary table
-            updateBudgetSummary(year);
-            
+        try {
+            saveSection(year, BudgetFacts.DECENTRALIZED, "total_da", table);
             showSuccessAlert("Τα δεδομένα αποκεντρωμένων διοικήσεων για το " + year + " αποθηκεύτηκαν επιτυχώς!");
         } catch (Exception e) {
             System.err.println("Error saving administrations data for " + year + ": " + e.getMessage());
@@ -694,135 +481,6 @@ public class BudgetEditController implements Initializable {
         }
     }
     
-    // Updates the budget_summary table with current totals
-    private void updateBudgetSummary(int year) {
-        try (Connection conn = DatabaseConnection.getConnection()) {
-            // Ensure budget_summary table exists
-            try (Statement stmt = conn.createStatement()) {
-                String createTableSql = "CREATE TABLE IF NOT EXISTS budget_summary_" + year + " (" +
-                                      "budget_result MONEY PRIMARY KEY," +
-                                      "total_revenue MONEY," +
-                                      "total_expenses MONEY," +
-                                      "total_ministries MONEY," +
-                                      "total_da MONEY," +
-                                      "FOREIGN KEY (total_revenue) REFERENCES revenue_" + year + "(total_revenue)," +
-                                      "FOREIGN KEY (total_expenses) REFERENCES expenses_" + year + "(total_expenses)," +
-                                      "FOREIGN KEY (total_ministries) REFERENCES ministries_" + year + "(total_ministries)," +
-                                      "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_" + year + "(total_da)" +
-                                      ")";
-                stmt.execute(createTableSql);
-            } catch (Exception e) {
-                // If foreign keys fail, try without them
-                try (Statement stmt = conn.createStatement()) {
-                    String createTableSql = "CREATE TABLE IF NOT EXISTS budget_summary_" + year + " (" +
-                                          "budget_result MONEY PRIMARY KEY," +
-                                          "total_revenue MONEY," +
-                                          "total_expenses MONEY," +
-                                          "total_ministries MONEY," +
-                                          "total_da MONEY" +
-                                          ")";
-                    stmt.execute(createTableSql);
-                }
-            }
-            
-            // Get current totals from individual tables
-            BigDecimal totalRevenue = BigDecimal.ZERO;
-            BigDecimal totalExpenses = BigDecimal.ZERO;
-            BigDecimal totalMinistries = BigDecimal.ZERO;
-            BigDecimal totalDA = BigDecimal.ZERO;
-            
-            // Get total_revenue
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT total_revenue FROM revenue_" + year)) {
-                if (rs.next()) {
-                    totalRevenue = rs.getBigDecimal("total_revenue");
-                    if (totalRevenue == null) totalRevenue = BigDecimal.ZERO;
-                }
-            } catch (Exception e) {
-                // Table might not exist yet, use zero
-            }
-            
-            // Get total_expenses
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT total_expenses FROM expenses_" + year)) {
-                if (rs.next()) {
-                    totalExpenses = rs.getBigDecimal("total_expenses");
-                    if (totalExpenses == null) totalExpenses = BigDecimal.ZERO;
-                }
-            } catch (Exception e) {
-                // Table might not exist yet, use zero
-            }
-            
-            // Get total_ministries
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT total_ministries FROM ministries_" + year)) {
-                if (rs.next()) {
-                    totalMinistries = rs.getBigDecimal("total_ministries");
-                    if (totalMinistries == null) totalMinistries = BigDecimal.ZERO;
-                }
-            } catch (Exception e) {
-                // Table might not exist yet, use zero
-            }
-            
-            // Get total_da
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT total_da FROM decentralized_administrations_" + year)) {
-                if (rs.next()) {
-                    totalDA = rs.getBigDecimal("total_da");
-                    if (totalDA == null) totalDA = BigDecimal.ZERO;
-                }
-            } catch (Exception e) {
-                // Table might not exist yet, use zero
-            }
-            
-            // Calculate budget_result (revenue - expenses)
-            BigDecimal budgetResult = totalRevenue.subtract(totalExpenses);
-            
-            // Check if budget_summary row exists
-            boolean exists = false;
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) as count FROM budget_summary_" + year)) {
-                if (rs.next()) {
-                    exists = rs.getInt("count") > 0;
-                }
-            } catch (Exception e) {
-                // Table might not exist, we'll create it
-            }
-            
-            if (exists) {
-                // Update existing row
-                String updateSql = "UPDATE budget_summary_" + year + 
-                                 " SET total_revenue = ?, total_expenses = ?, total_ministries = ?, total_da = ?, budget_result = ?" +
-                                 " WHERE budget_result IS NOT NULL OR 1=1";
-                try (PreparedStatement pstmt = conn.prepareStatement(updateSql)) {
-                    pstmt.setBigDecimal(1, totalRevenue);
-                    pstmt.setBigDecimal(2, totalExpenses);
-                    pstmt.setBigDecimal(3, totalMinistries);
-                    pstmt.setBigDecimal(4, totalDA);
-                    pstmt.setBigDecimal(5, budgetResult);
-                    pstmt.executeUpdate();
-                }
-            } else {
-                // Insert new row
-                String insertSql = "INSERT INTO budget_summary_" + year + 
-                                 " (budget_result, total_revenue, total_expenses, total_ministries, total_da)" +
-                                 " VALUES (?, ?, ?, ?, ?)";
-                try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-                    pstmt.setBigDecimal(1, budgetResult);
-                    pstmt.setBigDecimal(2, totalRevenue);
-                    pstmt.setBigDecimal(3, totalExpenses);
-                    pstmt.setBigDecimal(4, totalMinistries);
-                    pstmt.setBigDecimal(5, totalDA);
-                    pstmt.executeUpdate();
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error updating budget_summary for " + year + ": " + e.getMessage());
-            e.printStackTrace();
-            // Don't throw - this is a secondary update
-        }
-    }
-    
     // Add/Delete methods - use current tables
     @FXML
     private void onAddRevenue() {
@@ -908,17 +566,14 @@ public class BudgetEditController implements Initializable {
     }
     
     private void publishYear(int year) {
-        try (java.sql.Connection connection = ui.DatabaseConnection.getConnection();
-             java.sql.Statement stmt = connection.createStatement()) {
-            
-            // First, ensure the published_years table exists
-            String createTableSql = "CREATE TABLE IF NOT EXISTS published_years (" +
-                                  "year INTEGER PRIMARY KEY)";
-            stmt.execute(createTableSql);
-            
-            // Insert the year if it doesn't exist
-            String insertSql = "INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")";
-            stmt.execute(insertSql);
+        try {
+            DatabaseConnection.write(connection -> {
+                try (Statement stmt = connection.createStatement()) {
+                    // Insert the year if it doesn't exist
+                    String insertSql = "INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")";
+                    return stmt.execute(insertSql);
+                }
+            });
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("Failed to publish year: " + e.getMessage(), e);
@@ -966,26 +621,6 @@ public class BudgetEditController implements Initializable {
         }
     }
     
-    private void ensureCommentsTableExists() {
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement()) {
-            
-            String createTableSql = "CREATE TABLE IF NOT EXISTS user_comments (" +
-                                  "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                                  "category_name TEXT NOT NULL," +
-                                  "year INTEGER NOT NULL," +
-                                  "comments TEXT," +
-                                  "created_at DATETIME DEFAULT CURRENT_TIMESTAMP," +
-                                  "updated_at DATETIME DEFAULT CURRENT_TIMESTAMP," +
-                                  "UNIQUE(category_name, year)" +
-                                  ")";
-            stmt.execute(createTableSql);
-        } catch (Exception e) {
-            System.err.println("Error creating user_comments table: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
     @FXML
     private void onClose() {
         Stage stage = (Stage) (categoryTabPane != null ? categoryTabPane.getScene().getWindow() : null);
@@ -0,0 +1,295 @@
+package ui;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// πίνακας budget_fact(year, section, category_code, amount): ένα ποσό ανά έτος, ενότητα και κατηγορία
+// αντικαθιστά τους πίνακες ανά έτος (revenue_2025, ministries_2026, ...), που γίνονται views με το ίδιο
+// όνομα και τις ίδιες στήλες, οπότε οι υπάρχουσες SELECT/INSERT/UPDATE δουλεύουν όπως πριν
+// ενώ τα ερωτήματα για πολλά έτη γίνονται ένα ερώτημα στο ευρετήριο
+public class BudgetFacts {
+
+    // ενότητες = πρόθεμα του παλιού ονόματος πίνακα
+    public static final String REVENUE = "revenue";
+    public static final String EXPENSES = "expenses";
+    public static final String MINISTRIES = "ministries";
+    public static final String DECENTRALIZED = "decentralized_administrations";
+    public static final String SUMMARY = "budget_summary";
+
+    private static final Pattern WIDE_TABLE =
+            Pattern.compile("(revenue|expenses|ministries|decentralized_administrations|budget_summary)_(\\d{4})");
+
+    private BudgetFacts() {
+        // utility class
+    }
+
+    // =========================================================
+    // ΣΧΗΜΑ ΚΑΙ MIGRATION
+    // =========================================================
+
+    // το κλειδί (year, section, category_code) είναι και ο πίνακας (WITHOUT ROWID), οπότε
+    // οι αναγνώσεις ενός έτους δεν χρειάζονται άλλο ευρετήριο
+    // το budget_fact_by_category καλύπτει τις αναγνώσεις μιας κατηγορίας σε πολλά έτη
+    private static void createSchema(Statement stmt) throws SQLException {
+        stmt.execute("CREATE TABLE IF NOT EXISTS budget_fact ("
+                + "year INTEGER NOT NULL,"
+                + "section TEXT NOT NULL,"
+                + "category_code TEXT NOT NULL,"
+                + "amount MONEY,"
+                + "PRIMARY KEY (year, section, category_code)"
+                + ") WITHOUT ROWID");
+        stmt.execute("CREATE INDEX IF NOT EXISTS budget_fact_by_category "
+                + "ON budget_fact(section, category_code, year, amount)");
+    }
+
+    // μεταφέρει κάθε πίνακα ανά έτος στο budget_fact και τον αντικαθιστά με view
+    // τρέχει σε μία συναλλαγή και είναι ασφαλές να ξανατρέξει: όσα είναι ήδη views δεν αγγίζονται
+    // επιστρέφει πόσοι πίνακες μεταφέρθηκαν
+    public static int migrate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            int migrated = migrateTables(stmt);
+            connection.commit();
+            return migrated;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // το ίδιο μέσα στη συναλλαγή του καλούντος (migration 3 του SchemaMigrations)
+    static int migrateTables(Statement stmt) throws SQLException {
+        createSchema(stmt);
+
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = 'table'")) {
+            while (rs.next()) {
+                if (WIDE_TABLE.matcher(rs.getString(1)).matches()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+        }
+
+        for (String table : tables) {
+            Matcher m = WIDE_TABLE.matcher(table);
+            m.matches();
+            String section = m.group(1);
+            int year = Integer.parseInt(m.group(2));
+            List<String> columns = columnsOf(stmt, table);
+
+            // backfill: αν υπάρχουν πολλές γραμμές, κρατιέται η τελευταία
+            for (String column : columns) {
+                stmt.execute("INSERT OR REPLACE INTO budget_fact(year, section, category_code, amount) "
+                        + "SELECT " + year + ", '" + section + "', '" + column + "', " + column
+                        + " FROM " + table + " ORDER BY rowid");
+            }
+            stmt.execute("DROP TABLE " + table);
+            createView(stmt, table, year, section, columns);
+        }
+        return tables.size();
+    }
+
+    // ξαναδημιουργεί τα views των ετών με τις ίδιες στήλες (migration 4 του SchemaMigrations)
+    // τα views του migration 3 είχαν στήλες χωρίς affinity, οπότε ένα WHERE total_revenue = ?
+    // με BigDecimal (που το sqlite-jdbc δένει ως TEXT) δεν ταίριαζε ποτέ
+    // τα triggers σβήνονται μαζί με το view και ξαναφτιάχνονται από την createView
+    static int recreateViews(Statement stmt) throws SQLException {
+        List<String> views = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = 'view'")) {
+            while (rs.next()) {
+                if (WIDE_TABLE.matcher(rs.getString(1)).matches()) {
+                    views.add(rs.getString(1));
+                }
+            }
+        }
+
+        for (String view : views) {
+            Matcher m = WIDE_TABLE.matcher(view);
+            m.matches();
+            List<String> columns = columnsOf(stmt, view);
+            stmt.execute("DROP VIEW " + view);
+            createView(stmt, view, Integer.parseInt(m.group(2)), m.group(1), columns);
+        }
+        return views.size();
+    }
+
+    private static List<String> columnsOf(Statement stmt, String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                columns.add(rs.getString("name"));
+            }
+        }
+        return columns;
+    }
+
+    // view με τις στήλες του παλιού πίνακα και triggers ώστε οι εγγραφές να πηγαίνουν στο budget_fact
+    // το INSERT αποτυγχάνει αν το έτος έχει ήδη γραμμή, όπως με το PRIMARY KEY του παλιού πίνακα
+    // το CAST δίνει στις στήλες affinity NUMERIC, όπως οι στήλες MONEY του παλιού πίνακα, ώστε
+    // οι συγκρίσεις με παραμέτρους κειμένου (setBigDecimal) να γίνονται αριθμητικά
+    private static void createView(Statement stmt, String table, int year, String section, List<String> columns)
+            throws SQLException {
+        String where = "year = " + year + " AND section = '" + section + "'";
+
+        StringBuilder select = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        for (String column : columns) {
+            if (select.length() > 0) {
+                select.append(", ");
+                values.append(", ");
+            }
+            select.append("CAST(MAX(CASE WHEN category_code = '").append(column)
+                    .append("' THEN amount END) AS NUMERIC) AS ").append(column);
+            values.append('(').append(year).append(", '").append(section).append("', '").append(column)
+                    .append("', NEW.").append(column).append(')');
+        }
+        String insert = "INTO budget_fact(year, section, category_code, amount) VALUES " + values + ";";
+
+        stmt.execute("CREATE VIEW " + table + " AS SELECT " + select
+                + " FROM budget_fact WHERE " + where + " GROUP BY year");
+        stmt.execute("CREATE TRIGGER " + table + "_insert INSTEAD OF INSERT ON " + table + " BEGIN "
+                + "SELECT RAISE(ABORT, 'UNIQUE constraint failed: " + table + "') "
+                + "WHERE EXISTS (SELECT 1 FROM budget_fact WHERE " + where + "); "
+                + "INSERT " + insert + " END");
+        stmt.execute("CREATE TRIGGER " + table + "_update INSTEAD OF UPDATE ON " + table + " BEGIN "
+                + "INSERT OR REPLACE " + insert + " END");
+        stmt.execute("CREATE TRIGGER " + table + "_delete INSTEAD OF DELETE ON " + table + " BEGIN "
+                + "DELETE FROM budget_fact WHERE " + where + "; END");
+    }
+
+    // =========================================================
+    // ΕΓΓΡΑΦΕΣ ΕΝΟΣ ΕΤΟΥΣ
+    // =========================================================
+
+    // γράφει ή αντικαθιστά ένα ποσό: (year, section, category_code, amount)
+    public static final String UPSERT = "INSERT INTO budget_fact(year, section, category_code, amount) "
+            + "VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT(year, section, category_code) DO UPDATE SET amount = excluded.amount";
+
+    public static void upsert(PreparedStatement statement, int year, String section, String categoryCode, Money amount)
+            throws SQLException {
+        statement.setInt(1, year);
+        statement.setString(2, section);
+        statement.setString(3, categoryCode);
+        amount.bind(statement, 4);
+        statement.executeUpdate();
+    }
+
+    // γράφει ποσά ενός πίνακα ανά έτος (π.χ. "revenue_2025": στήλη -> ποσό) με ένα batch upsert στο budget_fact,
+    // μέσα στη συναλλαγή του καλούντος (αν το έτος δεν έχει ακόμη γραμμή, δημιουργείται)
+    // οι στήλες πρέπει να υπάρχουν στο view του έτους (SQLException, όπως το UPDATE στον παλιό πίνακα)
+    // επιστρέφει πόσα ποσά γράφτηκαν
+    public static int writeAmounts(Connection connection, String table, Map<String, Money> amounts) throws SQLException {
+        Matcher m = WIDE_TABLE.matcher(table);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("Not a budget table: " + table);
+        }
+        if (amounts.isEmpty()) return 0;
+
+        List<String> columns;
+        try (Statement stmt = connection.createStatement()) {
+            columns = columnsOf(stmt, table);
+        }
+        if (columns.isEmpty()) {
+            throw new SQLException("no such table: " + table);
+        }
+        for (String column : amounts.keySet()) {
+            if (!columns.contains(column)) {
+                throw new SQLException("no such column: " + table + "." + column);
+            }
+        }
+
+        int year = Integer.parseInt(m.group(2));
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+            for (Map.Entry<String, Money> amount : amounts.entrySet()) {
+                statement.setInt(1, year);
+                statement.setString(2, m.group(1));
+                statement.setString(3, amount.getKey());
+                amount.getValue().bind(statement, 4);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return amounts.size();
+    }
+
+    // ξαναϋπολογίζει το budget_summary ενός έτους από τα σύνολα των ενοτήτων του
+    // (budget_result = έσοδα - δαπάνες, όπως στην αποθήκευση της BudgetEditController)
+    // επιστρέφει το αποτέλεσμα του προϋπολογισμού
+    public static Money recomputeSummary(Connection connection, int year) throws SQLException {
+        Map<String, Money> totals = new TreeMap<>();
+        String sql = "SELECT category_code, amount FROM budget_fact WHERE year = ? AND ("
+                + "(section = '" + REVENUE + "' AND category_code = 'total_revenue') OR "
+                + "(section = '" + EXPENSES + "' AND category_code = 'total_expenses') OR "
+                + "(section = '" + MINISTRIES + "' AND category_code = 'total_ministries') OR "
+                + "(section = '" + DECENTRALIZED + "' AND category_code = 'total_da'))";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, year);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    totals.put(rs.getString(1), Money.read(rs, 2));
+                }
+            }
+        }
+
+        Money revenue = totals.getOrDefault("total_revenue", Money.ZERO);
+        Money expenses = totals.getOrDefault("total_expenses", Money.ZERO);
+        Money result = revenue.minus(expenses);
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+            upsert(statement, year, SUMMARY, "budget_result", result);
+            upsert(statement, year, SUMMARY, "total_revenue", revenue);
+            upsert(statement, year, SUMMARY, "total_expenses", expenses);
+            upsert(statement, year, SUMMARY, "total_ministries", totals.getOrDefault("total_ministries", Money.ZERO));
+            upsert(statement, year, SUMMARY, "total_da", totals.getOrDefault("total_da", Money.ZERO));
+        }
+        return result;
+    }
+
+    // =========================================================
+    // ΑΝΑΓΝΩΣΕΙΣ ΠΟΛΛΩΝ ΕΤΩΝ
+    // =========================================================
+
+    // τα ποσά μιας κατηγορίας για τα έτη startYear..endYear (όσα υπάρχουν), με ένα ερώτημα
+    // το σχήμα το φέρνει στην τελευταία έκδοση η MainGUI κατά την εκκίνηση, όχι κάθε ανάγνωση
+    public static Map<Integer, Money> acrossYears(String section, String categoryCode, int startYear, int endYear) {
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            return acrossYears(connection, section, categoryCode, startYear, endYear);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return new TreeMap<>();
+        }
+    }
+
+    public static Map<Integer, Money> acrossYears(Connection connection, String section, String categoryCode,
+            int startYear, int endYear) throws SQLException {
+        Map<Integer, Money> amounts = new TreeMap<>();
+        String sql = "SELECT year, amount FROM budget_fact "
+                + "WHERE section = ? AND category_code = ? AND year BETWEEN ? AND ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, section);
+            statement.setString(2, categoryCode);
+            statement.setInt(3, startYear);
+            statement.setInt(4, endYear);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (rs.getObject(2) != null) {
+                        amounts.put(rs.getInt(1), Money.read(rs, 2));
+                    }
+                }
+            }
+        }
+        return amounts;
+    }
+}
@@ -0,0 +1,395 @@
+package ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// στιγμιότυπο (snapshot) των πινάκων προϋπολογισμού σε ένα συμπιεσμένο αρχείο
+// ώστε μια νέα εγκατάσταση να γεμίζει χωρίς λήψη και μετατροπή των PDF
+// μορφή: gzip( κεφαλίδα, πίνακες με τις γραμμές τους, CRC32 όλων των προηγούμενων )
+// οι πίνακες χρηστών (users, user_comments, saved_scenarios) δεν περιλαμβάνονται
+public class BudgetSnapshot {
+
+    // οι πίνακες του στιγμιότυπου, με τη σειρά που γράφονται
+    // τα views ανά έτος (revenue_2025, ...) δεν χρειάζονται: τα δεδομένα τους είναι στο budget_fact
+    public static final List<String> TABLES = List.of(
+            "budget_fact",
+            "published_years",
+            "international_indicators",
+            "international_budgets"
+    );
+
+    private static final int MAGIC = 0x42534E50; // "BSNP"
+    private static final int FORMAT_VERSION = 1;
+
+    // τύποι τιμών στο αρχείο
+    private static final byte NULL = 0;
+    private static final byte INTEGER = 1;
+    private static final byte REAL = 2;
+    private static final byte TEXT = 3;
+    private static final byte BLOB = 4;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BudgetSnapshot() {
+        // utility class
+    }
+
+    // αποτέλεσμα export/import
+    public static final class Report {
+        private final int tables;
+        private final int rows;
+        private final long elapsedMillis;
+
+        Report(int tables, int rows, long elapsedMillis) {
+            this.tables = tables;
+            this.rows = rows;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getTables() {
+            return tables;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot: " + rows + " rows from " + tables + " tables in " + elapsedMillis + " ms";
+        }
+    }
+
+    // =========================================================
+    // EXPORT
+    // =========================================================
+
+    public static Report export(File file) throws IOException, SQLException {
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            return export(connection, file);
+        }
+    }
+
+    // γράφει πρώτα σε προσωρινό αρχείο, ώστε ένα μισό στιγμιότυπο να μην αντικαταστήσει το προηγούμενο
+    public static Report export(Connection connection, File file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        File part = new File(file.getPath() + ".part");
+        CRC32 crc = new CRC32();
+        int tables = 0;
+        int rows = 0;
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new FileOutputStream(part), 1 << 16)) {
+            BufferedOutputStream buffer = new BufferedOutputStream(gzip, 1 << 16);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffer, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(SchemaMigrations.getVersion(connection));
+
+            List<String> present = existingTables(connection);
+            out.writeInt(present.size());
+            for (String table : present) {
+                rows += writeTable(connection, table, out);
+                tables++;
+            }
+            out.flush();
+
+            // το checksum γράφεται εκτός του CheckedOutputStream
+            new DataOutputStream(buffer).writeLong(crc.getValue());
+            buffer.flush();
+        } catch (IOException | SQLException e) {
+            part.delete();
+            throw e;
+        }
+
+        // η αντικατάσταση γίνεται σε ένα βήμα: δεν υπάρχει στιγμή χωρίς στιγμιότυπο
+        try {
+            Files.move(part.toPath(), file.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            part.delete();
+            throw e;
+        }
+        return new Report(tables, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static List<String> existingTables(Connection connection) throws SQLException {
+        List<String> present = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            for (String table : TABLES) {
+                statement.setString(1, table);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        present.add(table);
+                    }
+                }
+            }
+        }
+        return present;
+    }
+
+    private static int writeTable(Connection connection, String table, DataOutputStream out)
+            throws IOException, SQLException {
+        int rows = 0;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM " + table)) {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+
+            out.writeUTF(table);
+            out.writeInt(columns);
+            for (int c = 1; c <= columns; c++) {
+                out.writeUTF(meta.getColumnName(c));
+            }
+            while (rs.next()) {
+                out.writeBoolean(true);
+                for (int c = 1; c <= columns; c++) {
+                    writeValue(out, rs.getObject(c));
+                }
+                rows++;
+            }
+            out.writeBoolean(false);
+        }
+        return rows;
+    }
+
+    // οι τιμές γράφονται με τον τύπο αποθήκευσης της SQLite, ώστε π.χ. ένα INTEGER ποσό να μείνει INTEGER
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Integer || value instanceof Long) {
+            out.writeByte(INTEGER);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            out.writeByte(REAL);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(BLOB);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else {
+            // writeUTF έχει όριο 64KB, οπότε το κείμενο γράφεται ως bytes
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            out.writeByte(TEXT);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    // =========================================================
+    // IMPORT
+    // όλοι οι πίνακες αντικαθίστανται σε μία συναλλαγή: αν το αρχείο είναι κατεστραμμένο
+    // (λάθος checksum ή ελλιπές) γίνεται rollback και η βάση μένει όπως ήταν
+    // =========================================================
+
+    // τρέχει ως μία εργασία του DatabaseWriter, ώστε να μην ανταγωνίζεται τις άλλες εγγραφές για το κλείδωμα
+    // αν αποτύχει, το SAVEPOINT της εργασίας αναιρεί όλο το import
+    public static Report importFrom(File file) throws IOException, SQLException {
+        // οι πίνακες και τα views υπάρχουν πριν γεμίσουν
+        SchemaMigrations.ensureMigrated();
+        try {
+            return DatabaseConnection.write(connection -> {
+                try {
+                    return readSnapshot(connection, file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            // τα στιγμιότυπα της BudgetData δείχνουν τα ποσά πριν το import
+            BudgetData.getInstance().invalidateAll();
+        }
+    }
+
+    // το ίδιο σε δική του συναλλαγή, σε σύνδεση που δεν ανήκει στον εγγραφέα (π.χ. άλλη βάση)
+    public static Report importFrom(Connection connection, File file) throws IOException, SQLException {
+        SchemaMigrations.migrate(connection);
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            Report report = readSnapshot(connection, file);
+            connection.commit();
+            return report;
+        } catch (IOException | SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // αντικαθιστά τους πίνακες με τα περιεχόμενα του αρχείου, μέσα στη συναλλαγή του καλούντος
+    private static Report readSnapshot(Connection connection, File file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        CRC32 crc = new CRC32();
+        int tables = 0;
+        int rows = 0;
+
+        try (BufferedInputStream buffer = new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file), 1 << 16), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(buffer, crc));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a budget snapshot: " + file);
+            }
+            int format = in.readInt();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format " + format);
+            }
+            int schemaVersion = in.readInt();
+            if (schemaVersion > SchemaMigrations.LATEST_VERSION) {
+                throw new IOException("Snapshot schema version " + schemaVersion + " is newer than this application");
+            }
+
+            int count = in.readInt();
+            for (int t = 0; t < count; t++) {
+                rows += readTable(connection, in);
+                tables++;
+            }
+
+            long expected = new DataInputStream(buffer).readLong();
+            if (expected != crc.getValue()) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+        }
+        return new Report(tables, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int readTable(Connection connection, DataInputStream in) throws IOException, SQLException {
+        String table = in.readUTF();
+        if (!TABLES.contains(table)) {
+            throw new IOException("Unexpected table in snapshot: " + table);
+        }
+        int columns = in.readInt();
+        Set<String> known = columnsOf(connection, table);
+        StringBuilder names = new StringBuilder();
+        StringBuilder params = new StringBuilder();
+        for (int c = 0; c < columns; c++) {
+            String column = in.readUTF();
+            if (!known.contains(column)) {
+                throw new IOException("Unexpected column in snapshot: " + table + "." + column);
+            }
+            if (c > 0) {
+                names.append(", ");
+                params.append(", ");
+            }
+            names.append(column);
+            params.append('?');
+        }
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM " + table);
+        }
+
+        int rows = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (" + names + ") VALUES (" + params + ")")) {
+            while (in.readBoolean()) {
+                for (int c = 1; c <= columns; c++) {
+                    readValue(in, insert, c);
+                }
+                insert.addBatch();
+                if (++rows % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return rows;
+    }
+
+    private static void readValue(DataInputStream in, PreparedStatement insert, int index)
+            throws IOException, SQLException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                insert.setObject(index, null);
+                break;
+            case INTEGER:
+                insert.setLong(index, in.readLong());
+                break;
+            case REAL:
+                insert.setDouble(index, in.readDouble());
+                break;
+            case TEXT: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                insert.setString(index, new String(bytes, StandardCharsets.UTF_8));
+                break;
+            }
+            case BLOB: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                insert.setBytes(index, bytes);
+                break;
+            }
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static Set<String> columnsOf(Connection connection, String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                columns.add(rs.getString("name"));
+            }
+        }
+        return columns;
+    }
+
+    // =========================================================
+    // ΟΛΟΚΛΗΡΗ ΒΑΣΗ (online backup API της SQLite)
+    // αντίγραφο όλης της βάσης, μαζί με τους πίνακες χρηστών
+    // =========================================================
+
+    public static void backup(Connection connection, File file) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("backup to " + quote(file));
+        }
+    }
+
+    // αντικαθιστά όλο το περιεχόμενο της βάσης της σύνδεσης με το αντίγραφο
+    public static void restore(Connection connection, File file) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("restore from " + quote(file));
+        }
+    }
+
+    private static String quote(File file) {
+        return "\"" + file.getPath().replace("\"", "\"\"") + "\"";
+    }
+}
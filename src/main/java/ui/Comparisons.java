@@ -150,8 +150,13 @@ public class Comparisons {
     
     // method for gui to return data instead of printing
     public ComparisonResults compareYears(int year1, int year2) throws SQLException {
-        Connection connection = DatabaseConnection.getConnection();
-        Statement stmt = connection.createStatement();
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             Statement stmt = connection.createStatement()) {
+            return compareYears(stmt, year1, year2);
+        }
+    }
+
+    private ComparisonResults compareYears(Statement stmt, int year1, int year2) throws SQLException {
     
         String sql = "SELECT * FROM revenue_"+year1;
         ResultSet rs = stmt.executeQuery(sql);
@@ -438,8 +443,6 @@ public class Comparisons {
         }
         rs10.close();
         
-        stmt.close();
-        connection.close();
         
         Map<String, ComparisonData> revenues = new HashMap<>();
         revenues.put("Total revenue", new ComparisonData("Total revenue", total_revenue1, total_revenue2));
@@ -0,0 +1,425 @@
+package ui;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// μικρό pool συνδέσεων με όριο μεγέθους
+// ο καλών παίρνει ένα "handle" (Proxy του Connection): το close() του επιστρέφει τη φυσική
+// σύνδεση στο pool αντί να την κλείσει, οπότε ο κώδικας με try-with-resources δεν αλλάζει
+// - πριν την επαναχρησιμοποίηση: rollback ανοιχτής συναλλαγής, autoCommit = true,
+//   κλείσιμο statements που ξέχασε ο καλών και έλεγχος isValid για συνδέσεις που έμειναν ώρα αδρανείς
+// - leak detection: handles που δεν έκλεισαν μέσα σε leakThresholdMillis αναφέρονται με το stack trace της λήψης
+// - statement cache: κάθε φυσική σύνδεση κρατά τα PreparedStatement που έφτιαξε (StatementCache),
+//   οπότε το ίδιο SQL δεν ξαναγίνεται prepare σε κάθε λήψη της σύνδεσης
+public class ConnectionPool {
+
+    // ανοίγει μια νέα φυσική σύνδεση
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    // αδρανείς συνδέσεις που χρησιμοποιήθηκαν πιο πρόσφατα από αυτό δεν ξαναελέγχονται
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long leakThresholdMillis;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final Deque<Physical> idle = new ArrayDeque<>();
+    private final Set<Handle> active = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService leakChecker;
+    private volatile boolean shutdown;
+
+    // μετρικές
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+
+    public ConnectionPool(ConnectionFactory factory, int maxSize, long acquireTimeoutMillis, long leakThresholdMillis) {
+        this(factory, maxSize, acquireTimeoutMillis, leakThresholdMillis, 0);
+    }
+
+    // statementCacheSize: PreparedStatement ανά σύνδεση που κρατούνται, 0 = χωρίς cache
+    public ConnectionPool(ConnectionFactory factory, int maxSize, long acquireTimeoutMillis, long leakThresholdMillis,
+            int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        if (leakThresholdMillis > 0) {
+            leakChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "connection-leak-checker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(leakThresholdMillis / 2, 100);
+            leakChecker.scheduleAtFixedRate(this::checkLeaks, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            leakChecker = null;
+        }
+    }
+
+    // =========================================================
+    // ΛΗΨΗ ΚΑΙ ΕΠΙΣΤΡΟΦΗ
+    // =========================================================
+
+    // περιμένει έως acquireTimeoutMillis για ελεύθερη θέση, αλλιώς SQLException
+    public Connection acquire() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool is shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLException("Timed out after " + acquireTimeoutMillis + " ms waiting for a database connection ("
+                        + active.size() + " of " + maxSize + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        Physical physical;
+        try {
+            physical = take();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        Handle handle = new Handle(physical, leakThresholdMillis > 0 ? new Throwable("Connection acquired here") : null);
+        active.add(handle);
+
+        long elapsed = System.nanoTime() - start;
+        acquisitions.increment();
+        acquireNanos.add(elapsed);
+        maxAcquireNanos.accumulateAndGet(elapsed, Math::max);
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, handle);
+    }
+
+    // αδρανής σύνδεση (ελεγμένη) ή νέα
+    private Physical take() throws SQLException {
+        while (true) {
+            Physical candidate;
+            synchronized (idle) {
+                candidate = idle.pollFirst();
+            }
+            if (candidate == null) {
+                created.increment();
+                return new Physical(factory.open());
+            }
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+    private static boolean isUsable(Physical candidate) {
+        try {
+            if (candidate.connection.isClosed()) return false;
+            if (System.nanoTime() - candidate.idleSince < VALIDATION_INTERVAL_NANOS) return true;
+            return candidate.connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(Handle handle) {
+        active.remove(handle);
+        try {
+            if (shutdown || !reset(handle)) {
+                discard(handle.physical);
+                return;
+            }
+            handle.physical.idleSince = System.nanoTime();
+            synchronized (idle) {
+                idle.addFirst(handle.physical);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // η σύνδεση επιστρέφει όπως ήταν όταν δόθηκε
+    private static boolean reset(Handle handle) {
+        try {
+            for (Statement statement : handle.statements) {
+                if (!statement.isClosed()) {
+                    statement.close();
+                }
+            }
+            Connection connection = handle.physical.connection;
+            if (connection.isClosed()) return false;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Discarding database connection: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void discard(Physical physical) {
+        discarded.increment();
+        if (physical.statements != null) {
+            physical.statements.clear();
+        }
+        try {
+            physical.connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    // κλείνει τις αδρανείς συνδέσεις, όσες είναι σε χρήση κλείνουν όταν επιστραφούν
+    public void shutdown() {
+        shutdown = true;
+        if (leakChecker != null) {
+            leakChecker.shutdownNow();
+        }
+        List<Physical> toClose;
+        synchronized (idle) {
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        for (Physical physical : toClose) {
+            discard(physical);
+        }
+    }
+
+    // =========================================================
+    // LEAK DETECTION
+    // =========================================================
+
+    private void checkLeaks() {
+        long now = System.nanoTime();
+        for (Handle handle : active) {
+            if (!handle.leakReported && now - handle.acquiredAt > TimeUnit.MILLISECONDS.toNanos(leakThresholdMillis)) {
+                handle.leakReported = true;
+                leaks.increment();
+                System.err.println("Possible database connection leak: connection held for more than "
+                        + leakThresholdMillis + " ms");
+                if (handle.acquiredBy != null) {
+                    handle.acquiredBy.printStackTrace();
+                }
+            }
+        }
+    }
+
+    // =========================================================
+    // ΜΕΤΡΙΚΕΣ
+    // =========================================================
+
+    public Stats getStats() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        return new Stats(maxSize, active.size(), idleCount, acquisitions.sum(), acquireNanos.sum(),
+                maxAcquireNanos.get(), timeouts.sum(), created.sum(), discarded.sum(), leaks.sum(),
+                statementHits.sum(), statementMisses.sum());
+    }
+
+    public static final class Stats {
+        private final int maxSize;
+        private final int active;
+        private final int idle;
+        private final long acquisitions;
+        private final long acquireNanos;
+        private final long maxAcquireNanos;
+        private final long timeouts;
+        private final long created;
+        private final long discarded;
+        private final long leaks;
+        private final long statementHits;
+        private final long statementMisses;
+
+        Stats(int maxSize, int active, int idle, long acquisitions, long acquireNanos, long maxAcquireNanos,
+                long timeouts, long created, long discarded, long leaks, long statementHits, long statementMisses) {
+            this.maxSize = maxSize;
+            this.active = active;
+            this.idle = idle;
+            this.acquisitions = acquisitions;
+            this.acquireNanos = acquireNanos;
+            this.maxAcquireNanos = maxAcquireNanos;
+            this.timeouts = timeouts;
+            this.created = created;
+            this.discarded = discarded;
+            this.leaks = leaks;
+            this.statementHits = statementHits;
+            this.statementMisses = statementMisses;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public double getAverageAcquireMicros() {
+            return acquisitions == 0 ? 0.0 : acquireNanos / 1000.0 / acquisitions;
+        }
+
+        public double getMaxAcquireMicros() {
+            return maxAcquireNanos / 1000.0;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public long getDiscarded() {
+            return discarded;
+        }
+
+        public long getLeaks() {
+            return leaks;
+        }
+
+        public long getStatementHits() {
+            return statementHits;
+        }
+
+        public long getStatementMisses() {
+            return statementMisses;
+        }
+
+        public double getStatementHitRatio() {
+            long total = statementHits + statementMisses;
+            return total == 0 ? 0.0 : (double) statementHits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Pool: %d active, %d idle, max %d | %d acquisitions, avg %.1f us, max %.1f us"
+                    + " | %d created, %d discarded, %d timeouts, %d leaks | statements %d hits, %d misses",
+                    active, idle, maxSize, acquisitions, getAverageAcquireMicros(), getMaxAcquireMicros(),
+                    created, discarded, timeouts, leaks, statementHits, statementMisses);
+        }
+    }
+
+    // =========================================================
+    // HANDLE
+    // =========================================================
+
+    // φυσική σύνδεση με την cache της
+    private final class Physical {
+        final Connection connection;
+        final StatementCache statements;
+        long idleSince = System.nanoTime();
+
+        Physical(Connection connection) {
+            this.connection = connection;
+            this.statements = statementCacheSize > 0
+                    ? new StatementCache(connection, statementCacheSize, statementHits, statementMisses)
+                    : null;
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+        final Physical physical;
+        final Throwable acquiredBy;
+        final long acquiredAt = System.nanoTime();
+        final List<Statement> statements = new ArrayList<>();
+        volatile boolean closed;
+        volatile boolean leakReported;
+
+        Handle(Physical physical, Throwable acquiredBy) {
+            this.physical = physical;
+            this.acquiredBy = acquiredBy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + physical.connection;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            Object result;
+            try {
+                if (physical.statements != null && args != null && args.length == 1
+                        && "prepareStatement".equals(method.getName())) {
+                    result = physical.statements.prepare((String) args[0]);
+                } else {
+                    result = method.invoke(physical.connection, args);
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement) {
+                statements.add((Statement) result);
+            }
+            return result;
+        }
+    }
+}
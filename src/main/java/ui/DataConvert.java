@@ -1,780 +1,369 @@
 package ui;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 // βοηθητική κλάση για μετατροπή αρχείων PDF προϋπολογισμού σε CSV format
-// εξάγει κείμενο και αριθμούς από σελίδες PDF και εφαρμόζει fixes ανά έτος
-// για αντιμετώπιση ασυνέπειων μορφοποίησης στα αρχεία προέλευσης
+// εξάγει τις γραμμές των πινάκων (κωδικός, περιγραφή, ποσά) από τις σελίδες PDF
+// και εφαρμόζει τις διορθώσεις ποσών ανά έτος
 public class DataConvert {
 
-    // StringBuilder για κατασκευή του CSV output
-    private static StringBuilder csvBuilder;
+    // πλήθος workers για την παράλληλη εξαγωγή σελίδων (ρυθμίζεται με -Dconvert.workers=N)
+    private static int workers = Integer.getInteger("convert.workers",
+            Runtime.getRuntime().availableProcessors());
 
-    // μετατρέπει ένα PDF αρχείο προϋπολογισμού σε CSV format για συγκεκριμένο έτος
-    // εξάγει κείμενο και αριθμούς από κάθε σελίδα και εφαρμόζει fixes μορφοποίησης ανά έτος
-    public static void convertiontool(int yearof) {
-        try {
-            File pdfFile = new File("proipologismos" + yearof + ".pdf");
-            if (!pdfFile.exists()) {
-                System.out.println("Δεν βρέθηκε το αρχείο proipologismos" + yearof + ".pdf στον τρέχοντα φάκελο");
-                return;
-            }
+    // ορίζει το πλήθος των workers που χρησιμοποιεί η convertiontool (1 = σειριακή εκτέλεση)
+    public static void setWorkers(int count) {
+        workers = Math.max(1, count);
+    }
 
-            // φόρτωση PDF document
-            PDDocument document = PDDocument.load(pdfFile);
-            PDFTextStripper pdfStripper = new PDFTextStripper();
+    // επιστρέφει το τρέχον πλήθος workers
+    public static int getWorkers() {
+        return workers;
+    }
 
-            // αρχικοποίηση CSV builder με header
-            csvBuilder = new StringBuilder();
-            csvBuilder.append("Σελίδα,Κείμενο,Αριθμοί\n");
+    // full = όλες οι σελίδες, summary = μόνο όσες διαβάζει η βάση (ρυθμίζεται με -Dconvert.mode=full|summary)
+    private static boolean summaryOnly = "summary".equals(System.getProperty("convert.mode", "full"));
 
-            int totalPages = document.getNumberOfPages();
+    // ορίζει αν η convertiontool εξάγει μόνο τις σελίδες που χρειάζεται η βάση
+    public static void setSummaryOnly(boolean summary) {
+        summaryOnly = summary;
+    }
 
-            // επεξεργασία κάθε σελίδας
-            for (int page = 1; page <= totalPages; page++) {
-                pdfStripper.setStartPage(page);
-                pdfStripper.setEndPage(page);
+    // true αν η convertiontool είναι σε summary mode
+    public static boolean isSummaryOnly() {
+        return summaryOnly;
+    }
 
-                String pageText = pdfStripper.getText(document);
-                String[] lines = pageText.split("\\r?\\n");
+    // πώς κρατά το PDFBox τα δεδομένα του PDF (ρυθμίζεται με -Dconvert.memory=main|mixed|tempfile):
+    // main = όλα στη μνήμη, mixed = στη μνήμη έως το όριο και μετά σε temp file, tempfile = μόνο σε temp file
+    private static String memoryMode = System.getProperty("convert.memory", "mixed");
 
-                // επεξεργασία κάθε γραμμής
-                for (String line : lines) {
-                    line = line.trim();
-                    if (line.isEmpty()) continue;
+    // όριο μνήμης ανά PDDocument για το mixed (-Dconvert.maxMainMemoryMB=N)
+    // με παράλληλη εξαγωγή το όριο ισχύει για κάθε worker ξεχωριστά
+    private static long maxMainMemoryBytes = Long.getLong("convert.maxMainMemoryMB", 64) * 1024 * 1024;
 
-                    StringBuilder numbers = new StringBuilder();
-                    StringBuilder textOnly = new StringBuilder();
+    // ορίζει τον τρόπο φόρτωσης των PDF και το όριο μνήμης για το mixed
+    public static void setMemoryUsage(String mode, long maxMainMemory) {
+        if (!mode.equals("main") && !mode.equals("mixed") && !mode.equals("tempfile")) {
+            throw new IllegalArgumentException("Unknown memory mode: " + mode);
+        }
+        memoryMode = mode;
+        maxMainMemoryBytes = Math.max(0, maxMainMemory);
+    }
 
-                    // διαχωρισμός tokens και κατηγοριοποίηση σε αριθμούς/κείμενο
-                    String[] tokens = line.split("\\s+");
-                    for (String token : tokens) {
-                        if (token.matches(".*\\d.*")) {
-                            numbers.append(token).append(",");
-                        } else {
-                            if (textOnly.length() > 0) textOnly.append(" ");
-                            textOnly.append(token);
-                        }
-                    }
+    // επιστρέφει τον τρέχοντα τρόπο φόρτωσης
+    public static String getMemoryMode() {
+        return memoryMode;
+    }
 
-                    // αφαίρεση τελευταίου comma από αριθμούς
-                    if (numbers.length() > 0)
-                        numbers.setLength(numbers.length() - 1);
+    // νέο MemoryUsageSetting για κάθε PDDocument, σύμφωνα με τις ρυθμίσεις
+    static MemoryUsageSetting memoryUsageSetting() {
+        switch (memoryMode) {
+            case "main":
+                return MemoryUsageSetting.setupMainMemoryOnly();
+            case "tempfile":
+                return MemoryUsageSetting.setupTempFileOnly();
+            case "mixed":
+                return MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+            default:
+                System.err.println("Unknown convert.memory '" + memoryMode + "', using mixed");
+                return MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+        }
+    }
 
-                    // προσθήκη γραμμής στο CSV
-                    csvBuilder.append(page).append(",")
-                            .append("\"").append(textOnly).append("\"").append(",")
-                            .append(numbers)
-                            .append("\n");
-                }
-            }
+    // μετατρέπει ένα PDF αρχείο προϋπολογισμού σε CSV για συγκεκριμένο έτος
+    // κάθε γραμμή πίνακα του PDF γίνεται μία γραμμή (σελίδα, κωδικός, περιγραφή, ποσά)
+    // από τις θέσεις των χαρακτήρων, με τις διορθώσεις ποσών του έτους
+    // επιστρέφει true αν το CSV γράφτηκε ολόκληρο
+    public static boolean convertiontool(int yearof) {
+        return convertiontool(yearof, workers);
+    }
 
-            document.close();
-
-            // αποθήκευση CSV αρχείου
-            String csvFile = "proipologismos" + yearof + ".csv";
-            FileWriter writer = new FileWriter(csvFile);
-            writer.write(csvBuilder.toString());
-            writer.close();
-
-            // ============================
-            // FIXES ΑΝΑ ΕΤΟΣ
-            // ============================
-            if (yearof == 2023) {
-                fix2023Specific(csvFile);
-                fix2023_KlimatikiKrisi(csvFile);
-                fix2023_ApokentromenesDioikiseis(csvFile);
-                fix2023_CreteOnly(csvFile);
-            }
+    // όπως η convertiontool(int), αλλά με συγκεκριμένο πλήθος workers
+    // οι σελίδες χωρίζονται σε διαστήματα και κάθε worker έχει δικό του PDDocument/TableRowStripper
+    // τα αποτελέσματα ενώνονται με τη σειρά των σελίδων ώστε το CSV να είναι ίδιο με τη σειριακή εκτέλεση
+    public static boolean convertiontool(int yearof, int workerCount) {
+        return convertiontool(yearof, workerCount, summaryOnly);
+    }
 
-            if (yearof == 2024) {
-                fix2024(csvFile);
-                fix2024Titles(csvFile);
-                fix2024_SymmetochikoiTitloi(csvFile);
-                fix2024_KlimatikiKrisi(csvFile);
-                fix2024_ApokentromenesDioikiseis(csvFile);
-            }
-            
-            if (yearof == 2025) {
-                fix2025_SymmetochikoiTitloi(csvFile);
-                fix2025_ApokentromenesDioikiseis(csvFile);
+    // όπως η convertiontool(int, int), με summary = true εξάγονται μόνο οι σελίδες 1..n
+    // ως το τέλος των άρθρων του νόμου, σύμφωνα με το PageIndex
+    // οι γραμμές μέχρι εκεί είναι ίδιες με της πλήρους μετατροπής
+    public static boolean convertiontool(int yearof, int workerCount, boolean summary) {
+        try {
+            File pdfFile = new File("proipologismos" + yearof + ".pdf");
+            if (!pdfFile.exists()) {
+                System.out.println("Δεν βρέθηκε το αρχείο proipologismos" + yearof + ".pdf στον τρέχοντα φάκελο");
+                return false;
             }
-            
-            if (yearof == 2026) {
-                fix2024Titles(csvFile);
-                fix2026_SymmetochikoiTitloi(csvFile);
-                fix2026_ApokentromenesDioikiseis(csvFile);
+
+            // οι γραμμές περνούν από τις διορθώσεις του έτους και γράφονται καθώς εξάγονται οι σελίδες
+            // σε .part, που μετονομάζεται μόνο αν ολοκληρωθεί η μετατροπή, ώστε μια αποτυχία
+            // στη μέση να μην αντικαταστήσει το προηγούμενο CSV με μισό αρχείο
+            File csvFile = new File("proipologismos" + yearof + ".csv");
+            File part = new File(csvFile.getPath() + ".part");
+            boolean complete = false;
+            try {
+                try (Writer writer = openCsvWriter(part.getPath())) {
+                    writer.write(TableRow.HEADER);
+                    writer.write('\n');
+                    RowFixes fixes = new RowFixes(fixesFor(yearof), row -> {
+                        writer.write(row.toCsv());
+                        writer.write('\n');
+                    });
+
+                    // φόρτωση PDF document
+                    int lastPage;
+                    boolean parallel;
+                    try (PDDocument document = PDDocument.load(pdfFile, memoryUsageSetting())) {
+                        lastPage = document.getNumberOfPages();
+                        if (summary) {
+                            int totalPages = lastPage;
+                            lastPage = PageIndex.scan(document, true).summaryEndPage();
+                            System.out.println("Summary mode: σελίδες 1-" + lastPage + " από " + totalPages);
+                        }
+                        parallel = workerCount > 1 && lastPage > 1;
+                        if (!parallel) {
+                            new TableRowStripper(fixes).extract(document, 1, lastPage);
+                        }
+                    }
+
+                    if (parallel) {
+                        extractPagesParallel(pdfFile, lastPage, Math.min(workerCount, lastPage), fixes);
+                    }
+
+                    fixes.finish();
+                }
+                Files.move(part.toPath(), csvFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                complete = true;
+            } finally {
+                if (!complete) {
+                    Files.deleteIfExists(part.toPath());
+                }
             }
 
             System.out.println("Ο προϋπολογισμός " + yearof + " μετατράπηκε σε CSV.");
+            return true;
 
         } catch (Exception e) {
             e.printStackTrace();
+            return false;
         }
     }
 
-  
 
     // =========================================================
-    // FIX 2023 – ΑΠΟΚΕΝΤΡΩΜΕΝΕΣ ΔΙΟΙΚΗΣΕΙΣ
-    // διορθώνει προβλήματα με αποκεντρωμένες διοικήσεις για το 2023
+    // ΔΙΟΡΘΩΣΕΙΣ ΑΝΑ ΕΤΟΣ
+    // οι τίτλοι που σπάνε σε πολλές γραμμές ενώνονται ήδη από τον TableRowStripper,
+    // εδώ μένουν μόνο τα ποσά που είναι λάθος (ή λείπουν) στο ίδιο το PDF
     // =========================================================
-    private static void fix2023_ApokentromenesDioikiseis(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (line.startsWith("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου -")) {
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής Ελλάδας και Ιονίου\",1904,12.467.000,0,12.467.000");
-                    i++;
-                    continue;
-                }
-                
-                fixed.add(line);
-                i++;
+
+    // γραμμή με σωστά ποσά: αντικαθιστά τη γραμμή που η περιγραφή της αρχίζει με labelPrefix
+    // με after != null, αν η γραμμή λείπει προστίθεται αμέσως μετά τη γραμμή με κωδικό after
+    // (ή στο τέλος, αν δεν βρεθεί ούτε αυτή)
+    static final class FixedRow {
+        final String labelPrefix;
+        final String label;
+        final String code;
+        final String after;
+        final List<Money> amounts = new ArrayList<>();
+
+        FixedRow(String labelPrefix, String label, String code, String after, String... amounts) {
+            this.labelPrefix = labelPrefix;
+            this.label = label;
+            this.code = code;
+            this.after = after;
+            for (String amount : amounts) {
+                this.amounts.add(Money.parse(amount));
             }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
         }
-    }
 
-    // =========================================================
-    // FIX 2023 – ΥΠΟΥΡΓΕΙΟ ΚΛΙΜΑΤΙΚΗΣ ΚΡΙΣΗΣ
-    // διορθώνει προβλήματα με το όνομα του υπουργείου που είναι χωρισμένο σε 2 γραμμές
-    // =========================================================
-    private static void fix2023_KlimatikiKrisi(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 1 < lines.size() && 
-                    line.startsWith("3,\"Υπουργείο Κλιματικής Κρίσης και Πολιτικής\",1059") &&
-                    lines.get(i+1).startsWith("3,\"Προστασίας\"")) {
-                    
-                    String[] parts = lines.get(i+1).split(",", 5);
-                    if (parts.length >= 5) {
-                        fixed.add("3,\"Υπουργείο Κλιματικής Κρίσης και Πολιτικής Προστασίας\",1059," + 
-                                 parts[2] + "," + parts[3] + "," + parts[4]);
-                        i += 2;
-                        continue;
-                    }
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
+        boolean matches(TableRow row) {
+            return row.getLabel().startsWith(labelPrefix);
         }
-    }
 
-    // =========================================================
-    // FIX 2024 – ΣΥΜΜΕΤΟΧΙΚΟΙ ΤΙΤΛΟΙ
-    // διορθώνει προβλήματα με συμμετοχικούς τίτλους που είναι χωρισμένοι σε πολλές γραμμές
-    // =========================================================
-    private static void fix2024_SymmetochikoiTitloi(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 4 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\"") &&
-                    lines.get(i+4).startsWith("2,\"\",1.095.000.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,1.095.000.000");
-                    i += 5;
-                    continue;
-                }
-                
-                if (i + 4 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\"") &&
-                    lines.get(i+4).startsWith("2,\"\",1.557.768.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,1.557.768.000");
-                    i += 5;
-                    continue;
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
+        TableRow toRow(int page) {
+            return new TableRow(page, label, code, amounts);
         }
     }
 
-    // =========================================================
-    // FIX 2024 – ΚΛΙΜΑΤΙΚΗ ΚΡΙΣΗ
-    // διορθώνει προβλήματα με το όνομα του υπουργείου που είναι χωρισμένο σε 2 γραμμές
-    // =========================================================
-    private static void fix2024_KlimatikiKrisi(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 1 < lines.size() && 
-                    line.startsWith("3,\"Υπουργείο Κλιματικής Κρίσης και Πολιτικής\"") &&
-                    lines.get(i+1).startsWith("3,\"Προστασίας\"")) {
-                    
-                    String[] parts = lines.get(i+1).split(",", 4);
-                    if (parts.length >= 4) {
-                        fixed.add("3,\"Υπουργείο Κλιματικής Κρίσης και Πολιτικής Προστασίας\"," + parts[2] + "," + parts[3]);
-                        i += 2;
-                        continue;
-                    }
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    private static final Map<Integer, List<FixedRow>> YEAR_FIXES = new HashMap<>();
+
+    static {
+        registerFixes(2023,
+                new FixedRow("Αποκεντρωμένη Διοίκηση Πελοποννήσου",
+                        "Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής Ελλάδας και Ιονίου", "1904", null,
+                        "12.467.000", "0", "12.467.000"),
+                new FixedRow("Αποκεντρωμένη Διοίκηση Κρήτης",
+                        "Αποκεντρωμένη Διοίκηση Κρήτης", "1906", "1905",
+                        "6.068.000", "0", "6.068.000"));
     }
 
-    // =========================================================
-    // FIX 2024 – ΑΠΟΚΕΝΤΡΩΜΕΝΕΣ ΔΙΟΙΚΗΣΕΙΣ
-    // διορθώνει προβλήματα με αποκεντρωμένες διοικήσεις που είναι χωρισμένες σε πολλές γραμμές
-    // =========================================================
-    private static void fix2024_ApokentromenesDioikiseis(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 1 < lines.size() && 
-                    line.startsWith("3,\"Αποκεντρωμένη Διοίκηση Θεσσαλίας - Στερεάς\"") &&
-                    lines.get(i+1).startsWith("3,\"Ελλάδας\",1903")) {
-                    
-                    String[] parts = lines.get(i+1).split(",", 5);
-                    if (parts.length >= 5) {
-                        fixed.add("3,\"Αποκεντρωμένη Διοίκηση Θεσσαλίας - Στερεάς Ελλάδας\"," + 
-                                 parts[2] + "," + parts[3] + "," + parts[4]);
-                        i += 2;
-                        continue;
-                    }
-                }
-                
-                if (i + 1 < lines.size() && 
-                    line.startsWith("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής\"") &&
-                    lines.get(i+1).startsWith("3,\"Μακεδονίας\",1904")) {
-                    
-                    String[] parts = lines.get(i+1).split(",", 5);
-                    if (parts.length >= 5) {
-                        fixed.add("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής Μακεδονίας\"," + 
-                                 parts[2] + "," + parts[3] + "," + parts[4]);
-                        i += 2;
-                        continue;
-                    }
-                }
-                
-                if (i + 1 < lines.size() && 
-                    line.startsWith("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής\"") &&
-                    lines.get(i+1).startsWith("3,\"Ελλάδας και Ιονίου\"")) {
-                    
-                    String[] parts = lines.get(i+1).split(",", 5);
-                    if (parts.length >= 5) {
-                        fixed.add("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής Ελλάδας και Ιονίου\"," + 
-                                 parts[2] + "," + parts[3] + "," + parts[4]);
-                        i += 2;
-                        continue;
-                    }
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    // δηλώνει τις διορθώσεις ενός έτους
+    static void registerFixes(int year, FixedRow... rows) {
+        YEAR_FIXES.put(year, Arrays.asList(rows));
     }
 
-    // =========================================================
-    // FIX 2025 – ΣΥΜΜΕΤΟΧΙΚΟΙ ΤΙΤΛΟΙ
-    // διορθώνει προβλήματα με συμμετοχικούς τίτλους που είναι χωρισμένοι σε πολλές γραμμές
-    // =========================================================
-    private static void fix2025_SymmetochikoiTitloi(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\",467.000.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,467.000.000");
-                    i += 4;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\",1.755.112.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,1.755.112.000");
-                    i += 4;
-                    continue;
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    // οι διορθώσεις ενός έτους (κενή λίστα αν δεν έχει)
+    static List<FixedRow> fixesFor(int year) {
+        return YEAR_FIXES.getOrDefault(year, Collections.emptyList());
     }
 
-    // =========================================================
-    // FIX 2025 – ΑΠΟΚΕΝΤΡΩΜΕΝΕΣ ΔΙΟΙΚΗΣΕΙΣ
-    // διορθώνει προβλήματα με αποκεντρωμένες διοικήσεις που είναι χωρισμένες σε πολλές γραμμές
-    // =========================================================
-    private static void fix2025_ApokentromenesDioikiseis(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("3,\"\",1903") &&
-                    lines.get(i+1).startsWith("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής\"") &&
-                    lines.get(i+2).startsWith("3,\"Μακεδονίας\"") &&
-                    lines.get(i+3).startsWith("3,\"\",9.943.000,0,9.943.000")) {
-                    
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής Μακεδονίας\",1903,9.943.000,0,9.943.000");
-                    i += 4;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("3,\"\",1904") &&
-                    lines.get(i+1).startsWith("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής\"") &&
-                    lines.get(i+2).startsWith("3,\"Ελλάδας και Ιονίου\"") &&
-                    lines.get(i+3).startsWith("3,\"\",14.918.000,0,14.918.000")) {
-                    
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής Ελλάδας και Ιονίου\",1904,14.918.000,0,14.918.000");
-                    i += 4;
-                    continue;
-                }
-                
-                fixed.add(line);
-                i++;
-            }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
+    // εφαρμόζει τις διορθώσεις καθώς περνούν οι γραμμές, χωρίς να τις κρατά στη μνήμη
+    static final class RowFixes implements TableRowStripper.RowSink {
+        private final List<FixedRow> fixes;
+        private final TableRowStripper.RowSink out;
+        private final Set<FixedRow> done = new HashSet<>();
+        // διόρθωση που περιμένει την επόμενη γραμμή με ποσά για να δει αν λείπει
+        private FixedRow armed;
+        private int page = 1;
+
+        RowFixes(List<FixedRow> fixes, TableRowStripper.RowSink out) {
+            this.fixes = fixes;
+            this.out = out;
         }
-    }
 
-    // =========================================================
-    // FIX 2026 – ΣΥΜΜΕΤΟΧΙΚΟΙ ΤΙΤΛΟΙ
-    // διορθώνει προβλήματα με συμμετοχικούς τίτλους που είναι χωρισμένοι σε πολλές γραμμές
-    // =========================================================
-    private static void fix2026_SymmetochikoiTitloi(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\",228.000.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,228.000.000");
-                    i += 4;
-                    continue;
+        @Override
+        public void accept(TableRow row) throws IOException {
+            page = row.getPage();
+            if (row.hasAmounts() && armed != null) {
+                if (!armed.matches(row)) {
+                    out.accept(armed.toRow(page));
+                    done.add(armed);
                 }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("2,\"\",45.") && 
-                    lines.get(i+1).startsWith("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών\"") &&
-                    lines.get(i+2).startsWith("2,\"κεφαλαίων\"") &&
-                    lines.get(i+3).startsWith("2,\"»\",1.587.084.000")) {
-                    
-                    fixed.add("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,1.587.084.000");
-                    i += 4;
-                    continue;
-                }
-                
-                fixed.add(line);
-                i++;
+                armed = null;
             }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-    // =========================================================
-    // FIX 2023 – ΚΡΗΤΗ (ΒΕΛΤΙΩΜΕΝΗ)
-    // διορθώνει προβλήματα με την Αποκεντρωμένη Διοίκηση Κρήτης (λάθος αριθμοί ή λείπει)
-    // =========================================================
-    private static void fix2023_CreteOnly(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            boolean hasCrete = false;
-            
-            for (String line : lines) {
-                // έλεγχος 1: αν είναι η Κρήτη με λάθος αριθμούς, τη διορθώνουμε
-                if (line.contains("Αποκεντρωμένη Διοίκηση Κρήτης")) {
-                    hasCrete = true;
-                    // αντικαθιστούμε πάντα με τους σωστούς αριθμούς
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Κρήτης\",1906,6.068.000,0,6.068.000");
-                    continue;
+
+            for (FixedRow fix : fixes) {
+                if (fix.matches(row)) {
+                    done.add(fix);
+                    out.accept(fix.toRow(row.getPage()));
+                    return;
                 }
-                
-                fixed.add(line);
             }
-            
-            // έλεγχος 2: αν η Κρήτη λείπει τελείως, την προσθέτουμε
-            if (!hasCrete) {
-                List<String> finalFixed = new ArrayList<>();
-                boolean addedCrete = false;
-                
-                for (String line : fixed) {
-                    finalFixed.add(line);
-                    
-                    // προσθήκη της Κρήτης αμέσως μετά το Αιγαίο (1905)
-                    if (!addedCrete && (line.contains("Αιγαίου") || line.contains("1905"))) {
-                        finalFixed.add("3,\"Αποκεντρωμένη Διοίκηση Κρήτης\",1906,6.068.000,0,6.068.000");
-                        addedCrete = true;
+            out.accept(row);
+
+            if (row.hasAmounts() && row.getCode() != null) {
+                for (FixedRow fix : fixes) {
+                    if (fix.after != null && !done.contains(fix) && fix.after.equals(row.getCodeNumber())) {
+                        armed = fix;
                     }
                 }
-                
-                // αν δεν βρήκαμε το Αιγαίο, προσθέτουμε στο τέλος
-                if (!addedCrete) {
-                    finalFixed.add("3,\"Αποκεντρωμένη Διοίκηση Κρήτης\",1906,6.068.000,0,6.068.000");
-                }
-                
-                write(csvFile, finalFixed);
-                return;
             }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
         }
-    }
-    // =========================================================
-    // FIX 2026 – ΑΠΟΚΕΝΤΡΩΜΕΝΕΣ ΔΙΟΙΚΗΣΕΙΣ
-    // διορθώνει προβλήματα με αποκεντρωμένες διοικήσεις που είναι χωρισμένες σε πολλές γραμμές
-    // =========================================================
-    private static void fix2026_ApokentromenesDioikiseis(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-            
-            int i = 0;
-            while (i < lines.size()) {
-                String line = lines.get(i);
-                
-                if (i == 0) {
-                    fixed.add(line);
-                    i++;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("3,\"\",1903") &&
-                    lines.get(i+1).startsWith("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής\"") &&
-                    lines.get(i+2).startsWith("3,\"Μακεδονίας\"") &&
-                    lines.get(i+3).startsWith("3,\"\",10.981.000,0,10.981.000")) {
-                    
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Ηπείρου - Δυτικής Μακεδονίας\",1903,10.981.000,0,10.981.000");
-                    i += 4;
-                    continue;
-                }
-                
-                if (i + 3 < lines.size() && 
-                    line.startsWith("3,\"\",1904") &&
-                    lines.get(i+1).startsWith("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής\"") &&
-                    lines.get(i+2).startsWith("3,\"Ελλάδας και Ιονίου\"") &&
-                    lines.get(i+3).startsWith("3,\"\",15.556.000,0,15.556.000")) {
-                    
-                    fixed.add("3,\"Αποκεντρωμένη Διοίκηση Πελοποννήσου - Δυτικής Ελλάδας και Ιονίου\",1904,15.556.000,0,15.556.000");
-                    i += 4;
-                    continue;
+
+        // προσθέτει στο τέλος όσες γραμμές λείπουν ακόμη
+        void finish() throws IOException {
+            for (FixedRow fix : fixes) {
+                if (fix.after != null && !done.contains(fix)) {
+                    out.accept(fix.toRow(page));
+                    done.add(fix);
                 }
-                
-                fixed.add(line);
-                i++;
             }
-            
-            write(csvFile, fixed);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
         }
     }
 
     // =========================================================
-    // ΓΕΝΙΚΑ FIXES ΓΙΑ 2023
-    // διορθώνει γενικά προβλήματα μορφοποίησης για το 2023
+    // ΕΞΑΓΩΓΗ ΣΕΛΙΔΩΝ
     // =========================================================
-    private static void fix2023Specific(String csvFile) {
+    // εξάγει τις σελίδες παράλληλα και τις στέλνει στο out με τη σειρά των σελίδων
+    // κάθε worker ανοίγει το δικό του PDDocument γιατί το PDFBox δεν είναι thread-safe
+    // ο TableRowStripper κλείνει τις γραμμές κάθε σελίδας στο τέλος της, οπότε η εξαγωγή
+    // ανά σελίδα δίνει τις ίδιες γραμμές με τη σειριακή
+    // μόνο ένα μικρό παράθυρο σελίδων (2 ανά worker) βρίσκεται ταυτόχρονα στη μνήμη
+    private static void extractPagesParallel(File pdfFile, int lastPage, int workerCount,
+            TableRowStripper.RowSink out) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(workerCount);
+        List<PageReader> readers = Collections.synchronizedList(new ArrayList<>());
+        ThreadLocal<PageReader> localReader = new ThreadLocal<>();
         try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-
-            for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-
-                // αν βρούμε αποκεντρωμένη διοίκηση, προσπαθούμε να ενώσουμε χωρισμένες γραμμές
-                if (line.startsWith("3,\"Αποκεντρωμένη Διοίκηση")) {
-                    StringBuilder name = new StringBuilder();
-                    String amounts = null;
-                    String id = null;
-
-                    // προσθήκη πρώτου μέρους του ονόματος
-                    name.append(line.substring(line.indexOf("\"") + 1, line.lastIndexOf("\"")));
-
-                    // έλεγχος για συνέχεια του ονόματος στην επόμενη γραμμή
-                    if (i + 1 < lines.size()) {
-                        String next = lines.get(i + 1).trim();
-                        if (next.startsWith("3,\"") && !next.startsWith("3,\"\",") && !next.matches(".*\\d.*")) {
-                            name.append(" ")
-                                .append(next.substring(next.indexOf("\"") + 1, next.lastIndexOf("\"")));
-                            i++;
+            Deque<Future<List<TableRow>>> window = new ArrayDeque<>();
+            int windowSize = workerCount * 2;
+            int next = 1;
+
+            while (next <= lastPage || !window.isEmpty()) {
+                while (next <= lastPage && window.size() < windowSize) {
+                    final int page = next++;
+                    window.add(pool.submit(() -> {
+                        PageReader reader = localReader.get();
+                        if (reader == null) {
+                            reader = new PageReader(pdfFile);
+                            readers.add(reader);
+                            localReader.set(reader);
                         }
-                    }
-
-                    // έλεγχος για αριθμούς στην επόμενη γραμμή
-                    if (i + 1 < lines.size()) {
-                        String next = lines.get(i + 1).trim();
-                        if (next.contains(",")) {
-                            String[] parts = next.split(",", 3);
-                            if (parts.length >= 3) {
-                                amounts = parts[2];
-                            }
-                            i++;
-                        }
-                    }
-
-                    // έλεγχος για ID στην επόμενη γραμμή
-                    if (i + 1 < lines.size()) {
-                        String next = lines.get(i + 1).trim();
-                        if (next.startsWith("3,\"\",") && next.split(",").length >= 3) {
-                            id = next.split(",", 3)[2];
-                            i++;
-                        }
-                    }
+                        return reader.getRows(page);
+                    }));
+                }
 
-                    // αν έχουμε και id και amounts, δημιουργούμε την ενωμένη γραμμή
-                    if (id != null && amounts != null) {
-                        fixed.add("3,\"" + name + "\"," + id + "," + amounts);
-                        continue;
+                // προώθηση της παλαιότερης σελίδας ώστε να διατηρείται η σειρά
+                try {
+                    for (TableRow row : window.poll().get()) {
+                        out.accept(row);
                     }
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : e;
                 }
-
-                fixed.add(line);
             }
-
-            write(csvFile, fixed);
-
-        } catch (Exception e) {
-            e.printStackTrace();
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+            for (PageReader reader : readers) {
+                reader.close();
+            }
         }
     }
 
-    // γενικά fixes για 2024 - διορθώνει προβλήματα με χωρισμένες γραμμές
-    private static void fix2024(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-
-            for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i);
-
-                // αν βρούμε κενή γραμμή με ID, ενώνουμε με την προηγούμενη
-                if (line.matches("^3,\"\",.*") && !fixed.isEmpty()) {
-                    String prev = fixed.remove(fixed.size() - 1);
-
-                    // εξαγωγή ID από την τρέχουσα γραμμή
-                    String id = line.split(",", 3)[2];
-                    String[] p = prev.split(",", 3);
-                    String[] a = p[2].split(",", 2);
-
-                    // δημιουργία ενωμένης γραμμής
-                    fixed.add(p[0] + "," + p[1] + "," + id + "," + a[1]);
-                    continue;
-                }
-
-                fixed.add(line);
-            }
+    // PDDocument και TableRowStripper ενός worker thread
+    private static class PageReader {
+        private final PDDocument document;
+        private final TableRowStripper stripper;
 
-            write(csvFile, fixed);
-        } catch (Exception e) {
-            e.printStackTrace();
+        PageReader(File pdfFile) throws IOException {
+            document = PDDocument.load(pdfFile, memoryUsageSetting());
+            stripper = new TableRowStripper(row -> { });
         }
-    }
 
-    // διορθώνει προβλήματα με τίτλους που είναι χωρισμένοι σε 2 γραμμές (2024 & 2026)
-    private static void fix2024Titles(String csvFile) {
-        try {
-            List<String> lines = read(csvFile);
-            List<String> fixed = new ArrayList<>();
-
-            for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i);
-
-                // αν βρούμε τίτλο με ID στην επόμενη γραμμή, ενώνουμε
-                if (line.matches("^2,\".*\",\\d+\\.?$") && i + 1 < lines.size()
-                        && lines.get(i + 1).matches("^2,\"\",\\d+\\.?$")) {
-
-                    String[] a = line.split(",", 3);
-                    String id = lines.get(i + 1).split(",", 3)[2];
-                    // δημιουργία ενωμένης γραμμής
-                    fixed.add(a[0] + "," + a[1] + "," + id);
-                    i++;
-                    continue;
-                }
+        List<TableRow> getRows(int page) throws IOException {
+            return stripper.extractRows(document, page, page);
+        }
 
-                fixed.add(line);
+        void close() {
+            try {
+                document.close();
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-
-            write(csvFile, fixed);
-        } catch (Exception e) {
-            e.printStackTrace();
         }
     }
 
     // =========================================================
     // ΒΟΗΘΗΤΙΚΕΣ ΜΕΘΟΔΟΙ
     // =========================================================
-    // διαβάζει όλες τις γραμμές από ένα αρχείο
-    private static List<String> read(String f) throws Exception {
-        List<String> l = new ArrayList<>();
-        BufferedReader r = new BufferedReader(new FileReader(f));
-        String s;
-        while ((s = r.readLine()) != null) l.add(s);
-        r.close();
-        return l;
-    }
-
-    // γράφει μια λίστα γραμμών σε ένα αρχείο
-    private static void write(String f, List<String> l) throws Exception {
-        BufferedWriter w = new BufferedWriter(new FileWriter(f));
-        for (String s : l) {
-            w.write(s);
-            w.newLine();
-        }
-        w.close();
+    // ανοίγει buffered writer σε UTF-8 για ένα αρχείο CSV
+    private static BufferedWriter openCsvWriter(String f) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(f), StandardCharsets.UTF_8), 1 << 16);
     }
-}
\ No newline at end of file
+}
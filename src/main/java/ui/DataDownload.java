@@ -1,11 +1,9 @@
 package ui;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.net.URLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 // κλάση για κατέβασμα αρχείων PDF προϋπολογισμού
 public class DataDownload 
@@ -13,147 +11,183 @@ public class DataDownload
     
     public static int yearof;
 
-	// κατεβάζει όλα τα PDF αρχεία προϋπολογισμού (2023-2026) από το minfin.gov.gr
+	// links των PDF ανά έτος
+	static final Map<Integer, String> LINKS = new LinkedHashMap<>();
+	static {
+		LINKS.put(2023, "https://minfin.gov.gr/wp-content/uploads/2023/11/21-11-2022-ΚΡΑΤΙΚΟΣ-ΠΡΟΫΠΟΛΟΓΙΣΜΟΣ-2023.pdf");
+		LINKS.put(2024, "https://minfin.gov.gr/wp-content/uploads/2023/11/ΚΡΑΤΙΚΟΣ-ΠΡΟΥΠΟΛΟΓΙΣΜΟΣ-2024.pdf");
+		LINKS.put(2025, "https://minfin.gov.gr/wp-content/uploads/2024/11/Κρατικός-Προϋπολογισμός-2025_ΟΕ.pdf");
+		LINKS.put(2026, "https://minfin.gov.gr/wp-content/uploads/2025/11/Κρατικός-Προϋπολογισμός-2026.pdf");
+	}
+
+	// τα έτη που κατεβαίνουν στην αρχική εγκατάσταση
+	static final int[] YEARS = {2023, 2024, 2025};
+
+	// true αν το έτος είναι ένα από αυτά που κατεβαίνουν
+	public static boolean isDownloaded(int year)
+	{
+		for (int y : YEARS) {
+			if (y == year) return true;
+		}
+		return false;
+	}
+
+	// πόσα αρχεία κατεβαίνουν ταυτόχρονα (-Ddownload.workers=N)
+	static int workers = Integer.getInteger("download.workers", YEARS.length);
+
+	// μέγεθος των ουρών μεταξύ των σταδίων του pipeline (-Dingest.queue=N)
+	static int queueCapacity = Integer.getInteger("ingest.queue", 2);
+
+	// κατεβάζει όλα τα PDF αρχεία προϋπολογισμού από το minfin.gov.gr (παράλληλα) και τα μετατρέπει σε CSV
+	// όσα δεν άλλαξαν από την προηγούμενη φορά (σύμφωνα με το manifest) δεν ξανακατεβαίνουν
+	// και δεν ξαναμετατρέπονται
 	public void Download() throws IOException
 	{
-		for (int epilogi = 1; epilogi <=3; epilogi++ ) {
+		Download(null);
+	}
 
+	// όπως η Download(), με επιπλέον στάδιο εισαγωγής στη βάση (null = χωρίς εισαγωγή)
+	// τα στάδια download -> convert -> insert τρέχουν ταυτόχρονα για διαφορετικά έτη
+	public void Download(IngestionPipeline.YearStage insert) throws IOException
+	{
+		File directory = new File(".");
+		DownloadManifest manifest = DownloadManifest.load(directory);
+		PdfDownloader downloader = new PdfDownloader(1, directory);
+		downloader.setManifest(manifest);
+
+		IngestionPipeline pipeline = new IngestionPipeline(queueCapacity);
+		pipeline.addStage("download", workers, year -> download(downloader, year));
+		pipeline.addStage("convert", 1, year -> convert(manifest, downloader.fileFor(year), year));
+		if (insert != null) {
+			pipeline.addStage("insert", 1, insert);
+		}
 
+		System.out.println("downloading...");
+		try {
+			pipeline.run(YEARS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Download interrupted", e);
+		} finally {
+			manifest.save();
+		}
+		System.out.print(pipeline.report());
+	}
 
-		String link2026 = "https://minfin.gov.gr/wp-content/uploads/2025/11/Κρατικός-Προϋπολογισμός-2026.pdf";
-		String link2025 = "https://minfin.gov.gr/wp-content/uploads/2024/11/Κρατικός-Προϋπολογισμός-2025_ΟΕ.pdf";
-		String link2024 = "https://minfin.gov.gr/wp-content/uploads/2023/11/ΚΡΑΤΙΚΟΣ-ΠΡΟΥΠΟΛΟΓΙΣΜΟΣ-2024.pdf";
-		String link2023 = "https://minfin.gov.gr/wp-content/uploads/2023/11/21-11-2022-ΚΡΑΤΙΚΟΣ-ΠΡΟΫΠΟΛΟΓΙΣΜΟΣ-2023.pdf";
-		
-		String year;
+	// στάδιο download: αν αποτύχει, το έτος συνεχίζει με ό,τι αρχείο υπάρχει ήδη τοπικά
+	private static void download(PdfDownloader downloader, int year)
+	{
+		try {
+			downloader.download(year, LINKS.get(year), downloader.fileFor(year));
+			printBanner(year);
+		} catch (IOException e) {
+			System.err.println("Download failed for " + year + ": " + e);
+		}
+	}
 
-		if (epilogi == 1){
-			year= link2023;
-		} else if (epilogi == 2){
-			year= link2024;
-		} else if(epilogi == 3){
-			year= link2025;
-		} else{
-			year = link2026;
+	// στάδιο convert: παραλείπεται αν το CSV προέρχεται ήδη από το ίδιο PDF
+	// αποτυχία της μετατροπής = εξαίρεση, ώστε το pipeline να σταματήσει το έτος πριν από το insert
+	static void convert(DownloadManifest manifest, File pdf, int year) throws IOException
+	{
+		File csv = new File(pdf.getParentFile(), "proipologismos" + year + ".csv");
+		String pdfSha256 = null;
+		if (pdf.exists()) {
+			DownloadManifest.Entry entry = manifest.entry(year);
+			pdfSha256 = entry != null && entry.getPdfSha256() != null && entry.getPdfSize() == pdf.length()
+					? entry.getPdfSha256() : DownloadManifest.sha256(pdf);
+			if (manifest.isConverted(year, pdfSha256, csv, csvMode())) {
+				System.out.println("Ο προϋπολογισμός " + year + " δεν άλλαξε, παράλειψη μετατροπής.");
+				return;
+			}
+		}
+
+		yearof = year;
+		// αν η μετατροπή αποτύχει, το έτος δεν φτάνει στο insert με παλιό ή μισό CSV
+		if (!DataConvert.convertiontool(year)) {
+			throw new IOException("Conversion failed for " + year);
 		}
-		if (epilogi == 1){
-			yearof= 2023;
-		} else if (epilogi == 2){
-			yearof= 2024;
-		} else if (epilogi == 3){
-			yearof= 2025;
-		} else {
-			yearof = 2026;
+		if (pdfSha256 != null) {
+			manifest.recordConversion(year, pdf.length(), pdfSha256, DownloadManifest.sha256(csv), csvMode());
+		}
+	}
+
+	// full ή summary, όπως είναι ρυθμισμένη η DataConvert
+	private static String csvMode()
+	{
+		return DataConvert.isSummaryOnly() ? "summary" : "full";
+	}
+
+	// true αν όλα τα έτη έχουν κατέβει και μετατραπεί σύμφωνα με το manifest (χωρίς δίκτυο)
+	// χωρίς manifest (παλιές εγκαταστάσεις) αρκεί να υπάρχει το PDF του 2024 όπως πριν
+	public static boolean isProvisioned()
+	{
+		File directory = new File(".");
+		DownloadManifest manifest = DownloadManifest.load(directory);
+		if (!manifest.exists()) {
+			return new File(directory, "proipologismos2024.pdf").exists();
 		}
 
-		
-		
-		
-	
-
-		
-
-
-
-		try
-			{					
-					
-					
-				String url = year;
-				URLConnection connection = new URL(url).openConnection();
-				connection.setConnectTimeout(60000);
-				connection.setReadTimeout(60000);
-					
-       
-				InputStream input = connection.getInputStream();
-		
-		
-				File destination = new File("proipologismos"+yearof+".pdf");
-				FileOutputStream output = new FileOutputStream(destination, false);
-					
-				byte[] buffer = new byte[2048];
-				int read;
-				
-				System.out.println("downloading...");
-				while((read = input.read(buffer)) > -1)
-				{
-					output.write(buffer, 0, read);
-					}
-					if (epilogi==3) {
-					System.out.println(
-					" _               _            _     _____  _____  _____  _____ \n" +
-					"| |             | |          | |   / __  \\|  _  |/ __  \\|  ___|\n" +
-                   "| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'|___ \\ \n" +
-                   "| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /      \\ \\\n" +
-                   "| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___/\\__/ /\n" +
-                   "|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/\\____/ \n" +
-                   "                    __/ |                                      \n" +
-                   "                   |___/                                      ");}
-				   else if (epilogi==2) {
-					System.out.println(
-					" _               _            _     _____  _____  _____   ___ \n" +
-					"| |             | |          | |   / __  \\|  _  |/ __  \\ /   |\n" +
-					"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'/ /| |\n" +
-					"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / / / /_| |\n" +
-					"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /__\\___  |\n" +
-					"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/   |_/\n" +
-					"                    __/ |                                      \n" +
-					"                   |___/                                       \n" +
-					
-					"                                                               ");}
-					else if (epilogi==1) {
-						System.out.println(
-					" _               _            _     _____  _____  _____  _____ \n" +
-					"| |             | |          | |   / __  \\|  _  |/ __  \\|____ |\n" +
-					"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'    | |\n" +
-					"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /      \\ \\\n" +
-					"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___.___/ /\n" +
-					"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____\\/\\____/ \n" +
-					"                    __/ |                                      \n" +
-					"                   |___/                                       \n" +
-
-					"                                                               "
-					);
-						
-
-
-				
-				   } else if (epilogi ==4) {
-					System.out.println(
-        " _               _            _     _____  _____  _____   ____ \n" +
-        "| |             | |          | |   / __  \\|  _  |/ __  \\ / ___|\n" +
-        "| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'/ /___ \n" +
-        "| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /  | ___ \\\n" +
-        "| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___| \\_/ |\n" +
-        "|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/\\_____/\n" +
-        "                    __/ |                                      \n" +
-        "                   |___/                                       \n"
-);
-
-			
-				   }
-
-					
-				output.flush();
-				output.close();
-				input.close();
-				}
-				
-			catch (Exception e) 
-			{
-				e.printStackTrace();
+		for (int year : YEARS) {
+			DownloadManifest.Entry entry = manifest.entry(year);
+			File pdf = new File(directory, "proipologismos" + year + ".pdf");
+			File csv = new File(directory, "proipologismos" + year + ".csv");
+			if (entry == null || entry.getConvertedFrom() == null || !csv.exists()
+					|| !pdf.exists() || pdf.length() != entry.getPdfSize()) {
+				return false;
 			}
+		}
+		return true;
+	}
 
-			 DataConvert converter = new DataConvert();
-			 converter.convertiontool(yearof);
-			 
-			 
+	// τυπώνει το banner του έτους που κατέβηκε
+	private static void printBanner(int year)
+	{
+		if (year == 2023) {
+			System.out.println(
+				" _               _            _     _____  _____  _____  _____ \n" +
+				"| |             | |          | |   / __  \\|  _  |/ __  \\|____ |\n" +
+				"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'    | |\n" +
+				"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /      \\ \\\n" +
+				"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___.___/ /\n" +
+				"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____\\/\\____/ \n" +
+				"                    __/ |                                      \n" +
+				"                   |___/                                       \n" +
+				"                                                               "
+			);
+		} else if (year == 2024) {
+			System.out.println(
+				" _               _            _     _____  _____  _____   ___ \n" +
+				"| |             | |          | |   / __  \\|  _  |/ __  \\ /   |\n" +
+				"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'/ /| |\n" +
+				"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / / / /_| |\n" +
+				"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /__\\___  |\n" +
+				"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/   |_/\n" +
+				"                    __/ |                                      \n" +
+				"                   |___/                                       \n" +
+				"                                                               ");
+		} else if (year == 2025) {
+			System.out.println(
+				" _               _            _     _____  _____  _____  _____ \n" +
+				"| |             | |          | |   / __  \\|  _  |/ __  \\|  ___|\n" +
+				"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'|___ \\ \n" +
+				"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /      \\ \\\n" +
+				"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___/\\__/ /\n" +
+				"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/\\____/ \n" +
+				"                    __/ |                                      \n" +
+				"                   |___/                                      ");
+		} else if (year == 2026) {
+			System.out.println(
+				" _               _            _     _____  _____  _____   ____ \n" +
+				"| |             | |          | |   / __  \\|  _  |/ __  \\ / ___|\n" +
+				"| |__  _   _  __| | __ _  ___| |_  `' / /'| |/' |`' / /'/ /___ \n" +
+				"| '_ \\| | | |/ _` |/ _` |/ _ \\ __|   / /  |  /| |  / /  | ___ \\\n" +
+				"| |_) | |_| | (_| | (_| |  __/ |_  ./ /___\\ |_/ /./ /___| \\_/ |\n" +
+				"|_.__/ \\__,_|\\__,_|\\__, |\\___|\\__| \\_____/ \\___/ \\_____/\\_____/\n" +
+				"                    __/ |                                      \n" +
+				"                   |___/                                       \n"
+			);
 		}
-		
-    
-	
 	}
 
   
 }
-
@@ -1,34 +1,164 @@
 package ui;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 // βοηθητική κλάση για τη διαχείριση συνδέσεων με τη βάση δεδομένων
+// οι συνδέσεις δίνονται από ένα ConnectionPool: το close() τις επιστρέφει για επαναχρησιμοποίηση
+// - getReadConnection: pool συνδέσεων μόνο για ανάγνωση (query_only), για οθόνες και αναφορές
+// - write / submitWrite: οι εγγραφές της εφαρμογής περνούν από τον μοναδικό DatabaseWriter,
+//   ώστε να μην ανταγωνίζονται μεταξύ τους για το κλείδωμα εγγραφής (σε WAL οι αναγνώσεις δεν περιμένουν)
+// - getConnection: σύνδεση ανάγνωσης/εγγραφής για migrations και εργαλεία γραμμής εντολών
+// ρυθμίσεις (system properties):
+//   budget.db.path                αρχείο της βάσης (προεπιλογή src/main/resources/database/BudgetData.db)
+//   budget.db.mode                "file" (προεπιλογή) ή "memory": η βάση φορτώνεται στη μνήμη (InMemoryDatabase)
+//   budget.db.memory.persistMillis  σε "memory", κάθε πότε γράφονται οι αλλαγές στο αρχείο,
+//                                 0 = μόνο στο κλείσιμο, < 0 = ποτέ (προεπιλογή 5000)
+//   budget.db.pool.size           μέγιστος αριθμός συνδέσεων (προεπιλογή 8)
+//   budget.db.pool.timeoutMillis  αναμονή για ελεύθερη σύνδεση (προεπιλογή 30000)
+//   budget.db.pool.leakMillis     όριο για αναφορά διαρροής, 0 = ανενεργό (προεπιλογή 60000)
+//   budget.db.pool.statementCache PreparedStatement που κρατά κάθε σύνδεση, 0 = χωρίς cache (προεπιλογή 64)
+//   budget.db.profile             "tuned" (προεπιλογή) ή "default" για τις ρυθμίσεις της SQLite
+//   budget.db.pragma.<όνομα>      αλλάζει ένα pragma του προφίλ, π.χ. -Dbudget.db.pragma.mmap_size=0
+//   budget.db.instrument          μέτρηση χρόνου ανά query στο QueryMetrics (προεπιλογή true)
+//   budget.db.slowQueryMillis     όριο για το slow query log, 0 = ανενεργό (προεπιλογή 200)
+//   budget.db.queryStats          τυπώνει τα 20 πιο χρονοβόρα queries στο κλείσιμο (προεπιλογή false)
 public class DatabaseConnection {
-    
-    // URL σύνδεσης με τη βάση δεδομένων 
-    private static final String DB_URL = "jdbc:sqlite:src/main/resources/database/BudgetData.db";
-    
+
+    // αρχείο της βάσης δεδομένων
+    private static final String DEFAULT_DB_PATH = "src/main/resources/database/BudgetData.db";
+    private static final File DB_FILE = new File(System.getProperty("budget.db.path", DEFAULT_DB_PATH));
+    private static final boolean IN_MEMORY = "memory".equalsIgnoreCase(System.getProperty("budget.db.mode", "file"));
+    private static final long DEFAULT_PERSIST_MILLIS = 5_000;
+
+    private static final int DEFAULT_POOL_SIZE = 8;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+    private static final long DEFAULT_LEAK_MILLIS = 60_000;
+    private static final int DEFAULT_STATEMENT_CACHE = 64;
+    private static final long DEFAULT_SLOW_QUERY_MILLIS = 200;
+    private static final int QUERY_STATS_TOP = 20;
+
+    // προφίλ απόδοσης: pragmas που εφαρμόζονται σε κάθε νέα φυσική σύνδεση, με αυτή τη σειρά
+    // - busy_timeout πρώτο, ώστε και η αλλαγή σε WAL να περιμένει αντί να αποτύχει με SQLITE_BUSY
+    // - WAL: οι αναγνώσεις δεν μπλοκάρουν την εγγραφή, και με synchronous=NORMAL δεν γίνεται fsync σε κάθε commit
+    //   (μετά από διακοπή ρεύματος μπορεί να χαθεί το τελευταίο commit, όχι να χαλάσει η βάση)
+    // - mmap_size και cache_size (σε KB όταν είναι αρνητικό) χωράνε όλη τη βάση στη μνήμη
+    private static final String[][] TUNED_PROFILE = {
+            {"busy_timeout", "5000"},
+            {"journal_mode", "WAL"},
+            {"synchronous", "NORMAL"},
+            {"mmap_size", "268435456"},
+            {"cache_size", "-16384"},
+            {"temp_store", "MEMORY"},
+    };
+
+    private static final Pattern PRAGMA_NAME = Pattern.compile("[a-z_]+");
+    private static final Pattern PRAGMA_VALUE = Pattern.compile("-?[A-Za-z0-9_]+");
+
+    private static volatile Map<String, String> profile = defaultProfile();
+    private static final QueryMetrics queryMetrics =
+            new QueryMetrics(Long.getLong("budget.db.slowQueryMillis", DEFAULT_SLOW_QUERY_MILLIS));
+    private static ConnectionPool pool;
+    private static ConnectionPool readPool;
+    private static DatabaseWriter writer;
+    private static InMemoryDatabase memory;
+    private static boolean shutdownHookInstalled;
+
     private DatabaseConnection() {
-        // utility class 
+        // utility class
     }
-    
-    // επιστρέφει το URL της βάσης 
+
+    // επιστρέφει το URL της βάσης
     public static String getDatabaseUrl() {
-        return DB_URL;
+        return IN_MEMORY ? InMemoryDatabase.urlFor(DB_FILE) : "jdbc:sqlite:" + DB_FILE.getPath();
     }
-    
-    // δημιουργεί και επιστρέφει μια νέα σύνδεση με τη βάση 
+
+    public static File getDatabaseFile() {
+        return DB_FILE;
+    }
+
+    public static boolean isInMemory() {
+        return IN_MEMORY;
+    }
+
+    // σε λειτουργία "memory" γράφει τώρα τις αλλαγές στο αρχείο, επιστρέφει αν υπήρχαν
+    public static boolean persist() throws SQLException {
+        InMemoryDatabase database;
+        synchronized (DatabaseConnection.class) {
+            database = memory;
+        }
+        return database != null && database.persist();
+    }
+
+    // δίνει μια σύνδεση από το pool (νέα μόνο αν δεν υπάρχει αδρανής)
     public static Connection getConnection() throws SQLException {
         try {
-            return DriverManager.getConnection(DB_URL);
+            return pool().acquire();
+        } catch (SQLException e) {
+            System.err.println("Error connecting to database: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    // σύνδεση μόνο για ανάγνωση: κάθε INSERT/UPDATE/DELETE αποτυγχάνει
+    public static Connection getReadConnection() throws SQLException {
+        try {
+            return readPool().acquire();
         } catch (SQLException e) {
             System.err.println("Error connecting to database: " + e.getMessage());
             throw e;
         }
     }
-    
+
+    // εκτελεί την εγγραφή στο νήμα του εγγραφέα και περιμένει το commit
+    // η εργασία δεν πρέπει να ανοίγει άλλη σύνδεση για εγγραφή: θα περίμενε το κλείδωμα που κρατά ο εγγραφέας
+    public static <T> T write(DatabaseWriter.WriteTask<T> task) throws SQLException {
+        return writer().execute(task);
+    }
+
+    // όπως η write, χωρίς αναμονή
+    public static <T> CompletableFuture<T> submitWrite(DatabaseWriter.WriteTask<T> task) {
+        return writer().submit(task);
+    }
+
+    // νέα φυσική σύνδεση, εκτός pool, με το προφίλ απόδοσης
+    static Connection openConnection() throws SQLException {
+        return open(false);
+    }
+
+    static Connection openReadConnection() throws SQLException {
+        return open(true);
+    }
+
+    private static Connection open(boolean readOnly) throws SQLException {
+        if (IN_MEMORY) {
+            memoryDatabase();
+        }
+        Connection connection = DriverManager.getConnection(getDatabaseUrl());
+        try {
+            applyProfile(connection, profile);
+            if (readOnly) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA query_only = 1");
+                }
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return Boolean.parseBoolean(System.getProperty("budget.db.instrument", "true"))
+                ? queryMetrics.instrument(connection)
+                : connection;
+    }
+
     // κλείνει μια σύνδεση με τη βάση με ασφαλή τρόπο
     public static void closeConnection(Connection connection) {
         if (connection != null) {
@@ -39,5 +169,189 @@ public class DatabaseConnection {
             }
         }
     }
-}
 
+    // =========================================================
+    // ΠΡΟΦΙΛ ΑΠΟΔΟΣΗΣ
+    // =========================================================
+
+    // το προφίλ από τα system properties
+    static Map<String, String> defaultProfile() {
+        Map<String, String> pragmas = new LinkedHashMap<>();
+        if (!"default".equalsIgnoreCase(System.getProperty("budget.db.profile", "tuned"))) {
+            for (String[] pragma : TUNED_PROFILE) {
+                pragmas.put(pragma[0], pragma[1]);
+            }
+        }
+        String prefix = "budget.db.pragma.";
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                pragmas.put(key.substring(prefix.length()), System.getProperty(key));
+            }
+        }
+        return Collections.unmodifiableMap(pragmas);
+    }
+
+    public static Map<String, String> getProfile() {
+        return profile;
+    }
+
+    // νέο προφίλ (κενό = ρυθμίσεις της SQLite), ισχύει για τις συνδέσεις που θα ανοίξουν από εδώ και πέρα
+    // οι αδρανείς συνδέσεις του pool κλείνουν
+    public static void setProfile(Map<String, String> pragmas) {
+        for (Map.Entry<String, String> pragma : pragmas.entrySet()) {
+            checkPragma(pragma.getKey(), pragma.getValue());
+        }
+        profile = Collections.unmodifiableMap(new LinkedHashMap<>(pragmas));
+        shutdownPool();
+    }
+
+    // εφαρμόζει τα pragmas σε μια σύνδεση
+    public static void applyProfile(Connection connection, Map<String, String> pragmas) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> pragma : pragmas.entrySet()) {
+                checkPragma(pragma.getKey(), pragma.getValue());
+                statement.execute("PRAGMA " + pragma.getKey() + " = " + pragma.getValue());
+            }
+        }
+    }
+
+    // οι τιμές μπαίνουν στο SQL, οπότε επιτρέπονται μόνο απλά ονόματα και αριθμοί
+    private static void checkPragma(String name, String value) {
+        if (name == null || !PRAGMA_NAME.matcher(name).matches()
+                || value == null || !PRAGMA_VALUE.matcher(value).matches()) {
+            throw new IllegalArgumentException("Invalid pragma: " + name + " = " + value);
+        }
+    }
+
+    // =========================================================
+    // POOL
+    // =========================================================
+
+    private static synchronized ConnectionPool pool() {
+        if (pool == null) {
+            pool = newPool(DatabaseConnection::openConnection,
+                    Integer.getInteger("budget.db.pool.size", DEFAULT_POOL_SIZE),
+                    Long.getLong("budget.db.pool.timeoutMillis", DEFAULT_TIMEOUT_MILLIS),
+                    Long.getLong("budget.db.pool.leakMillis", DEFAULT_LEAK_MILLIS));
+        }
+        return pool;
+    }
+
+    private static synchronized ConnectionPool readPool() {
+        if (readPool == null) {
+            readPool = newPool(DatabaseConnection::openReadConnection,
+                    Integer.getInteger("budget.db.pool.size", DEFAULT_POOL_SIZE),
+                    Long.getLong("budget.db.pool.timeoutMillis", DEFAULT_TIMEOUT_MILLIS),
+                    Long.getLong("budget.db.pool.leakMillis", DEFAULT_LEAK_MILLIS));
+        }
+        return readPool;
+    }
+
+    private static synchronized DatabaseWriter writer() {
+        if (writer == null) {
+            installShutdownHook();
+            writer = new DatabaseWriter(DatabaseConnection::openConnection);
+        }
+        return writer;
+    }
+
+    private static ConnectionPool newPool(ConnectionPool.ConnectionFactory factory, int maxSize,
+            long acquireTimeoutMillis, long leakThresholdMillis) {
+        installShutdownHook();
+        return new ConnectionPool(factory, maxSize, acquireTimeoutMillis, leakThresholdMillis,
+                Integer.getInteger("budget.db.pool.statementCache", DEFAULT_STATEMENT_CACHE));
+    }
+
+    // η βάση στη μνήμη φορτώνεται με την πρώτη σύνδεση
+    private static synchronized InMemoryDatabase memoryDatabase() throws SQLException {
+        if (memory == null) {
+            installShutdownHook();
+            memory = new InMemoryDatabase(DB_FILE,
+                    Long.getLong("budget.db.memory.persistMillis", DEFAULT_PERSIST_MILLIS));
+        }
+        return memory;
+    }
+
+    private static void closeMemoryDatabase() {
+        InMemoryDatabase previous;
+        synchronized (DatabaseConnection.class) {
+            previous = memory;
+            memory = null;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    private static void installShutdownHook() {
+        if (!shutdownHookInstalled) {
+            shutdownHookInstalled = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                shutdownPool();
+                closeMemoryDatabase();
+                if (Boolean.getBoolean("budget.db.queryStats")) {
+                    queryMetrics.dump(System.out, QUERY_STATS_TOP);
+                }
+            }, "connection-pool-shutdown"));
+        }
+    }
+
+    // αλλάζει μέγεθος και όρια των pools, οι συνδέσεις σε χρήση κλείνουν όταν επιστραφούν
+    public static synchronized void configurePool(int maxSize, long acquireTimeoutMillis, long leakThresholdMillis) {
+        ConnectionPool previous = pool;
+        ConnectionPool previousRead = readPool;
+        pool = newPool(DatabaseConnection::openConnection, maxSize, acquireTimeoutMillis, leakThresholdMillis);
+        readPool = newPool(DatabaseConnection::openReadConnection, maxSize, acquireTimeoutMillis, leakThresholdMillis);
+        if (previous != null) {
+            previous.shutdown();
+        }
+        if (previousRead != null) {
+            previousRead.shutdown();
+        }
+    }
+
+    // ολοκληρώνει τις εγγραφές της ουράς και κλείνει τις αδρανείς συνδέσεις
+    // το επόμενο getConnection/write ξεκινά από την αρχή
+    // ο εγγραφέας σταματά εκτός κλειδώματος, ώστε οι εργασίες της ουράς να μπορούν ακόμη να ζητήσουν σύνδεση
+    public static void shutdownPool() {
+        DatabaseWriter previousWriter;
+        ConnectionPool previous;
+        ConnectionPool previousRead;
+        synchronized (DatabaseConnection.class) {
+            previousWriter = writer;
+            previous = pool;
+            previousRead = readPool;
+            writer = null;
+            pool = null;
+            readPool = null;
+        }
+        if (previousWriter != null) {
+            previousWriter.shutdown();
+        }
+        if (previous != null) {
+            previous.shutdown();
+        }
+        if (previousRead != null) {
+            previousRead.shutdown();
+        }
+    }
+
+    // μετρικές: συνδέσεις σε χρήση, χρόνος αναμονής, διαρροές
+    public static synchronized ConnectionPool.Stats getPoolStats() {
+        return pool().getStats();
+    }
+
+    public static synchronized ConnectionPool.Stats getReadPoolStats() {
+        return readPool().getStats();
+    }
+
+    // χρόνοι ανά σχήμα query, για όλες τις συνδέσεις της εφαρμογής
+    public static QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    // τυπώνει τα n queries με τον μεγαλύτερο συνολικό χρόνο
+    public static void printQueryStats(int n) {
+        queryMetrics.dump(System.out, n);
+    }
+}
@@ -0,0 +1,232 @@
+package ui;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// ο μοναδικός εγγραφέας της βάσης: ένα νήμα με δική του σύνδεση και μια ουρά εργασιών εγγραφής
+// όσες εργασίες περιμένουν στην ουρά εκτελούνται μαζί σε μία συναλλαγή (group commit),
+// οπότε πολλές μικρές εγγραφές (π.χ. η ανανέωση των διεθνών δεδομένων) κάνουν ένα commit αντί για ένα η καθεμία
+// - κάθε εργασία τρέχει σε δικό της SAVEPOINT: αν αποτύχει αναιρείται μόνο αυτή
+// - το αποτέλεσμα δίνεται στον καλούντα μετά το commit
+// - οι εργασίες δεν κάνουν commit/rollback ούτε αλλάζουν το autoCommit της σύνδεσης
+public class DatabaseWriter {
+
+    // μια εργασία εγγραφής, τρέχει στο νήμα του εγγραφέα
+    public interface WriteTask<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    // μέγιστος αριθμός εργασιών σε μία συναλλαγή
+    private static final int MAX_BATCH = 256;
+
+    private final ConnectionPool.ConnectionFactory factory;
+    private final BlockingQueue<Pending<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    // ο έλεγχος του running και η προσθήκη στην ουρά γίνονται με το lock, όπως και το σταμάτημα,
+    // ώστε καμία εργασία να μη μπει στην ουρά αφού ο εγγραφέας την έχει αδειάσει για τελευταία φορά
+    private final Object lock = new Object();
+    private volatile boolean running = true;
+    private Connection connection; // μόνο από το νήμα του εγγραφέα
+
+    // μετρικές
+    private final LongAdder tasks = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+
+    public DatabaseWriter(ConnectionPool.ConnectionFactory factory) {
+        this.factory = factory;
+        this.thread = new Thread(this::loop, "database-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // =========================================================
+    // ΥΠΟΒΟΛΗ ΕΡΓΑΣΙΩΝ
+    // =========================================================
+
+    public <T> CompletableFuture<T> submit(WriteTask<T> task) {
+        Pending<T> pending = new Pending<>(task);
+        synchronized (lock) {
+            if (running) {
+                queue.add(pending);
+                return pending.future;
+            }
+        }
+        pending.future.completeExceptionally(new SQLException("Database writer is shut down"));
+        return pending.future;
+    }
+
+    // υποβάλλει και περιμένει το commit
+    // από το νήμα του εγγραφέα (εργασία μέσα σε εργασία) εκτελείται αμέσως, στην ίδια συναλλαγή
+    public <T> T execute(WriteTask<T> task) throws SQLException {
+        if (Thread.currentThread() == thread) {
+            return task.run(connection);
+        }
+        try {
+            return submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database write", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) throw (SQLException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new SQLException(cause);
+        }
+    }
+
+    // εκτελεί ό,τι έχει μείνει στην ουρά και κλείνει τη σύνδεση
+    public void shutdown() {
+        synchronized (lock) {
+            running = false;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getTasks() {
+        return tasks.sum();
+    }
+
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    // =========================================================
+    // ΝΗΜΑ ΕΓΓΡΑΦΕΑ
+    // =========================================================
+
+    private void loop() {
+        List<Pending<?>> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                runBatch(batch);
+            } catch (InterruptedException e) {
+                // συνεχίζει μέχρι να αδειάσει η ουρά
+            } finally {
+                batch.clear();
+            }
+        }
+        close();
+        // μετά το running = false δεν μπαίνει τίποτα στην ουρά, οπότε αυτό είναι το τελευταίο άδειασμα
+        // (π.χ. αν το νήμα διακόπηκε πριν τρέξει ό,τι είχε μείνει)
+        List<Pending<?>> late = new ArrayList<>();
+        synchronized (lock) {
+            queue.drainTo(late);
+        }
+        for (Pending<?> pending : late) {
+            pending.future.completeExceptionally(new SQLException("Database writer is shut down"));
+        }
+    }
+
+    private void runBatch(List<Pending<?>> batch) {
+        Connection conn;
+        try {
+            conn = connection();
+        } catch (SQLException e) {
+            for (Pending<?> pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        try (Statement savepoints = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            for (Pending<?> pending : batch) {
+                savepoints.execute("SAVEPOINT task");
+                try {
+                    pending.run(conn);
+                    savepoints.execute("RELEASE task");
+                } catch (Throwable e) {
+                    savepoints.execute("ROLLBACK TO task");
+                    savepoints.execute("RELEASE task");
+                    pending.error = e;
+                }
+            }
+            conn.commit();
+            commits.increment();
+            tasks.add(batch.size());
+            for (Pending<?> pending : batch) {
+                pending.complete();
+            }
+        } catch (SQLException | RuntimeException e) {
+            // αποτυχία του commit: καμία εργασία της παρτίδας δεν γράφτηκε
+            try {
+                conn.rollback();
+            } catch (SQLException rollback) {
+                e.addSuppressed(rollback);
+            }
+            for (Pending<?> pending : batch) {
+                pending.future.completeExceptionally(pending.error != null ? pending.error : e);
+            }
+        } finally {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                System.err.println("Database writer connection lost: " + e.getMessage());
+                close();
+            }
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = factory.open();
+        }
+        return connection;
+    }
+
+    private void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing database connection: " + e.getMessage());
+            }
+            connection = null;
+        }
+    }
+
+    private static final class Pending<T> {
+        final WriteTask<T> task;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        T result;
+        Throwable error;
+
+        Pending(WriteTask<T> task) {
+            this.task = task;
+        }
+
+        void run(Connection connection) throws SQLException {
+            result = task.run(connection);
+        }
+
+        void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package ui;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+// τοπικό manifest με ό,τι ξέρουμε για το PDF και το CSV κάθε έτους
+// κρατά ETag/Last-Modified για conditional GET και SHA-256 ώστε να μη γίνεται
+// ξανά μετατροπή όταν το PDF δεν έχει αλλάξει
+public class DownloadManifest {
+
+    public static final String FILE_NAME = "proipologismos-manifest.json";
+
+    // στοιχεία ενός έτους (αλλάζουν μόνο μέσα από τις synchronized μεθόδους του manifest)
+    public static class Entry {
+        String url;
+        String etag;
+        String lastModified;
+        long pdfSize = -1;
+        String pdfSha256;
+        String convertedFrom;
+        String csvSha256;
+        String csvMode;
+
+        public String getUrl() { return url; }
+        public String getEtag() { return etag; }
+        public String getLastModified() { return lastModified; }
+        public long getPdfSize() { return pdfSize; }
+        public String getPdfSha256() { return pdfSha256; }
+        public String getConvertedFrom() { return convertedFrom; }
+        public String getCsvSha256() { return csvSha256; }
+        public String getCsvMode() { return csvMode; }
+    }
+
+    private final File file;
+    private final Map<Integer, Entry> entries = new TreeMap<>();
+    private boolean dirty;
+
+    private DownloadManifest(File file) {
+        this.file = file;
+    }
+
+    // φορτώνει το manifest του φακέλου (κενό αν δεν υπάρχει ή δεν διαβάζεται)
+    public static DownloadManifest load(File directory) {
+        DownloadManifest manifest = new DownloadManifest(new File(directory, FILE_NAME));
+        if (!manifest.file.exists()) return manifest;
+
+        try {
+            String text = new String(Files.readAllBytes(manifest.file.toPath()), StandardCharsets.UTF_8);
+            JSONObject root = new JSONObject(text);
+            for (String key : root.keySet()) {
+                JSONObject json = root.getJSONObject(key);
+                Entry entry = new Entry();
+                entry.url = json.optString("url", null);
+                entry.etag = json.optString("etag", null);
+                entry.lastModified = json.optString("lastModified", null);
+                entry.pdfSize = json.optLong("pdfSize", -1);
+                entry.pdfSha256 = json.optString("pdfSha256", null);
+                entry.convertedFrom = json.optString("convertedFrom", null);
+                entry.csvSha256 = json.optString("csvSha256", null);
+                entry.csvMode = json.optString("csvMode", "full");
+                manifest.entries.put(Integer.parseInt(key), entry);
+            }
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable manifest " + manifest.file + ": " + e.getMessage());
+            manifest.entries.clear();
+        }
+        return manifest;
+    }
+
+    // true αν υπάρχει αποθηκευμένο manifest
+    public boolean exists() {
+        return file.exists();
+    }
+
+    // τα στοιχεία ενός έτους ή null
+    public synchronized Entry entry(int year) {
+        return entries.get(year);
+    }
+
+    // καταγράφει ένα PDF που μόλις κατέβηκε
+    public synchronized void recordDownload(int year, String url, String etag, String lastModified,
+            long pdfSize, String pdfSha256) {
+        Entry entry = entries.computeIfAbsent(year, y -> new Entry());
+        entry.url = url;
+        entry.etag = etag;
+        entry.lastModified = lastModified;
+        entry.pdfSize = pdfSize;
+        entry.pdfSha256 = pdfSha256;
+        dirty = true;
+    }
+
+    // καταγράφει ότι το CSV παράχθηκε από το PDF με το συγκεκριμένο hash (mode = full ή summary)
+    public synchronized void recordConversion(int year, long pdfSize, String pdfSha256, String csvSha256,
+            String mode) {
+        Entry entry = entries.computeIfAbsent(year, y -> new Entry());
+        entry.pdfSize = pdfSize;
+        entry.pdfSha256 = pdfSha256;
+        entry.convertedFrom = pdfSha256;
+        entry.csvSha256 = csvSha256;
+        entry.csvMode = mode;
+        dirty = true;
+    }
+
+    // true αν το τοπικό PDF είναι αυτό που καταγράφηκε για το link (ίδιο μέγεθος)
+    // μόνο τότε έχει νόημα να σταλεί conditional GET
+    public synchronized boolean hasPdf(int year, String url, File pdf) {
+        Entry entry = entries.get(year);
+        return entry != null && url.equals(entry.url) && pdf.exists() && pdf.length() == entry.pdfSize;
+    }
+
+    // true αν το CSV υπάρχει, δεν έχει πειραχτεί και προέρχεται από PDF με αυτό το hash
+    // ένα summary CSV δεν αρκεί όταν ζητείται full
+    public boolean isConverted(int year, String pdfSha256, File csv, String mode) throws IOException {
+        String convertedFrom;
+        String csvSha256;
+        String csvMode;
+        synchronized (this) {
+            Entry entry = entries.get(year);
+            if (entry == null) return false;
+            convertedFrom = entry.convertedFrom;
+            csvSha256 = entry.csvSha256;
+            csvMode = entry.csvMode;
+        }
+        boolean modeOk = "full".equals(csvMode) || mode.equals(csvMode);
+        return modeOk && pdfSha256 != null && pdfSha256.equals(convertedFrom)
+                && csv.exists() && sha256(csv).equals(csvSha256);
+    }
+
+    // γράφει το manifest αν άλλαξε (πρώτα σε προσωρινό αρχείο ώστε να μη μείνει μισό)
+    public synchronized void save() throws IOException {
+        if (!dirty) return;
+
+        JSONObject root = new JSONObject();
+        for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            JSONObject json = new JSONObject();
+            json.putOpt("url", entry.url);
+            json.putOpt("etag", entry.etag);
+            json.putOpt("lastModified", entry.lastModified);
+            json.put("pdfSize", entry.pdfSize);
+            json.putOpt("pdfSha256", entry.pdfSha256);
+            json.putOpt("convertedFrom", entry.convertedFrom);
+            json.putOpt("csvSha256", entry.csvSha256);
+            json.putOpt("csvMode", entry.csvMode);
+            root.put(String.valueOf(e.getKey()), json);
+        }
+
+        File tmp = new File(file.getPath() + ".tmp");
+        Files.write(tmp.toPath(), root.toString(2).getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        dirty = false;
+    }
+
+    // SHA-256 ενός αρχείου σε hex
+    public static String sha256(File f) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[256 * 1024];
+        try (InputStream in = Files.newInputStream(f.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) > -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
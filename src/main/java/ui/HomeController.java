@@ -600,8 +600,6 @@ public class HomeController {
         budgetData = BudgetData.getInstance();
         userData = UserData.getInstance();
         
-        initializePublishedYearsTable();
-        
         if (headerTitleLabel != null) {
             headerTitleLabel.setText("Κρατικός Προϋπολογισμός του 2025");
         }
@@ -870,42 +868,9 @@ public class HomeController {
     }
     
     
-    private void initializePublishedYearsTable() {
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement()) {
-            
-            String sql = "CREATE TABLE IF NOT EXISTS published_years (" +
-                        "year INTEGER PRIMARY KEY)";
-            stmt.execute(sql);
-            
-            String customCategoriesSql = "CREATE TABLE IF NOT EXISTS custom_categories (" +
-                                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                                        "category_name TEXT NOT NULL," +
-                                        "year INTEGER NOT NULL," +
-                                        "type TEXT NOT NULL," +
-                                        "amount REAL NOT NULL DEFAULT 0," +
-                                        "comments TEXT," +
-                                        "created_at DATETIME DEFAULT CURRENT_TIMESTAMP," +
-                                        "updated_at DATETIME DEFAULT CURRENT_TIMESTAMP," +
-                                        "UNIQUE(category_name, year, type)" +
-                                        ")";
-            stmt.execute(customCategoriesSql);
-            
-            Set<Integer> existingYears = getPublishedYears();
-            for (int year = 2023; year <= 2026; year++) {
-                if (!existingYears.contains(year)) {
-                    String insertSql = "INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")";
-                    stmt.execute(insertSql);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-    
     private Set<Integer> getPublishedYears() {
         Set<Integer> publishedYears = new HashSet<>();
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT year FROM published_years")) {
             
@@ -913,8 +878,8 @@ public class HomeController {
                 publishedYears.add(rs.getInt("year"));
             }
         } catch (Exception e) {
-            initializePublishedYearsTable();
-            try (Connection connection = DatabaseConnection.getConnection();
+            SchemaMigrations.ensureMigrated();
+            try (Connection connection = DatabaseConnection.getReadConnection();
                  Statement stmt = connection.createStatement();
                  ResultSet rs = stmt.executeQuery("SELECT year FROM published_years")) {
                 
@@ -935,7 +900,7 @@ public class HomeController {
     // παίρνει τα διαθέσιμα έτη από τη βάση
     private List<String> getAvailableYearsFromDatabase() {
         List<String> availableYears = new ArrayList<>();
-        try (Connection connection = DatabaseConnection.getConnection()) {
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
             DatabaseMetaData meta = connection.getMetaData();
             
             for (int year = 2020; year <= 2030; year++) {
@@ -968,11 +933,13 @@ public class HomeController {
     }
     
     private void publishYear(int year) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             Statement stmt = connection.createStatement()) {
-            
-            String sql = "INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")";
-            stmt.execute(sql);
+        try {
+            DatabaseConnection.write(connection -> {
+                try (Statement stmt = connection.createStatement()) {
+                    String sql = "INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")";
+                    return stmt.execute(sql);
+                }
+            });
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -2862,7 +2829,7 @@ public class HomeController {
             if (internationalYearComboBox != null) {
                 internationalYearComboBox.getItems().clear();
                 String sql = "SELECT DISTINCT year FROM international_indicators ORDER BY year DESC";
-                try (Connection conn = DatabaseConnection.getConnection();
+                try (Connection conn = DatabaseConnection.getReadConnection();
                      Statement stmt = conn.createStatement();
                      ResultSet rs = stmt.executeQuery(sql)) {
                     while (rs.next()) {
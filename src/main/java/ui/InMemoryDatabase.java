@@ -0,0 +1,118 @@
+package ui;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// αντίγραφο της βάσης στη μνήμη: στην αρχή φορτώνεται από το αρχείο με το backup API της SQLite
+// και όλες οι συνδέσεις της εφαρμογής δουλεύουν πάνω του (memdb VFS, κοινό για τις συνδέσεις της ίδιας JVM)
+// οι αλλαγές γράφονται πίσω στο αρχείο περιοδικά (αν υπάρχουν) και στο κλείσιμο
+// - η βάση ζει όσο είναι ανοιχτή η σύνδεση anchor, που χρησιμοποιείται μόνο για φόρτωση/αποθήκευση
+// - PRAGMA data_version στην anchor αλλάζει όταν κάποια άλλη σύνδεση κάνει commit, οπότε
+//   το αρχείο ξαναγράφεται μόνο όταν χρειάζεται
+// - persistMillis: > 0 περιοδική αποθήκευση, 0 μόνο στο κλείσιμο, < 0 ποτέ (π.χ. για τα tests)
+final class InMemoryDatabase {
+
+    private final File file;
+    private final String url;
+    private final long persistMillis;
+    private final Connection anchor;
+    private final ScheduledExecutorService persister;
+    private long persistedVersion;
+    private boolean closed;
+
+    InMemoryDatabase(File file, long persistMillis) throws SQLException {
+        this.file = file;
+        this.url = urlFor(file);
+        this.persistMillis = persistMillis;
+        this.anchor = DriverManager.getConnection(url);
+        try {
+            if (file.exists()) {
+                long start = System.nanoTime();
+                BudgetSnapshot.restore(anchor, file);
+                System.out.printf("Loaded %s into memory in %d ms%n", file.getPath(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            persistedVersion = dataVersion();
+        } catch (SQLException e) {
+            anchor.close();
+            throw e;
+        }
+
+        if (persistMillis > 0) {
+            persister = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "database-persister");
+                thread.setDaemon(true);
+                return thread;
+            });
+            persister.scheduleWithFixedDelay(() -> {
+                try {
+                    persist();
+                } catch (SQLException e) {
+                    System.err.println("Error saving in-memory database: " + e.getMessage());
+                }
+            }, persistMillis, persistMillis, TimeUnit.MILLISECONDS);
+        } else {
+            persister = null;
+        }
+    }
+
+    // ίδιο όνομα αρχείου -> ίδια βάση στη μνήμη (χωρίς χαρακτήρες που έχουν σημασία σε URI)
+    static String urlFor(File file) {
+        return "jdbc:sqlite:file:/" + file.getName().replaceAll("[^A-Za-z0-9._-]", "_") + "?vfs=memdb";
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    // γράφει τη βάση στο αρχείο αν άλλαξε από την τελευταία φορά, επιστρέφει αν γράφτηκε
+    synchronized boolean persist() throws SQLException {
+        if (closed || persistMillis < 0) return false;
+        long version = dataVersion();
+        if (version == persistedVersion) return false;
+        long start = System.nanoTime();
+        BudgetSnapshot.backup(anchor, file);
+        persistedVersion = version;
+        System.out.printf("Saved in-memory database to %s in %d ms%n", file.getPath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    // τελευταία αποθήκευση και αποδέσμευση της μνήμης
+    // οι συνδέσεις που είναι ακόμη ανοιχτές κρατούν τη βάση μέχρι να κλείσουν
+    synchronized void close() {
+        if (closed) return;
+        if (persister != null) {
+            persister.shutdownNow();
+        }
+        try {
+            persist();
+        } catch (SQLException e) {
+            System.err.println("Error saving in-memory database: " + e.getMessage());
+        }
+        closed = true;
+        try {
+            anchor.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    private long dataVersion() throws SQLException {
+        try (Statement stmt = anchor.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA data_version")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// pipeline εισαγωγής προϋπολογισμών ανά έτος (π.χ. download -> convert -> insert)
+// κάθε στάδιο έχει τους δικούς του workers και διαβάζει από bounded ουρά, οπότε
+// όσο κατεβαίνει το έτος N+1 μετατρέπεται το N και εισάγεται το N-1
+// στο τέλος κρατά throughput ανά στάδιο και βάθος ουρών για να φαίνεται το bottleneck
+public class IngestionPipeline {
+
+    // η δουλειά ενός σταδίου για ένα έτος
+    // αν πετάξει εξαίρεση, το έτος καταγράφεται ως αποτυχία και δεν προχωρά στα επόμενα στάδια
+    public interface YearStage {
+        void process(int year) throws Exception;
+    }
+
+    // τέλος δεδομένων στις ουρές
+    private static final int END = Integer.MIN_VALUE;
+
+    private final int queueCapacity;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public IngestionPipeline(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    // προσθέτει στάδιο στο τέλος του pipeline
+    public IngestionPipeline addStage(String name, int workers, YearStage work) {
+        stages.add(new Stage(name, Math.max(1, workers), work, new ArrayBlockingQueue<>(queueCapacity)));
+        return this;
+    }
+
+    // τρέχει όλα τα έτη μέσα από τα στάδια και περιμένει να τελειώσουν
+    public void run(int... years) throws InterruptedException {
+        if (stages.isEmpty()) return;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < stages.size(); i++) {
+            Stage stage = stages.get(i);
+            Stage next = i + 1 < stages.size() ? stages.get(i + 1) : null;
+            for (int w = 0; w < stage.workers; w++) {
+                Thread thread = new Thread(() -> stage.work(next), "ingest-" + stage.name + "-" + w);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+        }
+
+        Stage first = stages.get(0);
+        try {
+            for (int year : years) {
+                first.put(year);
+            }
+        } finally {
+            first.end();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    // αναφορά ανά στάδιο: πόσα έτη, αποτυχίες, χρόνος, throughput και βάθος ουράς εισόδου
+    public String report() {
+        StringBuilder sb = new StringBuilder("Ingestion pipeline:\n");
+        for (Stage stage : stages) {
+            sb.append(stage.report()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // οι μετρήσεις ενός σταδίου ή null αν δεν υπάρχει
+    public StageStats stats(String name) {
+        for (Stage stage : stages) {
+            if (stage.name.equals(name)) return stage.snapshot();
+        }
+        return null;
+    }
+
+    // μετρήσεις ενός σταδίου
+    public static class StageStats {
+        public final String name;
+        public final int processed;
+        public final int failed;
+        public final long busyMillis;
+        public final long wallMillis;
+        public final int maxQueueDepth;
+        public final double avgQueueDepth;
+
+        StageStats(String name, int processed, int failed, long busyMillis, long wallMillis,
+                int maxQueueDepth, double avgQueueDepth) {
+            this.name = name;
+            this.processed = processed;
+            this.failed = failed;
+            this.busyMillis = busyMillis;
+            this.wallMillis = wallMillis;
+            this.maxQueueDepth = maxQueueDepth;
+            this.avgQueueDepth = avgQueueDepth;
+        }
+
+        // έτη ανά δευτερόλεπτο από την πρώτη έναρξη ως το τελευταίο τέλος του σταδίου
+        public double throughput() {
+            return wallMillis > 0 ? (processed + failed) * 1000.0 / wallMillis : 0;
+        }
+    }
+
+    // =========================================================
+    // ΣΤΑΔΙΟ
+    // =========================================================
+    private static class Stage {
+        final String name;
+        final int workers;
+        final YearStage work;
+        final BlockingQueue<Integer> input;
+
+        final AtomicInteger running;
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicLong busyNanos = new AtomicLong();
+        final AtomicLong firstStart = new AtomicLong();
+        final AtomicLong lastEnd = new AtomicLong();
+
+        // δείγματα βάθους της ουράς εισόδου σε κάθε put
+        final AtomicInteger maxDepth = new AtomicInteger();
+        final AtomicLong depthSum = new AtomicLong();
+        final AtomicInteger depthSamples = new AtomicInteger();
+
+        Stage(String name, int workers, YearStage work, BlockingQueue<Integer> input) {
+            this.name = name;
+            this.workers = workers;
+            this.work = work;
+            this.input = input;
+            this.running = new AtomicInteger(workers);
+        }
+
+        void put(int year) throws InterruptedException {
+            input.put(year);
+            int depth = input.size();
+            maxDepth.accumulateAndGet(depth, Math::max);
+            depthSum.addAndGet(depth);
+            depthSamples.incrementAndGet();
+        }
+
+        // ένα END ανά worker ώστε να σταματήσουν όλοι
+        void end() throws InterruptedException {
+            for (int i = 0; i < workers; i++) {
+                input.put(END);
+            }
+        }
+
+        void work(Stage next) {
+            try {
+                while (true) {
+                    int year = input.take();
+                    if (year == END) break;
+
+                    long start = System.nanoTime();
+                    firstStart.compareAndSet(0, start);
+                    boolean ok = true;
+                    try {
+                        work.process(year);
+                        processed.incrementAndGet();
+                    } catch (Exception e) {
+                        ok = false;
+                        failed.incrementAndGet();
+                        System.err.println("Ingestion stage " + name + " failed for " + year + ": " + e);
+                    }
+                    long end = System.nanoTime();
+                    busyNanos.addAndGet(end - start);
+                    lastEnd.accumulateAndGet(end, Math::max);
+
+                    if (ok && next != null) {
+                        next.put(year);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // ο τελευταίος worker που τελειώνει κλείνει και το επόμενο στάδιο
+                if (running.decrementAndGet() == 0 && next != null) {
+                    try {
+                        next.end();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        StageStats snapshot() {
+            long wall = lastEnd.get() > 0 ? (lastEnd.get() - firstStart.get()) / 1_000_000 : 0;
+            int samples = depthSamples.get();
+            return new StageStats(name, processed.get(), failed.get(), busyNanos.get() / 1_000_000, wall,
+                    maxDepth.get(), samples > 0 ? (double) depthSum.get() / samples : 0);
+        }
+
+        String report() {
+            StageStats s = snapshot();
+            return String.format("  %-10s %d ok, %d failed, busy %d ms, wall %d ms, %.2f years/s, queue max %d avg %.2f",
+                    s.name, s.processed, s.failed, s.busyMillis, s.wallMillis, s.throughput(),
+                    s.maxQueueDepth, s.avgQueueDepth);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ui;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// ιστόγραμμα χρόνων (σε ns) με λογαριθμικούς κάδους, όπως το HdrHistogram:
+// κάθε δύναμη του 2 χωρίζεται σε 16 ίσους κάδους, άρα το σφάλμα κάθε τιμής είναι το πολύ 1/16 (~6%)
+// σταθερό μέγεθος (960 κάδοι για όλο το εύρος του long), εγγραφή χωρίς κλείδωμα
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(0, nanos)));
+    }
+
+    long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    // η τιμή κάτω από την οποία βρίσκεται το ποσοστό percentile (0-100) των μετρήσεων
+    // (το άνω όριο του κάδου, οπότε ποτέ μικρότερη από την πραγματική)
+    long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return highestValue(i);
+        }
+        return highestValue(BUCKETS - 1);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    // κάτω από 16 ένας κάδος ανά τιμή, μετά 16 κάδοι ανά δύναμη του 2
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        return ((SUB_BUCKETS + sub) << (exponent - SUB_BITS)) + width - 1;
+    }
+}
@@ -1,6 +1,5 @@
 package ui;
 
-import java.io.File;
 import java.io.IOException;
 
 import javafx.application.Application;
@@ -43,9 +42,8 @@ public class MainGUI extends Application {
             System.err.println("Application will continue with sample data.");
         }
 */
-        // Έλεγχος αν υπάρχει έστω ένα pdf
-        File pdfFile = new File("proipologismos2024.pdf");
-        if (!pdfFile.exists()) {
+        // Έλεγχος στο manifest αν έχουν κατέβει και μετατραπεί όλα τα έτη
+        if (!DataDownload.isProvisioned()) {
             downloading = true;
 
            
@@ -57,12 +55,11 @@ public class MainGUI extends Application {
             );
 
            
-            DataDownload download = new DataDownload();
-            download.Download();
+            // download -> convert -> insert σε pipeline (το SQLmaker είναι στο default package)
             try {
                 Class<?> sqlMakerClass = Class.forName("SQLmaker");
                 Object sqlMaker = sqlMakerClass.getDeclaredConstructor().newInstance();
-                sqlMakerClass.getMethod("make").invoke(sqlMaker);
+                sqlMakerClass.getMethod("provision").invoke(sqlMaker);
             } catch (Exception e) {
                 System.err.println("Warning: Could not initialize database: " + e.getMessage());
             }
@@ -75,6 +72,9 @@ public class MainGUI extends Application {
             );
         }
 
+        // το σχήμα της βάσης φτάνει στην τελευταία έκδοση (μόνο τα migrations που λείπουν)
+        SchemaMigrations.ensureMigrated();
+
         // Εκκίνηση της JavaFX εφαρμογής
         launch(args);
     }
@@ -0,0 +1,279 @@
+package ui;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// χρηματικό ποσό σε λεπτά του ευρώ (long)
+// τα ποσά του προϋπολογισμού χωράνε άνετα (±92 τρισ. ευρώ), οπότε οι πράξεις γίνονται
+// με ακέραιους χωρίς τις στρογγυλοποιήσεις του double και χωρίς αντικείμενα BigDecimal
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    // =========================================================
+    // ΔΗΜΙΟΥΡΓΙΑ
+    // =========================================================
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money ofEuros(long euros) {
+        return ofCents(Math.multiplyExact(euros, 100L));
+    }
+
+    // στρογγυλοποίηση στο πλησιέστερο λεπτό
+    public static Money of(double euros) {
+        if (Double.isNaN(euros) || Double.isInfinite(euros)) {
+            throw new ArithmeticException("Μη έγκυρο ποσό: " + euros);
+        }
+        return ofCents(Math.round(euros * 100.0));
+    }
+
+    public static Money of(BigDecimal euros) {
+        if (euros == null) return ZERO;
+        return ofCents(euros.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    // ποσό σε ελληνική μορφή ("1.765.635.000.000", "12,5", "-3.000,75")
+    public static Money parse(CharSequence text) {
+        return ofCents(parseCents(text));
+    }
+
+    // =========================================================
+    // ΑΝΑΛΥΣΗ ΚΕΙΜΕΝΟΥ
+    // δεν δημιουργεί αντικείμενα: διαβάζει τους χαρακτήρες κατευθείαν σε long
+    // οι τελείες είναι διαχωριστικά χιλιάδων, το κόμμα υποδιαστολή
+    // κενό ή null κείμενο δίνει 0
+    // =========================================================
+
+    public static long parseCents(CharSequence text) {
+        return text == null ? 0 : parseCents(text, 0, text.length());
+    }
+
+    // αναλύει τους χαρακτήρες start..end (χωρίς το end)
+    // πάνω από δύο δεκαδικά στρογγυλοποιούνται στο λεπτό (half-up)
+    public static long parseCents(CharSequence text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start == end) return 0;
+
+        boolean negative = false;
+        char first = text.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+        }
+
+        long euros = 0;
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        boolean decimal = false;
+        boolean digits = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                int d = c - '0';
+                if (!decimal) {
+                    if (euros > (Long.MAX_VALUE / 100 - 1 - d) / 10) {
+                        throw new NumberFormatException("Πολύ μεγάλο ποσό: " + text.subSequence(start, end));
+                    }
+                    euros = euros * 10 + d;
+                } else if (fractionDigits < 2) {
+                    fraction = fraction * 10 + d;
+                    fractionDigits++;
+                } else if (fractionDigits == 2) {
+                    roundUp = d >= 5;
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !decimal) {
+                // διαχωριστικό χιλιάδων
+            } else if (c == ',' && !decimal) {
+                decimal = true;
+            } else {
+                throw new NumberFormatException("Μη έγκυρο ποσό: " + text.subSequence(start, end));
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("Μη έγκυρο ποσό: " + text.subSequence(start, end));
+        }
+
+        if (fractionDigits == 1) fraction *= 10;
+        long cents = euros * 100 + fraction + (roundUp ? 1 : 0);
+        return negative ? -cents : cents;
+    }
+
+    // =========================================================
+    // ΒΑΣΗ ΔΕΔΟΜΕΝΩΝ
+    // οι στήλες MONEY κρατούν ευρώ: ακέραιος όταν δεν υπάρχουν λεπτά, αλλιώς δεκαδικός
+    // =========================================================
+
+    // διαβάζει μια στήλη, με NULL ως 0
+    public static Money read(ResultSet rs, String column) throws SQLException {
+        return fromColumn(rs.getObject(column));
+    }
+
+    public static Money read(ResultSet rs, int column) throws SQLException {
+        return fromColumn(rs.getObject(column));
+    }
+
+    private static Money fromColumn(Object value) {
+        if (value == null) return ZERO;
+        if (value instanceof Integer || value instanceof Long) {
+            return ofEuros(((Number) value).longValue());
+        }
+        if (value instanceof BigDecimal) {
+            return of((BigDecimal) value);
+        }
+        if (value instanceof Number) {
+            return of(((Number) value).doubleValue());
+        }
+        return of(new BigDecimal(value.toString().trim()));
+    }
+
+    // γράφει το ποσό σε μια παράμετρο: ακέραια ευρώ ως INTEGER, όπως έγραφε το BigDecimal
+    public void bind(PreparedStatement statement, int index) throws SQLException {
+        if (cents % 100 == 0) {
+            statement.setLong(index, cents / 100);
+        } else {
+            statement.setBigDecimal(index, toBigDecimal());
+        }
+    }
+
+    // =========================================================
+    // ΠΡΑΞΕΙΣ
+    // =========================================================
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    // πολλαπλασιασμός με συντελεστή, στρογγυλοποίηση στο λεπτό
+    public Money times(double factor) {
+        return ofCents(Math.round(cents * factor));
+    }
+
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    // το percent% του ποσού (π.χ. percentOf(10) = το 10%)
+    public Money percentOf(double percent) {
+        return times(percent / 100.0);
+    }
+
+    // το ποσό αυξημένο (ή μειωμένο, για αρνητικό percent) κατά percent%
+    public Money plusPercent(double percent) {
+        return plus(percentOf(percent));
+    }
+
+    // ποσοστό του ποσού πάνω σε ένα σύνολο, 0 όταν το σύνολο είναι 0
+    public double percentageOf(Money total) {
+        return total.cents == 0 ? 0.0 : (cents * 100.0) / total.cents;
+    }
+
+    // =========================================================
+    // ΣΥΓΚΕΝΤΡΩΤΙΚΑ
+    // =========================================================
+
+    public static Money sum(Money... amounts) {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.cents);
+        }
+        return ofCents(total);
+    }
+
+    public static Money sum(Iterable<Money> amounts) {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.cents);
+        }
+        return ofCents(total);
+    }
+
+    public static Money max(Money a, Money b) {
+        return a.cents >= b.cents ? a : b;
+    }
+
+    public static Money min(Money a, Money b) {
+        return a.cents <= b.cents ? a : b;
+    }
+
+    // =========================================================
+    // ΜΕΤΑΤΡΟΠΕΣ
+    // =========================================================
+
+    public long getCents() {
+        return cents;
+    }
+
+    // τα ακέραια ευρώ (τα λεπτά κόβονται)
+    public long getEuros() {
+        return cents / 100;
+    }
+
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Money && ((Money) obj).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    // ελληνική μορφή με € (π.χ. "€1.234,5"), όπως το AmountFormatter
+    @Override
+    public String toString() {
+        return AmountFormatter.formatCurrency(toDouble());
+    }
+}
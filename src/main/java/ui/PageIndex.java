@@ -0,0 +1,155 @@
+package ui;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.text.PDFTextStripperByArea;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// ευρετήριο τύπων σελίδων ενός PDF προϋπολογισμού
+// ο τύπος βγαίνει από το κείμενο της κεφαλίδας κάθε σελίδας (π.χ. "ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΕΙΔΙΚΟ ΦΟΡΕΑ"),
+// οπότε η μετατροπή μπορεί να εξάγει μόνο τις σελίδες που χρειάζεται η βάση
+public class PageIndex {
+
+    public enum PageType {
+        COVER,            // εξώφυλλο
+        LAW,              // σχέδιο νόμου / άρθρα με τα συνολικά ποσά (αυτά διαβάζει ο SQLinserter)
+        SPECIAL_BODY,     // πιστώσεις κατά ειδικό φορέα
+        MAJOR_CATEGORY,   // πιστώσεις κατά μείζονα κατηγορία δαπάνης
+        BODY_TOTALS,      // πιστώσεις συνολικά κατά φορέα
+        SUMMARY_TABLE,    // συνοπτικοί πίνακες εσόδων/εξόδων
+        CLASSIFICATION,   // πίνακες ανά κωδικό ταξινόμησης
+        OTHER
+    }
+
+    // αποτυπώματα κεφαλίδας με σειρά προτεραιότητας (χωρίς τόνους, κεφαλαία)
+    private static final Map<PageType, String[]> FINGERPRINTS = new LinkedHashMap<>();
+    static {
+        FINGERPRINTS.put(PageType.LAW, new String[] {"ΣΧΕΔΙΟ ΝΟΜΟΥ", "ΑΡΘΡΟ"});
+        FINGERPRINTS.put(PageType.SPECIAL_BODY, new String[] {"ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΕΙΔΙΚΟ ΦΟΡΕΑ", "ΚΩΔΙΚΟΣ ΦΟΡΕΑ"});
+        FINGERPRINTS.put(PageType.MAJOR_CATEGORY, new String[] {"ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΜΕΙΖΟΝΑ ΚΑΤΗΓΟΡΙΑ"});
+        FINGERPRINTS.put(PageType.BODY_TOTALS, new String[] {"ΠΙΣΤΩΣΕΙΣ ΣΥΝΟΛΙΚΑ ΚΑΤΑ ΦΟΡΕΑ"});
+        FINGERPRINTS.put(PageType.SUMMARY_TABLE, new String[] {"ΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ"});
+        FINGERPRINTS.put(PageType.CLASSIFICATION, new String[] {"ΚΩΔΙΚΟΣ ΤΑΞΙΝΟΜΗΣΗΣ", "ΟΙΚΟΝΟΜΙΚΟ ΕΤΟΣ"});
+    }
+
+    // τι ποσοστό του ύψους της σελίδας (από πάνω) θεωρείται κεφαλίδα
+    private static final double HEADER_FRACTION = 0.25;
+
+    // πηγή κειμένου κεφαλίδας ανά σελίδα (1-based)
+    interface HeaderSource {
+        String headerText(int page) throws IOException;
+    }
+
+    private final PageType[] types;
+    private final int scannedPages;
+
+    private PageIndex(PageType[] types, int scannedPages) {
+        this.types = types;
+        this.scannedPages = scannedPages;
+    }
+
+    // διαβάζει μόνο την κεφαλίδα κάθε σελίδας και βγάζει τον τύπο της
+    // με stopAfterLaw σταματά στην πρώτη σελίδα μετά τα άρθρα του νόμου (αρκεί για το summary mode)
+    public static PageIndex scan(PDDocument document, boolean stopAfterLaw) throws IOException {
+        PDFTextStripperByArea stripper = new PDFTextStripperByArea();
+        return scan(document.getNumberOfPages(), page -> {
+            PDPage pdPage = document.getPage(page - 1);
+            PDRectangle box = pdPage.getMediaBox();
+            stripper.removeRegion("header");
+            stripper.addRegion("header", new Rectangle2D.Double(0, 0, box.getWidth(),
+                    box.getHeight() * HEADER_FRACTION));
+            stripper.extractRegions(pdPage);
+            return stripper.getTextForRegion("header");
+        }, stopAfterLaw);
+    }
+
+    static PageIndex scan(int pageCount, HeaderSource source, boolean stopAfterLaw) throws IOException {
+        PageType[] types = new PageType[pageCount];
+        Arrays.fill(types, PageType.OTHER);
+
+        boolean seenLaw = false;
+        int scanned = 0;
+        for (int page = 1; page <= pageCount; page++) {
+            PageType type = page == 1 ? PageType.COVER : classify(source.headerText(page));
+            types[page - 1] = type;
+            scanned = page;
+
+            if (type == PageType.LAW) {
+                seenLaw = true;
+            } else if (seenLaw && stopAfterLaw) {
+                break;
+            }
+        }
+        return new PageIndex(types, scanned);
+    }
+
+    // τύπος σελίδας από το κείμενο της κεφαλίδας
+    public static PageType classify(String headerText) {
+        String text = normalize(headerText);
+        for (Map.Entry<PageType, String[]> fingerprint : FINGERPRINTS.entrySet()) {
+            for (String phrase : fingerprint.getValue()) {
+                if (text.contains(phrase)) {
+                    return fingerprint.getKey();
+                }
+            }
+        }
+        return PageType.OTHER;
+    }
+
+    // κεφαλαία χωρίς τόνους και με απλά κενά, ώστε "Άρθρο" == "ΑΡΘΡΟ"
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && sb.length() > 0) sb.append(' ');
+            space = false;
+            sb.append(c);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+
+    // ο τύπος μιας σελίδας (OTHER για σελίδες που δεν σαρώθηκαν)
+    public PageType type(int page) {
+        return types[page - 1];
+    }
+
+    // οι σελίδες ενός τύπου
+    public List<Integer> pagesOf(PageType type) {
+        List<Integer> pages = new ArrayList<>();
+        for (int i = 0; i < scannedPages; i++) {
+            if (types[i] == type) pages.add(i + 1);
+        }
+        return pages;
+    }
+
+    // τελευταία σελίδα που χρειάζεται η βάση: το τέλος των άρθρων του νόμου
+    // ο SQLinserter διαβάζει με αριθμούς γραμμών, οπότε εξάγονται πάντα οι σελίδες 1..n
+    // αν δεν βρεθούν άρθρα (άγνωστη μορφή) επιστρέφει όλες τις σελίδες
+    public int summaryEndPage() {
+        List<Integer> law = pagesOf(PageType.LAW);
+        if (law.isEmpty()) return types.length;
+
+        int end = law.get(0);
+        while (end < scannedPages && types[end] == PageType.LAW) {
+            end++;
+        }
+        return end;
+    }
+}
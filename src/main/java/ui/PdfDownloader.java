@@ -0,0 +1,226 @@
+package ui;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// κατεβάζει τα PDF προϋπολογισμού παράλληλα (με όριο ταυτόχρονων λήψεων)
+// κάθε αρχείο γράφεται πρώτα σε .part και μετονομάζεται όταν ολοκληρωθεί
+// αν υπάρχει ήδη .part από προηγούμενη αποτυχία, η λήψη συνεχίζει με HTTP Range
+// με manifest, τα αρχεία που έχουμε ήδη ζητούνται με conditional GET (304 = δεν άλλαξε)
+public class PdfDownloader {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final int workers;
+    private final File directory;
+    private int timeout = 60000;
+    private int maxAttempts = 3;
+    private DownloadManifest manifest;
+
+    // αποτέλεσμα μίας απάντησης του server
+    private static class Response {
+        boolean notModified;
+        String etag;
+        String lastModified;
+    }
+
+    public PdfDownloader(int workers, File directory) {
+        this.workers = Math.max(1, workers);
+        this.directory = directory;
+    }
+
+    // timeout σύνδεσης και ανάγνωσης σε ms
+    public void setTimeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    // πόσες φορές δοκιμάζεται κάθε αρχείο (οι επαναλήψεις συνεχίζουν από όπου σταμάτησε η λήψη)
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    // manifest για conditional GET και καταγραφή των hash (null = χωρίς cache)
+    public void setManifest(DownloadManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    // το αρχείο προορισμού για ένα έτος
+    public File fileFor(int year) {
+        return new File(directory, "proipologismos" + year + ".pdf");
+    }
+
+    // κατεβάζει όλα τα έτη (έτος -> link) και επιστρέφει τα αρχεία που κατέβηκαν επιτυχώς
+    // οι αποτυχίες τυπώνονται και δεν σταματούν τις υπόλοιπες λήψεις
+    public Map<Integer, File> downloadAll(Map<Integer, String> links) {
+        Map<Integer, File> downloaded = new TreeMap<>();
+        if (links.isEmpty()) return downloaded;
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(workers, links.size()));
+        try {
+            Map<Integer, Future<File>> futures = new TreeMap<>();
+            for (Map.Entry<Integer, String> entry : links.entrySet()) {
+                File destination = fileFor(entry.getKey());
+                futures.put(entry.getKey(), pool.submit(() -> {
+                    download(entry.getKey(), entry.getValue(), destination);
+                    return destination;
+                }));
+            }
+
+            for (Map.Entry<Integer, Future<File>> entry : futures.entrySet()) {
+                try {
+                    downloaded.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    System.err.println("Download failed for " + entry.getKey() + ": " + e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return downloaded;
+    }
+
+    // κατεβάζει ένα αρχείο, με επανάληψη και συνέχιση σε περίπτωση διακοπής
+    public void download(String link, File destination) throws IOException {
+        download(null, link, destination);
+    }
+
+    // κατεβάζει το PDF ενός έτους, χρησιμοποιώντας και ενημερώνοντας το manifest
+    // επιστρέφει false αν ο server απάντησε ότι το τοπικό αρχείο δεν άλλαξε
+    public boolean download(Integer year, String link, File destination) throws IOException {
+        File part = new File(destination.getPath() + ".part");
+        DownloadManifest.Entry cached = null;
+        if (manifest != null && year != null && manifest.hasPdf(year, link, destination)) {
+            cached = manifest.entry(year);
+        }
+        IOException failure = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                Response response = fetch(link, part, cached);
+                if (response.notModified) {
+                    System.out.println(destination.getName() + " is up to date");
+                    return false;
+                }
+                Files.move(part.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                if (manifest != null && year != null) {
+                    manifest.recordDownload(year, link, response.etag, response.lastModified,
+                            destination.length(), DownloadManifest.sha256(destination));
+                }
+                return true;
+            } catch (UnknownHostException e) {
+                // δεν έχει νόημα να ξαναδοκιμάσουμε χωρίς DNS
+                throw e;
+            } catch (IOException e) {
+                failure = e;
+                System.err.println("Download attempt " + attempt + " failed for " + destination.getName()
+                        + ": " + e.getMessage());
+            }
+        }
+        throw failure;
+    }
+
+    // μία προσπάθεια λήψης στο .part, συνεχίζοντας από το μέγεθός του
+    // αν δεν υπάρχει .part και έχουμε cached αντίγραφο, η αίτηση είναι conditional
+    private Response fetch(String link, File part, DownloadManifest.Entry cached) throws IOException {
+        long offset = part.exists() ? part.length() : 0;
+        Response response = new Response();
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(link).openConnection();
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+        if (offset > 0) {
+            connection.setRequestProperty("Range", "bytes=" + offset + "-");
+        } else if (cached != null) {
+            if (cached.getEtag() != null) {
+                connection.setRequestProperty("If-None-Match", cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                connection.setRequestProperty("If-Modified-Since", cached.getLastModified());
+            }
+        }
+
+        try {
+            int status = connection.getResponseCode();
+            response.etag = connection.getHeaderField("ETag");
+            response.lastModified = connection.getHeaderField("Last-Modified");
+
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null && offset == 0) {
+                response.notModified = true;
+                return response;
+            }
+
+            // 416: το .part έχει ήδη όλο το αρχείο
+            if (status == 416 && offset > 0) {
+                String range = connection.getHeaderField("Content-Range");
+                if (range != null && range.endsWith("/" + offset)) return response;
+                Files.deleteIfExists(part.toPath());
+                throw new IOException("Range not satisfiable, restarting " + part.getName());
+            }
+            if (status != HttpURLConnection.HTTP_OK && status != HttpURLConnection.HTTP_PARTIAL) {
+                throw new IOException("HTTP " + status + " for " + link);
+            }
+
+            // ο server μπορεί να αγνοήσει το Range και να στείλει όλο το αρχείο (200)
+            boolean resume = status == HttpURLConnection.HTTP_PARTIAL && offset > 0;
+            if (resume) {
+                String range = connection.getHeaderField("Content-Range");
+                if (range == null || !range.startsWith("bytes " + offset + "-")) {
+                    Files.deleteIfExists(part.toPath());
+                    throw new IOException("Unexpected Content-Range " + range + " for " + part.getName());
+                }
+                System.out.println("resuming " + part.getName() + " from byte " + offset);
+            }
+
+            long expected = connection.getContentLengthLong();
+            long written;
+            try (InputStream input = connection.getInputStream();
+                 FileChannel output = FileChannel.open(part.toPath(), StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE,
+                         resume ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                written = copy(input, output);
+            }
+
+            if (expected >= 0 && written != expected) {
+                throw new IOException("Incomplete download of " + part.getName() + ": "
+                        + written + " of " + expected + " bytes");
+            }
+            return response;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    // αντιγραφή με μεγάλο buffer απευθείας στο κανάλι του αρχείου
+    private static long copy(InputStream input, FileChannel output) throws IOException {
+        byte[] bytes = new byte[BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long total = 0;
+        int read;
+        while ((read = input.read(bytes)) > -1) {
+            buffer.clear().limit(read);
+            while (buffer.hasRemaining()) {
+                output.write(buffer);
+            }
+            total += read;
+        }
+        return total;
+    }
+}
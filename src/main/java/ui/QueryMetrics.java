@@ -0,0 +1,259 @@
+package ui;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// μετρήσεις χρόνου των queries: οι συνδέσεις που περνούν από το instrument() μετρούν κάθε execute
+// και τα αποτελέσματα ομαδοποιούνται ανά "σχήμα" του SQL (χωρίς σταθερές, με τα έτη των πινάκων ως ?),
+// ώστε π.χ. τα "SELECT * FROM revenue_2024" και "SELECT * FROM revenue_2025" να μετρούν μαζί
+// - ανά σχήμα: πλήθος, συνολικός χρόνος, μέγιστος και ιστόγραμμα για percentiles
+// - όσα ξεπερνούν το όριο γράφονται στο System.err (slow query log)
+// ο χρόνος είναι αυτός του execute: για SELECT περιλαμβάνει την εύρεση της πρώτης γραμμής,
+// όχι το διάβασμα των υπόλοιπων από το ResultSet
+public class QueryMetrics {
+
+    // όνομα πίνακα με έτος (revenue_2025, budget_summary_2024, ...)
+    private static final Pattern YEAR_SUFFIX = Pattern.compile("_(19|20)\\d{2}\\b");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w?])-?\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // όριο για την cache κανονικοποίησης (τα κείμενα SQL της εφαρμογής είναι λίγα)
+    private static final int MAX_NORMALIZED = 4096;
+    private static final int MAX_LOGGED_SQL = 300;
+
+    private final long slowQueryNanos;
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final LongAdder slowQueries = new LongAdder();
+
+    // slowQueryMillis: όριο για το slow query log, 0 = χωρίς log
+    public QueryMetrics(long slowQueryMillis) {
+        this.slowQueryNanos = slowQueryMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryMillis) : Long.MAX_VALUE;
+    }
+
+    // =========================================================
+    // ΚΑΤΑΓΡΑΦΗ
+    // =========================================================
+
+    // σύνδεση που μετρά τα statements της, όλα τα άλλα περνούν αυτούσια
+    public Connection instrument(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    public void record(String sql, long nanos) {
+        String shape = normalized.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (normalized.size() >= MAX_NORMALIZED) {
+                normalized.clear();
+            }
+            normalized.put(sql, shape);
+        }
+        shapes.computeIfAbsent(shape, Shape::new).record(nanos);
+
+        if (nanos >= slowQueryNanos) {
+            slowQueries.increment();
+            String text = sql.length() > MAX_LOGGED_SQL ? sql.substring(0, MAX_LOGGED_SQL) + "..." : sql;
+            System.err.printf("Slow query (%.1f ms): %s%n", nanos / 1_000_000.0, WHITESPACE.matcher(text).replaceAll(" "));
+        }
+    }
+
+    // κείμενο SQL χωρίς σταθερές: αριθμοί και strings γίνονται ?, το έτος στο όνομα πίνακα _?
+    public static String normalize(String sql) {
+        String shape = YEAR_SUFFIX.matcher(sql).replaceAll("_?");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    // =========================================================
+    // ΑΝΑΦΟΡΕΣ
+    // =========================================================
+
+    // τα n σχήματα με τον μεγαλύτερο συνολικό χρόνο
+    public List<Shape> top(int n) {
+        List<Shape> all = new ArrayList<>(shapes.values());
+        all.sort(Comparator.comparingLong(Shape::getTotalNanos).reversed());
+        return all.size() > n ? new ArrayList<>(all.subList(0, n)) : all;
+    }
+
+    public Shape getShape(String sql) {
+        return shapes.get(normalize(sql));
+    }
+
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+    public void reset() {
+        shapes.clear();
+        slowQueries.reset();
+    }
+
+    // πίνακας με τα n πιο χρονοβόρα σχήματα
+    public void dump(PrintStream out, int n) {
+        List<Shape> top = top(n);
+        out.printf("Top %d query shapes by total time (%d shapes, %d slow queries)%n",
+                top.size(), shapes.size(), getSlowQueries());
+        out.printf("%10s %10s %10s %10s %10s %10s  %s%n", "count", "total ms", "mean us", "p50 us", "p99 us", "max us", "sql");
+        for (Shape shape : top) {
+            out.printf("%10d %10.1f %10.1f %10.1f %10.1f %10.1f  %s%n",
+                    shape.getCount(), shape.getTotalMillis(), shape.getMeanMicros(),
+                    shape.getPercentileMicros(50), shape.getPercentileMicros(99), shape.getMaxMicros(),
+                    shape.getSql());
+        }
+    }
+
+    // μετρήσεις ενός σχήματος SQL
+    public static final class Shape {
+        private final String sql;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Shape(String sql) {
+            this.sql = sql;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            histogram.record(nanos);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public double getTotalMillis() {
+            return getTotalNanos() / 1_000_000.0;
+        }
+
+        public double getMeanMicros() {
+            long n = getCount();
+            return n == 0 ? 0.0 : getTotalNanos() / 1000.0 / n;
+        }
+
+        // percentile 0-100, με ακρίβεια ~6%
+        public double getPercentileMicros(double percentile) {
+            return Math.min(histogram.getValueAtPercentile(percentile), maxNanos.get()) / 1000.0;
+        }
+
+        public double getMaxMicros() {
+            return maxNanos.get() / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d x %.1f ms: %s", getCount(), getTotalMillis(), sql);
+        }
+    }
+
+    // =========================================================
+    // PROXIES
+    // =========================================================
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented" + connection;
+                default:
+                    break;
+            }
+            Object result = QueryMetrics.invoke(connection, method, args);
+            if (result instanceof PreparedStatement && "prepareStatement".equals(method.getName())) {
+                return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class}, new StatementHandler((Statement) result, (String) args[0]));
+            }
+            if (result instanceof Statement && "createStatement".equals(method.getName())) {
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                        new Class<?>[] {Statement.class}, new StatementHandler((Statement) result, null));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        final Statement statement;
+        final String prepared;
+
+        StatementHandler(Statement statement, String prepared) {
+            this.statement = statement;
+            this.prepared = prepared;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented" + statement;
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return QueryMetrics.invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : prepared;
+            long start = System.nanoTime();
+            try {
+                return QueryMetrics.invoke(statement, method, args);
+            } finally {
+                if (sql != null) {
+                    record(sql, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
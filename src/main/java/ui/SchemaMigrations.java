@@ -0,0 +1,591 @@
+package ui;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+// εκδόσεις του σχήματος της βάσης
+// η έκδοση της βάσης κρατιέται στο PRAGMA user_version και ελέγχεται μία φορά στην εκκίνηση:
+// όσα migrations λείπουν εφαρμόζονται με τη σειρά σε μία συναλλαγή, οπότε οι οθόνες
+// δεν χρειάζεται να τρέχουν CREATE TABLE IF NOT EXISTS κάθε φορά
+// νέες αλλαγές στο σχήμα μπαίνουν ως νέο migration στο τέλος της λίστας, ποτέ με αλλαγή παλιού
+public class SchemaMigrations {
+
+    // ένα βήμα του σχήματος
+    interface Step {
+        void apply(Statement stmt) throws SQLException;
+    }
+
+    static final class Migration {
+        final String description;
+        final Step step;
+
+        Migration(String description, Step step) {
+            this.description = description;
+            this.step = step;
+        }
+    }
+
+    // η θέση στη λίστα (από 1) είναι η έκδοση που φέρνει το migration
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration("base tables", SchemaMigrations::createBaseTables),
+            new Migration("published years 2023-2026", SchemaMigrations::seedPublishedYears),
+            new Migration("budget_fact", BudgetFacts::migrateTables),
+            new Migration("numeric budget_fact views", BudgetFacts::recreateViews)
+    );
+
+    public static final int LATEST_VERSION = MIGRATIONS.size();
+
+    private static volatile boolean migrated;
+
+    private SchemaMigrations() {
+        // utility class
+    }
+
+    // =========================================================
+    // ΕΚΤΕΛΕΣΗ
+    // =========================================================
+
+    // φέρνει τη βάση στην τελευταία έκδοση μία φορά ανά εκτέλεση της εφαρμογής
+    public static void ensureMigrated() {
+        if (migrated) return;
+        synchronized (SchemaMigrations.class) {
+            if (migrated) return;
+            try (Connection connection = DatabaseConnection.getConnection()) {
+                migrate(connection);
+                migrated = true;
+            } catch (SQLException e) {
+                System.err.println("Could not migrate database schema: " + e.getMessage());
+            }
+        }
+    }
+
+    public static int getVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // εφαρμόζει τα migrations μετά την τρέχουσα έκδοση σε μία συναλλαγή
+    // αν κάποιο αποτύχει, η βάση μένει όπως ήταν (και η έκδοσή της)
+    // επιστρέφει πόσα migrations εφαρμόστηκαν
+    public static int migrate(Connection connection) throws SQLException {
+        int version = getVersion(connection);
+        if (version >= LATEST_VERSION) {
+            if (version > LATEST_VERSION) {
+                System.err.println("Database schema version " + version
+                        + " is newer than this application (" + LATEST_VERSION + ")");
+            }
+            return 0;
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            for (int v = version + 1; v <= LATEST_VERSION; v++) {
+                Migration migration = MIGRATIONS.get(v - 1);
+                migration.step.apply(stmt);
+                System.out.println("✓ Schema migration " + v + ": " + migration.description);
+            }
+            // το user_version γράφεται στην κεφαλίδα της βάσης μέσα στην ίδια συναλλαγή
+            stmt.execute("PRAGMA user_version = " + LATEST_VERSION);
+            connection.commit();
+            return LATEST_VERSION - version;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // =========================================================
+    // MIGRATIONS
+    // =========================================================
+
+    // 1: οι πίνακες που δημιουργούσαν το SQLmaker, η HomeController και η BudgetEditController
+    // με IF NOT EXISTS, ώστε βάσεις πριν από την αρίθμηση εκδόσεων να περνούν χωρίς αλλαγές
+    private static void createBaseTables(Statement stmt) throws SQLException {
+        for (String sql : BUDGET_TABLES) {
+            stmt.execute(sql);
+        }
+
+        stmt.execute("CREATE TABLE IF NOT EXISTS users ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + "username TEXT UNIQUE NOT NULL,"
+                + "password TEXT NOT NULL"
+                + ")");
+
+        stmt.execute("CREATE TABLE IF NOT EXISTS international_indicators ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + "country_code TEXT NOT NULL,"
+                + "country_name TEXT NOT NULL,"
+                + "year INTEGER NOT NULL,"
+                + "indicator TEXT NOT NULL,"
+                + "value REAL NOT NULL"
+                + ")");
+
+        // πίνακας για διεθνείς προϋπολογισμούς
+        stmt.execute("CREATE TABLE IF NOT EXISTS international_budgets ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + "country_code TEXT NOT NULL,"
+                + "country_name TEXT NOT NULL,"
+                + "year INTEGER NOT NULL,"
+                + "total_gdp REAL,"
+                + "total_revenue REAL,"
+                + "total_expenses REAL,"
+                + "budget_balance REAL,"
+                + "UNIQUE(country_code, year)"
+                + ")");
+
+        // πίνακας για τα έτη που έχουν δημοσιευτεί
+        stmt.execute("CREATE TABLE IF NOT EXISTS published_years ("
+                + "year INTEGER PRIMARY KEY"
+                + ")");
+
+        stmt.execute("CREATE TABLE IF NOT EXISTS custom_categories ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + "category_name TEXT NOT NULL,"
+                + "year INTEGER NOT NULL,"
+                + "type TEXT NOT NULL,"
+                + "amount REAL NOT NULL DEFAULT 0,"
+                + "comments TEXT,"
+                + "created_at DATETIME DEFAULT CURRENT_TIMESTAMP,"
+                + "updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,"
+                + "UNIQUE(category_name, year, type)"
+                + ")");
+
+        stmt.execute("CREATE TABLE IF NOT EXISTS user_comments ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + "category_name TEXT NOT NULL,"
+                + "year INTEGER NOT NULL,"
+                + "comments TEXT,"
+                + "created_at DATETIME DEFAULT CURRENT_TIMESTAMP,"
+                + "updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,"
+                + "UNIQUE(category_name, year)"
+                + ")");
+    }
+
+    // 2: τα έτη 2023-2026 είναι δημοσιευμένα από την αρχή (παλιά το έκανε η HomeController σε κάθε άνοιγμα)
+    private static void seedPublishedYears(Statement stmt) throws SQLException {
+        for (int year = 2023; year <= 2026; year++) {
+            stmt.execute("INSERT OR IGNORE INTO published_years (year) VALUES (" + year + ")");
+        }
+    }
+
+    // πίνακες ανά έτος 2023-2027 (γίνονται views πάνω στο budget_fact στο migration 3)
+    private static final String[] BUDGET_TABLES = {
+            "CREATE TABLE IF NOT EXISTS revenue_2025 ("
+                + "total_revenue MONEY PRIMARY KEY,"
+                + "taxes MONEY,"
+                + "social_contributions MONEY,"
+                + "transfers MONEY,"
+                + "sales_of_goods_and_services MONEY,"
+                + "other_current_revenue MONEY,"
+                + "fixed_assets MONEY,"
+                + "debt_securities MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "currency_and_deposit_liabilities MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS expenses_2025 ("
+                + "total_expenses MONEY PRIMARY KEY,"
+                + "employee_benefits MONEY,"
+                + "social_benefits MONEY,"
+                + "transfers MONEY,"
+                + "purchases_of_goods_and_services MONEY,"
+                + "subsidies MONEY,"
+                + "interest MONEY,"
+                + "other_expenditures MONEY,"
+                + "appropriations MONEY,"
+                + "fixed_assets MONEY,"
+                + "valuables MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS ministries_2025 ("
+                + "total_ministries MONEY,"
+                + "presidency_of_the_republic MONEY,"
+                + "hellenic_parliament MONEY,"
+                + "presidency_of_the_government MONEY,"
+                + "ministry_of_interior MONEY,"
+                + "ministry_of_foreign_affairs MONEY,"
+                + "ministry_of_national_defence MONEY,"
+                + "ministry_of_health MONEY,"
+                + "ministry_of_justice MONEY,"
+                + "ministry_of_education_religious_affairs_and_sports MONEY,"
+                + "ministry_of_culture MONEY,"
+                + "ministry_of_national_economy_and_finance MONEY,"
+                + "ministry_of_agricultural_development_and_food MONEY,"
+                + "ministry_of_environment_and_energy MONEY,"
+                + "ministry_of_labor_and_social_security MONEY,"
+                + "ministry_of_social_cohesion_and_family MONEY,"
+                + "ministry_of_development MONEY,"
+                + "ministry_of_infrastructure_and_transport MONEY,"
+                + "ministry_of_maritime_affairs_and_insular_policy MONEY,"
+                + "ministry_of_tourism MONEY,"
+                + "ministry_of_digital_governance MONEY,"
+                + "ministry_of_migration_and_asylum MONEY,"
+                + "ministry_of_citizen_protection MONEY,"
+                + "ministry_of_climate_crisis_and_civil_protection MONEY,"
+                + "PRIMARY KEY (total_ministries)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS budget_summary_2025 ("
+                + "budget_result MONEY primary key,"
+                + "total_revenue MONEY,"
+                + "total_expenses MONEY,"
+                + "total_ministries MONEY,"
+                + "total_da MONEY,"
+                + "FOREIGN KEY (total_revenue) REFERENCES revenue_2025(total_revenue),"
+                + "FOREIGN KEY (total_expenses) REFERENCES expenses_2025(total_expenses),"
+                + "FOREIGN KEY (total_ministries) REFERENCES ministries_2025(total_ministries),"
+                + "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_2025(total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS decentralized_administrations_2025 ("
+                + "total_da MONEY,"
+                + "decentralized_administration_of_attica MONEY,"
+                + "decentralized_administration_of_thessaly_central_greece MONEY,"
+                + "decentralized_administration_of_epirus_western_macedonia MONEY,"
+                + "decentralized_administration_of_peloponnese_western_greece_and_ionian MONEY,"
+                + "decentralized_administration_of_aegean MONEY,"
+                + "decentralized_administration_of_crete MONEY,"
+                + "decentralized_administration_of_macedonia_thrace MONEY,"
+                + "PRIMARY KEY (total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS revenue_2024 ("
+                + "total_revenue MONEY PRIMARY KEY,"
+                + "taxes MONEY,"
+                + "social_contributions MONEY,"
+                + "transfers MONEY,"
+                + "sales_of_goods_and_services MONEY,"
+                + "other_current_revenue MONEY,"
+                + "fixed_assets MONEY,"
+                + "debt_securities MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "currency_and_deposit_liabilities MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS expenses_2024("
+                + "total_expenses MONEY PRIMARY KEY,"
+                + "employee_benefits MONEY,"
+                + "social_benefits MONEY,"
+                + "transfers MONEY,"
+                + "purchases_of_goods_and_services MONEY,"
+                + "subsidies MONEY,"
+                + "interest MONEY,"
+                + "other_expenditures MONEY,"
+                + "appropriations MONEY,"
+                + "fixed_assets MONEY,"
+                + "valuables MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS ministries_2024 ("
+                + "total_ministries MONEY,"
+                + "presidency_of_the_republic MONEY,"
+                + "hellenic_parliament MONEY,"
+                + "presidency_of_the_government MONEY,"
+                + "ministry_of_interior MONEY,"
+                + "ministry_of_foreign_affairs MONEY,"
+                + "ministry_of_national_defence MONEY,"
+                + "ministry_of_health MONEY,"
+                + "ministry_of_justice MONEY,"
+                + "ministry_of_education_religious_affairs_and_sports MONEY,"
+                + "ministry_of_culture MONEY,"
+                + "ministry_of_national_economy_and_finance MONEY,"
+                + "ministry_of_agricultural_development_and_food MONEY,"
+                + "ministry_of_environment_and_energy MONEY,"
+                + "ministry_of_labor_and_social_security MONEY,"
+                + "ministry_of_social_cohesion_and_family MONEY,"
+                + "ministry_of_development MONEY,"
+                + "ministry_of_infrastructure_and_transport MONEY,"
+                + "ministry_of_maritime_affairs_and_insular_policy MONEY,"
+                + "ministry_of_tourism MONEY,"
+                + "ministry_of_digital_governance MONEY,"
+                + "ministry_of_migration_and_asylum MONEY,"
+                + "ministry_of_citizen_protection MONEY,"
+                + "ministry_of_climate_crisis_and_civil_protection MONEY,"
+                + "PRIMARY KEY (total_ministries)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS budget_summary_2024 ("
+                + "budget_result MONEY primary key,"
+                + "total_revenue MONEY,"
+                + "total_expenses MONEY,"
+                + "total_ministries MONEY,"
+                + "total_da MONEY,"
+                + "FOREIGN KEY (total_revenue) REFERENCES revenue_2024(total_revenue),"
+                + "FOREIGN KEY (total_expenses) REFERENCES expenses_2024(total_expenses),"
+                + "FOREIGN KEY (total_ministries) REFERENCES ministries_2024(total_ministries),"
+                + "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_2024(total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS decentralized_administrations_2024 ("
+                + "total_da MONEY,"
+                + "decentralized_administration_of_attica MONEY,"
+                + "decentralized_administration_of_thessaly_central_greece MONEY,"
+                + "decentralized_administration_of_epirus_western_macedonia MONEY,"
+                + "decentralized_administration_of_peloponnese_western_greece_and_ionian MONEY,"
+                + "decentralized_administration_of_aegean MONEY,"
+                + "decentralized_administration_of_crete MONEY,"
+                + "decentralized_administration_of_macedonia_thrace MONEY,"
+                + "PRIMARY KEY (total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS revenue_2023 ("
+                + "total_revenue MONEY PRIMARY KEY,"
+                + "taxes MONEY,"
+                + "social_contributions MONEY,"
+                + "transfers MONEY,"
+                + "sales_of_goods_and_services MONEY,"
+                + "other_current_revenue MONEY,"
+                + "fixed_assets MONEY,"
+                + "debt_securities MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "currency_and_deposit_liabilities MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS expenses_2023 ("
+                + "total_expenses MONEY PRIMARY KEY,"
+                + "employee_benefits MONEY,"
+                + "social_benefits MONEY,"
+                + "transfers MONEY,"
+                + "purchases_of_goods_and_services MONEY,"
+                + "subsidies MONEY,"
+                + "interest MONEY,"
+                + "other_expenditures MONEY,"
+                + "appropriations MONEY,"
+                + "fixed_assets MONEY,"
+                + "valuables MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY"
+                + ")",
+            " CREATE TABLE IF NOT EXISTS ministries_2023 ("
+                + "total_ministries MONEY,"
+                + "presidency_of_the_republic MONEY,"
+                + "hellenic_parliament MONEY,"
+                + "presidency_of_the_government MONEY,"
+                + "ministry_of_interior MONEY,"
+                + "ministry_of_foreign_affairs MONEY,"
+                + "ministry_of_national_defence MONEY,"
+                + "ministry_of_health MONEY,"
+                + "ministry_of_justice MONEY,"
+                + "ministry_of_education_religious_affairs_and_sports MONEY,"
+                + "ministry_of_culture MONEY,"
+                + "ministry_of_national_economy_and_finance MONEY,"
+                + "ministry_of_agricultural_development_and_food MONEY,"
+                + "ministry_of_environment_and_energy MONEY,"
+                + "ministry_of_labor_and_social_security MONEY,"
+                + "ministry_of_development MONEY,"
+                + "ministry_of_infrastructure_and_transport MONEY,"
+                + "ministry_of_maritime_affairs_and_insular_policy MONEY,"
+                + "ministry_of_tourism MONEY,"
+                + "ministry_of_digital_governance MONEY,"
+                + "ministry_of_migration_and_asylum MONEY,"
+                + "ministry_of_citizen_protection MONEY,"
+                + "ministry_of_climate_crisis_and_civil_protection MONEY,"
+                + "PRIMARY KEY (total_ministries)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS decentralized_administrations_2023 ("
+                + "total_da MONEY,"
+                + "decentralized_administration_of_attica MONEY,"
+                + "decentralized_administration_of_thessaly_central_greece MONEY,"
+                + "decentralized_administration_of_epirus_western_macedonia MONEY,"
+                + "decentralized_administration_of_peloponnese_western_greece_and_ionian MONEY,"
+                + "decentralized_administration_of_aegean MONEY,"
+                + "decentralized_administration_of_crete MONEY,"
+                + "decentralized_administration_of_macedonia_thrace MONEY,"
+                + "PRIMARY KEY (total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS budget_summary_2023 ("
+                + "budget_result MONEY primary key,"
+                + "total_revenue MONEY,"
+                + "total_expenses MONEY,"
+                + "total_ministries MONEY,"
+                + "total_da MONEY,"
+                + "FOREIGN KEY (total_revenue) REFERENCES revenue_2023(total_revenue),"
+                + "FOREIGN KEY (total_expenses) REFERENCES expenses_2023(total_expenses),"
+                + "FOREIGN KEY (total_ministries) REFERENCES ministries_2023(total_ministries),"
+                + "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_2023(total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS revenue_2026 ("
+                + "total_revenue MONEY PRIMARY KEY,"
+                + "taxes MONEY,"
+                + "social_contributions MONEY,"
+                + "transfers MONEY,"
+                + "sales_of_goods_and_services MONEY,"
+                + "other_current_revenue MONEY,"
+                + "fixed_assets MONEY,"
+                + "debt_securities MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "currency_and_deposit_liabilities MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS expenses_2026 ("
+                + "total_expenses MONEY PRIMARY KEY,"
+                + "employee_benefits MONEY,"
+                + "social_benefits MONEY,"
+                + "transfers MONEY,"
+                + "purchases_of_goods_and_services MONEY,"
+                + "subsidies MONEY,"
+                + "interest MONEY,"
+                + "other_expenditures MONEY,"
+                + "appropriations MONEY,"
+                + "fixed_assets MONEY,"
+                + "valuables MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS ministries_2026 ("
+                + "total_ministries MONEY,"
+                + "presidency_of_the_republic MONEY,"
+                + "hellenic_parliament MONEY,"
+                + "presidency_of_the_government MONEY,"
+                + "ministry_of_interior MONEY,"
+                + "ministry_of_foreign_affairs MONEY,"
+                + "ministry_of_national_defence MONEY,"
+                + "ministry_of_health MONEY,"
+                + "ministry_of_justice MONEY,"
+                + "ministry_of_education_religious_affairs_and_sports MONEY,"
+                + "ministry_of_culture MONEY,"
+                + "ministry_of_national_economy_and_finance MONEY,"
+                + "ministry_of_agricultural_development_and_food MONEY,"
+                + "ministry_of_environment_and_energy MONEY,"
+                + "ministry_of_labor_and_social_security MONEY,"
+                + "ministry_of_social_cohesion_and_family MONEY,"
+                + "ministry_of_development MONEY,"
+                + "ministry_of_infrastructure_and_transport MONEY,"
+                + "ministry_of_maritime_affairs_and_insular_policy MONEY,"
+                + "ministry_of_tourism MONEY,"
+                + "ministry_of_digital_governance MONEY,"
+                + "ministry_of_migration_and_asylum MONEY,"
+                + "ministry_of_citizen_protection MONEY,"
+                + "ministry_of_climate_crisis_and_civil_protection MONEY,"
+                + "PRIMARY KEY (total_ministries)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS decentralized_administrations_2026 ("
+                + "total_da MONEY,"
+                + "decentralized_administration_of_attica MONEY,"
+                + "decentralized_administration_of_thessaly_central_greece MONEY,"
+                + "decentralized_administration_of_epirus_western_macedonia MONEY,"
+                + "decentralized_administration_of_peloponnese_western_greece_and_ionian MONEY,"
+                + "decentralized_administration_of_aegean MONEY,"
+                + "decentralized_administration_of_crete MONEY,"
+                + "decentralized_administration_of_macedonia_thrace MONEY,"
+                + "PRIMARY KEY (total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS budget_summary_2026 ("
+                + "budget_result MONEY primary key,"
+                + "total_revenue MONEY,"
+                + "total_expenses MONEY,"
+                + "total_ministries MONEY,"
+                + "total_da MONEY,"
+                + "FOREIGN KEY (total_revenue) REFERENCES revenue_2025(total_revenue),"
+                + "FOREIGN KEY (total_expenses) REFERENCES expenses_2025(total_expenses),"
+                + "FOREIGN KEY (total_ministries) REFERENCES ministries_2025(total_ministries),"
+                + "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_2025(total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS revenue_2027 ("
+                + "total_revenue MONEY PRIMARY KEY,"
+                + "taxes MONEY,"
+                + "social_contributions MONEY,"
+                + "transfers MONEY,"
+                + "sales_of_goods_and_services MONEY,"
+                + "other_current_revenue MONEY,"
+                + "fixed_assets MONEY,"
+                + "debt_securities MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "currency_and_deposit_liabilities MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS expenses_2027 ("
+                + "total_expenses MONEY PRIMARY KEY,"
+                + "employee_benefits MONEY,"
+                + "social_benefits MONEY,"
+                + "transfers MONEY,"
+                + "purchases_of_goods_and_services MONEY,"
+                + "subsidies MONEY,"
+                + "interest MONEY,"
+                + "other_expenditures MONEY,"
+                + "appropriations MONEY,"
+                + "fixed_assets MONEY,"
+                + "valuables MONEY,"
+                + "loans MONEY,"
+                + "equity_securities_and_fund_shares MONEY,"
+                + "debt_securities_liabilities MONEY,"
+                + "loans_liabilities MONEY,"
+                + "financial_derivatives MONEY"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS ministries_2027 ("
+                + "total_ministries MONEY,"
+                + "presidency_of_the_republic MONEY,"
+                + "hellenic_parliament MONEY,"
+                + "presidency_of_the_government MONEY,"
+                + "ministry_of_interior MONEY,"
+                + "ministry_of_foreign_affairs MONEY,"
+                + "ministry_of_national_defence MONEY,"
+                + "ministry_of_health MONEY,"
+                + "ministry_of_justice MONEY,"
+                + "ministry_of_education_religious_affairs_and_sports MONEY,"
+                + "ministry_of_culture MONEY,"
+                + "ministry_of_national_economy_and_finance MONEY,"
+                + "ministry_of_agricultural_development_and_food MONEY,"
+                + "ministry_of_environment_and_energy MONEY,"
+                + "ministry_of_labor_and_social_security MONEY,"
+                + "ministry_of_social_cohesion_and_family MONEY,"
+                + "ministry_of_development MONEY,"
+                + "ministry_of_infrastructure_and_transport MONEY,"
+                + "ministry_of_maritime_affairs_and_insular_policy MONEY,"
+                + "ministry_of_tourism MONEY,"
+                + "ministry_of_digital_governance MONEY,"
+                + "ministry_of_migration_and_asylum MONEY,"
+                + "ministry_of_citizen_protection MONEY,"
+                + "ministry_of_climate_crisis_and_civil_protection MONEY,"
+                + "PRIMARY KEY (total_ministries)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS decentralized_administrations_2027 ("
+                + "total_da MONEY,"
+                + "decentralized_administration_of_attica MONEY,"
+                + "decentralized_administration_of_thessaly_central_greece MONEY,"
+                + "decentralized_administration_of_epirus_western_macedonia MONEY,"
+                + "decentralized_administration_of_peloponnese_western_greece_and_ionian MONEY,"
+                + "decentralized_administration_of_aegean MONEY,"
+                + "decentralized_administration_of_crete MONEY,"
+                + "decentralized_administration_of_macedonia_thrace MONEY,"
+                + "PRIMARY KEY (total_da)"
+                + ")",
+            "CREATE TABLE IF NOT EXISTS budget_summary_2027 ("
+                + "budget_result MONEY primary key,"
+                + "total_revenue MONEY,"
+                + "total_expenses MONEY,"
+                + "total_ministries MONEY,"
+                + "total_da MONEY,"
+                + "FOREIGN KEY (total_revenue) REFERENCES revenue_2026(total_revenue),"
+                + "FOREIGN KEY (total_expenses) REFERENCES expenses_2026(total_expenses),"
+                + "FOREIGN KEY (total_ministries) REFERENCES ministries_2026(total_ministries),"
+                + "FOREIGN KEY (total_da) REFERENCES decentralized_administrations_2026(total_da)"
+                + ")"
+    };
+}
@@ -7,46 +7,51 @@ public class Simulations {
         
     // σενάριο ποσοστιαίας αύξησης εσόδων
     public static String simulateRevenueIncrease(double currentRevenue, double currentExpenses, double revenueIncreasePercent) {
+        // τα ποσά σε λεπτά (Money), ώστε τα αποτελέσματα να μην έχουν σφάλματα στρογγυλοποίησης
+        Money revenue = Money.of(currentRevenue);
+        Money expenses = Money.of(currentExpenses);
         // υπολογισμός νέων εσόδων
-        double newRevenue = currentRevenue * (1 + revenueIncreasePercent / 100.0);
+        Money newRevenue = revenue.plusPercent(revenueIncreasePercent);
         // υπολογισμός νέου ισοζυγίου 
-        double newBalance = newRevenue - currentExpenses;
+        Money newBalance = newRevenue.minus(expenses);
         // υπολογισμός μεταβολής ισοζυγίου 
-        double balanceChange = newBalance - (currentRevenue - currentExpenses);
+        Money balanceChange = newBalance.minus(revenue.minus(expenses));
         
         // μήνυμα αποτελέσματος
         StringBuilder result = new StringBuilder();
         result.append("Σενάριο: Αύξηση εσόδων κατά ").append(String.format("%.2f", revenueIncreasePercent)).append("%\n\n");
-        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(currentRevenue)).append("\n");
+        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(revenue)).append("\n");
         result.append("Νέα Έσοδα: ").append(AmountFormatter.formatCurrency(newRevenue)).append("\n");
-        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newRevenue - currentRevenue)).append("\n\n");
-        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(currentExpenses)).append("\n");
+        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newRevenue.minus(revenue))).append("\n\n");
+        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(expenses)).append("\n");
         result.append("Νέο Ισοζύγιο: ").append(AmountFormatter.formatCurrency(newBalance)).append("\n");
         result.append("Αλλαγή Ισοζυγίου: ").append(AmountFormatter.formatCurrency(balanceChange)).append("\n\n");
-        result.append(StatisticalAnalysis.analyzeBudget(newBalance));
+        result.append(StatisticalAnalysis.analyzeBudget(newBalance.toDouble()));
         
         return result.toString();
     }
     
     // σενάριο ποσοστιαίας μείωσης δαπανών
     public static String simulateExpenseDecrease(double currentRevenue, double currentExpenses, double expenseDecreasePercent) {
+        Money revenue = Money.of(currentRevenue);
+        Money expenses = Money.of(currentExpenses);
         // υπολογισμός νέων δαπανών 
-        double newExpenses = currentExpenses * (1 - expenseDecreasePercent / 100.0);
+        Money newExpenses = expenses.plusPercent(-expenseDecreasePercent);
         // υπολογισμός νέου ισοζυγίου
-        double newBalance = currentRevenue - newExpenses;
+        Money newBalance = revenue.minus(newExpenses);
         // υπολογισμός μεταβολής ισοζυγίου
-        double balanceChange = newBalance - (currentRevenue - currentExpenses);
+        Money balanceChange = newBalance.minus(revenue.minus(expenses));
         
         // μήνυμα αποτελέσματος
         StringBuilder result = new StringBuilder();
         result.append("Σενάριο: Μείωση δαπανών κατά ").append(String.format("%.2f", expenseDecreasePercent)).append("%\n\n");
-        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(currentRevenue)).append("\n");
-        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(currentExpenses)).append("\n");
+        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(revenue)).append("\n");
+        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(expenses)).append("\n");
         result.append("Νέα Έξοδα: ").append(AmountFormatter.formatCurrency(newExpenses)).append("\n");
-        result.append("Εξοικονόμηση: ").append(AmountFormatter.formatCurrency(currentExpenses - newExpenses)).append("\n\n");
+        result.append("Εξοικονόμηση: ").append(AmountFormatter.formatCurrency(expenses.minus(newExpenses))).append("\n\n");
         result.append("Νέο Ισοζύγιο: ").append(AmountFormatter.formatCurrency(newBalance)).append("\n");
         result.append("Αλλαγή Ισοζυγίου: ").append(AmountFormatter.formatCurrency(balanceChange)).append("\n\n");
-        result.append(StatisticalAnalysis.analyzeBudget(newBalance));
+        result.append(StatisticalAnalysis.analyzeBudget(newBalance.toDouble()));
         
         return result.toString();
     }
@@ -54,14 +59,16 @@ public class Simulations {
     // σενάριο αλλαγών σε έσοδα και δαπάνες 
     public static String simulateCombinedScenario(double currentRevenue, double currentExpenses,
                                                    double revenueChangePercent, double expenseChangePercent) {
+        Money revenue = Money.of(currentRevenue);
+        Money expenses = Money.of(currentExpenses);
         // υπολογισμός νέων εσόδων και δαπανών 
-        double newRevenue = currentRevenue * (1 + revenueChangePercent / 100.0);
-        double newExpenses = currentExpenses * (1 + expenseChangePercent / 100.0);
+        Money newRevenue = revenue.plusPercent(revenueChangePercent);
+        Money newExpenses = expenses.plusPercent(expenseChangePercent);
         // υπολογισμός νέου και τρέχοντος ισοζυγίου
-        double newBalance = newRevenue - newExpenses;
-        double currentBalance = currentRevenue - currentExpenses;
+        Money newBalance = newRevenue.minus(newExpenses);
+        Money currentBalance = revenue.minus(expenses);
         // υπολογισμός μεταβολής ισοζυγίου
-        double balanceChange = newBalance - currentBalance;
+        Money balanceChange = newBalance.minus(currentBalance);
         
         // μήνυμα αποτελέσματος
         StringBuilder result = new StringBuilder();
@@ -69,18 +76,18 @@ public class Simulations {
         result.append("Αλλαγή Εσόδων: ").append(String.format("%.2f", revenueChangePercent)).append("%\n");
         result.append("Αλλαγή Δαπανών: ").append(String.format("%.2f", expenseChangePercent)).append("%\n\n");
         
-        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(currentRevenue)).append("\n");
+        result.append("Τρέχοντα Έσοδα: ").append(AmountFormatter.formatCurrency(revenue)).append("\n");
         result.append("Νέα Έσοδα: ").append(AmountFormatter.formatCurrency(newRevenue)).append("\n");
-        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newRevenue - currentRevenue)).append("\n\n");
+        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newRevenue.minus(revenue))).append("\n\n");
         
-        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(currentExpenses)).append("\n");
+        result.append("Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(expenses)).append("\n");
         result.append("Νέα Έξοδα: ").append(AmountFormatter.formatCurrency(newExpenses)).append("\n");
-        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newExpenses - currentExpenses)).append("\n\n");
+        result.append("Διαφορά: ").append(AmountFormatter.formatCurrency(newExpenses.minus(expenses))).append("\n\n");
         
         result.append("Τρέχον Ισοζύγιο: ").append(AmountFormatter.formatCurrency(currentBalance)).append("\n");
         result.append("Νέο Ισοζύγιο: ").append(AmountFormatter.formatCurrency(newBalance)).append("\n");
         result.append("Αλλαγή Ισοζυγίου: ").append(AmountFormatter.formatCurrency(balanceChange)).append("\n\n");
-        result.append(StatisticalAnalysis.analyzeBudget(newBalance));
+        result.append(StatisticalAnalysis.analyzeBudget(newBalance.toDouble()));
         
         return result.toString();
     }
@@ -96,12 +103,16 @@ public class Simulations {
             return "Το μελλοντικό έτος πρέπει να είναι μεγαλύτερο από το τρέχον έτος.";
         }
         
+        Money revenue = Money.of(currentRevenue);
+        Money expenses = Money.of(currentExpenses);
+        Money revenueTrend = Money.of(revenueTrendPerYear);
+        Money expenseTrend = Money.of(expenseTrendPerYear);
         // έσοδα & δαπάνες με βάση τις ετήσιες τάσεις
-        double projectedRevenue = currentRevenue + (revenueTrendPerYear * yearsAhead);
-        double projectedExpenses = currentExpenses + (expenseTrendPerYear * yearsAhead);
+        Money projectedRevenue = revenue.plus(revenueTrend.times(yearsAhead));
+        Money projectedExpenses = expenses.plus(expenseTrend.times(yearsAhead));
         // υπολογισμός προβλεπόμενου και τρέχοντος ισοζυγίου
-        double projectedBalance = projectedRevenue - projectedExpenses;
-        double currentBalance = currentRevenue - currentExpenses;
+        Money projectedBalance = projectedRevenue.minus(projectedExpenses);
+        Money currentBalance = revenue.minus(expenses);
         
         // μήνυμα αποτελέσματος
         StringBuilder result = new StringBuilder();
@@ -109,21 +120,21 @@ public class Simulations {
         result.append("(Βασισμένη σε τάσεις από το ").append(currentYear).append(")\n\n");
         
         result.append("Τρέχοντα Έσοδα (").append(currentYear).append("): ");
-        result.append(AmountFormatter.formatCurrency(currentRevenue)).append("\n");
+        result.append(AmountFormatter.formatCurrency(revenue)).append("\n");
         result.append("Προβλεπόμενα Έσοδα (").append(futureYear).append("): ");
         result.append(AmountFormatter.formatCurrency(projectedRevenue)).append("\n");
-        result.append("Μέση Ετήσια Αλλαγή: ").append(AmountFormatter.formatCurrency(revenueTrendPerYear)).append("\n\n");
+        result.append("Μέση Ετήσια Αλλαγή: ").append(AmountFormatter.formatCurrency(revenueTrend)).append("\n\n");
         
         result.append("Τρέχοντα Έξοδα (").append(currentYear).append("): ");
-        result.append(AmountFormatter.formatCurrency(currentExpenses)).append("\n");
+        result.append(AmountFormatter.formatCurrency(expenses)).append("\n");
         result.append("Προβλεπόμενα Έξοδα (").append(futureYear).append("): ");
         result.append(AmountFormatter.formatCurrency(projectedExpenses)).append("\n");
-        result.append("Μέση Ετήσια Αλλαγή: ").append(AmountFormatter.formatCurrency(expenseTrendPerYear)).append("\n\n");
+        result.append("Μέση Ετήσια Αλλαγή: ").append(AmountFormatter.formatCurrency(expenseTrend)).append("\n\n");
         
         result.append("Τρέχον Ισοζύγιο: ").append(AmountFormatter.formatCurrency(currentBalance)).append("\n");
         result.append("Προβλεπόμενο Ισοζύγιο: ").append(AmountFormatter.formatCurrency(projectedBalance)).append("\n");
-        result.append("Αλλαγή: ").append(AmountFormatter.formatCurrency(projectedBalance - currentBalance)).append("\n\n");
-        result.append(StatisticalAnalysis.analyzeBudget(projectedBalance));
+        result.append("Αλλαγή: ").append(AmountFormatter.formatCurrency(projectedBalance.minus(currentBalance))).append("\n\n");
+        result.append(StatisticalAnalysis.analyzeBudget(projectedBalance.toDouble()));
         
         return result.toString();
     }
@@ -132,14 +143,17 @@ public class Simulations {
     public static String simulateCategoryExpenseReduction(String categoryName, double currentCategoryExpense,
                                                           double totalCurrentExpenses, double totalRevenue,
                                                           double reductionPercent) {
+        Money categoryExpense = Money.of(currentCategoryExpense);
+        Money expenses = Money.of(totalCurrentExpenses);
+        Money revenue = Money.of(totalRevenue);
         // υπολογισμός ποσού μείωσης για την κατηγορία
-        double reduction = currentCategoryExpense * (reductionPercent / 100.0);
+        Money reduction = categoryExpense.percentOf(reductionPercent);
         // υπολογισμός νέων δαπανών κατηγορίας και συνολικών δαπανών
-        double newCategoryExpense = currentCategoryExpense - reduction;
-        double newTotalExpenses = totalCurrentExpenses - reduction;
+        Money newCategoryExpense = categoryExpense.minus(reduction);
+        Money newTotalExpenses = expenses.minus(reduction);
         // υπολογισμός νέου και τρέχοντος ισοζυγίου
-        double newBalance = totalRevenue - newTotalExpenses;
-        double currentBalance = totalRevenue - totalCurrentExpenses;
+        Money newBalance = revenue.minus(newTotalExpenses);
+        Money currentBalance = revenue.minus(expenses);
         
         // μήνυμα αποτελέσματος
         StringBuilder result = new StringBuilder();
@@ -147,17 +161,17 @@ public class Simulations {
         result.append("Κατηγορία: ").append(categoryName).append("\n");
         result.append("Μείωση: ").append(String.format("%.2f", reductionPercent)).append("%\n\n");
         
-        result.append("Τρέχοντα Έξοδα Κατηγορίας: ").append(AmountFormatter.formatCurrency(currentCategoryExpense)).append("\n");
+        result.append("Τρέχοντα Έξοδα Κατηγορίας: ").append(AmountFormatter.formatCurrency(categoryExpense)).append("\n");
         result.append("Νέα Έξοδα Κατηγορίας: ").append(AmountFormatter.formatCurrency(newCategoryExpense)).append("\n");
         result.append("Εξοικονόμηση: ").append(AmountFormatter.formatCurrency(reduction)).append("\n\n");
         
-        result.append("Συνολικά Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(totalCurrentExpenses)).append("\n");
+        result.append("Συνολικά Τρέχοντα Έξοδα: ").append(AmountFormatter.formatCurrency(expenses)).append("\n");
         result.append("Νέα Συνολικά Έξοδα: ").append(AmountFormatter.formatCurrency(newTotalExpenses)).append("\n\n");
         
         result.append("Τρέχον Ισοζύγιο: ").append(AmountFormatter.formatCurrency(currentBalance)).append("\n");
         result.append("Νέο Ισοζύγιο: ").append(AmountFormatter.formatCurrency(newBalance)).append("\n");
-        result.append("Βελτίωση: ").append(AmountFormatter.formatCurrency(newBalance - currentBalance)).append("\n\n");
-        result.append(StatisticalAnalysis.analyzeBudget(newBalance));
+        result.append("Βελτίωση: ").append(AmountFormatter.formatCurrency(newBalance.minus(currentBalance))).append("\n\n");
+        result.append(StatisticalAnalysis.analyzeBudget(newBalance.toDouble()));
         
         return result.toString();
     }
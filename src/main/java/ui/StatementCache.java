@@ -0,0 +1,165 @@
+package ui;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// LRU cache από PreparedStatement μιας φυσικής σύνδεσης, με κλειδί το κείμενο του SQL
+// ο καλών παίρνει ένα Proxy: το close() του κλείνει το ResultSet (ώστε η SQLite να κάνει reset το statement
+// και να μην κρατά ανοιχτή συναλλαγή ανάγνωσης), καθαρίζει τις παραμέτρους και το επιστρέφει στην cache
+// η cache ανήκει στη σύνδεση, οπότε τη χρησιμοποιεί ένα νήμα κάθε φορά (αυτό που κρατά τη σύνδεση από το pool)
+final class StatementCache {
+
+    private final Connection connection;
+    private final int maxSize;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LinkedHashMap<String, Entry> entries;
+
+    StatementCache(Connection connection, int maxSize, LongAdder hits, LongAdder misses) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= StatementCache.this.maxSize) return false;
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    // statement από την cache, ή νέο αν δεν υπάρχει ή αν το ίδιο SQL χρησιμοποιείται ήδη
+    PreparedStatement prepare(String sql) throws SQLException {
+        Entry entry = entries.get(sql);
+        if (entry != null && !entry.inUse && !entry.statement.isClosed()) {
+            hits.increment();
+            return entry.lease();
+        }
+        misses.increment();
+        PreparedStatement statement = connection.prepareStatement(sql);
+        if (entry != null && entry.inUse) {
+            // δεύτερη ταυτόχρονη χρήση του ίδιου SQL: εκτός cache, κλείνει κανονικά
+            return statement;
+        }
+        entry = new Entry(statement);
+        entries.put(sql, entry);
+        return entry.lease();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // κλείνει όλα τα statements (πριν κλείσει η σύνδεση)
+    void clear() {
+        List<Entry> all = new ArrayList<>(entries.values());
+        entries.clear();
+        for (Entry entry : all) {
+            entry.evict();
+        }
+    }
+
+    private static final class Entry {
+        final PreparedStatement statement;
+        boolean inUse;
+        boolean evicted;
+
+        Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        PreparedStatement lease() {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, new Lease(this));
+        }
+
+        // επιστροφή στην cache: το statement ξαναχρησιμοποιείται χωρίς νέο prepare
+        void release(ResultSet open) throws SQLException {
+            try {
+                if (open != null && !open.isClosed()) {
+                    open.close();
+                }
+                if (!statement.isClosed()) {
+                    statement.clearParameters();
+                    statement.clearBatch();
+                }
+            } finally {
+                inUse = false;
+                if (evicted) {
+                    statement.close();
+                }
+            }
+        }
+
+        // εκτός cache: κλείνει τώρα, ή όταν το επιστρέψει όποιος το χρησιμοποιεί
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing cached statement: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Lease implements InvocationHandler {
+        final Entry entry;
+        ResultSet resultSet;
+        boolean closed;
+
+        Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        entry.release(resultSet);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || entry.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + entry.statement;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            Object result;
+            try {
+                result = method.invoke(entry.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                resultSet = (ResultSet) result;
+            }
+            return result;
+        }
+    }
+}
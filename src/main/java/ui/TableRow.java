@@ -0,0 +1,232 @@
+package ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// μία γραμμή πίνακα του PDF όπως τη βγάζει ο TableRowStripper:
+// περιγραφή, κωδικός (αν υπάρχει) και τα ποσά των στηλών με τη σειρά τους
+public class TableRow {
+
+    // επικεφαλίδα του CSV που γράφει η DataConvert
+    public static final String HEADER = "Σελίδα,Κωδικός,Περιγραφή,Ποσά";
+
+    // επικεφαλίδα των CSV κειμένου που έγραφαν οι παλαιότερες εκδόσεις
+    public static final String TEXT_HEADER = "Σελίδα,Κείμενο,Αριθμοί";
+
+    private final int page;
+    private final String label;
+    private final String code;
+    private final List<Money> amounts;
+
+    public TableRow(int page, String label, String code, List<Money> amounts) {
+        this.page = page;
+        this.label = label;
+        this.code = code;
+        this.amounts = Collections.unmodifiableList(new ArrayList<>(amounts));
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    // κενό string αν η γραμμή δεν έχει περιγραφή
+    public String getLabel() {
+        return label;
+    }
+
+    // null αν η γραμμή δεν έχει κωδικό
+    public String getCode() {
+        return code;
+    }
+
+    // ο κωδικός χωρίς την τελεία στο τέλος ("11." -> "11"), null αν δεν υπάρχει
+    public String getCodeNumber() {
+        if (code == null) return null;
+        return code.endsWith(".") ? code.substring(0, code.length() - 1) : code;
+    }
+
+    public List<Money> getAmounts() {
+        return amounts;
+    }
+
+    public boolean hasAmounts() {
+        return !amounts.isEmpty();
+    }
+
+    // το ποσό της στήλης index ή 0 αν η γραμμή έχει λιγότερες στήλες
+    public Money getAmount(int index) {
+        return index < amounts.size() ? amounts.get(index) : Money.ZERO;
+    }
+
+    // =========================================================
+    // CSV
+    // =========================================================
+
+    // γραμμή CSV: σελίδα,κωδικός,"περιγραφή",ποσό1,ποσό2,...
+    // τα ποσά γράφονται σε ελληνική μορφή, σε εισαγωγικά όταν έχουν λεπτά
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(page).append(',');
+        if (code != null) sb.append(code);
+        sb.append(",\"").append(label.replace("\"", "\"\"")).append('"');
+        for (Money amount : amounts) {
+            sb.append(',');
+            appendAmount(sb, amount.getCents());
+        }
+        return sb.toString();
+    }
+
+    private static void appendAmount(StringBuilder sb, long cents) {
+        long euros = Math.abs(cents / 100);
+        long fraction = Math.abs(cents % 100);
+        boolean quoted = fraction != 0;
+        if (quoted) sb.append('"');
+        if (cents < 0) sb.append('-');
+        String digits = Long.toString(euros);
+        for (int i = 0; i < digits.length(); i++) {
+            if (i > 0 && (digits.length() - i) % 3 == 0) sb.append('.');
+            sb.append(digits.charAt(i));
+        }
+        if (quoted) {
+            sb.append(',');
+            if (fraction < 10) sb.append('0');
+            sb.append(fraction);
+            sb.append('"');
+        }
+    }
+
+    // διαβάζει μια γραμμή του CSV της DataConvert (textFormat = false)
+    // ή ενός CSV κειμένου (textFormat = true: σελίδα,"κείμενο",αριθμοί)
+    public static TableRow parse(String line, boolean textFormat) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Μη έγκυρη γραμμή CSV: " + line);
+        }
+        int page = Integer.parseInt(line.substring(0, comma).trim());
+        return textFormat ? parseText(page, line.substring(comma + 1)) : parseRow(page, line, comma + 1);
+    }
+
+    // σελίδα,κωδικός,"περιγραφή",ποσά με κανονικά εισαγωγικά CSV
+    private static TableRow parseRow(int page, String line, int start) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        if (fields.size() < 2) {
+            throw new IllegalArgumentException("Μη έγκυρη γραμμή CSV: " + line);
+        }
+
+        String code = fields.get(0).isEmpty() ? null : fields.get(0);
+        List<Money> amounts = new ArrayList<>();
+        for (int f = 2; f < fields.size(); f++) {
+            amounts.add(Money.parse(fields.get(f)));
+        }
+        return new TableRow(page, fields.get(1), code, amounts);
+    }
+
+    // "κείμενο",αριθμοί: οι αριθμοί είναι τα πεδία του τέλους που διαβάζονται ως κωδικός ή ποσό,
+    // όλα τα προηγούμενα ανήκουν στο κείμενο, ώστε να αντέχει κόμματα μέσα στο κείμενο
+    // και εισαγωγικά που δεν κλείνουν
+    private static TableRow parseText(int page, String rest) {
+        String[] parts = rest.split(",", -1);
+        int end = parts.length;
+        while (end > 1 && parts[end - 1].trim().isEmpty()) end--;
+        int first = end;
+        while (first > 1 && isNumber(parts[first - 1].trim())) first--;
+
+        String label = String.join(",", Arrays.copyOfRange(parts, 0, first)).trim();
+        if (label.startsWith("\"")) label = label.substring(1);
+        if (label.endsWith("\"")) label = label.substring(0, label.length() - 1);
+
+        String code = null;
+        List<Money> amounts = new ArrayList<>();
+        for (int p = first; p < end; p++) {
+            String text = parts[p].trim();
+            if (text.isEmpty()) continue;
+            if (isCode(text) && code == null && amounts.isEmpty() && !text.equals("0")) {
+                code = text;
+            } else {
+                // αριθμοί χωρίς διαχωριστικά μετά τον κωδικό (π.χ. "2026.") διαβάζονται όπως είναι
+                Money amount = parseAmount(text);
+                amounts.add(amount != null ? amount : Money.parse(text));
+            }
+        }
+        return new TableRow(page, label, code, amounts);
+    }
+
+    private static boolean isNumber(String text) {
+        return isCode(text) || parseAmount(text) != null;
+    }
+
+    // =========================================================
+    // ΑΡΙΘΜΟΙ
+    // =========================================================
+
+    // κωδικός: μόνο ψηφία, προαιρετικά με τελεία στο τέλος (π.χ. "11.", "1906")
+    static boolean isCode(String text) {
+        int end = text.endsWith(".") ? text.length() - 1 : text.length();
+        if (end == 0) return false;
+        for (int i = 0; i < end; i++) {
+            if (!Character.isDigit(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    // ποσό σε ελληνική μορφή ("1.234.567", "-12.000", "3,5") ή null αν το κείμενο δεν είναι ποσό
+    // οι τελείες πρέπει να χωρίζουν ομάδες των τριών ψηφίων, ώστε να μη διαβάζονται ως ποσά
+    // κωδικοί όπως "45." ή ημερομηνίες
+    static Money parseAmount(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        if (start == text.length()) return null;
+
+        int groupDigits = 0;
+        boolean grouped = false;
+        boolean decimal = false;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                groupDigits++;
+            } else if (c == '.' && !decimal) {
+                // τελεία χιλιάδων: πριν από αυτήν 1-3 ψηφία (ή 3 μετά από άλλη τελεία)
+                if (groupDigits == 0 || groupDigits > 3 || (grouped && groupDigits != 3)) return null;
+                grouped = true;
+                groupDigits = 0;
+            } else if (c == ',' && !decimal && groupDigits > 0) {
+                if (grouped && groupDigits != 3) return null;
+                decimal = true;
+                groupDigits = 0;
+            } else {
+                return null;
+            }
+        }
+        if (groupDigits == 0 || (grouped && !decimal && groupDigits != 3)) return null;
+        return Money.parse(text);
+    }
+
+    @Override
+    public String toString() {
+        return toCsv();
+    }
+}
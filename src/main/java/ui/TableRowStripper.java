@@ -0,0 +1,302 @@
+package ui;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+// εξαγωγή των πινάκων του PDF σε γραμμές (κωδικός, περιγραφή, ποσά) με βάση τις θέσεις των χαρακτήρων
+// οι λέξεις μιας γραμμής χωρίζονται σε κελιά όπου το οριζόντιο κενό ξεπερνά το columnGap,
+// κάθε κελί χαρακτηρίζεται ως κωδικός, ποσό ή κείμενο, και οι τίτλοι που σπάνε σε
+// διαδοχικές γραμμές ενώνονται με τη γραμμή που έχει τον κωδικό/τα ποσά τους
+// (αυτό που έκαναν τα fixes ανά έτος πάνω στο κείμενο του PDFTextStripper)
+public class TableRowStripper extends PDFTextStripper {
+
+    // δέκτης των γραμμών που βγαίνουν
+    public interface RowSink {
+        void accept(TableRow row) throws IOException;
+    }
+
+    // χαρακτήρες που χρησιμοποιούνται ως "οδηγοί" μέχρι τη στήλη των ποσών
+    private static final String LEADERS = "»…·";
+
+    // πόσα ύψη γραμμής μπορεί να απέχει η συνέχεια μιας γραμμής
+    private static final float CONTINUATION = 1.6f;
+
+    private RowSink sink;
+
+    // κενό (σε πλάτη γραμματοσειράς) πάνω από το οποίο ξεκινά νέο κελί
+    private float columnGap = 1.0f;
+
+    // λέξεις της τρέχουσας γραμμής
+    private final List<List<TextPosition>> words = new ArrayList<>();
+    private final List<String> wordTexts = new ArrayList<>();
+    private float lineY;
+    private float lineHeight;
+
+    // γραμμή που περιμένει τη συνέχειά της (χωρίς ποσά ακόμη)
+    private Pending pending;
+
+    // γραμμή με ποσά αλλά χωρίς κωδικό: κρατείται για μία γραμμή, γιατί σε μερικά έτη
+    // ο κωδικός τυπώνεται μόνος του στην αμέσως επόμενη γραμμή
+    private TableRow held;
+    private float heldY;
+    private float heldHeight;
+
+    public TableRowStripper(RowSink sink) throws IOException {
+        this.sink = sink;
+        setSortByPosition(true);
+    }
+
+    public void setColumnGap(float ems) {
+        columnGap = ems;
+    }
+
+    public float getColumnGap() {
+        return columnGap;
+    }
+
+    // εξάγει τις σελίδες startPage..endPage (1-based) προς τον sink
+    public void extract(PDDocument document, int startPage, int endPage) throws IOException {
+        setStartPage(startPage);
+        setEndPage(endPage);
+        writeText(document, Writer.nullWriter());
+    }
+
+    // εξάγει τις σελίδες startPage..endPage και επιστρέφει τις γραμμές τους
+    public List<TableRow> extractRows(PDDocument document, int startPage, int endPage) throws IOException {
+        List<TableRow> rows = new ArrayList<>();
+        RowSink previous = sink;
+        sink = rows::add;
+        try {
+            extract(document, startPage, endPage);
+        } finally {
+            sink = previous;
+        }
+        return rows;
+    }
+
+    // =========================================================
+    // ΣΥΛΛΟΓΗ ΛΕΞΕΩΝ ΑΝΑ ΓΡΑΜΜΗ
+    // ο PDFTextStripper καλεί writeString μία φορά για κάθε λέξη
+    // =========================================================
+    @Override
+    protected void writeString(String text, List<TextPosition> textPositions) throws IOException {
+        if (textPositions.isEmpty()) return;
+
+        TextPosition first = textPositions.get(0);
+        float y = first.getYDirAdj();
+        float height = Math.max(first.getHeightDir(), first.getFontSizeInPt());
+        if (!words.isEmpty() && Math.abs(y - lineY) > Math.max(height, lineHeight) / 2) {
+            endLine();
+        }
+        if (words.isEmpty()) {
+            lineY = y;
+            lineHeight = height;
+        }
+        words.add(new ArrayList<>(textPositions));
+        wordTexts.add(text);
+        lineHeight = Math.max(lineHeight, height);
+    }
+
+    @Override
+    protected void writeLineSeparator() {
+        // οι γραμμές κλείνουν από τη θέση y της επόμενης λέξης
+    }
+
+    @Override
+    protected void writeWordSeparator() {
+        // τα κελιά βγαίνουν από τα κενά μεταξύ των λέξεων
+    }
+
+    // κάθε σελίδα κλείνει τις γραμμές της, ώστε οι σελίδες να εξάγονται και ανεξάρτητα (παράλληλα)
+    @Override
+    protected void writePageEnd() throws IOException {
+        endLine();
+        flushPending();
+        flushHeld();
+    }
+
+    // =========================================================
+    // ΚΕΛΙΑ ΜΙΑΣ ΓΡΑΜΜΗΣ
+    // =========================================================
+    private void endLine() throws IOException {
+        if (words.isEmpty()) return;
+
+        StringBuilder label = new StringBuilder();
+        String code = null;
+        List<Money> amounts = new ArrayList<>();
+
+        StringBuilder cell = new StringBuilder();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                if (gap(words.get(i - 1), words.get(i)) > columnGap * fontSize(words.get(i))) {
+                    code = addCell(cell.toString(), label, code, amounts);
+                    cell.setLength(0);
+                } else {
+                    cell.append(' ');
+                }
+            }
+            cell.append(wordTexts.get(i));
+        }
+        code = addCell(cell.toString(), label, code, amounts);
+
+        float y = lineY;
+        float height = lineHeight;
+        words.clear();
+        wordTexts.clear();
+        addLine(stripLeaders(label.toString()), code, amounts, y, height);
+    }
+
+    // κατατάσσει ένα κελί: ο πρώτος αριθμός χωρίς διαχωριστικά χιλιάδων (π.χ. "45." ή "1906")
+    // πριν από τα ποσά είναι ο κωδικός, οι υπόλοιποι αριθμοί είναι ποσά, όλα τα άλλα κείμενο
+    private static String addCell(String cell, StringBuilder label, String code, List<Money> amounts) {
+        String text = cell.trim();
+        if (text.isEmpty()) return code;
+
+        if (TableRow.isCode(text) && code == null && amounts.isEmpty() && !text.equals("0")) {
+            return text;
+        }
+        Money amount = TableRow.parseAmount(text);
+        if (amount != null) {
+            amounts.add(amount);
+            return code;
+        }
+        if (label.length() > 0) label.append(' ');
+        label.append(text);
+        return code;
+    }
+
+    // οριζόντιο κενό ανάμεσα σε δύο διαδοχικές λέξεις
+    private static float gap(List<TextPosition> previous, List<TextPosition> next) {
+        TextPosition last = previous.get(previous.size() - 1);
+        return next.get(0).getXDirAdj() - (last.getXDirAdj() + last.getWidthDirAdj());
+    }
+
+    private static float fontSize(List<TextPosition> word) {
+        float size = word.get(0).getFontSizeInPt();
+        return size > 0 ? size : word.get(0).getHeightDir();
+    }
+
+    // =========================================================
+    // ΕΝΩΣΗ ΣΠΑΣΜΕΝΩΝ ΓΡΑΜΜΩΝ
+    // μια γραμμή χωρίς ποσά περιμένει: οι αμέσως επόμενες γραμμές χωρίς κωδικό
+    // συνεχίζουν τον τίτλο της, και η πρώτη που έχει ποσά την ολοκληρώνει
+    // μια γραμμή μόνο με κωδικό ακριβώς κάτω από γραμμή με ποσά χωρίς κωδικό της δίνει τον κωδικό
+    // =========================================================
+    private void addLine(String label, String code, List<Money> amounts, float y, float height)
+            throws IOException {
+        if (held != null && code != null && label.isEmpty() && amounts.isEmpty()
+                && y - heldY <= heldHeight * CONTINUATION) {
+            TableRow row = held;
+            held = null;
+            sink.accept(new TableRow(row.getPage(), row.getLabel(), code, row.getAmounts()));
+            return;
+        }
+
+        if (pending != null && code == null && y - pending.y <= pending.height * CONTINUATION) {
+            pending.append(label);
+            pending.y = y;
+            pending.height = height;
+            if (!amounts.isEmpty()) {
+                pending.amounts = amounts;
+                flushPending();
+            }
+            return;
+        }
+
+        flushPending();
+        if (amounts.isEmpty()) {
+            flushHeld();
+            pending = new Pending(label, code, y, height);
+        } else {
+            emit(new TableRow(getCurrentPageNo(), label, code, amounts), y, height);
+        }
+    }
+
+    private void flushPending() throws IOException {
+        if (pending == null) return;
+        Pending row = pending;
+        pending = null;
+        if (row.label.length() == 0 && row.code == null && row.amounts.isEmpty()) return;
+        emit(new TableRow(getCurrentPageNo(), row.label.toString(), row.code, row.amounts), row.y, row.height);
+    }
+
+    // στέλνει μια γραμμή στον sink, αφού βγει πρώτα όποια κρατείται
+    private void emit(TableRow row, float y, float height) throws IOException {
+        flushHeld();
+        if (row.hasAmounts() && row.getCode() == null) {
+            held = row;
+            heldY = y;
+            heldHeight = height;
+        } else {
+            sink.accept(row);
+        }
+    }
+
+    private void flushHeld() throws IOException {
+        if (held == null) return;
+        TableRow row = held;
+        held = null;
+        sink.accept(row);
+    }
+
+    private static class Pending {
+        final StringBuilder label;
+        final String code;
+        List<Money> amounts = new ArrayList<>();
+        float y;
+        float height;
+
+        Pending(String label, String code, float y, float height) {
+            this.label = new StringBuilder(label);
+            this.code = code;
+            this.y = y;
+            this.height = height;
+        }
+
+        void append(String text) {
+            if (text.isEmpty()) return;
+            if (label.length() > 0) label.append(' ');
+            label.append(text);
+        }
+    }
+
+    // αφαιρεί τους οδηγούς ("»", "....") από τις άκρες της περιγραφής
+    // οι τελείες αφαιρούνται μόνο όταν είναι δύο ή περισσότερες, ώστε να μένουν οι συντομογραφίες
+    static String stripLeaders(String label) {
+        int start = 0;
+        int end = label.length();
+        while (start < end) {
+            int dots = 0;
+            while (start + dots < end && label.charAt(start + dots) == '.') dots++;
+            if (dots >= 2) {
+                start += dots;
+            } else if (isLeader(label.charAt(start))) {
+                start++;
+            } else {
+                break;
+            }
+        }
+        while (end > start) {
+            int dots = 0;
+            while (end - dots > start && label.charAt(end - dots - 1) == '.') dots++;
+            if (dots >= 2) {
+                end -= dots;
+            } else if (isLeader(label.charAt(end - 1))) {
+                end--;
+            } else {
+                break;
+            }
+        }
+        return label.substring(start, end);
+    }
+
+    private static boolean isLeader(char c) {
+        return LEADERS.indexOf(c) >= 0 || Character.isWhitespace(c);
+    }
+}
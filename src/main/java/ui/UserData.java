@@ -29,37 +29,40 @@ public class UserData {
     }
     
     // αποθηκεύει ή ενημερώνει ένα σχόλιο για συγκεκριμένη κατηγορία και έτος
+    // ο έλεγχος και η εγγραφή γίνονται στην ίδια εργασία του εγγραφέα, οπότε δεν μπαίνει άλλη εγγραφή ανάμεσα
     public boolean saveComment(String categoryName, int year, String comments) {
-        try (Connection connection = DatabaseConnection.getConnection()) {
-            // έλεγχος αν το σχόλιο υπάρχει ήδη
-            String checkSql = "SELECT id FROM user_comments WHERE category_name = ? AND year = ?";
-            try (PreparedStatement checkStmt = connection.prepareStatement(checkSql)) {
-                checkStmt.setString(1, categoryName);
-                checkStmt.setInt(2, year);
-                ResultSet rs = checkStmt.executeQuery();
-                
-                if (rs.next()) {
-                    // ενημέρωση υπάρχοντος σχολίου
-                    String updateSql = "UPDATE user_comments SET comments = ?, updated_at = CURRENT_TIMESTAMP WHERE category_name = ? AND year = ?";
-                    try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
-                        updateStmt.setString(1, comments);
-                        updateStmt.setString(2, categoryName);
-                        updateStmt.setInt(3, year);
-                        updateStmt.executeUpdate();
-                        return true;
-                    }
-                } else {
-                    // εισαγωγή νέου σχολίου
-                    String insertSql = "INSERT INTO user_comments (category_name, year, comments) VALUES (?, ?, ?)";
-                    try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
-                        insertStmt.setString(1, categoryName);
-                        insertStmt.setInt(2, year);
-                        insertStmt.setString(3, comments);
-                        insertStmt.executeUpdate();
-                        return true;
+        try {
+            return DatabaseConnection.write(connection -> {
+                // έλεγχος αν το σχόλιο υπάρχει ήδη
+                String checkSql = "SELECT id FROM user_comments WHERE category_name = ? AND year = ?";
+                try (PreparedStatement checkStmt = connection.prepareStatement(checkSql)) {
+                    checkStmt.setString(1, categoryName);
+                    checkStmt.setInt(2, year);
+                    ResultSet rs = checkStmt.executeQuery();
+                    
+                    if (rs.next()) {
+                        // ενημέρωση υπάρχοντος σχολίου
+                        String updateSql = "UPDATE user_comments SET comments = ?, updated_at = CURRENT_TIMESTAMP WHERE category_name = ? AND year = ?";
+                        try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
+                            updateStmt.setString(1, comments);
+                            updateStmt.setString(2, categoryName);
+                            updateStmt.setInt(3, year);
+                            updateStmt.executeUpdate();
+                            return true;
+                        }
+                    } else {
+                        // εισαγωγή νέου σχολίου
+                        String insertSql = "INSERT INTO user_comments (category_name, year, comments) VALUES (?, ?, ?)";
+                        try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
+                            insertStmt.setString(1, categoryName);
+                            insertStmt.setInt(2, year);
+                            insertStmt.setString(3, comments);
+                            insertStmt.executeUpdate();
+                            return true;
+                        }
                     }
                 }
-            }
+            });
         } catch (Exception e) {
             e.printStackTrace();
             return false;
@@ -68,7 +71,7 @@ public class UserData {
     
     // ανάκτηση σχολίου για συγκεκριμένη κατηγορία και έτος
     public String getComment(String categoryName, int year) {
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(
                  "SELECT comments FROM user_comments WHERE category_name = ? AND year = ?")) {
             
@@ -87,13 +90,15 @@ public class UserData {
     
     // διαγραφή σχολίου για συγκεκριμένη κατηγορία και έτος
     public boolean deleteComment(String categoryName, int year) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(
-                 "DELETE FROM user_comments WHERE category_name = ? AND year = ?")) {
-            
-            stmt.setString(1, categoryName);
-            stmt.setInt(2, year);
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConnection.write(connection -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                         "DELETE FROM user_comments WHERE category_name = ? AND year = ?")) {
+                    stmt.setString(1, categoryName);
+                    stmt.setInt(2, year);
+                    return stmt.executeUpdate();
+                }
+            });
             return rowsAffected > 0;
         } catch (Exception e) {
             e.printStackTrace();
@@ -104,7 +109,7 @@ public class UserData {
     // επιστρέφει όλα τα σχόλια για ένα συγκεκριμένο έτος
     public Map<String, String> getAllCommentsForYear(int year) {
         Map<String, String> commentsMap = new HashMap<>();
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(
                  "SELECT category_name, comments FROM user_comments WHERE year = ?")) {
             
@@ -153,15 +158,17 @@ public class UserData {
     
     // αποθηκεύει ένα νέο σενάριο (το όνομα πρέπει να είναι μοναδικό)
     public boolean saveScenario(String scenarioName, String description, int year, String scenarioData) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(
-                 "INSERT INTO saved_scenarios (scenario_name, description, year, scenario_data) VALUES (?, ?, ?, ?)")) {
-            
-            stmt.setString(1, scenarioName);
-            stmt.setString(2, description);
-            stmt.setInt(3, year);
-            stmt.setString(4, scenarioData);
-            stmt.executeUpdate();
+        try {
+            DatabaseConnection.write(connection -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                         "INSERT INTO saved_scenarios (scenario_name, description, year, scenario_data) VALUES (?, ?, ?, ?)")) {
+                    stmt.setString(1, scenarioName);
+                    stmt.setString(2, description);
+                    stmt.setInt(3, year);
+                    stmt.setString(4, scenarioData);
+                    return stmt.executeUpdate();
+                }
+            });
             return true;
         } catch (Exception e) {
             e.printStackTrace();
@@ -171,14 +178,16 @@ public class UserData {
     
     // ενημερώνει ένα υπάρχον σενάριο
     public boolean updateScenario(String scenarioName, String description, String scenarioData) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(
-                 "UPDATE saved_scenarios SET description = ?, scenario_data = ?, updated_at = CURRENT_TIMESTAMP WHERE scenario_name = ?")) {
-            
-            stmt.setString(1, description);
-            stmt.setString(2, scenarioData);
-            stmt.setString(3, scenarioName);
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConnection.write(connection -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                         "UPDATE saved_scenarios SET description = ?, scenario_data = ?, updated_at = CURRENT_TIMESTAMP WHERE scenario_name = ?")) {
+                    stmt.setString(1, description);
+                    stmt.setString(2, scenarioData);
+                    stmt.setString(3, scenarioName);
+                    return stmt.executeUpdate();
+                }
+            });
             return rowsAffected > 0;
         } catch (Exception e) {
             e.printStackTrace();
@@ -188,7 +197,7 @@ public class UserData {
     
     // ανάκτηση σεναρίου με βάση το όνομά του
     public SavedScenario getScenario(String scenarioName) {
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(
                  "SELECT * FROM saved_scenarios WHERE scenario_name = ?")) {
             
@@ -215,7 +224,7 @@ public class UserData {
     // επιστρέφει όλα τα αποθηκευμένα σενάρια
     public List<SavedScenario> getAllScenarios() {
         List<SavedScenario> scenarios = new ArrayList<>();
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT * FROM saved_scenarios ORDER BY created_at DESC")) {
             
@@ -239,7 +248,7 @@ public class UserData {
     // επιστρέφει όλα τα σενάρια για ένα συγκεκριμένο έτος
     public List<SavedScenario> getScenariosForYear(int year) {
         List<SavedScenario> scenarios = new ArrayList<>();
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(
                  "SELECT * FROM saved_scenarios WHERE year = ? ORDER BY created_at DESC")) {
             
@@ -265,12 +274,14 @@ public class UserData {
     
     // διαγραφή σεναρίου με βάση το όνομά του
     public boolean deleteScenario(String scenarioName) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(
-                 "DELETE FROM saved_scenarios WHERE scenario_name = ?")) {
-            
-            stmt.setString(1, scenarioName);
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConnection.write(connection -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                         "DELETE FROM saved_scenarios WHERE scenario_name = ?")) {
+                    stmt.setString(1, scenarioName);
+                    return stmt.executeUpdate();
+                }
+            });
             return rowsAffected > 0;
         } catch (Exception e) {
             e.printStackTrace();
@@ -280,33 +291,35 @@ public class UserData {
     
     // αποθηκεύει ή ενημερώνει μια προτίμηση χρήστη
     public boolean savePreference(String key, String value) {
-        try (Connection connection = DatabaseConnection.getConnection()) {
-            // έλεγχος αν η προτίμηση υπάρχει ήδη
-            String checkSql = "SELECT id FROM user_preferences WHERE preference_key = ?";
-            try (PreparedStatement checkStmt = connection.prepareStatement(checkSql)) {
-                checkStmt.setString(1, key);
-                ResultSet rs = checkStmt.executeQuery();
-                
-                if (rs.next()) {
-                    // ενημέρωση υπάρχουσας προτίμησης
-                    String updateSql = "UPDATE user_preferences SET preference_value = ?, updated_at = CURRENT_TIMESTAMP WHERE preference_key = ?";
-                    try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
-                        updateStmt.setString(1, value);
-                        updateStmt.setString(2, key);
-                        updateStmt.executeUpdate();
-                        return true;
-                    }
-                } else {
-                    // εισαγωγή νέας προτίμησης
-                    String insertSql = "INSERT INTO user_preferences (preference_key, preference_value) VALUES (?, ?)";
-                    try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
-                        insertStmt.setString(1, key);
-                        insertStmt.setString(2, value);
-                        insertStmt.executeUpdate();
-                        return true;
+        try {
+            return DatabaseConnection.write(connection -> {
+                // έλεγχος αν η προτίμηση υπάρχει ήδη
+                String checkSql = "SELECT id FROM user_preferences WHERE preference_key = ?";
+                try (PreparedStatement checkStmt = connection.prepareStatement(checkSql)) {
+                    checkStmt.setString(1, key);
+                    ResultSet rs = checkStmt.executeQuery();
+                    
+                    if (rs.next()) {
+                        // ενημέρωση υπάρχουσας προτίμησης
+                        String updateSql = "UPDATE user_preferences SET preference_value = ?, updated_at = CURRENT_TIMESTAMP WHERE preference_key = ?";
+                        try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
+                            updateStmt.setString(1, value);
+                            updateStmt.setString(2, key);
+                            updateStmt.executeUpdate();
+                            return true;
+                        }
+                    } else {
+                        // εισαγωγή νέας προτίμησης
+                        String insertSql = "INSERT INTO user_preferences (preference_key, preference_value) VALUES (?, ?)";
+                        try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
+                            insertStmt.setString(1, key);
+                            insertStmt.setString(2, value);
+                            insertStmt.executeUpdate();
+                            return true;
+                        }
                     }
                 }
-            }
+            });
         } catch (Exception e) {
             e.printStackTrace();
             return false;
@@ -315,7 +328,7 @@ public class UserData {
     
     // ανάκτηση προτίμησης χρήστη με βάση το key
     public String getPreference(String key) {
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(
                  "SELECT preference_value FROM user_preferences WHERE preference_key = ?")) {
             
@@ -334,7 +347,7 @@ public class UserData {
     // επιστρέφει όλες τις προτιμήσεις χρήστη
     public Map<String, String> getAllPreferences() {
         Map<String, String> preferences = new HashMap<>();
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery("SELECT preference_key, preference_value FROM user_preferences")) {
             
@@ -349,12 +362,14 @@ public class UserData {
     
     // διαγραφή προτίμησης χρήστη
     public boolean deletePreference(String key) {
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(
-                 "DELETE FROM user_preferences WHERE preference_key = ?")) {
-            
-            stmt.setString(1, key);
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConnection.write(connection -> {
+                try (PreparedStatement stmt = connection.prepareStatement(
+                         "DELETE FROM user_preferences WHERE preference_key = ?")) {
+                    stmt.setString(1, key);
+                    return stmt.executeUpdate();
+                }
+            });
             return rowsAffected > 0;
         } catch (Exception e) {
             e.printStackTrace();
@@ -0,0 +1,170 @@
+package ui;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+// αμετάβλητο στιγμιότυπο όλων των ποσών ενός έτους (έσοδα, δαπάνες, υπουργεία, αποκεντρωμένες διοικήσεις, σύνολα)
+// φορτώνεται με ένα SELECT ανά πίνακα και κρατά κάθε γραμμή σε πίνακες primitives:
+// - whole: η τιμή όπως τη δίνει το rs.getLong (ακέραια ευρώ, με αποκοπή)
+// - cents: η τιμή όπως τη διαβάζει το Money.read (σε λεπτά, με στρογγυλοποίηση)
+// ώστε οι getters της BudgetData να δίνουν ακριβώς ό,τι έδιναν διαβάζοντας το ResultSet
+// πίνακας που δεν υπάρχει ή δεν έχει γραμμή για το έτος μετρά ως κενός (όλα τα ποσά 0)
+// αν αποτύχει το SELECT ενός πίνακα που υπάρχει (π.χ. SQLITE_BUSY), το στιγμιότυπο είναι ελλιπές
+// (isComplete() == false) και η BudgetData δεν το κρατά στην cache
+public final class YearSnapshot {
+
+    public static final String REVENUE = "revenue";
+    public static final String EXPENSES = "expenses";
+    public static final String MINISTRIES = "ministries";
+    public static final String DECENTRALIZED = "decentralized_administrations";
+    public static final String SUMMARY = "budget_summary";
+
+    private static final String[] TABLES = {REVENUE, EXPENSES, MINISTRIES, DECENTRALIZED, SUMMARY};
+
+    private final int year;
+    private final Row[] rows;
+    private final boolean complete;
+
+    private YearSnapshot(int year, Row[] rows, boolean complete) {
+        this.year = year;
+        this.rows = rows;
+        this.complete = complete;
+    }
+
+    // στιγμιότυπο χωρίς δεδομένα (π.χ. όταν δεν ήταν δυνατή η σύνδεση με τη βάση)
+    static YearSnapshot empty(int year) {
+        return new YearSnapshot(year, new Row[TABLES.length], false);
+    }
+
+    static YearSnapshot load(Connection connection, int year) {
+        Row[] rows = new Row[TABLES.length];
+        Set<String> present;
+        try {
+            present = existingTables(connection, year);
+        } catch (SQLException e) {
+            System.err.println("Error loading budget tables for " + year + ": " + e.getMessage());
+            return new YearSnapshot(year, rows, false);
+        }
+
+        boolean complete = true;
+        for (int t = 0; t < TABLES.length; t++) {
+            String table = TABLES[t] + "_" + year;
+            if (!present.contains(table)) continue;
+            try (PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + table);
+                 ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    rows[t] = Row.read(rs);
+                }
+            } catch (SQLException e) {
+                System.err.println("Error loading " + table + ": " + e.getMessage());
+                complete = false;
+            }
+        }
+        return new YearSnapshot(year, rows, complete);
+    }
+
+    // οι πίνακες/views του έτους που υπάρχουν, ώστε ένας πίνακας που λείπει να μη μετρά ως σφάλμα
+    private static Set<String> existingTables(Connection connection, int year) throws SQLException {
+        Set<String> present = new HashSet<>();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT name FROM sqlite_master WHERE type IN ('table', 'view') AND name IN (?, ?, ?, ?, ?)")) {
+            for (int t = 0; t < TABLES.length; t++) {
+                stmt.setString(t + 1, TABLES[t] + "_" + year);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    present.add(rs.getString(1));
+                }
+            }
+        }
+        return present;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    // false αν κάποιος πίνακας του έτους δεν διαβάστηκε λόγω σφάλματος
+    public boolean isComplete() {
+        return complete;
+    }
+
+    // αν ο πίνακας έχει γραμμή για το έτος
+    public boolean hasRow(String table) {
+        return row(table) != null;
+    }
+
+    // όπως το rs.getLong(column), 0 αν δεν υπάρχει
+    public long getLong(String table, String column) {
+        Row row = row(table);
+        int index = row == null ? -1 : row.indexOf(column);
+        return index < 0 ? 0 : row.whole[index];
+    }
+
+    // όπως το Money.read(rs, column), ZERO αν δεν υπάρχει ή δεν διαβάζεται
+    public Money getMoney(String table, String column) {
+        Row row = row(table);
+        int index = row == null ? -1 : row.indexOf(column);
+        return index < 0 ? Money.ZERO : Money.ofCents(row.cents[index]);
+    }
+
+    // το ποσό σε ευρώ με τα λεπτά, όπως το Money.read(rs, column).toDouble()
+    public double getAmount(String table, String column) {
+        return getMoney(table, column).toDouble();
+    }
+
+    private Row row(String table) {
+        for (int t = 0; t < TABLES.length; t++) {
+            if (TABLES[t].equals(table)) return rows[t];
+        }
+        throw new IllegalArgumentException("Unknown budget table: " + table);
+    }
+
+    // μία γραμμή: ονόματα στηλών και τιμές στις ίδιες θέσεις
+    private static final class Row {
+        final String[] columns;
+        final long[] whole;
+        final long[] cents;
+
+        Row(String[] columns, long[] whole, long[] cents) {
+            this.columns = columns;
+            this.whole = whole;
+            this.cents = cents;
+        }
+
+        static Row read(ResultSet rs) throws SQLException {
+            ResultSetMetaData meta = rs.getMetaData();
+            int count = meta.getColumnCount();
+            String[] columns = new String[count];
+            long[] whole = new long[count];
+            long[] cents = new long[count];
+            for (int c = 0; c < count; c++) {
+                columns[c] = meta.getColumnLabel(c + 1);
+                try {
+                    whole[c] = rs.getLong(c + 1);
+                } catch (SQLException e) {
+                    whole[c] = 0;
+                }
+                try {
+                    cents[c] = Money.read(rs, c + 1).getCents();
+                } catch (Exception e) {
+                    cents[c] = 0;
+                }
+            }
+            return new Row(columns, whole, cents);
+        }
+
+        // τα ονόματα στηλών του JDBC δεν κάνουν διάκριση πεζών/κεφαλαίων
+        int indexOf(String column) {
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c].equalsIgnoreCase(column)) return c;
+            }
+            return -1;
+        }
+    }
+}
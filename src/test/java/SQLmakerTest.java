@@ -1,6 +1,10 @@
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -41,5 +45,21 @@ class SQLmakerTest {
             assertTrue(tables.next(), "ministries_2025 table should exist");
         }
     }
-}
 
+    @Test
+    void testReloadStopsWhenConversionFails() throws Exception {
+        // Test that a revised PDF that cannot be converted is reported instead of reloading the old CSV
+        int year = 9991;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        try {
+            Files.write(pdf.toPath(), "%PDF-1.4 truncated".getBytes(StandardCharsets.US_ASCII));
+            SQLmaker maker = new SQLmaker();
+            assertThrows(IOException.class, () -> maker.reload(year));
+            assertFalse(csv.exists());
+        } finally {
+            pdf.delete();
+            csv.delete();
+        }
+    }
+}
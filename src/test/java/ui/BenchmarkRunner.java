@@ -0,0 +1,42 @@
+package ui;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+
+/**
+ * Shared entry point for the JMH benchmarks, started with mvn exec:java.
+ */
+final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    // Runs the benchmarks of one class with the forks, warmup and measurement of its annotations
+    static void runBenchmark(Class<?> benchmark) throws Exception {
+        useClassLoaderClasspath();
+        Options options = new OptionsBuilder()
+                .include(benchmark.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    // με exec:java το classpath του project δεν είναι στο java.class.path, που χρησιμοποιεί
+    // το JMH για τα forked JVM, οπότε το περνάμε από τον classloader
+    private static void useClassLoaderClasspath() throws Exception {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader instanceof URLClassLoader) {
+            StringBuilder classpath = new StringBuilder();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                if (classpath.length() > 0) classpath.append(File.pathSeparator);
+                classpath.append(Paths.get(url.toURI()));
+            }
+            System.setProperty("java.class.path", classpath.toString());
+        }
+    }
+}
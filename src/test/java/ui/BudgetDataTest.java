@@ -21,6 +21,22 @@ class BudgetDataTest {
         assertSame(instance1, instance2); // Should be the same instance
     }
 
+    @Test
+    void testSnapshotIsCachedUntilInvalidated() {
+        // Test a year is loaded once and reloaded only after invalidate
+        BudgetData service = BudgetData.getInstance();
+        YearSnapshot first = service.getSnapshot(2025);
+        assertSame(first, service.getSnapshot(2025));
+
+        service.invalidate(2025);
+        YearSnapshot reloaded = service.getSnapshot(2025);
+        assertNotSame(first, reloaded);
+        assertSame(reloaded, service.getSnapshot(2025));
+
+        service.invalidateAll();
+        assertNotSame(reloaded, service.getSnapshot(2025));
+    }
+
     @Test
     void testGetTotalRevenues() {
         BudgetData service = BudgetData.getInstance();
@@ -0,0 +1,222 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for BudgetFacts class, on a temporary database with the old per-year tables.
+ */
+class BudgetFactsTest {
+
+    private File dbFile;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("budgetfacts", ".db").toFile();
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE revenue_2025 (total_revenue MONEY PRIMARY KEY, taxes MONEY, loans MONEY)");
+            stmt.execute("INSERT INTO revenue_2025 VALUES (70000000000, 65000000000, 5000000000)");
+            for (int year = 2023; year <= 2025; year++) {
+                stmt.execute("CREATE TABLE budget_summary_" + year
+                        + " (budget_result MONEY PRIMARY KEY, total_revenue MONEY, total_expenses MONEY)");
+            }
+            stmt.execute("INSERT INTO budget_summary_2023 VALUES (-100, 1000, 1100)");
+            stmt.execute("INSERT INTO budget_summary_2025 VALUES (-300, 3000, 3300)");
+            stmt.execute("CREATE TABLE users (id INTEGER PRIMARY KEY, username TEXT)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        dbFile.delete();
+    }
+
+    private String typeOf(String name) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT type FROM sqlite_master WHERE name = '" + name + "'")) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    @Test
+    void testMigrationReplacesTablesWithViews() throws Exception {
+        // Test every per-year table becomes a view with the same columns and values
+        assertEquals(4, BudgetFacts.migrate(connection));
+
+        assertEquals("view", typeOf("revenue_2025"));
+        assertEquals("view", typeOf("budget_summary_2024"));
+        assertEquals("table", typeOf("users"));
+        assertEquals("table", typeOf("budget_fact"));
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM revenue_2025")) {
+            assertTrue(rs.next());
+            assertEquals("total_revenue", rs.getMetaData().getColumnName(1));
+            assertEquals(70000000000L, rs.getLong("total_revenue"));
+            assertEquals(65000000000L, rs.getLong("taxes"));
+            assertEquals(5000000000L, rs.getLong("loans"));
+            assertFalse(rs.next());
+        }
+
+        // An empty table stays empty
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM budget_summary_2024")) {
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testMigrationIsIdempotent() throws Exception {
+        // Test a second run finds nothing left to migrate
+        BudgetFacts.migrate(connection);
+        assertEquals(0, BudgetFacts.migrate(connection));
+    }
+
+    @Test
+    void testWritesThroughViews() throws Exception {
+        // Test INSERT, UPDATE and DELETE on the views reach budget_fact
+        BudgetFacts.migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO budget_summary_2024 (budget_result, total_revenue, total_expenses) VALUES (-200, 2000, 2200)");
+            stmt.execute("UPDATE revenue_2025 SET taxes = 66000000000 WHERE total_revenue = 70000000000");
+
+            try (ResultSet rs = stmt.executeQuery("SELECT taxes, loans FROM revenue_2025")) {
+                assertTrue(rs.next());
+                assertEquals(66000000000L, rs.getLong("taxes"));
+                assertEquals(5000000000L, rs.getLong("loans"));
+            }
+
+            // The year already has a row, like the old PRIMARY KEY
+            assertThrows(SQLException.class,
+                    () -> stmt.execute("INSERT INTO budget_summary_2024 (budget_result) VALUES (1)"));
+
+            stmt.execute("DELETE FROM budget_summary_2023");
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM budget_summary_2023")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    void testUpdateThroughViewWithBigDecimalParameters() throws Exception {
+        // Test the UPDATE ... WHERE total_revenue = ? of BudgetEditController, bound with setBigDecimal, finds the row
+        BudgetFacts.migrate(connection);
+        BigDecimal currentTotal;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT total_revenue FROM revenue_2025")) {
+            assertTrue(rs.next());
+            currentTotal = rs.getBigDecimal("total_revenue");
+        }
+
+        try (PreparedStatement pstmt = connection.prepareStatement(
+                "UPDATE revenue_2025 SET taxes = ?, loans = ? WHERE total_revenue = ?")) {
+            pstmt.setBigDecimal(1, BigDecimal.valueOf(66000000000.0));
+            pstmt.setBigDecimal(2, BigDecimal.valueOf(4000000000.5));
+            pstmt.setBigDecimal(3, currentTotal);
+            // the INSTEAD OF triggers do not count changed rows, so the values are checked below
+            pstmt.executeUpdate();
+        }
+        try (PreparedStatement pstmt = connection.prepareStatement(
+                "UPDATE revenue_2025 SET total_revenue = ? WHERE total_revenue = ?")) {
+            pstmt.setBigDecimal(1, BigDecimal.valueOf(70000000000.5));
+            pstmt.setBigDecimal(2, currentTotal);
+            pstmt.executeUpdate();
+        }
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT total_revenue, taxes, loans FROM revenue_2025")) {
+            assertTrue(rs.next());
+            assertEquals(Money.ofCents(7000000000050L), Money.read(rs, "total_revenue"));
+            assertEquals(66000000000L, rs.getLong("taxes"));
+            assertEquals(Money.ofCents(400000000050L), Money.read(rs, "loans"));
+        }
+    }
+
+    @Test
+    void testWriteAmountsUpsertsAYearAndItsSummary() throws Exception {
+        // Test an edit save writes existing and missing rows in one batch and the summary follows the totals
+        BudgetFacts.migrate(connection);
+        Map<String, Money> revenue = new LinkedHashMap<>();
+        revenue.put("taxes", Money.ofCents(6600000000050L));
+        revenue.put("total_revenue", Money.ofEuros(71000000000L));
+        assertEquals(2, BudgetFacts.writeAmounts(connection, "revenue_2025", revenue));
+        assertEquals(1, BudgetFacts.writeAmounts(connection, "budget_summary_2024", Map.of("total_revenue", Money.ofEuros(5))));
+        BudgetFacts.recomputeSummary(connection, 2025);
+
+        try (Statement stmt = connection.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT total_revenue, taxes, loans FROM revenue_2025")) {
+                assertTrue(rs.next());
+                assertEquals(Money.ofEuros(71000000000L), Money.read(rs, "total_revenue"));
+                assertEquals(Money.ofCents(6600000000050L), Money.read(rs, "taxes"));
+                assertEquals(5000000000L, rs.getLong("loans"));
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT total_revenue FROM budget_summary_2024")) {
+                assertTrue(rs.next());
+                assertEquals(5, rs.getLong("total_revenue"));
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT total_revenue, budget_result FROM budget_summary_2025")) {
+                assertTrue(rs.next());
+                assertEquals(71000000000L, rs.getLong("total_revenue"));
+                assertEquals(71000000000L, rs.getLong("budget_result"));
+            }
+        }
+    }
+
+    @Test
+    void testWriteAmountsRejectsUnknownColumns() throws Exception {
+        // Test a column the year's view does not have fails before anything is written
+        BudgetFacts.migrate(connection);
+        assertThrows(SQLException.class, () -> BudgetFacts.writeAmounts(connection, "revenue_2025",
+                Map.of("taxes", Money.ofEuros(1), "no_such_column", Money.ofEuros(1))));
+        assertThrows(SQLException.class, () -> BudgetFacts.writeAmounts(connection, "revenue_2031",
+                Map.of("taxes", Money.ofEuros(1))));
+        assertThrows(IllegalArgumentException.class, () -> BudgetFacts.writeAmounts(connection, "users",
+                Map.of("username", Money.ofEuros(1))));
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT taxes FROM revenue_2025")) {
+            assertTrue(rs.next());
+            assertEquals(65000000000L, rs.getLong("taxes"));
+        }
+    }
+
+    @Test
+    void testAcrossYearsIsOneQuery() throws Exception {
+        // Test a category is read for a range of years, skipping years without data
+        BudgetFacts.migrate(connection);
+        Map<Integer, Money> revenue = BudgetFacts.acrossYears(connection, BudgetFacts.SUMMARY, "total_revenue", 2020, 2030);
+
+        assertEquals(2, revenue.size());
+        assertEquals(Money.ofEuros(1000), revenue.get(2023));
+        assertEquals(Money.ofEuros(3000), revenue.get(2025));
+        assertEquals(1, BudgetFacts.acrossYears(connection, BudgetFacts.SUMMARY, "total_revenue", 2024, 2025).size());
+    }
+
+    @Test
+    void testCreateTableIfNotExistsOnViewIsIgnored() throws Exception {
+        // Test code that still runs CREATE TABLE IF NOT EXISTS for a year keeps the view
+        BudgetFacts.migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS budget_summary_2025 (budget_result MONEY PRIMARY KEY)");
+        }
+        assertEquals("view", typeOf("budget_summary_2025"));
+    }
+}
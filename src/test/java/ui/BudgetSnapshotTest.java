@@ -0,0 +1,190 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Unit tests for BudgetSnapshot class, between two temporary databases.
+ */
+class BudgetSnapshotTest {
+
+    private File sourceFile;
+    private File targetFile;
+    private File snapshot;
+    private Connection source;
+    private Connection target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sourceFile = Files.createTempFile("snapshot-source", ".db").toFile();
+        targetFile = Files.createTempFile("snapshot-target", ".db").toFile();
+        snapshot = Files.createTempFile("budget", ".snapshot").toFile();
+        source = DriverManager.getConnection("jdbc:sqlite:" + sourceFile.getPath());
+        target = DriverManager.getConnection("jdbc:sqlite:" + targetFile.getPath());
+
+        SchemaMigrations.migrate(source);
+        try (Statement stmt = source.createStatement()) {
+            stmt.execute("INSERT INTO revenue_2025 (total_revenue, taxes, loans) VALUES (70000000000, 65000000000, 1234.5)");
+            stmt.execute("INSERT INTO budget_summary_2025 (budget_result, total_revenue) VALUES (-300, 70000000000)");
+            stmt.execute("INSERT INTO international_indicators (country_code, country_name, year, indicator, value) "
+                    + "VALUES ('GRC', 'Ελλάδα', 2024, 'GDP', 1.5)");
+            stmt.execute("INSERT INTO users (username, password) VALUES ('source', 'x')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        source.close();
+        target.close();
+        sourceFile.delete();
+        targetFile.delete();
+        snapshot.delete();
+    }
+
+    private static List<String> rows(Connection connection, String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int c = 1; c <= columns; c++) {
+                    row.append(rs.getString(c)).append('|');
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void testExportAndImportRoundTrip() throws Exception {
+        // Test budget tables arrive unchanged, with the same storage types, and users are left alone
+        BudgetSnapshot.Report exported = BudgetSnapshot.export(source, snapshot);
+        assertEquals(BudgetSnapshot.TABLES.size(), exported.getTables());
+
+        SchemaMigrations.migrate(target);
+        try (Statement stmt = target.createStatement()) {
+            stmt.execute("INSERT INTO users (username, password) VALUES ('target', 'y')");
+        }
+        BudgetSnapshot.Report imported = BudgetSnapshot.importFrom(target, snapshot);
+        assertEquals(exported.getRows(), imported.getRows());
+
+        String facts = "SELECT year, section, category_code, amount, typeof(amount) FROM budget_fact "
+                + "ORDER BY year, section, category_code";
+        assertEquals(rows(source, facts), rows(target, facts));
+        assertEquals(rows(source, "SELECT * FROM revenue_2025"), rows(target, "SELECT * FROM revenue_2025"));
+        assertEquals(rows(source, "SELECT * FROM international_indicators"),
+                rows(target, "SELECT * FROM international_indicators"));
+        assertEquals(List.of("target|"), rows(target, "SELECT username FROM users"));
+    }
+
+    @Test
+    void testImportReplacesExistingBudgetData() throws Exception {
+        // Test an import into a populated database replaces its budget rows
+        BudgetSnapshot.export(source, snapshot);
+        SchemaMigrations.migrate(target);
+        try (Statement stmt = target.createStatement()) {
+            stmt.execute("INSERT INTO revenue_2026 (total_revenue) VALUES (1)");
+        }
+
+        BudgetSnapshot.importFrom(target, snapshot);
+        BudgetSnapshot.importFrom(target, snapshot);
+
+        assertTrue(rows(target, "SELECT * FROM revenue_2026").isEmpty());
+        assertEquals(rows(source, "SELECT * FROM budget_fact"), rows(target, "SELECT * FROM budget_fact"));
+    }
+
+    @Test
+    void testCorruptSnapshotIsRolledBack() throws Exception {
+        // Test a snapshot with a changed byte is rejected and the database is unchanged
+        BudgetSnapshot.export(source, snapshot);
+        byte[] payload;
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(snapshot.toPath()))) {
+            payload = in.readAllBytes();
+        }
+        payload[payload.length - 1] ^= 1;
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(snapshot.toPath()))) {
+            out.write(payload);
+        }
+
+        SchemaMigrations.migrate(target);
+        try (Statement stmt = target.createStatement()) {
+            stmt.execute("INSERT INTO revenue_2026 (total_revenue) VALUES (1)");
+        }
+        assertThrows(IOException.class, () -> BudgetSnapshot.importFrom(target, snapshot));
+        assertEquals(List.of("1|"), rows(target, "SELECT total_revenue FROM revenue_2026"));
+        assertTrue(target.getAutoCommit());
+    }
+
+    @Test
+    void testExportReplacesPreviousSnapshot() throws Exception {
+        // Test a new export takes the place of the old file, and a failed one leaves it untouched
+        File part = new File(snapshot.getPath() + ".part");
+        BudgetSnapshot.export(source, snapshot);
+        try (Statement stmt = source.createStatement()) {
+            stmt.execute("INSERT INTO revenue_2026 (total_revenue) VALUES (1)");
+        }
+        BudgetSnapshot.export(source, snapshot);
+        assertFalse(part.exists());
+        byte[] previous = Files.readAllBytes(snapshot.toPath());
+
+        Connection closed = DriverManager.getConnection("jdbc:sqlite:" + sourceFile.getPath());
+        closed.close();
+        assertThrows(SQLException.class, () -> BudgetSnapshot.export(closed, snapshot));
+        assertArrayEquals(previous, Files.readAllBytes(snapshot.toPath()));
+        assertFalse(part.exists());
+
+        SchemaMigrations.migrate(target);
+        BudgetSnapshot.importFrom(target, snapshot);
+        assertEquals(List.of("1|"), rows(target, "SELECT total_revenue FROM revenue_2026"));
+    }
+
+    @Test
+    void testTruncatedSnapshotIsRejected() throws Exception {
+        // Test a snapshot cut short fails instead of importing part of the data
+        BudgetSnapshot.export(source, snapshot);
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        assertThrows(IOException.class, () -> BudgetSnapshot.importFrom(target, snapshot));
+    }
+
+    @Test
+    void testImportThroughWriterKeepsIOException() {
+        // Test an unreadable snapshot imported through the database writer still fails with an IOException
+        assertThrows(IOException.class, () -> BudgetSnapshot.importFrom(snapshot));
+    }
+
+    @Test
+    void testBackupAndRestore() throws Exception {
+        // Test the whole database, users included, is copied with the backup API
+        File backup = Files.createTempFile("budget", ".db").toFile();
+        try {
+            BudgetSnapshot.backup(source, backup);
+            BudgetSnapshot.restore(target, backup);
+
+            assertEquals(rows(source, "SELECT * FROM budget_fact"), rows(target, "SELECT * FROM budget_fact"));
+            assertEquals(List.of("source|"), rows(target, "SELECT username FROM users"));
+            assertEquals(SchemaMigrations.LATEST_VERSION, SchemaMigrations.getVersion(target));
+        } finally {
+            backup.delete();
+        }
+    }
+}
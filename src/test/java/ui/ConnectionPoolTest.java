@@ -0,0 +1,215 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit tests for ConnectionPool class, on a temporary database.
+ */
+class ConnectionPoolTest {
+
+    private File dbFile;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("pool", ".db").toFile();
+        try (Connection connection = open(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE t (x INTEGER)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        dbFile.delete();
+    }
+
+    private Connection open() throws SQLException {
+        return DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+    }
+
+    private int count(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    void testConnectionsAreReused() throws Exception {
+        // Test a closed handle returns its connection to the pool for the next caller
+        pool = new ConnectionPool(this::open, 2, 1000, 0);
+        Connection first = pool.acquire();
+        Connection physical = first.unwrap(Connection.class);
+        first.close();
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, first::createStatement);
+
+        try (Connection second = pool.acquire()) {
+            assertFalse(second.isClosed());
+            assertSame(physical, second.unwrap(Connection.class));
+        }
+        assertEquals(1, pool.getStats().getCreated());
+        assertEquals(2, pool.getStats().getAcquisitions());
+    }
+
+    @Test
+    void testPoolIsBounded() throws Exception {
+        // Test a caller waits for a free connection and gives up after the timeout
+        pool = new ConnectionPool(this::open, 1, 50, 0);
+        try (Connection held = pool.acquire()) {
+            assertEquals(1, pool.getStats().getActive());
+            assertThrows(SQLException.class, pool::acquire);
+            assertEquals(1, pool.getStats().getTimeouts());
+        }
+        try (Connection again = pool.acquire()) {
+            assertNotNull(again);
+        }
+        assertEquals(0, pool.getStats().getActive());
+        assertEquals(1, pool.getStats().getIdle());
+    }
+
+    @Test
+    void testOpenTransactionIsRolledBack() throws Exception {
+        // Test a connection returned in the middle of a transaction is reset
+        pool = new ConnectionPool(this::open, 1, 1000, 0);
+        try (Connection connection = pool.acquire(); Statement stmt = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            stmt.execute("INSERT INTO t VALUES (1)");
+        }
+        try (Connection connection = pool.acquire()) {
+            assertTrue(connection.getAutoCommit());
+            assertEquals(0, count(connection));
+        }
+    }
+
+    @Test
+    void testForgottenStatementsAreClosed() throws Exception {
+        // Test statements left open by the caller are closed when the handle is returned
+        pool = new ConnectionPool(this::open, 1, 1000, 0);
+        Statement forgotten;
+        try (Connection connection = pool.acquire()) {
+            forgotten = connection.createStatement();
+            forgotten.executeQuery("SELECT * FROM t");
+        }
+        assertTrue(forgotten.isClosed());
+    }
+
+    @Test
+    void testBrokenConnectionIsDiscarded() throws Exception {
+        // Test a connection closed underneath the pool is replaced
+        pool = new ConnectionPool(this::open, 1, 1000, 0);
+        try (Connection connection = pool.acquire()) {
+            connection.unwrap(Connection.class).close();
+        }
+        try (Connection connection = pool.acquire()) {
+            assertEquals(0, count(connection));
+        }
+        assertEquals(2, pool.getStats().getCreated());
+        assertEquals(1, pool.getStats().getDiscarded());
+    }
+
+    @Test
+    void testLeakIsReported() throws Exception {
+        // Test a connection held longer than the threshold is counted as a leak once
+        pool = new ConnectionPool(this::open, 1, 1000, 50);
+        try (Connection held = pool.acquire()) {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pool.getStats().getLeaks() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            Thread.sleep(150);
+        }
+        assertEquals(1, pool.getStats().getLeaks());
+    }
+
+    @Test
+    void testPreparedStatementsAreCached() throws Exception {
+        // Test the same SQL is prepared once per connection and reused after the handle is returned
+        pool = new ConnectionPool(this::open, 1, 1000, 0, 4);
+        PreparedStatement physical;
+        try (Connection connection = pool.acquire();
+             PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM t")) {
+            physical = stmt.unwrap(PreparedStatement.class);
+            stmt.executeQuery().close();
+        }
+        try (Connection connection = pool.acquire();
+             PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM t");
+             ResultSet rs = stmt.executeQuery()) {
+            assertSame(physical, stmt.unwrap(PreparedStatement.class));
+            rs.next();
+            assertEquals(0, rs.getInt(1));
+        }
+        assertFalse(physical.isClosed());
+        assertEquals(1, pool.getStats().getStatementHits());
+        assertEquals(1, pool.getStats().getStatementMisses());
+    }
+
+    @Test
+    void testSameSqlInUseGetsSeparateStatement() throws Exception {
+        // Test preparing SQL that is already in use on the connection gives an independent statement
+        pool = new ConnectionPool(this::open, 1, 1000, 0, 4);
+        try (Connection connection = pool.acquire();
+             PreparedStatement first = connection.prepareStatement("SELECT x FROM t WHERE x > ?");
+             PreparedStatement second = connection.prepareStatement("SELECT x FROM t WHERE x > ?")) {
+            assertNotSame(first.unwrap(PreparedStatement.class), second.unwrap(PreparedStatement.class));
+            first.setInt(1, 0);
+            second.setInt(1, 0);
+            try (ResultSet a = first.executeQuery(); ResultSet b = second.executeQuery()) {
+                assertFalse(a.next());
+                assertFalse(b.next());
+            }
+        }
+        assertEquals(2, pool.getStats().getStatementMisses());
+    }
+
+    @Test
+    void testForgottenCachedStatementIsReset() throws Exception {
+        // Test a cached statement left with an open result set does not keep the database locked
+        pool = new ConnectionPool(this::open, 1, 1000, 0, 4);
+        PreparedStatement forgotten;
+        try (Connection connection = pool.acquire()) {
+            forgotten = connection.prepareStatement("SELECT * FROM t");
+            forgotten.executeQuery();
+        }
+        assertTrue(forgotten.isClosed());
+        try (Connection other = open(); Statement stmt = other.createStatement()) {
+            stmt.execute("INSERT INTO t VALUES (1)");
+        }
+        try (Connection connection = pool.acquire()) {
+            assertEquals(1, count(connection));
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsEvicted() throws Exception {
+        // Test the cache keeps at most its size and closes the statements it evicts
+        pool = new ConnectionPool(this::open, 1, 1000, 0, 1);
+        PreparedStatement evicted;
+        try (Connection connection = pool.acquire()) {
+            try (PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM t")) {
+                evicted = stmt.unwrap(PreparedStatement.class);
+            }
+            connection.prepareStatement("SELECT x FROM t").close();
+            connection.prepareStatement("SELECT COUNT(*) FROM t").close();
+        }
+        assertTrue(evicted.isClosed());
+        assertEquals(0, pool.getStats().getStatementHits());
+        assertEquals(3, pool.getStats().getStatementMisses());
+    }
+}
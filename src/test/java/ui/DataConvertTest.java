@@ -1,8 +1,18 @@
 package ui;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Unit tests for DataConvert class.
  */
@@ -33,5 +43,220 @@ class DataConvertTest {
             DataConvert.convertiontool(2026);
         });
     }
-}
 
+    @Test
+    void testParallelConversionMatchesSerial() throws Exception {
+        // Test that splitting pages across workers produces the same CSV as the serial path
+        int year = 9998;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        try {
+            writeSamplePdf(pdf, 7);
+
+            DataConvert.convertiontool(year, 1);
+            byte[] serial = Files.readAllBytes(csv.toPath());
+
+            DataConvert.convertiontool(year, 3);
+            byte[] parallel = Files.readAllBytes(csv.toPath());
+
+            assertTrue(serial.length > 0);
+            assertArrayEquals(serial, parallel);
+        } finally {
+            pdf.delete();
+            csv.delete();
+        }
+    }
+
+    @Test
+    void testMemoryModesProduceSameCsv() throws Exception {
+        // Test that loading through temp files or a mixed cache gives the same CSV as main memory
+        int year = 9995;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        String mode = DataConvert.getMemoryMode();
+        try {
+            writeSamplePdf(pdf, 5);
+
+            DataConvert.setMemoryUsage("main", 0);
+            DataConvert.convertiontool(year, 1);
+            byte[] main = Files.readAllBytes(csv.toPath());
+
+            DataConvert.setMemoryUsage("tempfile", 0);
+            DataConvert.convertiontool(year, 2);
+            assertArrayEquals(main, Files.readAllBytes(csv.toPath()));
+
+            DataConvert.setMemoryUsage("mixed", 1024);
+            DataConvert.convertiontool(year, 1);
+            assertArrayEquals(main, Files.readAllBytes(csv.toPath()));
+
+            assertThrows(IllegalArgumentException.class, () -> DataConvert.setMemoryUsage("disk", 0));
+        } finally {
+            DataConvert.setMemoryUsage(mode, 64L * 1024 * 1024);
+            pdf.delete();
+            csv.delete();
+        }
+    }
+
+    @Test
+    void testSummaryModeWithoutLawPagesConvertsEverything() throws Exception {
+        // Test that summary mode falls back to the whole document when no law pages are recognised
+        int year = 9994;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        try {
+            writeSamplePdf(pdf, 3);
+
+            assertTrue(DataConvert.convertiontool(year, 1, false));
+            byte[] full = Files.readAllBytes(csv.toPath());
+
+            assertTrue(DataConvert.convertiontool(year, 1, true));
+            assertArrayEquals(full, Files.readAllBytes(csv.toPath()));
+        } finally {
+            pdf.delete();
+            csv.delete();
+        }
+    }
+
+    @Test
+    void testFailedConversionKeepsPreviousCsv() throws Exception {
+        // Test that a conversion failing partway leaves the previous CSV in place and no .part file
+        int year = 9993;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        File part = new File(csv.getPath() + ".part");
+        try {
+            writeSamplePdf(pdf, 2);
+            assertTrue(DataConvert.convertiontool(year, 1));
+            byte[] previous = Files.readAllBytes(csv.toPath());
+
+            Files.write(pdf.toPath(), "%PDF-1.4 truncated".getBytes(StandardCharsets.US_ASCII));
+            assertFalse(DataConvert.convertiontool(year, 1));
+            assertArrayEquals(previous, Files.readAllBytes(csv.toPath()));
+            assertFalse(part.exists());
+        } finally {
+            pdf.delete();
+            csv.delete();
+            part.delete();
+        }
+    }
+
+    @Test
+    void testConcurrentConversionOfDifferentYears() throws Exception {
+        // Test that two years can be converted at the same time without mixing their output
+        File pdfA = new File("proipologismos9996.pdf");
+        File pdfB = new File("proipologismos9997.pdf");
+        File csvA = new File("proipologismos9996.csv");
+        File csvB = new File("proipologismos9997.csv");
+        try {
+            writeSamplePdf(pdfA, 4);
+            writeSamplePdf(pdfB, 9);
+
+            DataConvert.convertiontool(9996, 1);
+            byte[] expectedA = Files.readAllBytes(csvA.toPath());
+            DataConvert.convertiontool(9997, 1);
+            byte[] expectedB = Files.readAllBytes(csvB.toPath());
+
+            Thread other = new Thread(() -> DataConvert.convertiontool(9996, 2));
+            other.start();
+            DataConvert.convertiontool(9997, 2);
+            other.join();
+
+            assertArrayEquals(expectedA, Files.readAllBytes(csvA.toPath()));
+            assertArrayEquals(expectedB, Files.readAllBytes(csvB.toPath()));
+        } finally {
+            pdfA.delete();
+            pdfB.delete();
+            csvA.delete();
+            csvB.delete();
+        }
+    }
+
+    @Test
+    void testMissingRowIsAddedAfterItsNeighbour() throws Exception {
+        // Test that the 2023 Crete row is inserted after the Aegean row when the PDF lacks it
+        List<TableRow> out = new ArrayList<>();
+        DataConvert.RowFixes fixes = new DataConvert.RowFixes(DataConvert.fixesFor(2023), out::add);
+        fixes.accept(row("Αποκεντρωμένη Διοίκηση Αιγαίου", "1905", "7.149.000", "0", "7.149.000"));
+        fixes.accept(row("Αποκεντρωμένη Διοίκηση Μακεδονίας - Θράκης", "1907", "19.640.000", "0", "19.640.000"));
+        fixes.finish();
+
+        assertEquals(3, out.size());
+        assertEquals("1906", out.get(1).getCode());
+        assertEquals("Αποκεντρωμένη Διοίκηση Κρήτης", out.get(1).getLabel());
+        assertEquals(Money.ofEuros(6_068_000), out.get(1).getAmount(0));
+        assertEquals("1907", out.get(2).getCode());
+    }
+
+    @Test
+    void testWrongAmountsAreReplaced() throws Exception {
+        // Test that a row with known wrong amounts is replaced once and a year without fixes passes through
+        List<TableRow> out = new ArrayList<>();
+        DataConvert.RowFixes fixes = new DataConvert.RowFixes(DataConvert.fixesFor(2023), out::add);
+        fixes.accept(row("Αποκεντρωμένη Διοίκηση Αιγαίου", "1905", "7.149.000", "0", "7.149.000"));
+        fixes.accept(row("Αποκεντρωμένη Διοίκηση Κρήτης", "1906", "1", "0", "1"));
+        fixes.finish();
+
+        assertEquals(2, out.size());
+        assertEquals(Money.ofEuros(6_068_000), out.get(1).getAmount(2));
+
+        List<TableRow> plain = new ArrayList<>();
+        DataConvert.RowFixes none = new DataConvert.RowFixes(DataConvert.fixesFor(2026), plain::add);
+        TableRow crete = row("Αποκεντρωμένη Διοίκηση Κρήτης", "1906", "7.311.000", "0", "7.311.000");
+        none.accept(crete);
+        none.finish();
+        assertEquals(List.of(crete), plain);
+    }
+
+    @Test
+    void testConvertedCsvHasTypedRows() throws Exception {
+        // Test that the CSV written by convertiontool has the typed header and parses back into rows
+        int year = 9992;
+        File pdf = new File("proipologismos" + year + ".pdf");
+        File csv = new File("proipologismos" + year + ".csv");
+        try {
+            writeSamplePdf(pdf, 2);
+            assertTrue(DataConvert.convertiontool(year, 1));
+
+            List<String> lines = Files.readAllLines(csv.toPath(), StandardCharsets.UTF_8);
+            assertEquals(TableRow.HEADER, lines.get(0));
+            // the sample lines are single text runs, so they stay labels and wrap into one row per page
+            TableRow first = TableRow.parse(lines.get(1), false);
+            assertEquals(1, first.getPage());
+            assertTrue(first.getLabel().startsWith("Category 1 page 1 "));
+            assertEquals(2, TableRow.parse(lines.get(lines.size() - 1), false).getPage());
+        } finally {
+            pdf.delete();
+            csv.delete();
+        }
+    }
+
+    private static TableRow row(String label, String code, String... amounts) {
+        List<Money> values = new ArrayList<>();
+        for (String amount : amounts) {
+            values.add(Money.parse(amount));
+        }
+        return new TableRow(3, label, code, values);
+    }
+
+    // creates a small PDF with a few text/number lines per page
+    static void writeSamplePdf(File file, int pages) throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            for (int p = 1; p <= pages; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 11);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 700);
+                    for (int line = 1; line <= 5; line++) {
+                        content.showText("Category " + line + " page " + p + " 1.234." + line + "00 0 " + (p * line));
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package ui;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
 /**
  * Unit tests for DataDownload class.
@@ -23,6 +25,20 @@ class DataDownloadTest {
         });
     }
 
+    @Test
+    void testFailedConversionStopsTheYear() throws Exception {
+        // Test that the convert stage throws when there is nothing to convert, so the year never reaches insert
+        File directory = Files.createTempDirectory("download").toFile();
+        try {
+            DownloadManifest manifest = DownloadManifest.load(directory);
+            File pdf = new File(directory, "proipologismos9992.pdf");
+            assertThrows(IOException.class, () -> DataDownload.convert(manifest, pdf, 9992));
+            assertNull(manifest.entry(9992));
+        } finally {
+            directory.delete();
+        }
+    }
+
     @Test
     void testYearOfField() {
         // Test that yearof is accessible
@@ -3,8 +3,14 @@ package ui;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
 
 /**
  * Unit tests for DatabaseConnection utility class.
@@ -65,5 +71,47 @@ class DatabaseConnectionTest {
             // If database doesn't exist, skip this test
         }
     }
-}
 
+    @Test
+    void testApplyProfile() throws Exception {
+        // Test the tuned profile switches a database to WAL and sets the connection pragmas
+        File dbFile = Files.createTempFile("profile", ".db").toFile();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath())) {
+            DatabaseConnection.applyProfile(connection, DatabaseConnection.defaultProfile());
+            try (Statement stmt = connection.createStatement()) {
+                assertEquals("wal", pragma(stmt, "journal_mode"));
+                assertEquals("1", pragma(stmt, "synchronous"));
+                assertEquals("2", pragma(stmt, "temp_store"));
+                assertEquals("-16384", pragma(stmt, "cache_size"));
+            }
+        } finally {
+            dbFile.delete();
+        }
+    }
+
+    @Test
+    void testInvalidPragmaIsRejected() {
+        // Test pragma names and values that are not plain words are refused
+        assertThrows(IllegalArgumentException.class,
+                () -> DatabaseConnection.setProfile(Map.of("cache_size", "1; DROP TABLE users")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DatabaseConnection.setProfile(Map.of("cache size", "1")));
+    }
+
+    @Test
+    void testReadConnectionRejectsWrites() {
+        // Test connections from the read pool are query-only
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             Statement stmt = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.execute("CREATE TABLE read_only_check (x INTEGER)"));
+        } catch (SQLException e) {
+            // If database doesn't exist, skip this test
+        }
+    }
+
+    private static String pragma(Statement stmt, String name) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ui;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of read and write latency on a copy of the bundled BudgetData.db, with the default
+ * SQLite settings and with the tuned DatabaseConnection profile (WAL, synchronous=NORMAL, mmap, cache).
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=ui.DatabaseProfileBenchmark -Dexec.classpathScope=test
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseProfileBenchmark {
+
+    private static final String[] SECTIONS = {
+            BudgetFacts.REVENUE, BudgetFacts.EXPENSES, BudgetFacts.MINISTRIES, BudgetFacts.DECENTRALIZED};
+    private static final int CODES = 50;
+
+    @Param({"default", "tuned"})
+    public String profile;
+
+    private File dbFile;
+    private Connection connection;
+    private PreparedStatement read;
+    private PreparedStatement write;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("profile-benchmark", ".db").toFile();
+        Files.copy(Paths.get("src/main/resources/database/BudgetData.db"), dbFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        connection = open();
+        SchemaMigrations.migrate(connection);
+        // ποσά για όλα τα έτη, ώστε οι αναγνώσεις να βρίσκουν γραμμές
+        connection.setAutoCommit(false);
+        try (PreparedStatement upsert = connection.prepareStatement(BudgetFacts.UPSERT)) {
+            for (int year = 2023; year <= 2027; year++) {
+                for (String section : SECTIONS) {
+                    for (int code = 0; code < CODES; code++) {
+                        BudgetFacts.upsert(upsert, year, section, "c" + code, Money.ofEuros(year * 1000L + code));
+                    }
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        read = connection.prepareStatement(
+                "SELECT SUM(amount) FROM budget_fact WHERE year = ? AND section = ?");
+        write = connection.prepareStatement(BudgetFacts.UPSERT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        read.close();
+        write.close();
+        connection.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    private Connection open() throws SQLException {
+        Connection opened = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+        DatabaseConnection.applyProfile(opened,
+                "tuned".equals(profile) ? DatabaseConnection.defaultProfile() : Collections.emptyMap());
+        return opened;
+    }
+
+    // ανάγνωση ενός συνόλου, όπως οι getters της BudgetData
+    @Benchmark
+    public long read() throws SQLException {
+        counter++;
+        read.setInt(1, 2023 + (int) (counter % 5));
+        read.setString(2, SECTIONS[(int) (counter % SECTIONS.length)]);
+        try (ResultSet rs = read.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    // μία εγγραφή ανά συναλλαγή (autocommit), όπως η αποθήκευση από την επεξεργασία προϋπολογισμού
+    @Benchmark
+    public int write() throws SQLException {
+        counter++;
+        BudgetFacts.upsert(write, 2026, SECTIONS[(int) (counter % SECTIONS.length)], "c" + (counter % CODES),
+                Money.ofEuros(counter));
+        return write.executeUpdate();
+    }
+
+    // άνοιγμα σύνδεσης με το προφίλ, ένα μόνο query και κλείσιμο
+    @Benchmark
+    public boolean connect() throws SQLException {
+        try (Connection opened = open()) {
+            return opened.isValid(1);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.runBenchmark(DatabaseProfileBenchmark.class);
+    }
+}
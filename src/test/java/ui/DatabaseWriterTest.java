@@ -0,0 +1,192 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for DatabaseWriter class, on a temporary database.
+ */
+class DatabaseWriterTest {
+
+    private File dbFile;
+    private DatabaseWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("writer", ".db").toFile();
+        try (Connection connection = open(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE t (x INTEGER UNIQUE)");
+        }
+        writer = new DatabaseWriter(this::open);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        dbFile.delete();
+    }
+
+    private Connection open() throws SQLException {
+        return DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+    }
+
+    private int count() throws SQLException {
+        try (Connection connection = open();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static DatabaseWriter.WriteTask<Integer> insert(int x) {
+        return connection -> {
+            try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO t VALUES (?)")) {
+                stmt.setInt(1, x);
+                return stmt.executeUpdate();
+            }
+        };
+    }
+
+    @Test
+    void testExecuteReturnsAfterCommit() throws Exception {
+        // Test a write is visible to other connections once execute returns
+        assertEquals(1, writer.execute(insert(1)));
+        assertEquals(1, count());
+    }
+
+    @Test
+    void testQueuedWritesAreGroupCommitted() throws Exception {
+        // Test writes queued behind a busy writer are committed together
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocker = writer.submit(connection -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        started.await();
+
+        List<CompletableFuture<Integer>> writes = new ArrayList<>();
+        for (int x = 0; x < 50; x++) {
+            writes.add(writer.submit(insert(x)));
+        }
+        release.countDown();
+        blocker.get();
+        for (CompletableFuture<Integer> write : writes) {
+            assertEquals(1, write.get());
+        }
+
+        assertEquals(50, count());
+        assertEquals(51, writer.getTasks());
+        assertEquals(2, writer.getCommits());
+    }
+
+    @Test
+    void testFailedTaskDoesNotUndoOthers() throws Exception {
+        // Test a failing task in a batch is rolled back alone and reports its own error
+        CountDownLatch release = new CountDownLatch(1);
+        writer.submit(connection -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        CompletableFuture<Integer> first = writer.submit(insert(1));
+        CompletableFuture<Integer> failing = writer.submit(connection -> {
+            insert(2).run(connection);
+            return insert(1).run(connection);
+        });
+        CompletableFuture<Integer> last = writer.submit(insert(3));
+        release.countDown();
+
+        assertEquals(1, first.get());
+        assertEquals(1, last.get());
+        ExecutionException error = assertThrows(ExecutionException.class, failing::get);
+        assertTrue(error.getCause() instanceof SQLException);
+        assertEquals(2, count());
+    }
+
+    @Test
+    void testExecuteRethrowsSqlException() {
+        // Test execute surfaces the task's SQLException to the caller
+        assertThrows(SQLException.class, () -> writer.execute(connection -> {
+            try (Statement stmt = connection.createStatement()) {
+                return stmt.execute("INSERT INTO missing VALUES (1)");
+            }
+        }));
+    }
+
+    @Test
+    void testNestedExecuteRunsInline() throws Exception {
+        // Test a task may call execute again without waiting on itself
+        int rows = writer.execute(connection -> insert(1).run(connection) + writer.execute(insert(2)));
+        assertEquals(2, rows);
+        assertEquals(2, count());
+    }
+
+    @Test
+    void testShutdownDrainsQueue() throws Exception {
+        // Test writes submitted before shutdown are still committed, later ones are refused
+        CompletableFuture<Integer> queued = writer.submit(insert(1));
+        writer.shutdown();
+        assertEquals(1, queued.get());
+        assertEquals(1, count());
+        assertThrows(ExecutionException.class, () -> writer.submit(insert(2)).get());
+    }
+
+    @Test
+    void testSubmitDuringShutdownAlwaysCompletes() throws Exception {
+        // Test every write submitted while the writer stops is either committed or refused, never left waiting
+        for (int round = 0; round < 20; round++) {
+            DatabaseWriter stopping = new DatabaseWriter(this::open);
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread submitter = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 200; i++) {
+                    futures.add(stopping.submit(connection -> 0));
+                }
+            });
+            submitter.start();
+            start.countDown();
+            stopping.shutdown();
+            submitter.join();
+
+            for (CompletableFuture<Integer> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException refused) {
+                    assertTrue(refused.getCause() instanceof SQLException);
+                }
+            }
+        }
+    }
+}
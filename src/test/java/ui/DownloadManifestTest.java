@@ -0,0 +1,99 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Unit tests for DownloadManifest class.
+ */
+class DownloadManifestTest {
+
+    private File directory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        directory = Files.createTempDirectory("manifest").toFile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (File f : directory.listFiles()) {
+            f.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    void testSha256() throws Exception {
+        // Test the hash of a known input
+        File f = new File(directory, "abc.txt");
+        Files.write(f.toPath(), "abc".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                DownloadManifest.sha256(f));
+    }
+
+    @Test
+    void testSaveAndLoad() throws Exception {
+        // Test entries survive a save/load round trip
+        DownloadManifest manifest = DownloadManifest.load(directory);
+        assertFalse(manifest.exists());
+        manifest.recordDownload(2024, "http://example/2024.pdf", "\"abc\"", "Mon, 01 Jan 2024 00:00:00 GMT", 42, "aa");
+        manifest.recordConversion(2024, 42, "aa", "bb", "full");
+        manifest.save();
+
+        DownloadManifest loaded = DownloadManifest.load(directory);
+        assertTrue(loaded.exists());
+        DownloadManifest.Entry entry = loaded.entry(2024);
+        assertEquals("http://example/2024.pdf", entry.getUrl());
+        assertEquals("\"abc\"", entry.getEtag());
+        assertEquals("Mon, 01 Jan 2024 00:00:00 GMT", entry.getLastModified());
+        assertEquals(42, entry.getPdfSize());
+        assertEquals("aa", entry.getConvertedFrom());
+        assertEquals("bb", entry.getCsvSha256());
+        assertEquals("full", entry.getCsvMode());
+        assertNull(loaded.entry(2025));
+    }
+
+    @Test
+    void testUnchangedManifestIsNotWritten() throws Exception {
+        // Test save() does nothing when nothing was recorded
+        DownloadManifest.load(directory).save();
+        assertFalse(new File(directory, DownloadManifest.FILE_NAME).exists());
+    }
+
+    @Test
+    void testIsConverted() throws Exception {
+        // Test conversion is skipped only for the same PDF hash and an untouched CSV
+        File csv = new File(directory, "proipologismos2025.csv");
+        Files.write(csv.toPath(), "Σελίδα,Κείμενο,Αριθμοί\n".getBytes(StandardCharsets.UTF_8));
+
+        DownloadManifest manifest = DownloadManifest.load(directory);
+        assertFalse(manifest.isConverted(2025, "pdf1", csv, "full"));
+
+        manifest.recordConversion(2025, 10, "pdf1", DownloadManifest.sha256(csv), "full");
+        assertTrue(manifest.isConverted(2025, "pdf1", csv, "full"));
+        assertTrue(manifest.isConverted(2025, "pdf1", csv, "summary"));
+        assertFalse(manifest.isConverted(2025, "pdf2", csv, "full"));
+
+        // A summary CSV is not enough when the full one is wanted
+        manifest.recordConversion(2025, 10, "pdf1", DownloadManifest.sha256(csv), "summary");
+        assertTrue(manifest.isConverted(2025, "pdf1", csv, "summary"));
+        assertFalse(manifest.isConverted(2025, "pdf1", csv, "full"));
+
+        Files.write(csv.toPath(), "changed\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(manifest.isConverted(2025, "pdf1", csv, "summary"));
+    }
+
+    @Test
+    void testUnreadableManifestIsIgnored() throws Exception {
+        // Test a corrupt manifest loads as empty
+        Files.write(new File(directory, DownloadManifest.FILE_NAME).toPath(), "{not json".getBytes(StandardCharsets.UTF_8));
+        assertNull(DownloadManifest.load(directory).entry(2024));
+    }
+}
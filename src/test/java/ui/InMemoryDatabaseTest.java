@@ -0,0 +1,110 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit tests for InMemoryDatabase class, on a temporary database file.
+ */
+class InMemoryDatabaseTest {
+
+    private File dbFile;
+    private InMemoryDatabase database;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("memory", ".db").toFile();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE t (x INTEGER)");
+            stmt.execute("INSERT INTO t VALUES (1)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (database != null) {
+            database.close();
+        }
+        dbFile.delete();
+    }
+
+    private static int count(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void insert(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO t VALUES (2)");
+        }
+    }
+
+    @Test
+    void testHydratedFromFile() throws Exception {
+        // Test the in-memory copy starts with the file's contents and is shared by new connections
+        database = new InMemoryDatabase(dbFile, 0);
+        assertTrue(database.getUrl().contains("vfs=memdb"));
+        assertEquals(1, count(database.getUrl()));
+        insert(database.getUrl());
+        assertEquals(2, count(database.getUrl()));
+        assertEquals(1, count("jdbc:sqlite:" + dbFile.getPath()));
+    }
+
+    @Test
+    void testPersistOnlyWhenChanged() throws Exception {
+        // Test persist writes the file back after a commit and skips it otherwise
+        database = new InMemoryDatabase(dbFile, 0);
+        assertFalse(database.persist());
+        insert(database.getUrl());
+        assertTrue(database.persist());
+        assertEquals(2, count("jdbc:sqlite:" + dbFile.getPath()));
+        assertFalse(database.persist());
+    }
+
+    @Test
+    void testCloseSavesChanges() throws Exception {
+        // Test the last changes reach the file when the database is closed
+        database = new InMemoryDatabase(dbFile, 0);
+        insert(database.getUrl());
+        database.close();
+        assertEquals(2, count("jdbc:sqlite:" + dbFile.getPath()));
+    }
+
+    @Test
+    void testPeriodicPersist() throws Exception {
+        // Test changes are written back in the background
+        database = new InMemoryDatabase(dbFile, 20);
+        insert(database.getUrl());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count("jdbc:sqlite:" + dbFile.getPath()) < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, count("jdbc:sqlite:" + dbFile.getPath()));
+    }
+
+    @Test
+    void testNegativeIntervalNeverPersists() throws Exception {
+        // Test a negative interval keeps the file untouched, even on close
+        database = new InMemoryDatabase(dbFile, -1);
+        insert(database.getUrl());
+        assertFalse(database.persist());
+        database.close();
+        assertEquals(1, count("jdbc:sqlite:" + dbFile.getPath()));
+    }
+}
@@ -0,0 +1,96 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for IngestionPipeline class.
+ */
+class IngestionPipelineTest {
+
+    @Test
+    void testYearsPassThroughAllStages() throws Exception {
+        // Test every year reaches the last stage in order with single workers
+        List<String> log = new CopyOnWriteArrayList<>();
+        IngestionPipeline pipeline = new IngestionPipeline(2)
+                .addStage("download", 1, year -> log.add("d" + year))
+                .addStage("convert", 1, year -> log.add("c" + year))
+                .addStage("insert", 1, year -> log.add("i" + year));
+
+        pipeline.run(2023, 2024, 2025);
+
+        assertEquals(List.of("i2023", "i2024", "i2025"), log.stream().filter(s -> s.startsWith("i")).collect(Collectors.toList()));
+        assertEquals(9, log.size());
+        assertEquals(3, pipeline.stats("insert").processed);
+    }
+
+    @Test
+    void testStagesOverlap() throws Exception {
+        // Test year N+1 downloads while year N is being converted
+        CountDownLatch converting2023 = new CountDownLatch(1);
+        CountDownLatch downloaded2024 = new CountDownLatch(1);
+
+        IngestionPipeline pipeline = new IngestionPipeline(1)
+                .addStage("download", 1, year -> {
+                    if (year == 2024) {
+                        assertTrue(converting2023.await(5, TimeUnit.SECONDS));
+                        downloaded2024.countDown();
+                    }
+                })
+                .addStage("convert", 1, year -> {
+                    if (year == 2023) {
+                        converting2023.countDown();
+                        // stays busy until the next download has finished
+                        if (!downloaded2024.await(5, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("stages did not overlap");
+                        }
+                    }
+                });
+
+        pipeline.run(2023, 2024);
+
+        assertEquals(2, pipeline.stats("download").processed);
+        assertEquals(2, pipeline.stats("convert").processed);
+        assertEquals(0, pipeline.stats("convert").failed);
+    }
+
+    @Test
+    void testFailedYearDoesNotReachNextStage() throws Exception {
+        // Test a failing stage drops only that year
+        List<Integer> inserted = new CopyOnWriteArrayList<>();
+        IngestionPipeline pipeline = new IngestionPipeline(2)
+                .addStage("convert", 2, year -> {
+                    if (year == 2024) throw new IllegalStateException("broken pdf");
+                })
+                .addStage("insert", 1, inserted::add);
+
+        pipeline.run(2023, 2024, 2025);
+
+        assertEquals(2, inserted.size());
+        assertFalse(inserted.contains(2024));
+        assertEquals(1, pipeline.stats("convert").failed);
+    }
+
+    @Test
+    void testQueueDepthIsBounded() throws Exception {
+        // Test a slow last stage never has more queued years than the capacity
+        IngestionPipeline pipeline = new IngestionPipeline(2)
+                .addStage("download", 1, year -> { })
+                .addStage("insert", 1, year -> Thread.sleep(20));
+
+        pipeline.run(2019, 2020, 2021, 2022, 2023, 2024, 2025, 2026);
+
+        IngestionPipeline.StageStats insert = pipeline.stats("insert");
+        assertEquals(8, insert.processed);
+        assertTrue(insert.maxQueueDepth <= 2);
+        assertTrue(insert.throughput() > 0);
+        assertTrue(pipeline.report().contains("insert"));
+        assertNull(pipeline.stats("missing"));
+    }
+}
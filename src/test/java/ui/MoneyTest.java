@@ -0,0 +1,139 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Unit tests for Money class.
+ */
+class MoneyTest {
+
+    @Test
+    void testParseGreekAmounts() {
+        // Test dots as thousands separators and comma as decimal separator
+        assertEquals(176563500000000L, Money.parseCents("1.765.635.000.000"));
+        assertEquals(1250, Money.parseCents("12,5"));
+        assertEquals(123456, Money.parseCents("1.234,56"));
+        assertEquals(1000000, Money.parseCents("10.000,00"));
+        assertEquals(-300075, Money.parseCents("-3.000,75"));
+        assertEquals(100000, Money.parseCents("  1.000  "));
+        assertEquals(500, Money.parseCents("+5"));
+    }
+
+    @Test
+    void testParseBlankIsZero() {
+        // Test null and blank text parse to zero
+        assertEquals(0, Money.parseCents(null));
+        assertEquals(0, Money.parseCents(""));
+        assertEquals(0, Money.parseCents("   "));
+        assertSame(Money.ZERO, Money.parse(""));
+    }
+
+    @Test
+    void testParseRoundsToCents() {
+        // Test more than two decimals are rounded half-up to the cent
+        assertEquals(123, Money.parseCents("1,234"));
+        assertEquals(124, Money.parseCents("1,235"));
+        assertEquals(100, Money.parseCents("0,999"));
+    }
+
+    @Test
+    void testParseRange() {
+        // Test parsing part of a longer text
+        String line = "taxes;65.586.000.000;other";
+        assertEquals(6558600000000L, Money.parseCents(line, 6, 20));
+    }
+
+    @Test
+    void testParseInvalid() {
+        // Test text that is not an amount is rejected
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("-"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1,2,3"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("99.999.999.999.999.999"));
+    }
+
+    @Test
+    void testArithmetic() {
+        // Test arithmetic stays exact in cents
+        Money a = Money.parse("1.000,10");
+        Money b = Money.parse("0,20");
+
+        assertEquals(Money.ofCents(100030), a.plus(b));
+        assertEquals(Money.ofCents(99990), a.minus(b));
+        assertEquals(Money.ofCents(-20), b.negate());
+        assertEquals(Money.ofEuros(1100), Money.ofEuros(1000).plusPercent(10));
+        assertEquals(Money.ofEuros(950), Money.ofEuros(1000).plusPercent(-5));
+        assertEquals(Money.ofEuros(30), Money.ofEuros(300).percentOf(10));
+        assertEquals(Money.ofEuros(3000), Money.ofEuros(1000).times(3));
+        assertEquals(25.0, Money.ofEuros(250).percentageOf(Money.ofEuros(1000)), 1e-9);
+        assertEquals(0.0, Money.ofEuros(250).percentageOf(Money.ZERO));
+    }
+
+    @Test
+    void testSumAndCompare() {
+        // Test aggregation and ordering
+        List<Money> amounts = List.of(Money.ofEuros(1), Money.ofCents(50), Money.ofEuros(-2));
+
+        assertEquals(Money.ofCents(-50), Money.sum(amounts));
+        assertEquals(Money.ofEuros(3), Money.sum(Money.ofEuros(1), Money.ofEuros(2)));
+        assertEquals(Money.ofEuros(1), Money.max(Money.ofEuros(1), Money.ofCents(50)));
+        assertEquals(Money.ofCents(50), Money.min(Money.ofEuros(1), Money.ofCents(50)));
+        assertTrue(Money.ofEuros(1).compareTo(Money.ofCents(99)) > 0);
+        assertThrows(ArithmeticException.class,
+                () -> Money.sum(Money.ofCents(Long.MAX_VALUE), Money.ofCents(1)));
+    }
+
+    @Test
+    void testConversions() {
+        // Test conversions to and from other number types
+        Money amount = Money.parse("1.234,56");
+
+        assertEquals(1234, amount.getEuros());
+        assertEquals(1234.56, amount.toDouble(), 1e-9);
+        assertEquals(new BigDecimal("1234.56"), amount.toBigDecimal());
+        assertEquals(amount, Money.of(new BigDecimal("1234.555")));
+        assertEquals(amount, Money.of(1234.56));
+        assertEquals("€1.234,6", amount.toString());
+    }
+
+    @Test
+    void testDatabaseRoundTrip() throws Exception {
+        // Test whole euros are stored as integers and cents as reals
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("CREATE TABLE t (id INTEGER, amount MONEY)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO t VALUES (?, ?)")) {
+                insert.setInt(1, 1);
+                Money.parse("65.586.000.000").bind(insert, 2);
+                insert.executeUpdate();
+                insert.setInt(1, 2);
+                Money.parse("12,5").bind(insert, 2);
+                insert.executeUpdate();
+                insert.setInt(1, 3);
+                insert.setNull(2, java.sql.Types.NUMERIC);
+                insert.executeUpdate();
+            }
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT amount, typeof(amount) FROM t ORDER BY id")) {
+                assertTrue(rs.next());
+                assertEquals(Money.ofEuros(65586000000L), Money.read(rs, "amount"));
+                assertEquals("integer", rs.getString(2));
+                assertTrue(rs.next());
+                assertEquals(Money.ofCents(1250), Money.read(rs, 1));
+                assertEquals("real", rs.getString(2));
+                assertTrue(rs.next());
+                assertSame(Money.ZERO, Money.read(rs, 1));
+            }
+        }
+    }
+}
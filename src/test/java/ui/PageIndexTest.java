@@ -0,0 +1,63 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for PageIndex class.
+ */
+class PageIndexTest {
+
+    @Test
+    void testClassifyHeaders() {
+        // Test fingerprints from the budget document headers
+        assertEquals(PageIndex.PageType.LAW, PageIndex.classify("ΣΧΕΔΙΟ ΝΟΜΟΥ\n«Κύρωση του Κρατικού Προϋπολογισμού"));
+        assertEquals(PageIndex.PageType.LAW, PageIndex.classify("Άρθρο 2\nΤα έξοδα της Προεδρίας"));
+        assertEquals(PageIndex.PageType.SPECIAL_BODY, PageIndex.classify("ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΕΙΔΙΚΟ ΦΟΡΕΑ"));
+        assertEquals(PageIndex.PageType.SPECIAL_BODY, PageIndex.classify("Οικονομικό έτος: 2026 Κωδικός  Φορέα: 1007"));
+        assertEquals(PageIndex.PageType.MAJOR_CATEGORY, PageIndex.classify("ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΜΕΙΖΟΝΑ ΚΑΤΗΓΟΡΙΑ ΔΑΠΑΝΗΣ"));
+        assertEquals(PageIndex.PageType.BODY_TOTALS, PageIndex.classify("ΠΙΣΤΩΣΕΙΣ ΣΥΝΟΛΙΚΑ ΚΑΤΑ ΦΟΡΕΑ\nΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ"));
+        assertEquals(PageIndex.PageType.SUMMARY_TABLE, PageIndex.classify("ΕΣΟΔΑ\nΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ"));
+        assertEquals(PageIndex.PageType.CLASSIFICATION, PageIndex.classify("Οικονομικό έτος: 2026\nΚωδικός ταξινόμησης"));
+        assertEquals(PageIndex.PageType.OTHER, PageIndex.classify("ΕΣΟΔΑ"));
+        assertEquals(PageIndex.PageType.OTHER, PageIndex.classify(""));
+    }
+
+    @Test
+    void testSummaryScanStopsAfterLawPages() throws Exception {
+        // Test the summary scan reads headers only up to the first page after the law articles
+        String[] headers = {"ΕΛΛΗΝΙΚΗ ΔΗΜΟΚΡΑΤΙΑ", "ΣΧΕΔΙΟ ΝΟΜΟΥ", "Άρθρο 2", "ΕΣΟΔΑ", "ΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ", "ΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ"};
+        List<Integer> read = new ArrayList<>();
+
+        PageIndex index = PageIndex.scan(headers.length, page -> {
+            read.add(page);
+            return headers[page - 1];
+        }, true);
+
+        assertEquals(List.of(2, 3, 4), read);
+        assertEquals(3, index.summaryEndPage());
+        assertEquals(PageIndex.PageType.COVER, index.type(1));
+        assertEquals(List.of(2, 3), index.pagesOf(PageIndex.PageType.LAW));
+    }
+
+    @Test
+    void testFullScan() throws Exception {
+        // Test a full scan indexes every page
+        String[] headers = {"", "ΣΧΕΔΙΟ ΝΟΜΟΥ", "ΕΣΟΔΑ", "ΣΥΝΟΠΤΙΚΟΣ ΠΙΝΑΚΑΣ", "ΠΙΣΤΩΣΕΙΣ ΚΑΤΑ ΕΙΔΙΚΟ ΦΟΡΕΑ", "Κωδικός Φορέα"};
+        PageIndex index = PageIndex.scan(headers.length, page -> headers[page - 1], false);
+
+        assertEquals(List.of(5, 6), index.pagesOf(PageIndex.PageType.SPECIAL_BODY));
+        assertEquals(List.of(4), index.pagesOf(PageIndex.PageType.SUMMARY_TABLE));
+        assertEquals(2, index.summaryEndPage());
+    }
+
+    @Test
+    void testSummaryWithoutLawPagesKeepsWholeDocument() throws Exception {
+        // Test an unknown layout falls back to all pages
+        PageIndex index = PageIndex.scan(4, page -> "Category " + page, true);
+        assertEquals(4, index.summaryEndPage());
+    }
+}
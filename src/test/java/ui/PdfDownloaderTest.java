@@ -0,0 +1,214 @@
+package ui;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for PdfDownloader class, using a local HTTP server in place of minfin.gov.gr.
+ */
+class PdfDownloaderTest {
+
+    private HttpServer server;
+    private File directory;
+    private byte[] content;
+
+    // Server behaviour switches
+    private volatile boolean supportRange = true;
+    private volatile int cutAfterBytes = -1;
+    private volatile int delayMillis = 0;
+    private volatile String etag = "\"v1\"";
+
+    private final List<String> rangeHeaders = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[700_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31 + 7);
+        }
+        directory = Files.createTempDirectory("pdfdownload").toFile();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::serve);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        for (File f : directory.listFiles()) {
+            f.delete();
+        }
+        directory.delete();
+    }
+
+    // Serves the content, honouring "Range: bytes=N-" when enabled
+    private void serve(HttpExchange exchange) throws IOException {
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            if (delayMillis > 0) Thread.sleep(delayMillis);
+
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            rangeHeaders.add(String.valueOf(range));
+
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            int start = 0;
+            if (supportRange && range != null) {
+                start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                if (start >= content.length) {
+                    exchange.getResponseHeaders().set("Content-Range", "bytes */" + content.length);
+                    exchange.sendResponseHeaders(416, -1);
+                    return;
+                }
+                exchange.getResponseHeaders().set("Content-Range",
+                        "bytes " + start + "-" + (content.length - 1) + "/" + content.length);
+                exchange.sendResponseHeaders(206, content.length - start);
+            } else {
+                exchange.sendResponseHeaders(200, content.length);
+            }
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                int end = content.length;
+                if (cutAfterBytes >= 0) {
+                    end = Math.min(end, start + cutAfterBytes);
+                    cutAfterBytes = -1;
+                }
+                out.write(content, start, end - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // expected when the response is cut short
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private String url(int year) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/proipologismos" + year + ".pdf";
+    }
+
+    @Test
+    void testDownloadCompleteFile() throws Exception {
+        // Test a plain download ends up in the destination without a .part file
+        PdfDownloader downloader = new PdfDownloader(1, directory);
+        File destination = downloader.fileFor(2024);
+        downloader.download(url(2024), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination.toPath()));
+        assertFalse(new File(destination.getPath() + ".part").exists());
+    }
+
+    @Test
+    void testResumeFromPartialFile() throws Exception {
+        // Test an existing .part file is continued with a Range request
+        PdfDownloader downloader = new PdfDownloader(1, directory);
+        File destination = downloader.fileFor(2023);
+        Files.write(new File(destination.getPath() + ".part").toPath(), Arrays.copyOf(content, 300_000));
+
+        downloader.download(url(2023), destination);
+
+        assertEquals(List.of("bytes=300000-"), rangeHeaders);
+        assertArrayEquals(content, Files.readAllBytes(destination.toPath()));
+    }
+
+    @Test
+    void testServerIgnoringRangeRestarts() throws Exception {
+        // Test a 200 reply to a Range request overwrites the partial file
+        supportRange = false;
+        PdfDownloader downloader = new PdfDownloader(1, directory);
+        File destination = downloader.fileFor(2025);
+        Files.write(new File(destination.getPath() + ".part").toPath(), new byte[123_456]);
+
+        downloader.download(url(2025), destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination.toPath()));
+    }
+
+    @Test
+    void testInterruptedTransferIsResumed() throws Exception {
+        // Test a connection cut mid-file is retried from where it stopped
+        cutAfterBytes = 250_000;
+        PdfDownloader downloader = new PdfDownloader(1, directory);
+        downloader.setMaxAttempts(2);
+        File destination = downloader.fileFor(2026);
+
+        downloader.download(url(2026), destination);
+
+        assertEquals(2, rangeHeaders.size());
+        assertEquals("null", rangeHeaders.get(0));
+        assertTrue(rangeHeaders.get(1).startsWith("bytes="));
+        assertArrayEquals(content, Files.readAllBytes(destination.toPath()));
+    }
+
+    @Test
+    void testDownloadAllRespectsParallelism() {
+        // Test all years are downloaded with at most the configured concurrent requests
+        delayMillis = 100;
+        Map<Integer, String> links = new TreeMap<>();
+        for (int year = 2020; year <= 2025; year++) {
+            links.put(year, url(year));
+        }
+        links.put(2019, "http://127.0.0.1:1/missing.pdf");
+
+        PdfDownloader downloader = new PdfDownloader(2, directory);
+        downloader.setMaxAttempts(1);
+        Map<Integer, File> downloaded = downloader.downloadAll(links);
+
+        assertEquals(6, downloaded.size());
+        assertFalse(downloaded.containsKey(2019));
+        assertTrue(maxInFlight.get() <= 2);
+        for (File f : downloaded.values()) {
+            assertEquals(content.length, f.length());
+        }
+    }
+
+    @Test
+    void testConditionalGetSkipsUnchangedFile() throws Exception {
+        // Test a file recorded in the manifest is not downloaded again while its ETag is unchanged
+        DownloadManifest manifest = DownloadManifest.load(directory);
+        PdfDownloader downloader = new PdfDownloader(1, directory);
+        downloader.setManifest(manifest);
+        File destination = downloader.fileFor(2024);
+
+        assertTrue(downloader.download(2024, url(2024), destination));
+        assertEquals("\"v1\"", manifest.entry(2024).getEtag());
+        assertEquals(DownloadManifest.sha256(destination), manifest.entry(2024).getPdfSha256());
+
+        long modified = destination.lastModified();
+        assertFalse(downloader.download(2024, url(2024), destination));
+        assertEquals(modified, destination.lastModified());
+
+        // A new version on the server is fetched again
+        etag = "\"v2\"";
+        assertTrue(downloader.download(2024, url(2024), destination));
+        assertEquals("\"v2\"", manifest.entry(2024).getEtag());
+    }
+}
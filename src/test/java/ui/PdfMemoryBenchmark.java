@@ -0,0 +1,108 @@
+package ui;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of DataConvert with the different PDFBox memory settings on a generated large PDF.
+ * Every setting runs in its own JVM, so the peak RSS printed after each run belongs to that setting.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=ui.PdfMemoryBenchmark -Dexec.classpathScope=test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class PdfMemoryBenchmark {
+
+    private static final int YEAR = 9990;
+
+    @Param({"main", "mixed", "tempfile"})
+    public String mode;
+
+    @Param({"1000"})
+    public int pages;
+
+    private File pdf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pdf = new File("proipologismos" + YEAR + ".pdf");
+        writeLargePdf(pdf, pages);
+        DataConvert.setMemoryUsage(mode, 16L * 1024 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.println();
+        System.out.println("mode=" + mode + " pdf=" + pdf.length() / 1024 + " KB peak RSS=" + peakRss());
+        pdf.delete();
+        new File("proipologismos" + YEAR + ".csv").delete();
+    }
+
+    @Benchmark
+    public boolean convert() {
+        return DataConvert.convertiontool(YEAR, 1);
+    }
+
+    // VmHWM από το /proc (Linux), αλλιώς η μέγιστη χρήση heap που βλέπει η JVM
+    private static String peakRss() throws IOException {
+        File status = new File("/proc/self/status");
+        if (status.exists()) {
+            for (String line : Files.readAllLines(status.toPath(), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) return line.substring(6).trim();
+            }
+        }
+        Runtime rt = Runtime.getRuntime();
+        return (rt.totalMemory() - rt.freeMemory()) / 1024 + " kB (heap)";
+    }
+
+    // πυκνές σελίδες με γραμμές σαν του προϋπολογισμού
+    static void writeLargePdf(File file, int pageCount) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int p = 1; p <= pageCount; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 7);
+                    content.setLeading(9f);
+                    content.newLineAtOffset(30, 760);
+                    for (int line = 0; line < 80; line++) {
+                        content.showText("Category " + line + " page " + p + " code " + (1000 + line)
+                                + " " + (p * 1000 + line) + ".000 0 " + (p * 1000 + line) + ".000 Ministry of Finance");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.runBenchmark(PdfMemoryBenchmark.class);
+    }
+}
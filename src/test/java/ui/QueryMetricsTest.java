@@ -0,0 +1,109 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Unit tests for QueryMetrics and LatencyHistogram classes.
+ */
+class QueryMetricsTest {
+
+    @Test
+    void testNormalizeFoldsYearsAndLiterals() {
+        // Test queries that differ only in year tables and constants share a shape
+        assertEquals("SELECT * FROM revenue_?", QueryMetrics.normalize("SELECT * FROM revenue_2025"));
+        assertEquals(QueryMetrics.normalize("SELECT  total_revenue FROM budget_summary_2024"),
+                QueryMetrics.normalize("SELECT total_revenue\n  FROM budget_summary_2026"));
+        assertEquals("SELECT * FROM users WHERE username = ? AND id > ?",
+                QueryMetrics.normalize("SELECT * FROM users WHERE username = 'o''brien' AND id > 10"));
+        assertEquals("SELECT col1 FROM t WHERE x = ?", QueryMetrics.normalize("SELECT col1 FROM t WHERE x = ?"));
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        // Test percentiles are within the bucket precision of the recorded values
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / 16.0);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / 16.0);
+        assertTrue(histogram.getValueAtPercentile(100) >= 1_000_000);
+        histogram.reset();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void testHistogramBucketsCoverEveryValue() {
+        // Test every value falls in a bucket whose upper bound is not below it
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestValue(index - 1) < value);
+        }
+    }
+
+    @Test
+    void testInstrumentedConnectionRecordsShapes() throws Exception {
+        // Test prepared and plain statements are timed under their normalized shape
+        QueryMetrics metrics = new QueryMetrics(0);
+        try (Connection connection = metrics.instrument(DriverManager.getConnection("jdbc:sqlite::memory:"))) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("CREATE TABLE revenue_2024 (x INTEGER)");
+                stmt.execute("CREATE TABLE revenue_2025 (x INTEGER)");
+                stmt.executeUpdate("INSERT INTO revenue_2024 VALUES (1)");
+                stmt.executeUpdate("INSERT INTO revenue_2025 VALUES (2)");
+            }
+            for (int year = 2024; year <= 2025; year++) {
+                try (PreparedStatement stmt = connection.prepareStatement("SELECT * FROM revenue_" + year);
+                     ResultSet rs = stmt.executeQuery()) {
+                    assertTrue(rs.next());
+                }
+            }
+        }
+
+        assertEquals(2, metrics.getShape("SELECT * FROM revenue_2023").getCount());
+        assertEquals(2, metrics.getShape("INSERT INTO revenue_2023 VALUES (7)").getCount());
+        assertEquals(2, metrics.getShape("CREATE TABLE revenue_2023 (x INTEGER)").getCount());
+        assertEquals(0, metrics.getSlowQueries());
+    }
+
+    @Test
+    void testTopAndDump() {
+        // Test shapes are ranked by total time and printed with their statistics
+        QueryMetrics metrics = new QueryMetrics(1);
+        metrics.record("SELECT 1", 1_000);
+        metrics.record("SELECT * FROM expenses_2025", 3_000_000);
+        metrics.record("SELECT * FROM expenses_2024", 2_000_000);
+        metrics.record("SELECT * FROM users", 500_000);
+
+        List<QueryMetrics.Shape> top = metrics.top(2);
+        assertEquals(2, top.size());
+        assertEquals("SELECT * FROM expenses_?", top.get(0).getSql());
+        assertEquals(2, top.get(0).getCount());
+        assertEquals(5.0, top.get(0).getTotalMillis(), 0.001);
+        assertEquals(3000.0, top.get(0).getMaxMicros(), 0.001);
+        assertEquals("SELECT * FROM users", top.get(1).getSql());
+        assertEquals(2, metrics.getSlowQueries());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metrics.dump(new PrintStream(out), 10);
+        String dump = out.toString();
+        assertTrue(dump.contains("SELECT * FROM expenses_?"));
+        assertTrue(dump.contains("SELECT ?"));
+
+        metrics.reset();
+        assertTrue(metrics.top(10).isEmpty());
+    }
+}
@@ -0,0 +1,133 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit tests for SchemaMigrations class, on a temporary database.
+ */
+class SchemaMigrationsTest {
+
+    private File dbFile;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("schema", ".db").toFile();
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        dbFile.delete();
+    }
+
+    private String typeOf(String name) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT type FROM sqlite_master WHERE name = '" + name + "'")) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private int count(String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    void testNewDatabaseGetsLatestSchema() throws Exception {
+        // Test an empty database gets every table and the latest version
+        assertEquals(0, SchemaMigrations.getVersion(connection));
+        assertEquals(SchemaMigrations.LATEST_VERSION, SchemaMigrations.migrate(connection));
+        assertEquals(SchemaMigrations.LATEST_VERSION, SchemaMigrations.getVersion(connection));
+
+        assertEquals("table", typeOf("users"));
+        assertEquals("table", typeOf("user_comments"));
+        assertEquals("table", typeOf("custom_categories"));
+        assertEquals("table", typeOf("budget_fact"));
+        assertEquals("view", typeOf("revenue_2025"));
+        assertEquals("view", typeOf("budget_summary_2027"));
+        assertEquals(4, count("SELECT COUNT(*) FROM published_years"));
+    }
+
+    @Test
+    void testUpToDateDatabaseIsNotTouched() throws Exception {
+        // Test a second run applies nothing
+        SchemaMigrations.migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM published_years WHERE year = 2023");
+        }
+        assertEquals(0, SchemaMigrations.migrate(connection));
+        assertEquals(3, count("SELECT COUNT(*) FROM published_years"));
+    }
+
+    @Test
+    void testUnversionedDatabaseKeepsItsData() throws Exception {
+        // Test a database from before versioning keeps its rows
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE budget_summary_2025 (budget_result MONEY PRIMARY KEY, total_revenue MONEY, "
+                    + "total_expenses MONEY, total_ministries MONEY, total_da MONEY)");
+            stmt.execute("INSERT INTO budget_summary_2025 VALUES (-5, 70, 75, 60, 2)");
+            stmt.execute("CREATE TABLE users (id INTEGER PRIMARY KEY AUTOINCREMENT, username TEXT UNIQUE NOT NULL, "
+                    + "password TEXT NOT NULL)");
+            stmt.execute("INSERT INTO users (username, password) VALUES ('admin', 'admin123')");
+        }
+
+        SchemaMigrations.migrate(connection);
+
+        assertEquals("view", typeOf("budget_summary_2025"));
+        assertEquals(70, count("SELECT total_revenue FROM budget_summary_2025"));
+        assertEquals(1, count("SELECT COUNT(*) FROM users"));
+    }
+
+    @Test
+    void testViewsWithoutAffinityAreRecreated() throws Exception {
+        // Test a version 3 database gets views whose columns compare numerically with BigDecimal parameters
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE budget_fact (year INTEGER NOT NULL, section TEXT NOT NULL, "
+                    + "category_code TEXT NOT NULL, amount MONEY, PRIMARY KEY (year, section, category_code)) WITHOUT ROWID");
+            stmt.execute("INSERT INTO budget_fact VALUES (2025, 'revenue', 'total_revenue', 70), (2025, 'revenue', 'taxes', 65)");
+            stmt.execute("CREATE VIEW revenue_2025 AS SELECT "
+                    + "MAX(CASE WHEN category_code = 'total_revenue' THEN amount END) AS total_revenue, "
+                    + "MAX(CASE WHEN category_code = 'taxes' THEN amount END) AS taxes "
+                    + "FROM budget_fact WHERE year = 2025 AND section = 'revenue' GROUP BY year");
+            stmt.execute("PRAGMA user_version = 3");
+        }
+
+        assertEquals(SchemaMigrations.LATEST_VERSION - 3, SchemaMigrations.migrate(connection));
+        assertEquals("view", typeOf("revenue_2025"));
+        try (PreparedStatement pstmt = connection.prepareStatement("UPDATE revenue_2025 SET taxes = ? WHERE total_revenue = ?")) {
+            pstmt.setBigDecimal(1, new BigDecimal("66"));
+            pstmt.setBigDecimal(2, new BigDecimal("70"));
+            pstmt.executeUpdate();
+        }
+        assertEquals(66, count("SELECT taxes FROM revenue_2025"));
+        assertEquals(70, count("SELECT total_revenue FROM revenue_2025"));
+    }
+
+    @Test
+    void testNewerDatabaseIsLeftAlone() throws Exception {
+        // Test a database from a newer version of the application is not migrated
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA user_version = " + (SchemaMigrations.LATEST_VERSION + 1));
+        }
+        assertEquals(0, SchemaMigrations.migrate(connection));
+        assertNull(typeOf("users"));
+    }
+}
@@ -0,0 +1,130 @@
+package ui;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the queries behind the hot BudgetData getters, on a migrated copy of the bundled BudgetData.db,
+ * through a ConnectionPool with the per-connection statement cache disabled (0) and enabled (64).
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=ui.StatementCacheBenchmark -Dexec.classpathScope=test
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementCacheBenchmark {
+
+    private static final String[] SECTIONS = {
+            BudgetFacts.REVENUE, BudgetFacts.EXPENSES, BudgetFacts.MINISTRIES, BudgetFacts.DECENTRALIZED};
+    private static final int FIRST_YEAR = 2023;
+    private static final int YEARS = 5;
+
+    @Param({"0", "64"})
+    public int statementCache;
+
+    private File dbFile;
+    private ConnectionPool pool;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("statement-benchmark", ".db").toFile();
+        Files.copy(Paths.get("src/main/resources/database/BudgetData.db"), dbFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath())) {
+            SchemaMigrations.migrate(connection);
+            connection.setAutoCommit(false);
+            try (PreparedStatement upsert = connection.prepareStatement(BudgetFacts.UPSERT)) {
+                for (int year = FIRST_YEAR; year < FIRST_YEAR + YEARS; year++) {
+                    for (String section : SECTIONS) {
+                        for (int code = 0; code < 50; code++) {
+                            BudgetFacts.upsert(upsert, year, section, "c" + code, Money.ofEuros(year * 1000L + code));
+                        }
+                    }
+                }
+            }
+            connection.commit();
+        }
+
+        // όπως το read pool της DatabaseConnection
+        pool = new ConnectionPool(() -> {
+            Connection opened = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+            DatabaseConnection.applyProfile(opened, DatabaseConnection.defaultProfile());
+            try (Statement stmt = opened.createStatement()) {
+                stmt.execute("PRAGMA query_only = 1");
+            }
+            return opened;
+        }, 1, 30_000, 0, statementCache);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println();
+        System.out.println(pool.getStats());
+        pool.shutdown();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    private int year() {
+        return FIRST_YEAR + (counter++ % YEARS);
+    }
+
+    // μία γραμμή, όπως οι getters της BudgetData: σύνδεση από το pool, prepare, ανάγνωση, επιστροφή
+    private long firstColumn(String sql) throws SQLException {
+        try (Connection connection = pool.acquire();
+             PreparedStatement stmt = connection.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    // getTotalRevenues
+    @Benchmark
+    public long totalRevenues() throws SQLException {
+        return firstColumn("SELECT total_revenue FROM budget_summary_" + year());
+    }
+
+    // getRevenueBreakdown / getRevenueBreakdownForGraphs
+    @Benchmark
+    public long revenueBreakdown() throws SQLException {
+        return firstColumn("SELECT * FROM revenue_" + year());
+    }
+
+    // getCategories / getMinistriesBreakdown
+    @Benchmark
+    public long ministriesBreakdown() throws SQLException {
+        return firstColumn("SELECT * FROM ministries_" + year());
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.runBenchmark(StatementCacheBenchmark.class);
+    }
+}
@@ -0,0 +1,189 @@
+package ui;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for TableRowStripper and TableRow classes, on small generated PDFs.
+ */
+class TableRowStripperTest {
+
+    // Column x positions of the generated table
+    private static final float CODE_X = 50;
+    private static final float LABEL_X = 100;
+    private static final float AMOUNT_X = 380;
+    private static final float SECOND_AMOUNT_X = 480;
+
+    // Writes one text cell at (x, y)
+    private static void cell(PDPageContentStream content, float x, float y, String text) throws IOException {
+        content.beginText();
+        content.setFont(PDType1Font.HELVETICA, 9);
+        content.newLineAtOffset(x, y);
+        content.showText(text);
+        content.endText();
+    }
+
+    private static List<TableRow> extract(PDDocument document) throws IOException {
+        List<TableRow> rows = new ArrayList<>();
+        new TableRowStripper(rows::add).extract(document, 1, document.getNumberOfPages());
+        return rows;
+    }
+
+    @Test
+    void testColumnsBecomeTypedRows() throws Exception {
+        // Test code, label and amount columns are told apart by their x positions
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                cell(content, CODE_X, 700, "11.");
+                cell(content, LABEL_X, 700, "Taxes");
+                cell(content, AMOUNT_X, 700, "65.586.000.000");
+
+                cell(content, LABEL_X, 660, "Presidency of the Republic");
+                cell(content, CODE_X + 230, 660, "1001");
+                cell(content, AMOUNT_X, 660, "4.711.000");
+                cell(content, SECOND_AMOUNT_X, 660, "0");
+            }
+
+            List<TableRow> rows = extract(document);
+
+            assertEquals(2, rows.size());
+            assertEquals("11.", rows.get(0).getCode());
+            assertEquals("11", rows.get(0).getCodeNumber());
+            assertEquals("Taxes", rows.get(0).getLabel());
+            assertEquals(List.of(Money.ofEuros(65_586_000_000L)), rows.get(0).getAmounts());
+
+            assertEquals("1001", rows.get(1).getCode());
+            assertEquals("Presidency of the Republic", rows.get(1).getLabel());
+            assertEquals(List.of(Money.ofEuros(4_711_000), Money.ZERO), rows.get(1).getAmounts());
+            assertEquals(Money.ZERO, rows.get(1).getAmount(2));
+            assertEquals(1, rows.get(1).getPage());
+        }
+    }
+
+    @Test
+    void testWrappedTitleIsJoinedWithItsAmount() throws Exception {
+        // Test a title wrapped over two lines with the amount on a third is one row
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                cell(content, CODE_X, 700, "45.");
+                cell(content, LABEL_X, 700, "Equity and investment fund");
+                cell(content, LABEL_X, 690, "shares");
+                cell(content, LABEL_X, 680, "»");
+                cell(content, AMOUNT_X, 680, "228.000.000");
+
+                // a separate heading far below is not merged
+                cell(content, LABEL_X, 600, "EXPENSES");
+            }
+
+            List<TableRow> rows = extract(document);
+
+            assertEquals(2, rows.size());
+            assertEquals("45.", rows.get(0).getCode());
+            assertEquals("Equity and investment fund shares", rows.get(0).getLabel());
+            assertEquals(List.of(Money.ofEuros(228_000_000)), rows.get(0).getAmounts());
+
+            assertNull(rows.get(1).getCode());
+            assertEquals("EXPENSES", rows.get(1).getLabel());
+            assertFalse(rows.get(1).hasAmounts());
+        }
+    }
+
+    @Test
+    void testCodeOnFollowingLineJoinsPreviousRow() throws Exception {
+        // Test a code printed alone right below a row without one belongs to that row
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                cell(content, LABEL_X, 700, "Ministry of Defence");
+                cell(content, AMOUNT_X, 700, "6.955.272.000");
+                cell(content, CODE_X + 230, 690, "1011");
+
+                cell(content, LABEL_X, 670, "Ministries");
+                cell(content, AMOUNT_X, 670, "1.767.069.183.000");
+                cell(content, LABEL_X, 660, "Ministry of Health");
+                cell(content, CODE_X + 230, 660, "1015");
+                cell(content, AMOUNT_X, 660, "6.945.945.000");
+            }
+
+            List<TableRow> rows = extract(document);
+
+            assertEquals(3, rows.size());
+            assertEquals("1011", rows.get(0).getCode());
+            assertEquals("Ministry of Defence", rows.get(0).getLabel());
+            assertNull(rows.get(1).getCode());
+            assertEquals("Ministries", rows.get(1).getLabel());
+            assertEquals("1015", rows.get(2).getCode());
+        }
+    }
+
+    @Test
+    void testParseAmount() {
+        // Test Greek formatted amounts and values that are not amounts
+        assertEquals(Money.ofEuros(1_234_567), TableRow.parseAmount("1.234.567"));
+        assertEquals(Money.ofEuros(-12_000), TableRow.parseAmount("-12.000"));
+        assertEquals(Money.ofCents(350), TableRow.parseAmount("3,5"));
+        assertEquals(Money.ofCents(123_456), TableRow.parseAmount("1.234,56"));
+        assertNull(TableRow.parseAmount("45."));
+        assertNull(TableRow.parseAmount("1.23"));
+        assertNull(TableRow.parseAmount("12.3456"));
+        assertNull(TableRow.parseAmount("Taxes"));
+        assertNull(TableRow.parseAmount("-"));
+    }
+
+    @Test
+    void testStripLeaders() {
+        // Test leader characters are removed but abbreviations keep their dot
+        assertEquals("Taxes", TableRowStripper.stripLeaders("Taxes »"));
+        assertEquals("Taxes", TableRowStripper.stripLeaders("Taxes ......"));
+        assertEquals("", TableRowStripper.stripLeaders("»"));
+        assertEquals("Misc. etc.", TableRowStripper.stripLeaders("Misc. etc."));
+    }
+
+    @Test
+    void testRowCsvRoundTrip() {
+        // Test the CSV form quotes the label and amounts with cents, and parses back to the same row
+        TableRow row = new TableRow(3, "Say \"hi\", twice", "1906",
+                List.of(Money.ofEuros(6_068_000), Money.ZERO, Money.ofCents(-123_450)));
+        assertEquals("3,1906,\"Say \"\"hi\"\", twice\",6.068.000,0,\"-1.234,50\"", row.toCsv());
+
+        TableRow parsed = TableRow.parse(row.toCsv(), false);
+        assertEquals(row.getLabel(), parsed.getLabel());
+        assertEquals(row.getCode(), parsed.getCode());
+        assertEquals(row.getAmounts(), parsed.getAmounts());
+    }
+
+    @Test
+    void testParseTextFormatLines() {
+        // Test lines of the older text CSV: commas in labels, an unclosed quote and a line without numbers
+        TableRow ministry = TableRow.parse(
+                "3,\"Υπουργείο Παιδείας, Θρησκευμάτων και Αθλητισμού\",1020,5.899.933.000,864.000.000,6.763.933.000", true);
+        assertEquals("Υπουργείο Παιδείας, Θρησκευμάτων και Αθλητισμού", ministry.getLabel());
+        assertEquals("1020", ministry.getCode());
+        assertEquals(Money.ofEuros(6_763_933_000L), ministry.getAmount(2));
+
+        TableRow equity = TableRow.parse("2,\"Συμμετοχικοί τίτλοι και μερίδια επενδυτικών κεφαλαίων»,45,228.000.000", true);
+        assertEquals("45", equity.getCodeNumber());
+        assertEquals(List.of(Money.ofEuros(228_000_000)), equity.getAmounts());
+
+        TableRow total = TableRow.parse("3,\"Αποκεντρωμένες Διοικήσεις\",86.159.000,0,86.159.000", true);
+        assertNull(total.getCode());
+        assertEquals(3, total.getAmounts().size());
+
+        TableRow heading = TableRow.parse("1,\"ΕΛΛΗΝΙΚΗ ΔΗΜΟΚΡΑΤΙΑ\",", true);
+        assertEquals("ΕΛΛΗΝΙΚΗ ΔΗΜΟΚΡΑΤΙΑ", heading.getLabel());
+        assertFalse(heading.hasAmounts());
+    }
+}
@@ -0,0 +1,97 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit tests for YearSnapshot class, on a temporary database with per-year tables.
+ */
+class YearSnapshotTest {
+
+    private File dbFile;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("snapshot", ".db").toFile();
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE revenue_2025 (total_revenue REAL, taxes REAL, loans INTEGER)");
+            stmt.execute("INSERT INTO revenue_2025 VALUES (70000000000, 12.999, 5000000000)");
+            stmt.execute("CREATE TABLE budget_summary_2025 (total_revenue INTEGER, total_expenses INTEGER)");
+            stmt.execute("INSERT INTO budget_summary_2025 VALUES (3000, 3300)");
+            stmt.execute("CREATE TABLE expenses_2025 (total_expenses INTEGER)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        dbFile.delete();
+    }
+
+    @Test
+    void testLoadReadsEveryTable() {
+        // Test the values of each table are available by column name
+        YearSnapshot snapshot = YearSnapshot.load(connection, 2025);
+        assertEquals(2025, snapshot.getYear());
+        assertTrue(snapshot.hasRow(YearSnapshot.REVENUE));
+        assertTrue(snapshot.hasRow(YearSnapshot.SUMMARY));
+        assertEquals(70_000_000_000L, snapshot.getLong(YearSnapshot.REVENUE, "total_revenue"));
+        assertEquals(5_000_000_000L, snapshot.getLong(YearSnapshot.REVENUE, "LOANS"));
+        assertEquals(3300, snapshot.getMoney(YearSnapshot.SUMMARY, "total_expenses").getEuros());
+    }
+
+    @Test
+    void testLongAndMoneyMatchResultSetReads() {
+        // Test getLong truncates like ResultSet.getLong while getMoney rounds to cents like Money.read
+        YearSnapshot snapshot = YearSnapshot.load(connection, 2025);
+        assertEquals(12, snapshot.getLong(YearSnapshot.REVENUE, "taxes"));
+        assertEquals(13.0, snapshot.getAmount(YearSnapshot.REVENUE, "taxes"), 0.0001);
+    }
+
+    @Test
+    void testMissingRowsAndColumnsAreZero() {
+        // Test tables without a row, missing tables and missing columns read as zero
+        YearSnapshot snapshot = YearSnapshot.load(connection, 2025);
+        assertFalse(snapshot.hasRow(YearSnapshot.EXPENSES));
+        assertFalse(snapshot.hasRow(YearSnapshot.MINISTRIES));
+        assertEquals(0, snapshot.getLong(YearSnapshot.MINISTRIES, "ministry_of_health"));
+        assertEquals(0.0, snapshot.getAmount(YearSnapshot.REVENUE, "no_such_column"));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.hasRow("users"));
+        assertTrue(snapshot.isComplete());
+    }
+
+    @Test
+    void testFailedTableReadMakesSnapshotIncomplete() throws Exception {
+        // Test a table that exists but cannot be read marks the snapshot incomplete, keeping the other tables
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE VIEW ministries_2025 AS SELECT * FROM dropped_table");
+        }
+        YearSnapshot snapshot = YearSnapshot.load(connection, 2025);
+        assertFalse(snapshot.isComplete());
+        assertFalse(snapshot.hasRow(YearSnapshot.MINISTRIES));
+        assertEquals(3000, snapshot.getMoney(YearSnapshot.SUMMARY, "total_revenue").getEuros());
+        assertFalse(YearSnapshot.empty(2025).isComplete());
+    }
+
+    @Test
+    void testSnapshotIsDetachedFromDatabase() throws Exception {
+        // Test later changes in the database do not show in an already loaded snapshot
+        YearSnapshot snapshot = YearSnapshot.load(connection, 2025);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("UPDATE budget_summary_2025 SET total_revenue = 1");
+        }
+        assertEquals(3000, snapshot.getMoney(YearSnapshot.SUMMARY, "total_revenue").getEuros());
+        assertEquals(1, YearSnapshot.load(connection, 2025).getMoney(YearSnapshot.SUMMARY, "total_revenue").getEuros());
+    }
+}